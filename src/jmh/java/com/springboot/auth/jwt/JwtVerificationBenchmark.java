@@ -0,0 +1,66 @@
+package com.springboot.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.Key;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 한 건당 JWT 검증 비용 비교.
+ * legacy : 요청마다 키 인코딩/디코딩 + 파서 생성 (기존 JwtVerificationFilter 방식)
+ * cached : 시작 시 만든 JwtSigningKey 의 파서 재사용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerificationBenchmark {
+    private static final String SECRET_KEY = "benchmark-secret-key-benchmark-secret-key-0123456789";
+
+    private JwtTokenizer jwtTokenizer;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        // Redis 는 토큰 발급에만 쓰이므로 검증 벤치마크에서는 필요 없다
+        jwtTokenizer = new JwtTokenizer(null);
+        jwtTokenizer.rotateSecretKey(SECRET_KEY);
+
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("username", "E0001");
+        claims.put("roles", Arrays.asList("USER", "ADMIN"));
+        String token = Jwts.builder()
+                .setClaims(claims)
+                .setSubject("user@shoecream.com")
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(jwtTokenizer.getSigningKey().getKey())
+                .compact();
+        authorization = "Bearer " + token;
+    }
+
+    @Benchmark
+    public Jws<Claims> legacy() {
+        String jws = authorization.replace("Bearer ", "");
+        String base64EncodedSecretKey = jwtTokenizer.encodeBase64SecretKey(SECRET_KEY);
+        Key key = Keys.hmacShaKeyFor(Decoders.BASE64URL.decode(base64EncodedSecretKey));
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(jws);
+    }
+
+    @Benchmark
+    public Jws<Claims> cached() {
+        return jwtTokenizer.getClaims(JwtTokenizer.extractBearerToken(authorization));
+    }
+
+    @Benchmark
+    public String extractBearerToken() {
+        return JwtTokenizer.extractBearerToken(authorization);
+    }
+}
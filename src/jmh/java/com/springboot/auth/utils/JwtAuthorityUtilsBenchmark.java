@@ -0,0 +1,50 @@
+package com.springboot.auth.utils;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 한 건당 권한 목록 생성 비용 (JwtVerificationFilter / 로그인 경로).
+ * roleMask : 토큰의 roleMask 클레임으로 조회 / roles : 역할 목록으로 조회 / unknownRoles : ROLE_BITS 에 없는 역할 조합
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthorityUtilsBenchmark {
+    private JwtAuthorityUtils authorityUtils;
+    private List<String> roles;
+    private List<String> unknownRoles;
+    private int roleMask;
+
+    @Setup
+    public void setUp() {
+        // 관리자 메일 주소는 email 경로에만 쓰인다 (비어 있으면 모두 USER)
+        authorityUtils = new JwtAuthorityUtils();
+        roles = List.of("ADMIN", "USER");
+        unknownRoles = List.of("USER", "AUDITOR");
+        roleMask = authorityUtils.toRoleMask(roles);
+    }
+
+    @Benchmark
+    public List<GrantedAuthority> roleMask() {
+        return authorityUtils.createAuthorities(roleMask);
+    }
+
+    @Benchmark
+    public List<GrantedAuthority> roles() {
+        return authorityUtils.createAuthorities(roles);
+    }
+
+    @Benchmark
+    public List<GrantedAuthority> unknownRoles() {
+        return authorityUtils.createAuthorities(unknownRoles);
+    }
+
+    @Benchmark
+    public List<GrantedAuthority> email() {
+        return authorityUtils.createAuthorities("user@shoecream.com");
+    }
+}
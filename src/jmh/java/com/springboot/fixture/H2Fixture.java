@@ -0,0 +1,89 @@
+package com.springboot.fixture;
+
+import com.springboot.buyer.repository.BuyerQueryRepositoryImpl;
+import com.springboot.buyer_item.repository.BuyerItemQueryRepositoryImpl;
+import com.springboot.item.repository.ItemQueryRepositoryImpl;
+import com.springboot.manufacture_item.repository.MfItemQueryRepositoryImpl;
+import com.springboot.utils.QuerydslConfig;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.io.Closeable;
+import java.util.UUID;
+
+/**
+ * 저장소 벤치마크용 H2 인메모리 DB.
+ * JPA / Querydsl 목록 조회 저장소만 올린 최소 컨텍스트 (Redis, 메일, 보안 설정 없음)에 기준정보(SeedData)를 넣어 둔다.
+ */
+public class H2Fixture implements Closeable {
+    private final ConfigurableApplicationContext context;
+
+    private H2Fixture(ConfigurableApplicationContext context) {
+        this.context = context;
+    }
+
+    public static H2Fixture start(int buyers, int items, int manufactures) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(FixtureConfiguration.class)
+                .properties(
+                        "spring.main.web-application-type=none",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=warn",
+                        "spring.datasource.url=jdbc:h2:mem:jmh-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                        "spring.sql.init.mode=never",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.open-in-view=false",
+                        // 목록 조회는 DTO projection 이므로 2차 캐시와 무관하다. DB 경로만 측정한다
+                        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false")
+                .run();
+        H2Fixture fixture = new H2Fixture(context);
+        fixture.seed(buyers, items, manufactures);
+        return fixture;
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    // 서비스의 조회 메서드처럼 읽기 전용 트랜잭션으로 실행할 때 사용
+    public TransactionTemplate readOnlyTransaction() {
+        TransactionTemplate transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        transaction.setReadOnly(true);
+        return transaction;
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+
+    private void seed(int buyers, int items, int manufactures) {
+        EntityManager entityManager = context.getBean(EntityManagerFactory.class).createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            new SeedData().buyers(buyers).items(items).manufactures(manufactures).persist(entityManager);
+            entityManager.getTransaction().commit();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @SpringBootConfiguration
+    @ImportAutoConfiguration({DataSourceAutoConfiguration.class, HibernateJpaAutoConfiguration.class,
+            TransactionAutoConfiguration.class})
+    @EntityScan("com.springboot")
+    @Import({QuerydslConfig.class, BuyerQueryRepositoryImpl.class, ItemQueryRepositoryImpl.class,
+            BuyerItemQueryRepositoryImpl.class, MfItemQueryRepositoryImpl.class})
+    static class FixtureConfiguration {
+    }
+}
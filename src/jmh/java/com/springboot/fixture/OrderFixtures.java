@@ -0,0 +1,56 @@
+package com.springboot.fixture;
+
+import com.springboot.buyer.entity.Buyer;
+import com.springboot.member.entity.Member;
+import com.springboot.order_header.entity.OrderHeaders;
+import com.springboot.order_item.entity.OrderItems;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 매퍼 벤치마크용 주문 (DB 없이 메모리에서 만든다)
+ */
+public final class OrderFixtures {
+    private OrderFixtures() {
+    }
+
+    public static List<OrderHeaders> orders(int count, int itemsPerOrder) {
+        Member member = new Member("sales@shoecream.com");
+        member.setEmployeeId("E0001");
+        member.setName("sales");
+
+        Buyer buyer = new Buyer();
+        buyer.setBuyerCd("B0001");
+        buyer.setBuyerNm("buyer");
+
+        LocalDateTime now = LocalDateTime.now();
+        List<OrderHeaders> orders = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            OrderHeaders order = new OrderHeaders();
+            order.setOrderId((long) i);
+            order.setOrderCd("ORD" + i);
+            order.setRequestDate(now.plusDays(7));
+            order.setMessage("message " + i);
+            order.setMember(member);
+            order.setBuyer(buyer);
+
+            for (int j = 0; j < itemsPerOrder; j++) {
+                OrderItems orderItem = new OrderItems();
+                orderItem.setOrderItemId((long) i * itemsPerOrder + j);
+                orderItem.setItemCd("IT" + j);
+                orderItem.setUnit("EA");
+                orderItem.setQty(10 + j);
+                orderItem.setUnitPrice(BigDecimal.valueOf(30_000 + j));
+                orderItem.setStartDate(now.minusDays(30));
+                orderItem.setEndDate(now.plusDays(30));
+                orderItem.setOrderHeaders(order);
+                order.getOrderItems().add(orderItem);
+            }
+            orders.add(order);
+        }
+        return orders;
+    }
+}
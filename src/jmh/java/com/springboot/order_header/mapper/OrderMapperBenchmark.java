@@ -0,0 +1,34 @@
+package com.springboot.order_header.mapper;
+
+import com.springboot.fixture.OrderFixtures;
+import com.springboot.order_header.dto.OrderDto;
+import com.springboot.order_header.entity.OrderHeaders;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 목록 응답 변환 비용 (GET /orders 한 페이지, 주문당 항목 5개)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderMapperBenchmark {
+    @Param({"10", "100"})
+    public int orders;
+
+    private OrderMapper orderMapper;
+    private List<OrderHeaders> orderHeaders;
+
+    @Setup
+    public void setUp() {
+        orderMapper = new OrderMapperImpl();
+        orderHeaders = OrderFixtures.orders(orders, 5);
+    }
+
+    @Benchmark
+    public List<OrderDto.Response> ordersToOrderResponseDtos() {
+        return orderMapper.ordersToOrderResponseDtos(orderHeaders);
+    }
+}
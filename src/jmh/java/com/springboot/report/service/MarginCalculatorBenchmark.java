@@ -0,0 +1,91 @@
+package com.springboot.report.service;
+
+import com.springboot.item.entity.Item;
+import com.springboot.manufacture_item.entity.ItemManufacture;
+import com.springboot.order_item.entity.OrderItems;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리포트 마진률 계산 비용.
+ * legacy : 납품 기록마다 판매 목록을 stream 으로 다시 훑는 방식 (기존 EmployeeReport.calculateMarginByEmployee)
+ * employeeMarginRate : 제품코드별 Map 을 한 번 만든 뒤 조회 (MarginCalculator)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MarginCalculatorBenchmark {
+    // 사원 한 명이 기간 내 판매한 제품 종류 수 (납품 기록은 제품당 2건)
+    @Param({"10", "100", "1000"})
+    public int items;
+
+    private List<OrderItems> orderItems;
+    private List<ItemManufacture> mfItems;
+    private BigDecimal orderPrice;
+    private BigDecimal manufacturePrice;
+
+    @Setup
+    public void setUp() {
+        orderItems = new ArrayList<>();
+        mfItems = new ArrayList<>();
+        for (int i = 0; i < items; i++) {
+            Item item = new Item();
+            item.setItemCd("IT" + i);
+
+            OrderItems orderItem = new OrderItems();
+            orderItem.setItemCd(item.getItemCd());
+            orderItem.setQty(10 + i % 7);
+            orderItem.setUnitPrice(BigDecimal.valueOf(30_000 + i));
+            orderItems.add(orderItem);
+
+            for (int j = 0; j < 2; j++) {
+                ItemManufacture mfItem = new ItemManufacture();
+                mfItem.setItem(item);
+                mfItem.setUnitPrice(BigDecimal.valueOf(18_000 + i + j));
+                mfItems.add(mfItem);
+            }
+        }
+        orderPrice = new BigDecimal("12345678.90");
+        manufacturePrice = new BigDecimal("8765432.10");
+    }
+
+    @Benchmark
+    public BigDecimal marginRate() {
+        return MarginCalculator.marginRate(orderPrice, manufacturePrice);
+    }
+
+    @Benchmark
+    public BigDecimal employeeMarginRate() {
+        return MarginCalculator.employeeMarginRate(orderItems, mfItems);
+    }
+
+    @Benchmark
+    public BigDecimal legacy() {
+        BigDecimal totalOrderPrice = BigDecimal.ZERO;
+        BigDecimal totalManufacturePrice = BigDecimal.ZERO;
+        for (OrderItems orderItem : orderItems) {
+            totalOrderPrice = totalOrderPrice.add(orderItem.getUnitPrice().multiply(BigDecimal.valueOf(orderItem.getQty())));
+        }
+        for (ItemManufacture mfItem : mfItems) {
+            Optional<OrderItems> correspondingOrderItem = orderItems.stream()
+                    .filter(orderItem -> orderItem.getItemCd().equals(mfItem.getItem().getItemCd()))
+                    .findFirst();
+            if (correspondingOrderItem.isPresent()) {
+                totalManufacturePrice = totalManufacturePrice.add(
+                        mfItem.getUnitPrice().multiply(BigDecimal.valueOf(correspondingOrderItem.get().getQty())));
+            }
+        }
+        if (totalManufacturePrice.compareTo(BigDecimal.ZERO) == 0) {
+            return BigDecimal.ZERO;
+        }
+        return totalOrderPrice.subtract(totalManufacturePrice)
+                .divide(totalOrderPrice, 2, RoundingMode.HALF_UP)
+                .multiply(BigDecimal.valueOf(100));
+    }
+}
@@ -0,0 +1,36 @@
+package com.springboot.sale_history.mapper;
+
+import com.springboot.fixture.OrderFixtures;
+import com.springboot.member.entity.Member;
+import com.springboot.order_header.entity.OrderHeaders;
+import com.springboot.sale_history.entity.SaleHistory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 상태 변경마다 실행되는 판매 이력 생성 비용 (주문 항목 수별)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SaleHistoryMapperBenchmark {
+    @Param({"1", "10", "50"})
+    public int itemsPerOrder;
+
+    private SaleHistoryMapper saleHistoryMapper;
+    private OrderHeaders order;
+    private Member member;
+
+    @Setup
+    public void setUp() {
+        saleHistoryMapper = new SaleHistoryMapperImpl();
+        order = OrderFixtures.orders(1, itemsPerOrder).get(0);
+        member = order.getMember();
+    }
+
+    @Benchmark
+    public SaleHistory orderToSaleHistory() {
+        return saleHistoryMapper.orderToSaleHistory(order, member);
+    }
+}
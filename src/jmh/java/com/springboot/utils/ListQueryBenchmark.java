@@ -0,0 +1,69 @@
+package com.springboot.utils;
+
+import com.springboot.buyer.repository.BuyerQueryRepositoryImpl;
+import com.springboot.buyer_item.repository.BuyerItemQueryRepositoryImpl;
+import com.springboot.fixture.H2Fixture;
+import com.springboot.item.repository.ItemQueryRepositoryImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 조회 경로 비용.
+ * createPageable : 요청 파라미터 -> Pageable 변환만
+ * 나머지 : Pageable 생성 + Querydsl 조건 / 정렬 조립 + H2 에서 목록 select 1 번 + count 1 번
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ListQueryBenchmark {
+    private static final int BUYERS = 50;
+    private static final int ITEMS = 500;
+    private static final int MANUFACTURES = 20;
+
+    private H2Fixture fixture;
+    private TransactionTemplate readOnly;
+    private BuyerQueryRepositoryImpl buyerQueryRepository;
+    private ItemQueryRepositoryImpl itemQueryRepository;
+    private BuyerItemQueryRepositoryImpl buyerItemQueryRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = H2Fixture.start(BUYERS, ITEMS, MANUFACTURES);
+        readOnly = fixture.readOnlyTransaction();
+        buyerQueryRepository = fixture.getBean(BuyerQueryRepositoryImpl.class);
+        itemQueryRepository = fixture.getBean(ItemQueryRepositoryImpl.class);
+        buyerItemQueryRepository = fixture.getBean(BuyerItemQueryRepositoryImpl.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public Pageable createPageable() {
+        return PageableCreator.createPageable(2, 20, "itemNm", "asc");
+    }
+
+    @Benchmark
+    public Page<?> buyers() {
+        return readOnly.execute(status -> buyerQueryRepository.findBuyer(null, null, null, null, "Retail",
+                PageableCreator.createPageable(0, 20, "buyerNm", "asc")));
+    }
+
+    @Benchmark
+    public Page<?> itemsByName() {
+        return readOnly.execute(status -> itemQueryRepository.findItemsByCondition("shoe 1", null,
+                PageableCreator.createPageable(0, 20, "itemNm", "asc")));
+    }
+
+    @Benchmark
+    public Page<?> buyerItemsJoined() {
+        return readOnly.execute(status -> buyerItemQueryRepository.findBuyerItems("B1", null, null, null,
+                PageableCreator.createPageable(0, 20, "item.itemNm", "desc")));
+    }
+}
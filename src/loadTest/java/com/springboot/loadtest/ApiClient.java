@@ -0,0 +1,213 @@
+package com.springboot.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.order_header.entity.OrderHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * 실제 HTTP API 호출. 요청 본문은 부하 생성 스레드에서 만들고 (seed 를 쓰는 Random 이 한 스레드에만 있도록),
+ * 응답 처리는 HttpClient 스레드에서 한다.
+ * 테스트 데이터는 데이터 생성기(datagen)가 만든 사원 / 바이어 / 제품 / 주문을 DB 에서 읽어 고른다.
+ */
+public class ApiClient {
+    // 요청을 보내지 않은 경우 (승인할 주문이 없을 때)
+    public static final int SKIPPED = -1;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final OrderHeaders.OrderStatus[] STATUSES = OrderHeaders.OrderStatus.values();
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final String memberPassword;
+    private final List<String> employeeIds;
+    private final List<String> buyerCodes;
+    private final List<String[]> items;
+    // 승인 대기 주문 : 생성된 견적요청 주문 + 부하 중에 등록된 주문
+    private final Queue<String> pendingOrders = new ConcurrentLinkedQueue<>();
+    private String userToken;
+    private String adminToken;
+
+    private ApiClient(int port, String memberPassword, List<String> employeeIds, List<String> buyerCodes,
+                      List<String[]> items, List<String> pendingOrders) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()), runnable -> {
+                    Thread thread = new Thread(runnable, "load-test-client");
+                    thread.setDaemon(true);
+                    return thread;
+                }))
+                .build();
+        this.baseUrl = "http://localhost:" + port;
+        this.memberPassword = memberPassword;
+        this.employeeIds = employeeIds;
+        this.buyerCodes = buyerCodes;
+        this.items = items;
+        this.pendingOrders.addAll(pendingOrders);
+    }
+
+    /**
+     * 생성된 사원 중 첫 번째를 팀장(ADMIN)으로 만들고 두 사원으로 미리 로그인해 둔다.
+     * 주문 제품은 인기도가 가장 낮은 (id 가 큰) 판매중 제품 중에서 고른다 (재고 부족으로 주문이 거절되지 않도록)
+     */
+    public static ApiClient prepare(JdbcTemplate jdbcTemplate, int port, LoadTestSettings settings) throws IOException, InterruptedException {
+        List<String> employeeIds = jdbcTemplate.queryForList(
+                "SELECT employee_id FROM member WHERE employee_id LIKE 'GE%' ORDER BY member_id", String.class);
+        if (employeeIds.size() < 2) {
+            throw new IllegalStateException("load test needs at least 2 generated members (datagen.member-count)");
+        }
+        jdbcTemplate.update("INSERT INTO member_roles (member_member_id, roles) " +
+                "SELECT member_id, 'ADMIN' FROM member WHERE employee_id = ?", employeeIds.get(0));
+
+        List<String> buyerCodes = jdbcTemplate.queryForList(
+                "SELECT buyer_cd FROM buyer WHERE buyer_status = 'ACTIVE' ORDER BY buyer_id LIMIT 1000", String.class);
+        List<String[]> items = jdbcTemplate.query(
+                "SELECT item_cd, unit_price FROM item WHERE item_status = 'ON_SALE' ORDER BY item_id DESC LIMIT 200",
+                (rs, rowNum) -> new String[]{rs.getString(1), rs.getBigDecimal(2).toPlainString()});
+        List<String> pendingOrders = jdbcTemplate.queryForList(
+                "SELECT order_cd FROM order_headers WHERE order_status = 'REQUEST_TEMP' ORDER BY order_id DESC LIMIT 10000", String.class);
+
+        ApiClient client = new ApiClient(port, settings.getMemberPassword(), employeeIds, buyerCodes, items, pendingOrders);
+        client.adminToken = client.login(employeeIds.get(0));
+        client.userToken = client.login(employeeIds.get(1));
+        return client;
+    }
+
+    public CompletableFuture<Integer> send(Operation operation, Random random) {
+        switch (operation) {
+            case LOGIN:
+                return exchange(loginRequest(employeeIds.get(1 + random.nextInt(employeeIds.size() - 1))), null);
+            case ORDER_CREATE:
+                return exchange(post("/orders", userToken, orderBody(random)), this::collectOrderCodes);
+            case ORDER_APPROVE:
+                String orderCd = pendingOrders.poll();
+                if (orderCd == null) {
+                    return CompletableFuture.completedFuture(SKIPPED);
+                }
+                return exchange(request("/orders/approve", adminToken)
+                        .method("PATCH", body(List.of(Map.of("orderCd", orderCd)))).build(), null);
+            case ORDER_SEARCH:
+                String filter = random.nextBoolean()
+                        ? "&buyerCd=" + encode(buyerCodes.get(random.nextInt(buyerCodes.size())))
+                        : "&status=" + STATUSES[random.nextInt(STATUSES.length)].name();
+                return exchange(get("/orders?page=1&size=20" + filter, userToken), null);
+            case INVENTORY:
+                return exchange(get("/orders/inventories?itemCd=" + encode(items.get(random.nextInt(items.size()))[0]), userToken), null);
+            case SALE_REPORT:
+                return exchange(get("/orders/reports?topNumber=10" + lastDays(90), userToken), null);
+            case EMPLOYEE_REPORT:
+                return exchange(get("/orders/employees/" + encode(employeeIds.get(random.nextInt(employeeIds.size())))
+                        + "?" + lastDays(180).substring(1), userToken), null);
+            default:
+                throw new IllegalArgumentException(operation.name());
+        }
+    }
+
+    private String login(String employeeId) throws IOException, InterruptedException {
+        HttpResponse<Void> response = httpClient.send(loginRequest(employeeId), HttpResponse.BodyHandlers.discarding());
+        Optional<String> authorization = response.headers().firstValue("Authorization");
+        if (response.statusCode() != 200 || authorization.isEmpty()) {
+            throw new IllegalStateException("login failed for " + employeeId + " : " + response.statusCode());
+        }
+        return authorization.get();
+    }
+
+    private HttpRequest loginRequest(String employeeId) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(body(Map.of("employeeId", employeeId, "password", memberPassword)))
+                .build();
+    }
+
+    // 주문 1 건, 제품 1 ~ 3 개. 납기일은 2 주 뒤, 계약 기간은 납기일을 포함하도록
+    private Object orderBody(Random random) {
+        LocalDate today = LocalDate.now();
+        List<Map<String, Object>> orderItems = new ArrayList<>();
+        int lines = 1 + random.nextInt(3);
+        for (int i = 0; i < lines; i++) {
+            String[] item = items.get(random.nextInt(items.size()));
+            orderItems.add(Map.of(
+                    "itemCd", item[0],
+                    "unitPrice", new BigDecimal(item[1]),
+                    "qty", 10,
+                    "startDate", today.minusDays(1).atStartOfDay().toString(),
+                    "endDate", today.plusDays(60).atStartOfDay().toString()));
+        }
+        return List.of(Map.of(
+                "buyerCd", buyerCodes.get(random.nextInt(buyerCodes.size())),
+                "requestDate", today.plusDays(14).atStartOfDay().toString(),
+                "orderItems", orderItems));
+    }
+
+    // 등록된 주문은 승인 대상으로 넘긴다
+    private void collectOrderCodes(String responseBody) {
+        try {
+            for (JsonNode order : OBJECT_MAPPER.readTree(responseBody)) {
+                pendingOrders.add(order.path("orderCd").asText());
+            }
+        } catch (IOException ignored) {
+            // 응답 형식이 다르면 승인 대상에서 빠질 뿐이다
+        }
+    }
+
+    private CompletableFuture<Integer> exchange(HttpRequest request, Consumer<String> onSuccess) {
+        if (onSuccess == null) {
+            return httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()).thenApply(HttpResponse::statusCode);
+        }
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString()).thenApply(response -> {
+            if (response.statusCode() / 100 == 2) {
+                onSuccess.accept(response.body());
+            }
+            return response.statusCode();
+        });
+    }
+
+    private HttpRequest get(String path, String token) {
+        return request(path, token).GET().build();
+    }
+
+    private HttpRequest post(String path, String token, Object body) {
+        return request(path, token).POST(body(body)).build();
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", token)
+                .header("Content-Type", "application/json");
+    }
+
+    private static HttpRequest.BodyPublisher body(Object body) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(OBJECT_MAPPER.writeValueAsBytes(body));
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private static String lastDays(int days) {
+        LocalDate today = LocalDate.now();
+        return "&startDate=" + today.minusDays(days) + "&endDate=" + today;
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
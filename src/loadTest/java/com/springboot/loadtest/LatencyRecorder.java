@@ -0,0 +1,94 @@
+package com.springboot.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * API 별 응답 시간 (HdrHistogram, µs 단위, 유효숫자 3 자리) 과 결과 건수.
+ * 응답 시간은 요청이 "보내졌어야 하는" 시각부터 잰다. 서버가 밀려 요청이 늦게 나가도 그 대기 시간이 빠지지 않는다.
+ * - 오류 : 5xx, 연결 실패 / 시간 초과, 인증 실패(401 / 403), 로그인 제한(429), 동시 요청 한도 초과로 보내지 못한 요청
+ * - 거절 : 그 외 4xx (재고 부족 등 업무 규칙 위반). 응답 시간은 기록하지만 오류율에는 넣지 않는다
+ */
+public class LatencyRecorder {
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Map<Operation, Stats> stats = new EnumMap<>(Operation.class);
+
+    public LatencyRecorder() {
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new Stats());
+        }
+    }
+
+    public void record(Operation operation, long elapsedNanos, Integer status, Throwable error) {
+        Stats target = stats.get(operation);
+        if (error == null && status != null && status == ApiClient.SKIPPED) {
+            target.skipped.increment();
+            return;
+        }
+        target.histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), HIGHEST_TRACKABLE_MICROS));
+        if (error != null || status >= 500 || status == 401 || status == 403 || status == 429) {
+            target.errors.increment();
+        } else if (status >= 400) {
+            target.rejected.increment();
+        }
+    }
+
+    public void dropped(Operation operation) {
+        stats.get(operation).dropped.increment();
+    }
+
+    // 워밍업 구간 결과를 버린다
+    public void reset() {
+        stats.values().forEach(Stats::reset);
+    }
+
+    public Stats get(Operation operation) {
+        return stats.get(operation);
+    }
+
+    public static class Stats {
+        private final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+        private final LongAdder skipped = new LongAdder();
+
+        public Histogram getHistogram() {
+            return histogram;
+        }
+
+        public long getCompleted() {
+            return histogram.getTotalCount();
+        }
+
+        public long getErrors() {
+            return errors.sum();
+        }
+
+        public long getRejected() {
+            return rejected.sum();
+        }
+
+        public long getDropped() {
+            return dropped.sum();
+        }
+
+        public long getSkipped() {
+            return skipped.sum();
+        }
+
+        private void reset() {
+            histogram.reset();
+            errors.reset();
+            rejected.reset();
+            dropped.reset();
+            skipped.reset();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.springboot.loadtest;
+
+import com.springboot.SpringStartApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 종단간 부하 테스트 : ./gradlew loadTest [-Ploadtest.rate=200 -Ploadtest.duration-seconds=120 -Ploadtest.budget.order-search=150]
+ * 1. 애플리케이션 전체를 임의 포트로 띄운다 (로컬 H2, 프로세스 내부 토큰 저장소, 데이터 생성기로 기본 데이터 생성)
+ * 2. 실제 HTTP 로 로그인 / 주문 등록 / 승인 / 조회 / 리포트를 섞어 개방형 부하를 준다 (워밍업 후 측정)
+ * 3. API 별 p99 예산과 오류율을 확인하고, 넘으면 종료 코드 1 로 끝난다
+ * 토큰 저장소가 memory 이므로 Redis 없이 뜬다 (캐시 무효화는 LocalInvalidationBus, 기준정보 캐시는 L1 만 쓴다).
+ * 부하 생성기와 서버가 같은 JVM / 같은 장비에서 CPU 를 나눠 쓰므로, 절대값보다 같은 장비에서의 변경 전후 비교에 쓴다.
+ */
+public final class LoadTestMain {
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(SpringStartApplication.class)
+                .properties(settings.getApplicationProperties())
+                .run(args);
+
+        boolean passed;
+        try {
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            ApiClient client = ApiClient.prepare(context.getBean(JdbcTemplate.class), port, settings);
+            LatencyRecorder recorder = new LatencyRecorder();
+            OpenWorkload workload = new OpenWorkload(client, recorder, settings);
+
+            workload.run(settings.getWarmup());
+            recorder.reset();
+            workload.run(settings.getDuration());
+
+            LoadTestReport report = new LoadTestReport(settings, recorder);
+            report.print(System.out);
+            report.write();
+            passed = report.passed();
+        } finally {
+            context.close();
+        }
+        System.exit(passed ? 0 : 1);
+    }
+}
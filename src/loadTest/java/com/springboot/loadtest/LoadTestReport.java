@@ -0,0 +1,106 @@
+package com.springboot.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 측정 구간 결과 요약과 판정.
+ * - API 별 p99 가 예산(loadtest.budget.*)을 넘거나, 전체 오류율이 loadtest.max-error-rate 를 넘으면 실패
+ * - 요약은 콘솔과 report-dir/summary-{시각}.txt 에, API 별 백분위 분포는 {api}-{시각}.hgrm 으로 남긴다 (HdrHistogram 도구로 비교)
+ */
+public class LoadTestReport {
+    private final LoadTestSettings settings;
+    private final LatencyRecorder recorder;
+    private final List<String> violations = new ArrayList<>();
+
+    public LoadTestReport(LoadTestSettings settings, LatencyRecorder recorder) {
+        this.settings = settings;
+        this.recorder = recorder;
+        evaluate();
+    }
+
+    public boolean passed() {
+        return violations.isEmpty();
+    }
+
+    public void print(PrintStream out) {
+        double seconds = settings.getDuration().toMillis() / 1000.0;
+        out.printf("load test : target %.1f req/s for %.0f s (warmup %d s), max in flight %d%n",
+                settings.getRate(), seconds, settings.getWarmup().getSeconds(), settings.getMaxInFlight());
+        out.printf("%-16s %8s %8s %7s %7s %7s %9s %9s %9s %9s %9s %9s%n",
+                "api", "count", "req/s", "errors", "reject", "drop", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)", "budget");
+        for (Operation operation : Operation.values()) {
+            LatencyRecorder.Stats stats = recorder.get(operation);
+            Histogram histogram = stats.getHistogram();
+            if (stats.getCompleted() == 0 && stats.getDropped() == 0) {
+                continue;
+            }
+            out.printf("%-16s %8d %8.1f %7d %7d %7d %9.1f %9.1f %9.1f %9.1f %9.1f %9d%n",
+                    operation.getKey(), stats.getCompleted(), stats.getCompleted() / seconds,
+                    stats.getErrors(), stats.getRejected(), stats.getDropped(),
+                    millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()), settings.getP99BudgetMillis(operation));
+        }
+        if (passed()) {
+            out.println("RESULT : PASS");
+        } else {
+            out.println("RESULT : FAIL");
+            violations.forEach(violation -> out.println("  - " + violation));
+        }
+    }
+
+    public void write() throws IOException {
+        Path directory = Files.createDirectories(settings.getReportDirectory());
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve("summary-" + timestamp + ".txt")), true, "UTF-8")) {
+            print(out);
+        }
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = recorder.get(operation).getHistogram();
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(operation.getKey() + "-" + timestamp + ".hgrm")), true, "UTF-8")) {
+                // 값은 ms 단위로 출력
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    private void evaluate() {
+        long total = 0;
+        long failed = 0;
+        for (Operation operation : Operation.values()) {
+            LatencyRecorder.Stats stats = recorder.get(operation);
+            total += stats.getCompleted() + stats.getDropped();
+            failed += stats.getErrors() + stats.getDropped();
+            if (stats.getCompleted() == 0) {
+                continue;
+            }
+            double p99 = millis(stats.getHistogram().getValueAtPercentile(99));
+            long budget = settings.getP99BudgetMillis(operation);
+            if (p99 > budget) {
+                violations.add(String.format("%s p99 %.1f ms > budget %d ms", operation.getKey(), p99, budget));
+            }
+        }
+        if (total == 0) {
+            violations.add("no requests completed");
+        } else if ((double) failed / total > settings.getMaxErrorRate()) {
+            violations.add(String.format("error rate %.2f%% > %.2f%% (%d of %d)",
+                    100.0 * failed / total, 100.0 * settings.getMaxErrorRate(), failed, total));
+        }
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
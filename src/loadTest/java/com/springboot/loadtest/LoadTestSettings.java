@@ -0,0 +1,117 @@
+package com.springboot.loadtest;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 부하 테스트 설정. 모두 시스템 프로퍼티 loadtest.* 로 바꿀 수 있다 (./gradlew loadTest -Ploadtest.rate=300).
+ */
+public class LoadTestSettings {
+    private final double rate;
+    private final Duration duration;
+    private final Duration warmup;
+    private final int maxInFlight;
+    private final long seed;
+    private final double maxErrorRate;
+    private final Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+    private final Map<Operation, Long> p99Budgets = new EnumMap<>(Operation.class);
+    private final Path reportDirectory;
+    private final Map<String, Object> applicationProperties = new LinkedHashMap<>();
+
+    private LoadTestSettings(Properties properties) {
+        this.rate = Double.parseDouble(properties.getProperty("loadtest.rate", "100"));
+        this.duration = Duration.ofSeconds(Long.parseLong(properties.getProperty("loadtest.duration-seconds", "60")));
+        this.warmup = Duration.ofSeconds(Long.parseLong(properties.getProperty("loadtest.warmup-seconds", "15")));
+        this.maxInFlight = Integer.parseInt(properties.getProperty("loadtest.max-in-flight", "512"));
+        this.seed = Long.parseLong(properties.getProperty("loadtest.seed", "42"));
+        this.maxErrorRate = Double.parseDouble(properties.getProperty("loadtest.max-error-rate", "0.01"));
+        this.reportDirectory = Paths.get(properties.getProperty("loadtest.report-dir", "build/reports/loadtest"));
+        for (Operation operation : Operation.values()) {
+            weights.put(operation, Integer.parseInt(properties.getProperty(
+                    "loadtest.mix." + operation.getKey(), String.valueOf(operation.getDefaultWeight()))));
+            p99Budgets.put(operation, Long.parseLong(properties.getProperty(
+                    "loadtest.budget." + operation.getKey(), String.valueOf(operation.getDefaultP99BudgetMillis()))));
+        }
+
+        // 애플리케이션 기본값 : 로컬 H2 + 프로세스 내부 토큰 저장소 + 데이터 생성기. 같은 이름의 시스템 프로퍼티가 우선한다
+        applicationProperties.put("server.port", "0");
+        applicationProperties.put("spring.main.banner-mode", "off");
+        applicationProperties.put("logging.level.root", "warn");
+        applicationProperties.put("spring.datasource.url", "jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1");
+        applicationProperties.put("spring.sql.init.mode", "never");
+        applicationProperties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        applicationProperties.put("spring.mail.host", "localhost");
+        applicationProperties.put("spring.mail.username", "loadtest@localhost");
+        applicationProperties.put("spring.mail.password", "");
+        applicationProperties.put("mail.address.admin", "admin@localhost");
+        applicationProperties.put("jwt.key", "load-test-signing-key-0123456789-abcdefghijklmnopqrstuvwxyz");
+        applicationProperties.put("jwt.access-token-expiration-minutes", "120");
+        applicationProperties.put("jwt.refresh-token-expiration-minutes", "240");
+        applicationProperties.put("auth.token-store.type", "memory");
+        // 모든 요청이 127.0.0.1 에서 같은 사원 몇 명으로 들어오므로 로그인 제한은 풀어 둔다 (BCrypt 비용은 그대로 측정)
+        applicationProperties.put("auth.login.per-employee.capacity", "1000000");
+        applicationProperties.put("auth.login.per-employee.refill-per-second", "1000000");
+        applicationProperties.put("auth.login.per-ip.capacity", "1000000");
+        applicationProperties.put("auth.login.per-ip.refill-per-second", "1000000");
+        applicationProperties.put("datagen.enabled", "true");
+        applicationProperties.put("datagen.seed", String.valueOf(seed));
+        applicationProperties.put("datagen.end-date", LocalDate.now().toString());
+        applicationProperties.put("datagen.member-count", "50");
+        applicationProperties.put("datagen.buyer-count", "5000");
+        applicationProperties.put("datagen.item-count", "5000");
+        applicationProperties.put("datagen.manufacture-count", "100");
+        applicationProperties.put("datagen.order-count", "100000");
+        applicationProperties.put("datagen.member-password", getMemberPassword());
+    }
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(System.getProperties());
+    }
+
+    public double getRate() {
+        return rate;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public Duration getWarmup() {
+        return warmup;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public double getMaxErrorRate() {
+        return maxErrorRate;
+    }
+
+    public Map<Operation, Integer> getWeights() {
+        return weights;
+    }
+
+    public long getP99BudgetMillis(Operation operation) {
+        return p99Budgets.get(operation);
+    }
+
+    public Path getReportDirectory() {
+        return reportDirectory;
+    }
+
+    public String getMemberPassword() {
+        return System.getProperty("datagen.member-password", "loadtest1234!");
+    }
+
+    public Map<String, Object> getApplicationProperties() {
+        return applicationProperties;
+    }
+}
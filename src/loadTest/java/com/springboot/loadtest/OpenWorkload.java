@@ -0,0 +1,98 @@
+package com.springboot.loadtest;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 개방형(open model) 부하 생성기.
+ * 도착 간격은 평균 1 / rate 초의 지수 분포(포아송 도착)로, 앞선 요청의 완료를 기다리지 않고 정해진 시각에 요청을 보낸다.
+ * 응답이 느려져도 도착률이 줄지 않으므로 대기열이 쌓이는 모습이 그대로 응답 시간에 드러난다.
+ * 동시 요청 수가 maxInFlight 를 넘으면 보내지 않고 dropped 로 센다 (클라이언트가 무한히 쌓이지 않도록).
+ */
+public class OpenWorkload {
+    private final ApiClient client;
+    private final LatencyRecorder recorder;
+    private final double rate;
+    private final int maxInFlight;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final Random random;
+    private final Semaphore inFlight;
+
+    public OpenWorkload(ApiClient client, LatencyRecorder recorder, LoadTestSettings settings) {
+        this.client = client;
+        this.recorder = recorder;
+        this.rate = settings.getRate();
+        this.maxInFlight = settings.getMaxInFlight();
+        this.random = new Random(settings.getSeed());
+        this.inFlight = new Semaphore(maxInFlight);
+
+        Map<Operation, Integer> weights = settings.getWeights();
+        this.operations = weights.keySet().toArray(new Operation[0]);
+        this.cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += weights.get(operations[i]);
+            cumulativeWeights[i] = total;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("at least one operation needs a positive loadtest.mix weight");
+        }
+    }
+
+    // duration 동안 요청을 보내고, 보낸 요청이 모두 끝날 때까지 (최대 30 초) 기다린다
+    public void run(Duration duration) throws InterruptedException {
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        long next = start;
+        while (next < end) {
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            fire(pick(), next);
+            next += interarrivalNanos();
+        }
+        if (inFlight.tryAcquire(maxInFlight, 30, TimeUnit.SECONDS)) {
+            inFlight.release(maxInFlight);
+        }
+    }
+
+    private void fire(Operation operation, long intendedStart) {
+        if (!inFlight.tryAcquire()) {
+            recorder.dropped(operation);
+            return;
+        }
+        CompletableFuture<Integer> response;
+        try {
+            response = client.send(operation, random);
+        } catch (RuntimeException e) {
+            inFlight.release();
+            recorder.record(operation, System.nanoTime() - intendedStart, null, e);
+            return;
+        }
+        response.whenComplete((status, error) -> {
+            inFlight.release();
+            recorder.record(operation, System.nanoTime() - intendedStart, status, error);
+        });
+    }
+
+    private Operation pick() {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    private long interarrivalNanos() {
+        return (long) (-Math.log(1 - random.nextDouble()) * TimeUnit.SECONDS.toNanos(1) / rate);
+    }
+}
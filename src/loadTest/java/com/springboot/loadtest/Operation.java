@@ -0,0 +1,38 @@
+package com.springboot.loadtest;
+
+/**
+ * 부하 테스트에서 호출하는 API. key 는 설정 이름(loadtest.mix.{key}, loadtest.budget.{key})과 보고서에 쓰인다.
+ * 기본 비율은 영업 사원의 하루 사용 패턴 (조회 위주, 주문 등록 / 승인은 일부),
+ * 기본 p99 예산은 BCrypt 를 거치는 로그인과 전체 기간을 집계하는 리포트만 넉넉하게 잡았다.
+ */
+public enum Operation {
+    LOGIN("login", 2, 500),
+    ORDER_CREATE("order-create", 15, 300),
+    ORDER_APPROVE("order-approve", 5, 300),
+    ORDER_SEARCH("order-search", 50, 200),
+    INVENTORY("inventory", 10, 200),
+    SALE_REPORT("sale-report", 10, 1500),
+    EMPLOYEE_REPORT("employee-report", 8, 1500);
+
+    private final String key;
+    private final int defaultWeight;
+    private final long defaultP99BudgetMillis;
+
+    Operation(String key, int defaultWeight, long defaultP99BudgetMillis) {
+        this.key = key;
+        this.defaultWeight = defaultWeight;
+        this.defaultP99BudgetMillis = defaultP99BudgetMillis;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public int getDefaultWeight() {
+        return defaultWeight;
+    }
+
+    public long getDefaultP99BudgetMillis() {
+        return defaultP99BudgetMillis;
+    }
+}
@@ -1,6 +1,7 @@
 package com.springboot.advice;
 
 import com.springboot.exception.BusinessLogicException;
+import com.springboot.exception.DuplicateValueException;
 import com.springboot.response.ErrorResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.mapping.PropertyReferenceException;
@@ -42,6 +43,14 @@ public class GlobalExceptionAdvice {
                 .getStatus()));
     }
     @ExceptionHandler
+    public ResponseEntity handleDuplicateValueException(
+            DuplicateValueException e) {
+        final ErrorResponse response = ErrorResponse.of(e);
+
+        return new ResponseEntity<>(response, HttpStatus.valueOf(e.getExceptionCode()
+                .getStatus()));
+    }
+    @ExceptionHandler
     @ResponseStatus(HttpStatus.METHOD_NOT_ALLOWED)
     public ErrorResponse handleHttpRequestMethodNotSupportedException(
             HttpRequestMethodNotSupportedException e) {
@@ -1,8 +1,11 @@
 package com.springboot.auth.filter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.springboot.auth.dto.LoginDto;
 import com.springboot.auth.jwt.JwtTokenizer;
+import com.springboot.auth.login.LoginAdmissionControl;
+import com.springboot.auth.utils.JwtAuthorityUtils;
 import com.springboot.member.entity.Member;
 import lombok.SneakyThrows;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -22,20 +25,30 @@ import java.util.Map;
 
 public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilter {
 
+    // ObjectReader 는 불변이라 모든 로그인 요청에서 같이 쓴다
+    private static final ObjectReader LOGIN_READER = new ObjectMapper().readerFor(LoginDto.class);
+
     private final AuthenticationManager authenticationManager;
     private final JwtTokenizer jwtTokenizer;
+    private final LoginAdmissionControl loginAdmissionControl;
+    private final JwtAuthorityUtils authorityUtils;
 
 
-    public JwtAuthenticationFilter(AuthenticationManager authenticationManager, JwtTokenizer jwtTokenizer) {
+    public JwtAuthenticationFilter(AuthenticationManager authenticationManager, JwtTokenizer jwtTokenizer,
+                                   LoginAdmissionControl loginAdmissionControl, JwtAuthorityUtils authorityUtils) {
         this.authenticationManager = authenticationManager;
         this.jwtTokenizer = jwtTokenizer;
+        this.loginAdmissionControl = loginAdmissionControl;
+        this.authorityUtils = authorityUtils;
     }
 
     @SneakyThrows
     @Override
     public Authentication attemptAuthentication(HttpServletRequest request, HttpServletResponse response){
-        ObjectMapper objectMapper = new ObjectMapper();
-        LoginDto loginDto = objectMapper.readValue(request.getInputStream(), LoginDto.class);
+        LoginDto loginDto = LOGIN_READER.readValue(request.getInputStream());
+
+        // 허용량을 넘은 요청은 비밀번호 확인 전에 거절 (429)
+        loginAdmissionControl.admit(loginDto.getEmployeeId(), request.getRemoteAddr());
 
         UsernamePasswordAuthenticationToken authenticationToken
                 = new UsernamePasswordAuthenticationToken(loginDto.getEmployeeId(), loginDto.getPassword());
@@ -49,7 +62,8 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
                                             Authentication authentication) throws ServletException, IOException {
         Member member = (Member) authentication.getPrincipal();
         String accessToken = delegateAccessToken(member);
-        String refreshToken = delegateRefreshToken(member, accessToken);
+        String refreshToken = delegateRefreshToken(member);
+        jwtTokenizer.registerToken(member.getEmployeeId(), accessToken, refreshToken);
         response.setHeader("Authorization", "Bearer " + accessToken);
         response.setHeader("Refresh", refreshToken);
         this.getSuccessHandler().onAuthenticationSuccess(request,response,authentication);
@@ -63,24 +77,24 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
         Map<String,Object> claims = new HashMap<>();
         claims.put("username", member.getEmployeeId());
         claims.put("roles", member.getRoles());
+        int roleMask = authorityUtils.toRoleMask(member.getRoles());
+        if (roleMask >= 0) {
+            claims.put("roleMask", roleMask);
+        }
 
         String subject = member.getEmail();
         Date expiration = jwtTokenizer.getTokenExpiration(jwtTokenizer.getAccessTokenExpirationMinutes());
-        String base64EncodedSecretKey = jwtTokenizer.encodeBase64SecretKey(jwtTokenizer.getSecretKey());
-        String accessToken = jwtTokenizer.generateAccessToken(claims,subject,
-                expiration, base64EncodedSecretKey);
+        String accessToken = jwtTokenizer.generateAccessToken(claims,subject, expiration);
 
         return accessToken;
     }
 
-    protected String delegateRefreshToken(Member member,String accessToken){
+    protected String delegateRefreshToken(Member member){
 
         String subject = member.getEmail();
         Date expiration = jwtTokenizer.getTokenExpiration(jwtTokenizer.getRefreshTokenExpirationMinutes());
 
-        String base64EncodedSecretKey = jwtTokenizer.encodeBase64SecretKey(jwtTokenizer.getSecretKey());
-
-        String refreshToken = jwtTokenizer.generateRefreshToken(subject,expiration,base64EncodedSecretKey,accessToken);
+        String refreshToken = jwtTokenizer.generateRefreshToken(subject,expiration);
 
         return refreshToken;
     }
@@ -1,11 +1,14 @@
 package com.springboot.auth.filter;
 
+import com.springboot.auth.jwt.JwtAuthentication;
 import com.springboot.auth.jwt.JwtTokenizer;
+import com.springboot.auth.session.ActiveSessionCache;
 import com.springboot.auth.utils.JwtAuthorityUtils;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.security.SignatureException;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -19,25 +22,35 @@ import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 public class JwtVerificationFilter extends OncePerRequestFilter {
    private final JwtTokenizer jwtTokenizer;
    private final JwtAuthorityUtils authorityUtils;
-    // redis에서 추가 검증을 위해 RedisTemplate DI
-    private final RedisTemplate<String, Object> redisTemplate;
+    // 로그인 세션 추가 검증 (Redis 조회 결과를 짧게 캐시)
+    private final ActiveSessionCache activeSessionCache;
+    // 서명 / 만료 확인부터 세션 확인까지 걸린 시간 (jwt.verification{result})
+    private final Timer validTimer;
+    private final Timer invalidTimer;
 
-    public JwtVerificationFilter(JwtTokenizer jwtTokenizer, JwtAuthorityUtils authorityUtils, RedisTemplate<String, Object> redisTemplate) {
+    public JwtVerificationFilter(JwtTokenizer jwtTokenizer, JwtAuthorityUtils authorityUtils, ActiveSessionCache activeSessionCache,
+                                 MeterRegistry meterRegistry) {
         this.jwtTokenizer = jwtTokenizer;
         this.authorityUtils = authorityUtils;
-        this.redisTemplate = redisTemplate;
+        this.activeSessionCache = activeSessionCache;
+        this.validTimer = Timer.builder("jwt.verification").tag("result", "valid").register(meterRegistry);
+        this.invalidTimer = Timer.builder("jwt.verification").tag("result", "invalid").register(meterRegistry);
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        long started = System.nanoTime();
+        Timer timer = invalidTimer;
         try {
-            Map<String, Object> claims = verifyJws(request);
+            Claims claims = verifyJws(request);
             isTokenValidInRedis(claims);
             setAuthenticationToContext(claims);
+            timer = validTimer;
         }catch (SignatureException se){
             request.setAttribute("exception", se);
         }catch (ExpiredJwtException ee){
@@ -45,41 +58,44 @@ public class JwtVerificationFilter extends OncePerRequestFilter {
         }catch(Exception e) {
             request.setAttribute("exception", e);
         }
+        timer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
         filterChain.doFilter(request, response);
     }
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
-        String authorization = request.getHeader("Authorization");
-
-        return authorization == null || !authorization.startsWith("Bearer");
+        return JwtTokenizer.extractBearerToken(request.getHeader("Authorization")) == null;
     }
 
-    private Map<String, Object> verifyJws(HttpServletRequest request){
-        String jws = request.getHeader("Authorization").replace("Bearer ", ""); // (3-1)
-        String base64EncodedSecretKey = jwtTokenizer.encodeBase64SecretKey(jwtTokenizer.getSecretKey()); // (3-2)
-        Map<String, Object> claims = jwtTokenizer.getClaims(jws, base64EncodedSecretKey).getBody();
+    private Claims verifyJws(HttpServletRequest request){
+        String jws = JwtTokenizer.extractBearerToken(request.getHeader("Authorization")); // (3-1)
+        Claims claims = jwtTokenizer.getClaims(jws).getBody(); // (3-2) 시작 시 만든 파서 재사용
 
         return claims;
     }
     private void setAuthenticationToContext(Map<String, Object> claims){
         String username = (String) claims.get("username");
-        List<GrantedAuthority> authorities = authorityUtils.createAuthorities((List)claims.get("roles"));
-        Authentication authentication = new UsernamePasswordAuthenticationToken(
-                username, null, authorities);
+        Authentication authentication = new JwtAuthentication(username, resolveAuthorities(claims));
         SecurityContextHolder.getContext().setAuthentication(authentication);
     }
 
-    // Redis에서 토큰을 검증하는 메서드 추가
-    private void isTokenValidInRedis(Map<String, Object> claims) {
+    // 새 토큰은 roleMask 로 바로 찾고, roleMask 가 없는 이전 토큰은 roles 목록으로 찾는다 (둘 다 공유 목록 반환)
+    private List<GrantedAuthority> resolveAuthorities(Map<String, Object> claims){
+        Object roleMask = claims.get("roleMask");
+        if (roleMask instanceof Number) {
+            return authorityUtils.createAuthorities(((Number) roleMask).intValue());
+        }
+        return authorityUtils.createAuthorities((List<String>) claims.get("roles"));
+    }
+
+    // Redis에서 토큰을 검증하는 메서드 추가 (최근에 확인한 세션은 로컬 캐시로 통과)
+    private void isTokenValidInRedis(Claims claims) {
         String username = Optional.ofNullable((String) claims.get("username"))
                 .orElseThrow(() -> new NullPointerException("Username is null"));
 
         // Redis에 해당 키(username)가 존재하는지 확인
-        Boolean hasKey = redisTemplate.hasKey(username);
-
-        // 키가 존재하지 않거나 null일 경우 예외를 던짐
-        if (Boolean.FALSE.equals(hasKey)) {
+        // 키가 존재하지 않거나 Redis 장애(fail-closed)일 경우 예외를 던짐
+        if (!activeSessionCache.isActive(username, claims.getExpiration())) {
             throw new IllegalStateException("Redis key does not exist for username: " + username);
         }
     }
@@ -1,6 +1,7 @@
 package com.springboot.auth.handler;
 
 import com.google.gson.Gson;
+import com.springboot.auth.login.LoginThrottledException;
 import com.springboot.auth.utils.ErrorResponder;
 import com.springboot.response.ErrorResponse;
 import lombok.extern.slf4j.Slf4j;
@@ -23,7 +24,10 @@ public class MemberAuthenticationFailureHandler implements AuthenticationFailure
                                         HttpServletResponse response,
                                         AuthenticationException exception) throws IOException, ServletException {
 
-        if (exception instanceof BadCredentialsException) {
+        if (exception instanceof LoginThrottledException) {
+            response.setHeader("Retry-After", String.valueOf(((LoginThrottledException) exception).getRetryAfterSeconds()));
+            sendErrorResponse(response, HttpStatus.TOO_MANY_REQUESTS, "Too many login attempts");
+        } else if (exception instanceof BadCredentialsException) {
             sendErrorResponse(response, HttpStatus.UNAUTHORIZED, "Invalid username or password");
         } else if (exception instanceof InternalAuthenticationServiceException) {
             sendErrorResponse(response, HttpStatus.NOT_FOUND, "Member Not Found");
@@ -0,0 +1,68 @@
+package com.springboot.auth.jwt;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 토큰 검증이 끝난 요청의 인증 정보.
+ * UsernamePasswordAuthenticationToken 은 생성할 때마다 권한 목록을 복사하므로,
+ * JwtAuthorityUtils 가 돌려준 공유 불변 목록을 그대로 쓰는 가벼운 구현을 사용한다.
+ * principal 은 기존과 같이 username(사원번호) 문자열이다.
+ * UsernamePasswordAuthenticationToken 과 같이 setAuthenticated(true) 는 거부하고, false 로 되돌리는 것만 허용한다.
+ */
+public class JwtAuthentication implements Authentication {
+    private final String username;
+    private final List<GrantedAuthority> authorities;
+    private volatile boolean authenticated = true;
+
+    public JwtAuthentication(String username, List<GrantedAuthority> authorities) {
+        this.username = username;
+        this.authorities = authorities;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public Object getDetails() {
+        return null;
+    }
+
+    @Override
+    public Object getPrincipal() {
+        return username;
+    }
+
+    @Override
+    public boolean isAuthenticated() {
+        return authenticated;
+    }
+
+    @Override
+    public void setAuthenticated(boolean isAuthenticated) {
+        if (isAuthenticated) {
+            throw new IllegalArgumentException("Cannot set this token to trusted - use the constructor instead");
+        }
+        this.authenticated = false;
+    }
+
+    @Override
+    public String getName() {
+        return username;
+    }
+
+    @Override
+    public String toString() {
+        return "JwtAuthentication [username=" + username + ", authorities=" + authorities + "]";
+    }
+}
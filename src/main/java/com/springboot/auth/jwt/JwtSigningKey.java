@@ -0,0 +1,32 @@
+package com.springboot.auth.jwt;
+
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import lombok.Getter;
+
+import java.security.Key;
+
+/**
+ * 서명 키와 그 키로 만든 파서를 함께 묶은 불변 객체.
+ * JwtParser 는 만든 뒤에는 thread-safe 하므로 요청마다 새로 만들지 않고 재사용한다.
+ */
+@Getter
+public final class JwtSigningKey {
+    private final Key key;
+    private final JwtParser parser;
+
+    private JwtSigningKey(Key key) {
+        this.key = key;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+    }
+
+    // 기존 토큰과 같은 키가 나오도록 Base64 로 인코딩한 값을 Base64URL 로 디코딩하는 기존 방식을 그대로 따른다
+    public static JwtSigningKey fromBase64EncodedKey(String base64EncodedSecretKey) {
+        byte[] keyBytes = Decoders.BASE64URL.decode(base64EncodedSecretKey);
+        return new JwtSigningKey(Keys.hmacShaKeyFor(keyBytes));
+    }
+}
@@ -1,31 +1,31 @@
 package com.springboot.auth.jwt;
 
 
+import com.springboot.auth.session.TokenStore;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.io.Encoders;
-import io.jsonwebtoken.security.Keys;
 import lombok.Getter;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PostConstruct;
 import java.nio.charset.StandardCharsets;
-import java.security.Key;
+import java.time.Duration;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.Map;
-import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtTokenizer {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private static final String BEARER_PREFIX = "Bearer ";
 
+    private final TokenStore tokenStore;
+
+    // 서명 키와 파서는 시작할 때(또는 키 교체 시) 한 번만 만든다
+    private volatile JwtSigningKey signingKey;
 
     @Getter
     @Value("${jwt.key}")
@@ -39,8 +39,31 @@ public class JwtTokenizer {
     @Value("${jwt.refresh-token-expiration-minutes}")
     private int refreshTokenExpirationMinutes;
 
-    public JwtTokenizer(RedisTemplate<String, Object> redisTemplate) {
-        this.redisTemplate = redisTemplate;
+    public JwtTokenizer(TokenStore tokenStore) {
+        this.tokenStore = tokenStore;
+    }
+
+    @PostConstruct
+    void initSigningKey() {
+        rotateSecretKey(secretKey);
+    }
+
+    // 서명 키 교체. 교체 이전 키로 서명된 토큰은 더 이상 검증되지 않는다
+    public void rotateSecretKey(String secretKey) {
+        this.signingKey = JwtSigningKey.fromBase64EncodedKey(encodeBase64SecretKey(secretKey));
+        this.secretKey = secretKey;
+    }
+
+    JwtSigningKey getSigningKey() {
+        return signingKey;
+    }
+
+    // "Bearer " 헤더에서 토큰만 잘라낸다. 형식이 다르면 null
+    public static String extractBearerToken(String authorization) {
+        if (authorization == null || !authorization.regionMatches(0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            return null;
+        }
+        return authorization.substring(BEARER_PREFIX.length());
     }
 
     public String encodeBase64SecretKey(String secretKey){
@@ -48,82 +71,52 @@ public class JwtTokenizer {
     }
     public String generateAccessToken(Map<String, Object> claims,
                                       String subject,
-                                      Date expiration,
-                                      String base64EncodedSecretKey){
-        Key key = getKeyFromBase64EncodedKey(base64EncodedSecretKey);
+                                      Date expiration){
         String accessToken = Jwts.builder()
                 .setClaims(claims)
                 .setSubject(subject)
                 .setIssuedAt(Calendar.getInstance().getTime())
                 .setExpiration(expiration)
-                .signWith(key)
+                .signWith(signingKey.getKey())
                 .compact();
 
-        ValueOperations<String, Object> valueOperations = redisTemplate.opsForValue();
-
-        valueOperations.set((String) claims.get("username"), accessToken, accessTokenExpirationMinutes, TimeUnit.MINUTES);
         return accessToken;
     }
 
     public String generateRefreshToken(String subject,
-                                       Date expiration,
-                                       String base64EncodedSecretKey,
-                                       String accessToken){
-        Key key = getKeyFromBase64EncodedKey(base64EncodedSecretKey);
+                                       Date expiration){
         String refreshToken = Jwts.builder()
                 .setSubject(subject)
                 .setIssuedAt(Calendar.getInstance().getTime())
                 .setExpiration(expiration)
-                .signWith(key)
+                .signWith(signingKey.getKey())
                 .compact();
 
-        ValueOperations<String, Object> valueOperations = redisTemplate.opsForValue();
-
-        valueOperations.set(accessToken, refreshToken, refreshTokenExpirationMinutes, TimeUnit.MINUTES);
-
         return refreshToken;
     }
 
-    private Key getKeyFromBase64EncodedKey(String base64EncodedSecretKey){
-        byte[] keyBytes = Decoders.BASE64URL.decode(base64EncodedSecretKey);
-        Key key = Keys.hmacShaKeyFor(keyBytes);
-        return key;
+    // 로그인 세션 등록 (username -> accessToken, accessToken -> refreshToken) 을 한 번에 저장
+    public void registerToken(String username, String accessToken, String refreshToken) {
+        tokenStore.register(username,
+                accessToken, Duration.ofMinutes(accessTokenExpirationMinutes),
+                refreshToken, Duration.ofMinutes(refreshTokenExpirationMinutes));
     }
+
     public Date getTokenExpiration(int expirationMinutes){
         Calendar calendar = Calendar.getInstance();
         calendar.add(Calendar.MINUTE, expirationMinutes);
         Date expiration = calendar.getTime();
         return expiration;
     }
-    public Jws<Claims> getClaims(String jws, String base64EncodedSecretKey){
-        Key key = getKeyFromBase64EncodedKey(base64EncodedSecretKey);
-        Jws<Claims> claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(jws);
-        return claims;
+    public Jws<Claims> getClaims(String jws){
+        return signingKey.getParser().parseClaimsJws(jws);
     }
-    public void verifySignature(String jws, String base64EncodedSecretKey){
-        Key key = getKeyFromBase64EncodedKey(base64EncodedSecretKey);
-        Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(jws);
+    public void verifySignature(String jws){
+        signingKey.getParser().parseClaimsJws(jws);
     }
 
-    // 로그아웃시 레디스에서 email을 기준으로 토큰 값 삭제
+    // 로그아웃시 레디스에서 email을 기준으로 토큰 값 삭제 (조회와 삭제를 한 번에 처리)
     public boolean deleteRegisterToken(String username) {
-        return Optional.ofNullable(redisTemplate.hasKey(username))
-                .filter(Boolean::booleanValue) // 키가 존재할 때만 진행
-                .map(hasKey -> {
-                    String accessToken = (String) redisTemplate.opsForValue().get(username);
-                    redisTemplate.delete(accessToken);
-                    redisTemplate.delete(username);
-                    return true;
-                })
-                .orElse(false); // 키가 존재하지 않거나 삭제되지 않았을 때 false 반환
+        return tokenStore.revoke(username); // 키가 존재하지 않으면 false 반환
     }
 }
-
-
-
@@ -0,0 +1,37 @@
+package com.springboot.auth.login;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인 요청 수 제한. IP 별, 사원번호 별 토큰 버킷을 모두 통과해야 비밀번호 확인(BCrypt)으로 넘어간다.
+ * 초과한 요청은 대기시키지 않고 바로 LoginThrottledException(429) 으로 돌려보낸다.
+ */
+@Component
+public class LoginAdmissionControl {
+    private final TokenBucketLimiter perEmployee;
+    private final TokenBucketLimiter perIp;
+
+    public LoginAdmissionControl(@Value("${auth.login.per-employee.capacity:5}") int employeeCapacity,
+                                 @Value("${auth.login.per-employee.refill-per-second:0.1}") double employeeRefill,
+                                 @Value("${auth.login.per-ip.capacity:100}") int ipCapacity,
+                                 @Value("${auth.login.per-ip.refill-per-second:20}") double ipRefill,
+                                 @Value("${auth.login.max-tracked-keys:100000}") int maxKeys) {
+        this.perEmployee = new TokenBucketLimiter(employeeCapacity, employeeRefill, maxKeys);
+        // 사무실처럼 여러 사람이 같은 IP 를 쓰는 경우가 있어서 IP 한도는 넉넉하게 둔다
+        this.perIp = new TokenBucketLimiter(ipCapacity, ipRefill, maxKeys);
+    }
+
+    public void admit(String employeeId, String remoteAddr) {
+        long retryAfter = perIp.tryAcquire(remoteAddr);
+        if (retryAfter > 0) {
+            throw new LoginThrottledException("Too many login attempts from " + remoteAddr, retryAfter);
+        }
+        if (employeeId != null) {
+            retryAfter = perEmployee.tryAcquire(employeeId);
+            if (retryAfter > 0) {
+                throw new LoginThrottledException("Too many login attempts for " + employeeId, retryAfter);
+            }
+        }
+    }
+}
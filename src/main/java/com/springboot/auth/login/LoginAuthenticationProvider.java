@@ -0,0 +1,24 @@
+package com.springboot.auth.login;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+/**
+ * 로그인(/auth/login) 인증. 비밀번호 확인만 BoundedPasswordEncoder 의 전용 풀에서 실행한다.
+ * 전역 PasswordEncoder 빈은 감싸지 않으므로 비밀번호 변경 전 확인 같은 다른 경로는 로그인 대기열이 차도 거절되지 않는다.
+ */
+public class LoginAuthenticationProvider extends DaoAuthenticationProvider implements DisposableBean {
+    private final BoundedPasswordEncoder passwordEncoder;
+
+    public LoginAuthenticationProvider(UserDetailsService userDetailsService, BoundedPasswordEncoder passwordEncoder) {
+        this.passwordEncoder = passwordEncoder;
+        setUserDetailsService(userDetailsService);
+        setPasswordEncoder(passwordEncoder);
+    }
+
+    @Override
+    public void destroy() {
+        passwordEncoder.shutdown();
+    }
+}
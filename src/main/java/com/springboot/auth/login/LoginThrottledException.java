@@ -0,0 +1,18 @@
+package com.springboot.auth.login;
+
+import lombok.Getter;
+import org.springframework.security.core.AuthenticationException;
+
+/**
+ * 로그인 요청이 허용량을 넘었을 때 발생. 실패 핸들러가 429 로 응답한다.
+ */
+@Getter
+public class LoginThrottledException extends AuthenticationException {
+    // 다시 시도할 수 있을 때까지 남은 시간 (Retry-After)
+    private final long retryAfterSeconds;
+
+    public LoginThrottledException(String msg, long retryAfterSeconds) {
+        super(msg);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,71 @@
+package com.springboot.auth.login;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 키(사원번호, IP 등)별 토큰 버킷.
+ * 버킷마다 capacity 개까지 쌓이고 refillPerSecond 속도로 다시 채워진다.
+ * 키 수가 maxKeys 를 넘으면 가장 오래 쓰지 않은 버킷 하나를 버린다 (LRU, 요청마다 상수 시간).
+ * 버려진 키는 다음 요청에서 가득 찬 버킷으로 다시 시작한다.
+ */
+public class TokenBucketLimiter {
+    private final double capacity;
+    private final double refillPerNano;
+    // 접근 순서 LinkedHashMap 은 조회도 순서를 바꾸므로 buckets 잠금 안에서만 쓴다. 잠금 구간은 찾기 / 넣기뿐이다
+    private final Map<String, Bucket> buckets;
+
+    public TokenBucketLimiter(int capacity, double refillPerSecond, int maxKeys) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / 1_000_000_000d;
+        this.buckets = new LinkedHashMap<String, Bucket>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                return size() > maxKeys;
+            }
+        };
+    }
+
+    // 토큰 하나를 쓸 수 있으면 0, 없으면 다음 토큰까지 남은 초 (1 이상)
+    public long tryAcquire(String key) {
+        long now = System.nanoTime();
+        Bucket bucket;
+        synchronized (buckets) {
+            bucket = buckets.computeIfAbsent(key, k -> new Bucket(capacity, now));
+        }
+        return bucket.tryAcquire(now);
+    }
+
+    public int size() {
+        synchronized (buckets) {
+            return buckets.size();
+        }
+    }
+
+    private class Bucket {
+        private double tokens;
+        private long refilledAt;
+
+        private Bucket(double tokens, long refilledAt) {
+            this.tokens = tokens;
+            this.refilledAt = refilledAt;
+        }
+
+        private synchronized long tryAcquire(long now) {
+            refill(now);
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return Math.max(1, (long) Math.ceil((1 - tokens) / refillPerNano / 1_000_000_000d));
+        }
+
+        // 다른 스레드가 더 늦은 시각으로 먼저 채웠으면 건너뛴다 (now 는 잠금 밖에서 읽는다)
+        private void refill(long now) {
+            if (now > refilledAt) {
+                tokens = Math.min(capacity, tokens + (now - refilledAt) * refillPerNano);
+                refilledAt = now;
+            }
+        }
+    }
+}
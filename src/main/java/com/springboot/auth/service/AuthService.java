@@ -2,7 +2,7 @@ package com.springboot.auth.service;
 
 
 import com.springboot.auth.jwt.JwtTokenizer;
-import org.springframework.data.redis.core.RedisTemplate;
+import com.springboot.auth.session.ActiveSessionCache;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,13 +10,16 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class AuthService {
     private final JwtTokenizer jwtTokenizer;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final ActiveSessionCache activeSessionCache;
 
-    public AuthService(JwtTokenizer jwtTokenizer, RedisTemplate<String, Object> redisTemplate) {
+    public AuthService(JwtTokenizer jwtTokenizer, ActiveSessionCache activeSessionCache) {
         this.jwtTokenizer = jwtTokenizer;
-        this.redisTemplate = redisTemplate;
+        this.activeSessionCache = activeSessionCache;
     }
     public boolean logout(String username) {
-        return jwtTokenizer.deleteRegisterToken(username); // JwtTokenizer를 사용하여 저장된 토큰을 삭제합니다.
+        boolean deleted = jwtTokenizer.deleteRegisterToken(username); // JwtTokenizer를 사용하여 저장된 토큰을 삭제합니다.
+        // 모든 서버의 세션 캐시에서 제거 (삭제할 토큰이 없었더라도 캐시는 비운다)
+        activeSessionCache.invalidate(username);
+        return deleted;
     }
 }
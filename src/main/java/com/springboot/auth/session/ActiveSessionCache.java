@@ -0,0 +1,109 @@
+package com.springboot.auth.session;
+
+import com.springboot.cache.InvalidationBus;
+import com.springboot.cache.LocalLruCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로그인 세션(토큰 저장소에 유효한 세션이 있는지) 확인 결과를 짧게 캐시해서 요청마다 Redis 를 조회하지 않도록 한다.
+ * 캐시 기간은 설정한 TTL 과 토큰 만료 시각 중 빠른 쪽까지이고, 로그아웃하면 InvalidationBus 로 모든 서버의 캐시를 비운다.
+ * 토큰 저장소가 서버 안에만 있으면 (memory) 알릴 다른 서버가 없으므로 InvalidationBus 를 쓰지 않는다.
+ * 저장소(Redis)에 접근할 수 없을 때는 fail-open 설정에 따라 통과(true) 또는 거부(false) 한다.
+ * 조회 중에 무효화가 끼어들면 조회 결과를 캐시에 남기지 않는다 (무효화 세대 번호로 확인).
+ */
+@Slf4j
+@Component
+public class ActiveSessionCache {
+    public static final String INVALIDATION_CHANNEL = "auth:session:invalidation";
+
+    private final InvalidationBus invalidationBus;
+    private final TokenStore tokenStore;
+    // username -> 캐시를 믿을 수 있는 마지막 시각 (토큰 만료 시각, epoch millis)
+    private final LocalLruCache<Long> activeSessions;
+    private final boolean failOpen;
+    // 무효화할 때마다 올린다. 조회를 시작한 뒤 바뀌었으면 그 사이 로그아웃이 있었을 수 있다
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder redisLookups = new LongAdder();
+    private final LongAdder redisFailures = new LongAdder();
+
+    public ActiveSessionCache(ObjectProvider<InvalidationBus> invalidationBus,
+                              TokenStore tokenStore,
+                              @Value("${auth.session-cache.max-size:10000}") int maxSize,
+                              @Value("${auth.session-cache.ttl-seconds:30}") long ttlSeconds,
+                              @Value("${auth.session-cache.fail-open:false}") boolean failOpen) {
+        this.tokenStore = tokenStore;
+        this.activeSessions = new LocalLruCache<>(maxSize, ttlSeconds * 1000L);
+        this.failOpen = failOpen;
+        if (tokenStore.isShared()) {
+            this.invalidationBus = invalidationBus.getObject();
+            this.invalidationBus.subscribe(INVALIDATION_CHANNEL, this::evict);
+        } else {
+            this.invalidationBus = null;
+        }
+    }
+
+    public boolean isActive(String username, Date tokenExpiration) {
+        long now = System.currentTimeMillis();
+        Long validUntil = activeSessions.get(username);
+        if (validUntil != null && validUntil > now) {
+            localHits.increment();
+            return true;
+        }
+
+        redisLookups.increment();
+        long generation = invalidations.get();
+        boolean exists;
+        try {
+            exists = tokenStore.exists(username);
+        } catch (RuntimeException e) {
+            redisFailures.increment();
+            log.warn("session lookup failed for {} ({}) : {}", username, failOpen ? "fail-open" : "fail-closed", e.getMessage());
+            return failOpen;
+        }
+
+        // 로그아웃된 세션은 캐시하지 않는다 (다시 로그인하면 바로 통과해야 하므로)
+        if (!exists) {
+            return false;
+        }
+        activeSessions.put(username, tokenExpiration != null ? tokenExpiration.getTime() : now);
+        // invalidate 는 세대를 먼저 올리고 지우므로, 넣은 뒤에 세대를 확인하면 늦게 도착한 put 이 남지 않는다
+        if (invalidations.get() != generation) {
+            activeSessions.remove(username);
+        }
+        return true;
+    }
+
+    // 로그아웃 시 호출. 이 서버의 캐시를 비우고 다른 서버에도 알린다
+    public void invalidate(String username) {
+        evict(username);
+        if (invalidationBus != null) {
+            invalidationBus.publish(INVALIDATION_CHANNEL, username);
+        }
+    }
+
+    private void evict(String username) {
+        invalidations.incrementAndGet();
+        activeSessions.remove(username);
+    }
+
+    public long getLocalHits() {
+        return localHits.sum();
+    }
+
+    public long getRedisLookups() {
+        return redisLookups.sum();
+    }
+
+    public long getRedisFailures() {
+        return redisFailures.sum();
+    }
+}
@@ -0,0 +1,173 @@
+package com.springboot.auth.session;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프로세스 내부 토큰 저장소 (auth.token-store.type=memory).
+ * 단일 서버 배포, 통합 테스트, 벤치마크에서 Redis 없이 사용한다. 서버 간에 세션이 공유되지 않는다.
+ * 조회할 때마다 만료 시각을 확인하고, 만료된 세션의 메모리는 타이밍 휠이 정리한다.
+ */
+@Component
+@ConditionalOnProperty(name = "auth.token-store.type", havingValue = "memory")
+public class InMemoryTokenStore implements TokenStore {
+    // username -> (accessToken -> 세션)
+    private final Map<String, Map<String, Session>> users = new ConcurrentHashMap<>();
+    // accessToken -> 세션 (refresh token 조회용)
+    private final Map<String, Session> byAccessToken = new ConcurrentHashMap<>();
+    private final TimingWheel<Session> expirations;
+    private final ScheduledExecutorService ticker;
+
+    public InMemoryTokenStore(@Value("${auth.token-store.memory.tick-millis:1000}") long tickMillis,
+                              @Value("${auth.token-store.memory.wheel-size:512}") int wheelSize) {
+        this.expirations = new TimingWheel<>(tickMillis, wheelSize, System.currentTimeMillis());
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "token-store-expiry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(() -> expirations.advance(System.currentTimeMillis(), this::remove),
+                tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void register(String username, String accessToken, Duration accessTokenTtl,
+                         String refreshToken, Duration refreshTokenTtl) {
+        long now = System.currentTimeMillis();
+        Session session = new Session(username, accessToken, refreshToken,
+                now + millis(accessTokenTtl), now + millis(refreshTokenTtl));
+
+        users.compute(username, (key, sessions) -> {
+            Map<String, Session> updated = sessions != null ? sessions : new ConcurrentHashMap<>();
+            updated.put(accessToken, session);
+            byAccessToken.put(accessToken, session);
+            return updated;
+        });
+        expirations.schedule(session, Math.max(session.accessExpiresAt, session.refreshExpiresAt));
+    }
+
+    @Override
+    public boolean revoke(String username) {
+        long now = System.currentTimeMillis();
+        boolean[] revoked = {false};
+        users.computeIfPresent(username, (key, sessions) -> {
+            for (Session session : sessions.values()) {
+                byAccessToken.remove(session.accessToken, session);
+                revoked[0] |= session.isActive(now);
+            }
+            return null;
+        });
+        return revoked[0];
+    }
+
+    @Override
+    public boolean revokeSession(String username, String accessToken) {
+        boolean[] revoked = {false};
+        users.computeIfPresent(username, (key, sessions) -> {
+            Session session = sessions.remove(accessToken);
+            if (session != null) {
+                byAccessToken.remove(accessToken, session);
+                revoked[0] = true;
+            }
+            return sessions.isEmpty() ? null : sessions;
+        });
+        return revoked[0];
+    }
+
+    @Override
+    public boolean exists(String username) {
+        Map<String, Session> sessions = users.get(username);
+        if (sessions == null) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        for (Session session : sessions.values()) {
+            if (session.isActive(now)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public List<TokenSession> sessions(String username) {
+        Map<String, Session> sessions = users.get(username);
+        if (sessions == null) {
+            return Collections.emptyList();
+        }
+        long now = System.currentTimeMillis();
+        List<TokenSession> result = new ArrayList<>();
+        for (Session session : sessions.values()) {
+            if (session.isActive(now)) {
+                result.add(new TokenSession(session.accessToken, session.accessExpiresAt));
+            }
+        }
+        result.sort(Comparator.comparingLong(TokenSession::getExpiresAt));
+        return result;
+    }
+
+    @Override
+    public String findRefreshToken(String accessToken) {
+        Session session = byAccessToken.get(accessToken);
+        return session != null && session.refreshExpiresAt > System.currentTimeMillis() ? session.refreshToken : null;
+    }
+
+    // 이 서버만 보는 저장소
+    @Override
+    public boolean isShared() {
+        return false;
+    }
+
+    public int size() {
+        return byAccessToken.size();
+    }
+
+    @PreDestroy
+    public void close() {
+        ticker.shutdownNow();
+    }
+
+    // RedisTokenStore 의 PX 와 같이 1ms 이상
+    private static long millis(Duration ttl) {
+        return Math.max(1, ttl.toMillis());
+    }
+
+    // 타이밍 휠에서 만료된 세션 제거. 같은 토큰으로 다시 등록된 세션은 건드리지 않는다
+    private void remove(Session session) {
+        byAccessToken.remove(session.accessToken, session);
+        users.computeIfPresent(session.username, (key, sessions) -> {
+            sessions.remove(session.accessToken, session);
+            return sessions.isEmpty() ? null : sessions;
+        });
+    }
+
+    private static class Session {
+        private final String username;
+        private final String accessToken;
+        private final String refreshToken;
+        private final long accessExpiresAt;
+        private final long refreshExpiresAt;
+
+        private Session(String username, String accessToken, String refreshToken,
+                        long accessExpiresAt, long refreshExpiresAt) {
+            this.username = username;
+            this.accessToken = accessToken;
+            this.refreshToken = refreshToken;
+            this.accessExpiresAt = accessExpiresAt;
+            this.refreshExpiresAt = refreshExpiresAt;
+        }
+
+        private boolean isActive(long now) {
+            return accessExpiresAt > now;
+        }
+    }
+}
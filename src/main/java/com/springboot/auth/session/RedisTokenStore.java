@@ -0,0 +1,113 @@
+package com.springboot.auth.session;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Redis 토큰 저장소. 키 구조는
+ *   sessions:{username} (ZSET) : accessToken -> 만료 시각(ms)
+ *   {accessToken}              : refreshToken (refresh 만료 시 삭제)
+ * 등록과 삭제는 각각 Lua 스크립트 한 번으로 처리해서 왕복 횟수를 줄이고, 조회와 삭제 사이에 다른 요청이 끼어들 틈을 없앤다.
+ * access 가 만료돼도 refresh 키가 살아 있는 동안은 ZSET 에 남겨 두어야 로그아웃(REVOKE_ALL)이 refresh 키까지 지운다.
+ * 그래서 ZSET 의 TTL 과 등록 시 정리 기준은 refresh 만료에 맞춘다.
+ * 스크립트가 ZSET 에서 읽은 accessToken 키를 지우므로 단일 Redis(Standalone) 구성을 전제로 한다.
+ */
+@Component
+@ConditionalOnProperty(name = "auth.token-store.type", havingValue = "redis", matchIfMissing = true)
+public class RedisTokenStore implements TokenStore {
+    private static final String SESSIONS = "sessions:";
+
+    // KEYS : sessions, accessToken / ARGV : accessToken, now, accessTtlMs, refreshToken, refreshTtlMs
+    // refresh 까지 만료된 세션만 정리하고, 정리한 세션의 accessToken 키도 같이 지운다
+    private static final RedisScript<Long> REGISTER = new DefaultRedisScript<>(
+            "local now = tonumber(ARGV[2]) " +
+            "local accessTtl = tonumber(ARGV[3]) " +
+            "local refreshTtl = tonumber(ARGV[5]) " +
+            "local cutoff = now - math.max(0, refreshTtl - accessTtl) " +
+            "local expired = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', cutoff) " +
+            "for i = 1, #expired do redis.call('DEL', expired[i]) end " +
+            "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', cutoff) " +
+            "redis.call('ZADD', KEYS[1], now + accessTtl, ARGV[1]) " +
+            "redis.call('PEXPIRE', KEYS[1], math.max(accessTtl, refreshTtl)) " +
+            "redis.call('SET', KEYS[2], ARGV[4], 'PX', ARGV[5]) " +
+            "return 1", Long.class);
+
+    // KEYS : sessions / ARGV : now. 유효한 세션 수를 돌려준다
+    private static final RedisScript<Long> REVOKE_ALL = new DefaultRedisScript<>(
+            "local live = redis.call('ZCOUNT', KEYS[1], '(' .. ARGV[1], '+inf') " +
+            "local tokens = redis.call('ZRANGE', KEYS[1], 0, -1) " +
+            "for i = 1, #tokens do redis.call('DEL', tokens[i]) end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "return live", Long.class);
+
+    // KEYS : sessions, accessToken / ARGV : accessToken
+    private static final RedisScript<Long> REVOKE_ONE = new DefaultRedisScript<>(
+            "local removed = redis.call('ZREM', KEYS[1], ARGV[1]) " +
+            "if removed == 1 then redis.call('DEL', KEYS[2]) end " +
+            "return removed", Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public RedisTokenStore(RedisTemplate<String, Object> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void register(String username, String accessToken, Duration accessTokenTtl,
+                         String refreshToken, Duration refreshTokenTtl) {
+        redisTemplate.execute(REGISTER, Arrays.asList(SESSIONS + username, accessToken),
+                accessToken, String.valueOf(System.currentTimeMillis()), String.valueOf(millis(accessTokenTtl)),
+                refreshToken, String.valueOf(millis(refreshTokenTtl)));
+    }
+
+    @Override
+    public boolean revoke(String username) {
+        Long live = redisTemplate.execute(REVOKE_ALL, Collections.singletonList(SESSIONS + username),
+                String.valueOf(System.currentTimeMillis()));
+        return live != null && live > 0;
+    }
+
+    @Override
+    public boolean revokeSession(String username, String accessToken) {
+        Long removed = redisTemplate.execute(REVOKE_ONE, Arrays.asList(SESSIONS + username, accessToken), accessToken);
+        return removed != null && removed == 1L;
+    }
+
+    @Override
+    public boolean exists(String username) {
+        Long count = redisTemplate.opsForZSet().count(SESSIONS + username, System.currentTimeMillis() + 1, Double.POSITIVE_INFINITY);
+        return count != null && count > 0;
+    }
+
+    @Override
+    public List<TokenSession> sessions(String username) {
+        Set<ZSetOperations.TypedTuple<Object>> tuples = redisTemplate.opsForZSet()
+                .rangeByScoreWithScores(SESSIONS + username, System.currentTimeMillis() + 1, Double.POSITIVE_INFINITY);
+        if (tuples == null) {
+            return Collections.emptyList();
+        }
+        List<TokenSession> sessions = new ArrayList<>(tuples.size());
+        for (ZSetOperations.TypedTuple<Object> tuple : tuples) {
+            sessions.add(new TokenSession(String.valueOf(tuple.getValue()), tuple.getScore().longValue()));
+        }
+        return sessions;
+    }
+
+    @Override
+    public String findRefreshToken(String accessToken) {
+        Object refreshToken = redisTemplate.opsForValue().get(accessToken);
+        return refreshToken == null ? null : refreshToken.toString();
+    }
+
+    // PX 는 1ms 이상이어야 한다
+    private static long millis(Duration ttl) {
+        return Math.max(1, ttl.toMillis());
+    }
+}
@@ -0,0 +1,69 @@
+package com.springboot.auth.session;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * 만료 처리용 해시 타이밍 휠.
+ * 만료 시각을 tick 단위로 나눠 wheelSize 개의 칸에 넣고, advance 가 지나간 칸만 확인한다.
+ * 휠 한 바퀴보다 먼 항목은 해당 칸을 지날 때마다 다시 넣어 둔다.
+ * schedule 은 여러 스레드에서 호출할 수 있지만 advance 는 한 스레드에서만 호출해야 한다.
+ */
+public class TimingWheel<T> {
+    private final long tickMillis;
+    private final Queue<Timeout<T>>[] buckets;
+    private volatile long currentTick;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.buckets = new Queue[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    public void schedule(T item, long deadlineMillis) {
+        // 이미 지난 칸에 넣으면 한 바퀴 뒤에야 확인되므로 다음 칸으로 보낸다
+        long tick = Math.max(deadlineMillis / tickMillis + 1, currentTick + 1);
+        buckets[bucketOf(tick)].add(new Timeout<>(item, tick));
+    }
+
+    // nowMillis 까지 지나간 칸을 처리해서 만료된 항목을 expired 로 넘긴다
+    public void advance(long nowMillis, Consumer<T> expired) {
+        long targetTick = nowMillis / tickMillis;
+        // 오래 멈춰 있었더라도 한 바퀴만 돌면 모든 칸을 확인한다
+        long fromTick = Math.max(currentTick + 1, targetTick - buckets.length + 1);
+        for (long tick = fromTick; tick <= targetTick; tick++) {
+            Queue<Timeout<T>> bucket = buckets[bucketOf(tick)];
+            for (int remaining = bucket.size(); remaining > 0; remaining--) {
+                Timeout<T> timeout = bucket.poll();
+                if (timeout == null) {
+                    break;
+                }
+                if (timeout.tick <= targetTick) {
+                    expired.accept(timeout.item);
+                } else {
+                    bucket.add(timeout);
+                }
+            }
+        }
+        currentTick = Math.max(currentTick, targetTick);
+    }
+
+    private int bucketOf(long tick) {
+        return (int) (tick % buckets.length);
+    }
+
+    private static class Timeout<T> {
+        private final T item;
+        private final long tick;
+
+        private Timeout(T item, long tick) {
+            this.item = item;
+            this.tick = tick;
+        }
+    }
+}
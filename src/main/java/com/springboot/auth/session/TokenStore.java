@@ -0,0 +1,48 @@
+package com.springboot.auth.session;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 로그인 세션(토큰) 저장소 SPI.
+ * 구현체는 auth.token-store.type 으로 선택한다 (redis : 기본값, memory : 단일 서버 / 테스트 / 벤치마크용).
+ * 한 사용자는 여러 세션(기기)을 가질 수 있고, 등록과 삭제는 원자적으로 수행되어야 한다.
+ */
+public interface TokenStore {
+
+    // 세션 등록. accessToken 은 accessTokenTtl 동안 유효하고, refreshToken 은 refreshTokenTtl 동안 조회할 수 있다
+    void register(String username, String accessToken, Duration accessTokenTtl,
+                  String refreshToken, Duration refreshTokenTtl);
+
+    // 사용자의 모든 세션 삭제. 삭제한 유효 세션이 있었으면 true
+    boolean revoke(String username);
+
+    // 세션 하나만 삭제 (특정 기기 로그아웃)
+    boolean revokeSession(String username, String accessToken);
+
+    // 유효한 세션이 하나라도 있는지
+    boolean exists(String username);
+
+    // 유효한 세션 목록 (만료 시각 순)
+    List<TokenSession> sessions(String username);
+
+    String findRefreshToken(String accessToken);
+
+    // 여러 서버가 같은 저장소를 보는지. 공유 저장소일 때만 로그아웃을 다른 서버의 세션 캐시에 알려야 한다
+    default boolean isShared() {
+        return true;
+    }
+
+    @Getter
+    class TokenSession {
+        private final String accessToken;
+        private final long expiresAt;
+
+        public TokenSession(String accessToken, long expiresAt) {
+            this.accessToken = accessToken;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
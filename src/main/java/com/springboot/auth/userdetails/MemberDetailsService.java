@@ -12,6 +12,7 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Component
@@ -19,18 +20,23 @@ public class MemberDetailsService implements UserDetailsService {
 
     private final MemberRepository memberRepository;
     private final JwtAuthorityUtils authorityUtils;
+    private final UserDetailsCache userDetailsCache;
 
-    public MemberDetailsService(MemberRepository memberRepository, JwtAuthorityUtils authorityUtils) {
+    public MemberDetailsService(MemberRepository memberRepository, JwtAuthorityUtils authorityUtils, UserDetailsCache userDetailsCache) {
         this.memberRepository = memberRepository;
         this.authorityUtils = authorityUtils;
+        this.userDetailsCache = userDetailsCache;
     }
 
     @Override
     public UserDetails loadUserByUsername(String employeeId) throws UsernameNotFoundException {
-        Optional<Member> optionalMember = memberRepository.findByEmployeeId(employeeId);
-        Member findMember = optionalMember.orElseThrow(()->
-                new BusinessLogicException(ExceptionCode.MEMBER_NOT_FOUND));
-        return new MemberDetails(findMember);
+        return userDetailsCache.get(employeeId, () -> {
+            // roles 는 LAZY 이므로 인증 경로에서는 entity graph 로 함께 조회한다
+            Optional<Member> optionalMember = memberRepository.findWithRolesByEmployeeId(employeeId);
+            Member findMember = optionalMember.orElseThrow(()->
+                    new BusinessLogicException(ExceptionCode.MEMBER_NOT_FOUND));
+            return new MemberDetails(findMember);
+        });
     }
     private final class MemberDetails extends Member implements UserDetails{
         public MemberDetails(Member member) {
@@ -38,7 +44,7 @@ public class MemberDetailsService implements UserDetailsService {
             setEmployeeId(member.getEmployeeId());
             setEmail(member.getEmail());
             setPassword(member.getPassword());
-            setRoles(member.getRoles());
+            setRoles(List.copyOf(member.getRoles()));
             setMemberStatus(member.getMemberStatus());
         }
 
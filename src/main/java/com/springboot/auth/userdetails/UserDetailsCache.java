@@ -0,0 +1,46 @@
+package com.springboot.auth.userdetails;
+
+import com.springboot.cache.InvalidationBus;
+import com.springboot.cache.LocalLruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 로그인 시 사용하는 UserDetails 캐시 (employeeId 기준, 크기 제한 + TTL).
+ * 회원 정보(비밀번호, 상태 등)가 바뀌면 MemberService 가 invalidate 를 호출하고,
+ * 커밋 후에는 InvalidationBus 로 다른 서버의 캐시도 비운다.
+ */
+@Component
+public class UserDetailsCache {
+    public static final String INVALIDATION_CHANNEL = "auth:user-details:invalidation";
+
+    private final LocalLruCache<UserDetails> userDetails;
+    private final InvalidationBus invalidationBus;
+
+    public UserDetailsCache(InvalidationBus invalidationBus,
+                            @Value("${auth.user-details-cache.max-size:1000}") int maxSize,
+                            @Value("${auth.user-details-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.invalidationBus = invalidationBus;
+        this.userDetails = new LocalLruCache<>(maxSize, ttlSeconds * 1000L);
+        invalidationBus.subscribe(INVALIDATION_CHANNEL, userDetails::remove);
+    }
+
+    // 없는 회원은 캐시하지 않는다 (loader 가 예외를 던지면 그대로 전달)
+    public UserDetails get(String employeeId, Supplier<UserDetails> loader) {
+        UserDetails cached = userDetails.get(employeeId);
+        if (cached != null) {
+            return cached;
+        }
+        UserDetails loaded = loader.get();
+        userDetails.put(employeeId, loaded);
+        return loaded;
+    }
+
+    // 즉시 한 번, 커밋 후 한 번 더 비운다 (커밋 전에 다른 로그인이 옛 값을 다시 캐시할 수 있으므로)
+    public void invalidate(String employeeId) {
+        invalidationBus.evict(INVALIDATION_CHANNEL, employeeId, () -> userDetails.remove(employeeId));
+    }
+}
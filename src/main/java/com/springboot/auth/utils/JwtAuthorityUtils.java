@@ -6,11 +6,15 @@ import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class JwtAuthorityUtils {
+    // 역할 비트 (토큰의 roleMask 클레임). 순서를 바꾸면 이미 발급된 토큰의 권한이 달라지므로 뒤에만 추가한다
+    private static final List<String> ROLE_BITS = List.of("USER", "ADMIN");
+    // 알 수 없는 역할 조합을 캐시할 최대 개수 (넘으면 캐시하지 않고 새로 만든다)
+    private static final int MAX_UNKNOWN_COMBINATIONS = 256;
 
     @Value("${mail.address.admin}")
     private String adminMailAddress;
@@ -22,17 +26,56 @@ public class JwtAuthorityUtils {
     private final List<String> ADMIN_ROLES_STRING = List.of("ADMIN", "USER");
     private final List<String> USER_ROLES_STRING = List.of("USER");
 
+    // roleMask -> 공유하는 불변 권한 목록. 역할이 몇 개 없으므로 모든 조합을 미리 만들어 둔다
+    private final List<GrantedAuthority>[] authoritiesByMask = createAuthoritiesByMask();
+    // ROLE_BITS 에 없는 역할이 섞인 조합 (역할 목록 -> 권한 목록)
+    private final Map<List<String>, List<GrantedAuthority>> unknownCombinations = new ConcurrentHashMap<>();
+
     public List<GrantedAuthority> createAuthorities(String email){
         if(email.equals(adminMailAddress)){
             return ADMIN_ROLES;
         }
         return USER_ROLES;
     }
+
+    // 같은 역할 조합이면 항상 같은 불변 목록을 돌려준다
     public List<GrantedAuthority>createAuthorities(List<String> roles){
-        return roles.stream()
-                .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
-                .collect(Collectors.toList());
+        int mask = toRoleMask(roles);
+        if (mask >= 0) {
+            return authoritiesByMask[mask];
+        }
+
+        List<GrantedAuthority> cached = unknownCombinations.get(roles);
+        if (cached != null) {
+            return cached;
+        }
+        List<GrantedAuthority> authorities = toAuthorities(roles);
+        if (unknownCombinations.size() < MAX_UNKNOWN_COMBINATIONS) {
+            unknownCombinations.putIfAbsent(List.copyOf(roles), authorities);
+        }
+        return authorities;
+    }
+
+    public List<GrantedAuthority> createAuthorities(int roleMask){
+        if (roleMask < 0 || roleMask >= authoritiesByMask.length) {
+            throw new IllegalArgumentException("Unknown role mask: " + roleMask);
+        }
+        return authoritiesByMask[roleMask];
     }
+
+    // 역할 목록을 비트마스크로 변환. ROLE_BITS 에 없는 역할이 있으면 -1
+    public int toRoleMask(List<String> roles){
+        int mask = 0;
+        for (int i = 0; i < roles.size(); i++) {
+            int bit = ROLE_BITS.indexOf(roles.get(i));
+            if (bit < 0) {
+                return -1;
+            }
+            mask |= 1 << bit;
+        }
+        return mask;
+    }
+
     public List<String> createRoles(String email){
         if(email.equals(adminMailAddress)){
             return ADMIN_ROLES_STRING;
@@ -40,5 +83,26 @@ public class JwtAuthorityUtils {
         return USER_ROLES_STRING;
     }
 
+    @SuppressWarnings("unchecked")
+    private static List<GrantedAuthority>[] createAuthoritiesByMask() {
+        List<GrantedAuthority>[] byMask = new List[1 << ROLE_BITS.size()];
+        for (int mask = 0; mask < byMask.length; mask++) {
+            List<String> roles = new ArrayList<>();
+            for (int bit = 0; bit < ROLE_BITS.size(); bit++) {
+                if ((mask & (1 << bit)) != 0) {
+                    roles.add(ROLE_BITS.get(bit));
+                }
+            }
+            byMask[mask] = toAuthorities(roles);
+        }
+        return byMask;
+    }
 
+    private static List<GrantedAuthority> toAuthorities(List<String> roles) {
+        List<GrantedAuthority> authorities = new ArrayList<>(roles.size());
+        for (String role : roles) {
+            authorities.add(new SimpleGrantedAuthority("ROLE_" + role));
+        }
+        return Collections.unmodifiableList(authorities);
+    }
 }
@@ -4,15 +4,18 @@ import com.springboot.buyer.dto.Dto;
 import com.springboot.buyer.entity.Buyer;
 import com.springboot.buyer.mapper.BuyerMapper;
 import com.springboot.buyer.service.BuyerService;
+import com.springboot.cache.MasterDataListCache;
 import com.springboot.exception.BusinessLogicException;
 import com.springboot.exception.ExceptionCode;
 import com.springboot.response.MultiResponseDto;
 import com.springboot.response.SingleResponseDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -33,6 +36,7 @@ import java.util.stream.Collectors;
 public class BuyerController {
     private final BuyerService buyerService;
     private final BuyerMapper buyerMapper;
+    private final MasterDataListCache masterDataListCache;
 
 
     //Buyer 등록
@@ -43,6 +47,7 @@ public class BuyerController {
     }
 
     // 페이지네이션으로 바이어 조회
+    @Transactional(readOnly = true)
     @GetMapping
     public ResponseEntity getBuyers(@RequestParam @Positive int page,
                                     @RequestParam @Positive int size,
@@ -69,24 +74,25 @@ public class BuyerController {
             }
         }
 
-        Page<Buyer> buyerPage = buyerService.findBuyers(page -1, size, criteria, direction, buyerNm, buyerCd, tel, address, businessType);
-        List<Buyer> buyers = buyerPage.getContent();
+        Page<Dto.BuyerResponse> buyerPage = buyerService.findBuyers(page -1, size, criteria, direction, buyerNm, buyerCd, tel, address, businessType);
 
         return new ResponseEntity<>(
-                new MultiResponseDto<>(buyerMapper.buyerToBuyerResponseDtos(buyers), buyerPage), HttpStatus.OK);
+                new MultiResponseDto<>(buyerPage.getContent(), buyerPage), HttpStatus.OK);
     }
 
-    //Buyer 전체 조회
+    //Buyer 전체 조회 - 변경이 없으면 304 (ETag 조건부 응답), 304 는 트랜잭션 / 커넥션 없이 응답
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @GetMapping("/all")
-    public ResponseEntity getAllBuyers() {
-        List<Buyer> buyers = buyerService.findAllActiveBuyers();
+    public ResponseEntity<byte[]> getAllBuyers(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return masterDataListCache.respond(MasterDataListCache.BUYER, ifNoneMatch, () -> {
+            List<Buyer> buyers = buyerService.findAllActiveBuyers();
 
-        List<Buyer> sortedBuyers = buyers.stream()
-                .sorted(Comparator.comparing(Buyer::getBuyerNm))
-                .collect(Collectors.toList());
+            List<Buyer> sortedBuyers = buyers.stream()
+                    .sorted(Comparator.comparing(Buyer::getBuyerNm))
+                    .collect(Collectors.toList());
 
-        return new ResponseEntity<>(
-                new SingleResponseDto<>(buyerMapper.buyerToBuyerResponseDtos(sortedBuyers)), HttpStatus.OK);
+            return new SingleResponseDto<>(buyerMapper.buyerToBuyerResponseDtos(sortedBuyers));
+        });
     }
 
     //Buyer 수정
@@ -114,6 +120,7 @@ public class BuyerController {
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
 
+    @Transactional(readOnly = true)
     @GetMapping("/{buyer-cd}")
     public ResponseEntity getbuyer(@PathVariable("buyer-cd") String buyerCd, Authentication authentication) {
         Buyer buyer = buyerService.findBuyer(buyerCd, authentication);
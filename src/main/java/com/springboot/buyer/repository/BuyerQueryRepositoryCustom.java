@@ -1,5 +1,6 @@
 package com.springboot.buyer.repository;
 
+import com.springboot.buyer.dto.Dto;
 import com.springboot.buyer.entity.Buyer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -7,12 +8,13 @@ import org.springframework.data.domain.Pageable;
 import java.util.Optional;
 
 public interface BuyerQueryRepositoryCustom {
-    Page<Buyer> findBuyer(String buyerNm,
-                          String buyerCd,
-                          String tel,
-                          String address,
-                          String businessType,
-                          Pageable pageable);
+    // 목록 화면에 필요한 컬럼만 응답 DTO 로 바로 조회한다
+    Page<Dto.BuyerResponse> findBuyer(String buyerNm,
+                                      String buyerCd,
+                                      String tel,
+                                      String address,
+                                      String businessType,
+                                      Pageable pageable);
 
     Optional<Buyer> findByBuyerCdContainsIgnoreCase(String buyerCd);
 }
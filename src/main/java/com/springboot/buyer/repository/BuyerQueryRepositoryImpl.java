@@ -3,8 +3,10 @@ package com.springboot.buyer.repository;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.PathBuilder;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.springboot.buyer.dto.Dto;
 import com.springboot.buyer.entity.Buyer;
 import com.springboot.buyer.entity.QBuyer;
 import org.springframework.data.domain.Page;
@@ -44,8 +46,8 @@ public class BuyerQueryRepositoryImpl implements BuyerQueryRepositoryCustom {
     }
 
     @Override
-    public Page<Buyer> findBuyer(String buyerNm, String buyerCd, String tel, String address, String businessType,
-                                 Pageable pageable) {
+    public Page<Dto.BuyerResponse> findBuyer(String buyerNm, String buyerCd, String tel, String address, String businessType,
+                                             Pageable pageable) {
 
         QBuyer buyer = QBuyer.buyer;
 
@@ -76,18 +78,24 @@ public class BuyerQueryRepositoryImpl implements BuyerQueryRepositoryCustom {
 
         List<OrderSpecifier<?>> orderSpecifiers = getSortOrder(pageable, buyer);
 
-        List<Buyer> results = jpaQueryFactory.selectFrom(buyer)
+        // 엔티티 대신 응답 컬럼만 조회 (buyerItems / orderHeaders 컬렉션을 건드리지 않는다)
+        List<Dto.BuyerResponse> results = jpaQueryFactory
+                .select(Projections.constructor(Dto.BuyerResponse.class,
+                        buyer.buyerId, buyer.buyerCd, buyer.buyerNm, buyer.tel, buyer.address,
+                        buyer.businessType, buyer.buyerStatus, buyer.email))
+                .from(buyer)
                 .where(builder)
                 .orderBy(orderSpecifiers.toArray(new OrderSpecifier[0]))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        long total = jpaQueryFactory.selectFrom(buyer)
+        Long total = jpaQueryFactory.select(buyer.count())
+                .from(buyer)
                 .where(builder)
-                .fetchCount();
+                .fetchOne();
 
-        return  new PageImpl<>(results, pageable, total);
+        return  new PageImpl<>(results, pageable, total != null ? total : 0L);
     }
 
 
@@ -2,7 +2,10 @@ package com.springboot.buyer.repository;
 
 import com.springboot.buyer.entity.Buyer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,4 +19,14 @@ public interface BuyerRepository extends JpaRepository<Buyer, Long> {
     Boolean existsByTel(String tel);
 
     List<Buyer> findAllByBuyerStatusNot(Buyer.BuyerStatus buyerStatus);
+
+    // 일괄 등록 중복 검사 : 주어진 값 중 이미 있는 값만 조회
+    @Query("SELECT b.buyerNm FROM Buyer b WHERE b.buyerNm IN :buyerNms")
+    List<String> findExistingBuyerNms(@Param("buyerNms") Collection<String> buyerNms);
+
+    @Query("SELECT b.tel FROM Buyer b WHERE b.tel IN :tels")
+    List<String> findExistingTels(@Param("tels") Collection<String> tels);
+
+    @Query("SELECT b.email FROM Buyer b WHERE b.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
 }
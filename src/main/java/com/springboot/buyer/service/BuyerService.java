@@ -1,12 +1,17 @@
 package com.springboot.buyer.service;
 
+import com.springboot.buyer.dto.Dto;
 import com.springboot.buyer.entity.Buyer;
 import com.springboot.buyer.repository.BuyerQueryRepositoryCustom;
 import com.springboot.buyer.repository.BuyerRepository;
+import com.springboot.cache.MasterDataCache;
+import com.springboot.cache.MasterDataListCache;
+import com.springboot.cache.NaturalIdLoader;
+import com.springboot.cache.SecondLevelCache;
 import com.springboot.exception.BusinessLogicException;
 import com.springboot.exception.ExceptionCode;
 import com.springboot.member.entity.Member;
-import com.springboot.member.repository.MemberRepository;
+import com.springboot.validator.UniqueValueChecker;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import static com.springboot.utils.PageableCreator.createPageable;
@@ -25,31 +30,36 @@ import java.util.UUID;
 @Transactional
 public class BuyerService {
     private final BuyerRepository buyerRepository;
-    private final MemberRepository memberRepository;
     private final BuyerQueryRepositoryCustom buyerQueryRepositoryCustom;
+    private final MasterDataCache masterDataCache;
+    private final MasterDataListCache masterDataListCache;
+    private final NaturalIdLoader naturalIdLoader;
+    private final SecondLevelCache secondLevelCache;
 
     //Buyer 생성
     public void createBuyer(List<Buyer> buyers, Authentication authentication) {
         extractMemberFromAuthentication(authentication);
 
-        buyers.stream().forEach(buyer -> {
+        // 중복 확인 (바이어 이름/ 연락처/ 이메일) : 컬럼별 IN 쿼리 1번 + 요청 내 중복 검사
+        UniqueValueChecker.of(buyers)
+                .check("buyerNm", Buyer::getBuyerNm, buyerRepository::findExistingBuyerNms, ExceptionCode.BUYER_NAME_ALREADY_EXIST)
+                .check("tel", Buyer::getTel, buyerRepository::findExistingTels, ExceptionCode.TEL_ALREADY_EXIST)
+                .check("email", Buyer::getEmail, buyerRepository::findExistingEmails, ExceptionCode.EMAIL_ALREADY_EXISTS)
+                .validate();
 
-            // 중복 확인 (바이어 이름/ 연락처/ 이메일)
-            verifyExistName(buyer.getBuyerNm());
-            verifyExistTel(buyer.getTel());
-            verifyExistEmail(buyer.getEmail());
+        //바이어 코드 생성
+        buyers.forEach(buyer -> buyer.setBuyerCd(createManufactureCd()));
 
-            //바이어 코드 생성 후 저장
-            buyer.setBuyerCd(createManufactureCd());
-
-            buyerRepository.save(buyer);
-        });
+        // 검증이 끝난 뒤 한 번에 저장 (flush 시 batch insert)
+        buyerRepository.saveAll(buyers);
+        masterDataListCache.changed(MasterDataListCache.BUYER);
     }
 
     //전체 조회 (buyer 필드별로 검색 가능) /but, buyer 상태가 ACTIVE 만 조회
-    public Page<Buyer> findBuyers(int page, int size, String criteria, String direction,
-                                  String buyerNm, String buyerCd, String tel, String address,
-                                  String businessType) {
+    @Transactional(readOnly = true)
+    public Page<Dto.BuyerResponse> findBuyers(int page, int size, String criteria, String direction,
+                                              String buyerNm, String buyerCd, String tel, String address,
+                                              String businessType) {
 
         Pageable pageable = createPageable(page, size, criteria, direction);
         return buyerQueryRepositoryCustom.findBuyer(buyerNm, buyerCd, tel, address, businessType, pageable);
@@ -61,11 +71,15 @@ public class BuyerService {
 
         Buyer findBuyer = buyerRepository.findById(buyer.getBuyerId())
                 .orElseThrow(() -> new BusinessLogicException(ExceptionCode.BUYER_NOT_FOUND));
+        masterDataListCache.changed(MasterDataListCache.BUYER);
+        secondLevelCache.evict(Buyer.class, findBuyer.getBuyerId());
 
         Optional.ofNullable(buyer.getBuyerNm())
                 .ifPresent(buyerNm -> {
 
                         verifyExistName(buyerNm);
+                        // 이름 색인에는 코드만 있으므로 이름이 바뀔 때만 지운다
+                        masterDataCache.invalidateBuyerNm(findBuyer.getBuyerNm());
                         findBuyer.setBuyerNm(buyerNm);
                 });
 
@@ -109,6 +123,8 @@ public class BuyerService {
         extractMemberFromAuthentication(authentication);
 
         Buyer buyer = findVerifiedBuyer(buyerId);
+        masterDataListCache.changed(MasterDataListCache.BUYER);
+        secondLevelCache.evict(Buyer.class, buyer.getBuyerId());
         buyer.setBuyerStatus(Buyer.BuyerStatus.INACTIVE);
 
         buyerRepository.save(buyer);
@@ -116,7 +132,7 @@ public class BuyerService {
 
     //BuyerCd 중복검사
     private void verifyBuyerCdExists(String buyerCd) {
-        Optional<Buyer> buyer = buyerRepository.findByBuyerCd(buyerCd);
+        Optional<Buyer> buyer = naturalIdLoader.load(Buyer.class, buyerCd);
 
         if(buyer.isPresent()) {
             throw new BusinessLogicException(ExceptionCode.BUYER_CD_ALREADY_EXIST);
@@ -156,9 +172,9 @@ public class BuyerService {
         return buyer;
     }
 
-    //buyerCd를 통해 Buyer 검증
+    //buyerCd를 통해 Buyer 검증 (natural-id 2차 캐시)
     public Buyer findVerifiedBuyer(String buyerCd) {
-        Buyer buyer = buyerRepository.findByBuyerCd(buyerCd)
+        Buyer buyer = naturalIdLoader.load(Buyer.class, buyerCd)
                 .orElseThrow(() -> new BusinessLogicException(ExceptionCode.BUYER_NOT_FOUND));
 
        // isDeleted(buyer);
@@ -170,11 +186,12 @@ public class BuyerService {
     private Member extractMemberFromAuthentication(Authentication authentication) {
         String username = (String) authentication.getPrincipal();
 
-        return memberRepository.findByEmployeeId(username)
+        return naturalIdLoader.load(Member.class, username)
                 .orElseThrow(() -> new BusinessLogicException(ExceptionCode.MEMBER_NOT_FOUND));
     }
 
     //고객사 전체 조회
+    @Transactional(readOnly = true)
     public List<Buyer> findAllActiveBuyers() {
         return buyerRepository.findAllByBuyerStatusNot(Buyer.BuyerStatus.INACTIVE);
     }
@@ -185,8 +202,13 @@ public class BuyerService {
         }
     }
 
+    // buyerNm을 통해 Buyer 검증 (이름 -> 코드 색인 후 natural-id 2차 캐시)
+    // 다른 서버의 이름 변경 알림을 놓쳐 색인이 옛 이름을 가리키면 DB 에서 다시 찾는다
     public Buyer findVerifiedBuyerByBuyerNm (String buyerNm) {
-        Buyer buyer = buyerRepository.findByBuyerNm(buyerNm)
+        Buyer buyer = masterDataCache.findBuyerCd(buyerNm, nm -> buyerRepository.findByBuyerNm(nm).map(Buyer::getBuyerCd))
+                .flatMap(buyerCd -> naturalIdLoader.load(Buyer.class, buyerCd))
+                .filter(found -> buyerNm.equals(found.getBuyerNm()))
+                .or(() -> buyerRepository.findByBuyerNm(buyerNm))
                 .orElseThrow(() -> new BusinessLogicException(ExceptionCode.BUYER_NOT_FOUND));
 
         isDeleted(buyer);
@@ -42,6 +42,7 @@ public class BuyerItemController {
     }
 
     // 특정 바이어아이템 조회
+    @Transactional(readOnly = true)
     @GetMapping("/{buyerItemCd}")
     public ResponseEntity findBuyerItem(@PathVariable("buyerItemCd") String buyerItemCd, Authentication authentication) {
         List<BuyerItem> buyerItems = buyerItemService.findBuyerItem(buyerItemCd, authentication);
@@ -51,6 +52,7 @@ public class BuyerItemController {
     }
 
     //전체조회 (Pagination, buyerCd / buyerNm / itemCd / itemNm 등 유동적으로 검색 )
+    @Transactional(readOnly = true)
     @GetMapping
     public ResponseEntity getBuyerItems(@RequestParam(required = false) String buyerCd,
                                         @RequestParam(required = false) String buyerNm,
@@ -72,15 +74,13 @@ public class BuyerItemController {
             }
         }
 
-        Page<BuyerItem> buyerItemPage = buyerItemService.findBuyerItems(page - 1, size, buyerCd, buyerNm, itemCd, itemNm, criteria, direction, authentication);
-
-        List<Dto.BuyerItemResponseDto> buyerItemResponseDtos =
-                buyerItemMapper.buyerItemsToBuyerItemResponseDtos(buyerItemPage.getContent());
+        Page<Dto.BuyerItemResponseDto> buyerItemPage = buyerItemService.findBuyerItems(page - 1, size, buyerCd, buyerNm, itemCd, itemNm, criteria, direction, authentication);
 
         return new ResponseEntity<>(
-                new MultiResponseDto<>(buyerItemResponseDtos, buyerItemPage), HttpStatus.OK);
+                new MultiResponseDto<>(buyerItemPage.getContent(), buyerItemPage), HttpStatus.OK);
     }
 
+    @Transactional(readOnly = true)
     @GetMapping("/period")
     public ResponseEntity getBuyerByBuyerCdBetweenPeriod (@RequestParam(required = false) String buyerCd,
                                                           @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
@@ -100,13 +100,10 @@ public class BuyerItemController {
             }
         }
 
-        Page<BuyerItem> buyerItemPage = buyerItemService.findBuyerItemsByBuyerCdAndCurrentDate(buyerCd, date, page - 1, size, criteria, direction);
-
-        List<Dto.BuyerItemResponseDto> buyerItemResponseDtos =
-                buyerItemMapper.buyerItemsToBuyerItemResponseDtos(buyerItemPage.getContent());
+        Page<Dto.BuyerItemResponseDto> buyerItemPage = buyerItemService.findBuyerItemsByBuyerCdAndCurrentDate(buyerCd, date, page - 1, size, criteria, direction);
 
         return new ResponseEntity<>(
-                new MultiResponseDto<>(buyerItemResponseDtos, buyerItemPage), HttpStatus.OK);
+                new MultiResponseDto<>(buyerItemPage.getContent(), buyerItemPage), HttpStatus.OK);
     }
 
     //BuyerItem 수정
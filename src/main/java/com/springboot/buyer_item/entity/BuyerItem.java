@@ -16,7 +16,8 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 public class BuyerItem {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "buyer_item_seq")
+    @SequenceGenerator(name = "buyer_item_seq", sequenceName = "buyer_item_seq", allocationSize = 50)
     private long buyerItemId;
 
     @Column(nullable = false)
@@ -0,0 +1,302 @@
+package com.springboot.buyer_item.index;
+
+import com.springboot.buyer_item.entity.BuyerItem;
+import com.springboot.buyer_item.repository.BuyerItemRepository;
+import com.springboot.cache.InvalidationBus;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * (바이어, 제품) 별 계약 단가 기간 인덱스.
+ * 처음 조회할 때 DB 에서 읽어 시작일 순으로 정렬해 두고, "날짜 D 에 유효한 단가" 와 "[s, e] 기간 겹침" 을 이진 탐색으로 확인한다.
+ * BuyerItem 을 등록·수정·삭제하면 서비스에서 apply / remove 를 호출한다.
+ * 트랜잭션 안의 변경은 그 트랜잭션에서만 보이고 (같은 요청의 다음 행 기간 검사에 사용), 커밋 후에 공유 인덱스에 반영한 뒤
+ * InvalidationBus 로 다른 서버의 키를 비운다. 롤백되면 공유 인덱스는 건드린 적이 없으므로 할 일이 없다.
+ * DB 에서 읽는 도중 다른 트랜잭션이 같은 키를 커밋하면 읽은 값이 오래됐을 수 있으므로, 키의 버전이 읽기 전과 같을 때만 공유 인덱스에 넣는다.
+ * 사용처는 계약 등록 / 수정 때의 기간 겹침 검사 (BuyerItemService) 와 일괄 주문 import 의 계약 단가 채우기뿐이다.
+ * 화면 주문 등록 (OrderService.createOrder) 은 단가와 계약 기간을 요청으로 받으므로 계약을 조회하지 않는다.
+ */
+@Component
+public class BuyerItemPriceIndex {
+    public static final String INVALIDATION_CHANNEL = "index:buyer-item:invalidation";
+
+    // 기간이 비어 있는 계약은 양쪽으로 열린 것으로 본다
+    private static final LocalDateTime OPEN_START = LocalDateTime.MIN;
+    private static final LocalDateTime OPEN_END = LocalDateTime.MAX;
+    // 키 버전은 해시로 나눈 칸에 둔다. 다른 키와 칸을 같이 쓰면 그 키의 변경 때도 캐시하지 않을 뿐이다
+    private static final int VERSION_STRIPES = 64;
+
+    private final Map<String, Segments> segments = new ConcurrentHashMap<>();
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+    private final BuyerItemRepository buyerItemRepository;
+    private final InvalidationBus invalidationBus;
+
+    public BuyerItemPriceIndex(BuyerItemRepository buyerItemRepository, InvalidationBus invalidationBus) {
+        this.buyerItemRepository = buyerItemRepository;
+        this.invalidationBus = invalidationBus;
+        // 자신이 보낸 메시지도 받기 때문에 로컬 키도 한 번 더 비워지지만, 다음 조회에서 다시 읽을 뿐이다
+        invalidationBus.subscribe(INVALIDATION_CHANNEL, this::evict);
+    }
+
+    // 날짜에 유효한 계약 (여러 개면 가장 늦게 시작한 계약)
+    public Optional<PriceSegment> findEffective(long buyerId, String itemCd, LocalDateTime date) {
+        return Optional.ofNullable(segmentsOf(buyerId, itemCd).findCovering(date, date, null));
+    }
+
+    // [startDate, endDate] 와 겹치는 계약이 있는지 확인. 수정할 때는 자기 자신(excludeBuyerItemId)을 제외한다
+    public boolean overlaps(long buyerId, String itemCd, LocalDateTime startDate, LocalDateTime endDate, Long excludeBuyerItemId) {
+        return segmentsOf(buyerId, itemCd).findCovering(startOf(startDate), endOf(endDate), excludeBuyerItemId) != null;
+    }
+
+    // 등록 / 수정된 계약 반영. 아직 읽지 않은 키는 다음 조회 때 DB 에서 읽으므로 건드리지 않는다
+    public void apply(BuyerItem buyerItem) {
+        PriceSegment segment = PriceSegment.from(buyerItem);
+        change(keyOf(buyerItem), current -> current.with(segment));
+    }
+
+    public void remove(BuyerItem buyerItem) {
+        long buyerItemId = buyerItem.getBuyerItemId();
+        change(keyOf(buyerItem), current -> current.without(buyerItemId));
+    }
+
+    public void invalidate(long buyerId, String itemCd) {
+        evict(keyOf(buyerId, itemCd));
+    }
+
+    public int size() {
+        return segments.size();
+    }
+
+    private Segments segmentsOf(long buyerId, String itemCd) {
+        String key = keyOf(buyerId, itemCd);
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending != null && pending.changes.containsKey(key)) {
+            return pending.viewOf(key, () -> {
+                // 이 트랜잭션이 바꾼 키는 커밋 전 행까지 읽히므로 공유 인덱스에 넣지 않는다
+                Segments committed = segments.get(key);
+                return committed != null ? committed : load(buyerId, itemCd);
+            });
+        }
+
+        Segments loaded = segments.get(key);
+        if (loaded != null) {
+            return loaded;
+        }
+
+        // DB 조회는 맵 잠금 밖에서 하고, 그 사이 다른 스레드가 넣은 값이 있으면 그 값을 쓴다.
+        // 조회 도중 이 키가 커밋되었으면 (버전이 바뀌었으면) 이번 조회에만 쓰고 다음 조회에서 다시 읽는다
+        long version = versionOf(key);
+        Segments built = load(buyerId, itemCd);
+        Segments shared = segments.compute(key, (k, current) ->
+                current != null ? current : versionOf(k) == version ? built : null);
+        return shared != null ? shared : built;
+    }
+
+    private Segments load(long buyerId, String itemCd) {
+        return Segments.of(buyerItemRepository.findAllByBuyer_BuyerIdAndItem_ItemCd(buyerId, itemCd));
+    }
+
+    private void change(String key, UnaryOperator<Segments> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            versions.incrementAndGet(stripeOf(key));
+            segments.computeIfPresent(key, (k, current) -> change.apply(current));
+            publish(key);
+            return;
+        }
+
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            PendingChanges registered = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, registered);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    registered.changes.forEach((k, committed) -> {
+                        // 버전을 먼저 올려야 지금 DB 를 읽고 있는 조회가 커밋 전 값을 넣지 못한다
+                        versions.incrementAndGet(stripeOf(k));
+                        segments.computeIfPresent(k, (ignored, current) -> committed.apply(current));
+                        publish(k);
+                    });
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(BuyerItemPriceIndex.this);
+                }
+            });
+            pending = registered;
+        }
+        pending.add(key, change);
+    }
+
+    private void evict(String key) {
+        versions.incrementAndGet(stripeOf(key));
+        segments.remove(key);
+    }
+
+    private long versionOf(String key) {
+        return versions.get(stripeOf(key));
+    }
+
+    private static int stripeOf(String key) {
+        return (key.hashCode() & Integer.MAX_VALUE) % VERSION_STRIPES;
+    }
+
+    private void publish(String key) {
+        invalidationBus.publish(INVALIDATION_CHANNEL, key);
+    }
+
+    private static String keyOf(BuyerItem buyerItem) {
+        return keyOf(buyerItem.getBuyer().getBuyerId(), buyerItem.getItem().getItemCd());
+    }
+
+    private static String keyOf(long buyerId, String itemCd) {
+        return buyerId + ":" + itemCd;
+    }
+
+    private static LocalDateTime startOf(LocalDateTime startDate) {
+        return startDate == null ? OPEN_START : startDate;
+    }
+
+    private static LocalDateTime endOf(LocalDateTime endDate) {
+        return endDate == null ? OPEN_END : endDate;
+    }
+
+    @Getter
+    public static class PriceSegment {
+        private final long buyerItemId;
+        private final BigDecimal unitPrice;
+        private final LocalDateTime startDate;
+        private final LocalDateTime endDate;
+
+        public PriceSegment(long buyerItemId, BigDecimal unitPrice, LocalDateTime startDate, LocalDateTime endDate) {
+            this.buyerItemId = buyerItemId;
+            this.unitPrice = unitPrice;
+            this.startDate = startDate;
+            this.endDate = endDate;
+        }
+
+        static PriceSegment from(BuyerItem buyerItem) {
+            return new PriceSegment(buyerItem.getBuyerItemId(), buyerItem.getUnitPrice(),
+                    buyerItem.getStartDate(), buyerItem.getEndDate());
+        }
+
+        private LocalDateTime start() {
+            return startOf(startDate);
+        }
+
+        private LocalDateTime end() {
+            return endOf(endDate);
+        }
+    }
+
+    /**
+     * 한 트랜잭션에서 아직 커밋하지 않은 변경. 키별 변경을 순서대로 합성해 두고 (커밋 후 공유 인덱스에 적용),
+     * 트랜잭션 안에서 한 번 읽은 키는 변경을 반영한 결과를 들고 있어서 같은 키를 다시 DB 에서 읽지 않는다.
+     */
+    private static class PendingChanges {
+        private final Map<String, UnaryOperator<Segments>> changes = new LinkedHashMap<>();
+        private final Map<String, Segments> views = new HashMap<>();
+
+        void add(String key, UnaryOperator<Segments> change) {
+            changes.merge(key, change, (previous, next) -> current -> next.apply(previous.apply(current)));
+            views.computeIfPresent(key, (k, view) -> change.apply(view));
+        }
+
+        // with / without 은 id 기준이라 DB 에서 읽을 때 이미 들어 있던 행에 다시 적용해도 결과가 같다
+        Segments viewOf(String key, Supplier<Segments> base) {
+            return views.computeIfAbsent(key, k -> changes.get(k).apply(base.get()));
+        }
+    }
+
+    /**
+     * 한 (바이어, 제품) 의 계약 목록. 시작일 순으로 정렬하고 maxEnds[i] 에 0..i 구간 종료일의 최댓값을 둔다.
+     * 변경할 때는 새 배열을 만들어서 조회 중인 스레드는 잠금 없이 읽는다.
+     */
+    static class Segments {
+        private static final Segments EMPTY = new Segments(new PriceSegment[0]);
+
+        private final PriceSegment[] sorted;
+        private final LocalDateTime[] maxEnds;
+
+        private Segments(PriceSegment[] sorted) {
+            this.sorted = sorted;
+            this.maxEnds = new LocalDateTime[sorted.length];
+            for (int i = 0; i < sorted.length; i++) {
+                LocalDateTime end = sorted[i].end();
+                maxEnds[i] = i == 0 || end.isAfter(maxEnds[i - 1]) ? end : maxEnds[i - 1];
+            }
+        }
+
+        static Segments of(List<BuyerItem> buyerItems) {
+            if (buyerItems.isEmpty()) {
+                return EMPTY;
+            }
+            PriceSegment[] segments = buyerItems.stream().map(PriceSegment::from).toArray(PriceSegment[]::new);
+            Arrays.sort(segments, Comparator.comparing(PriceSegment::start));
+            return new Segments(segments);
+        }
+
+        Segments with(PriceSegment segment) {
+            List<PriceSegment> list = new ArrayList<>(sorted.length + 1);
+            for (PriceSegment current : sorted) {
+                if (current.getBuyerItemId() != segment.getBuyerItemId()) {
+                    list.add(current);
+                }
+            }
+            list.add(segment);
+            list.sort(Comparator.comparing(PriceSegment::start));
+            return new Segments(list.toArray(new PriceSegment[0]));
+        }
+
+        Segments without(long buyerItemId) {
+            return new Segments(Arrays.stream(sorted)
+                    .filter(segment -> segment.getBuyerItemId() != buyerItemId)
+                    .toArray(PriceSegment[]::new));
+        }
+
+        /**
+         * [start, end] 와 겹치는 계약 중 가장 늦게 시작한 것.
+         * 시작일이 end 이하인 마지막 위치를 이진 탐색으로 찾은 뒤, maxEnds 가 start 이상인 동안만 앞으로 거슬러 올라간다.
+         * 계약끼리 겹치지 않으면 한두 칸 안에 끝난다.
+         */
+        PriceSegment findCovering(LocalDateTime start, LocalDateTime end, Long excludeBuyerItemId) {
+            for (int i = lastStartingAtOrBefore(end); i >= 0 && !maxEnds[i].isBefore(start); i--) {
+                PriceSegment segment = sorted[i];
+                if (excludeBuyerItemId != null && segment.getBuyerItemId() == excludeBuyerItemId) {
+                    continue;
+                }
+                if (!segment.end().isBefore(start)) {
+                    return segment;
+                }
+            }
+            return null;
+        }
+
+        private int lastStartingAtOrBefore(LocalDateTime date) {
+            int low = 0;
+            int high = sorted.length - 1;
+            int found = -1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (sorted[mid].start().isAfter(date)) {
+                    high = mid - 1;
+                } else {
+                    found = mid;
+                    low = mid + 1;
+                }
+            }
+            return found;
+        }
+    }
+}
@@ -1,15 +1,15 @@
 package com.springboot.buyer_item.repository;
 
-import com.springboot.buyer_item.entity.BuyerItem;
+import com.springboot.buyer_item.dto.Dto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 
 public interface BuyerItemQueryRepositoryCustom {
 
-    Page<BuyerItem> findBuyerItems(String buyerCd, String buyerNm, String itemCd, String itemNm, Pageable pageable);
+    // 목록 화면에 필요한 컬럼만 응답 DTO 로 바로 조회한다 (판매중지 제품 제외)
+    Page<Dto.BuyerItemResponseDto> findBuyerItems(String buyerCd, String buyerNm, String itemCd, String itemNm, Pageable pageable);
 
-    Page<BuyerItem> findBuyerItemsByBuyerCdAndCurrentDate(String buyerCd, LocalDate currentDate, Pageable pageable);
+    Page<Dto.BuyerItemResponseDto> findBuyerItemsByBuyerCdAndCurrentDate(String buyerCd, LocalDate currentDate, Pageable pageable);
 }
@@ -1,13 +1,17 @@
 package com.springboot.buyer_item.repository;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.EntityPath;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.PathBuilder;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.springboot.buyer.entity.QBuyer;
-import com.springboot.buyer_item.entity.BuyerItem;
+import com.springboot.buyer_item.dto.Dto;
 import com.springboot.buyer_item.entity.QBuyerItem;
+import com.springboot.item.entity.Item;
 import com.springboot.item.entity.QItem;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -30,54 +34,40 @@ public class BuyerItemQueryRepositoryImpl implements BuyerItemQueryRepositoryCus
     }
 
     @Override
-    public Page<BuyerItem> findBuyerItems(String buyerCd, String buyerNm, String itemCd, String itemNm, Pageable pageable) {
+    public Page<Dto.BuyerItemResponseDto> findBuyerItems(String buyerCd, String buyerNm, String itemCd, String itemNm, Pageable pageable) {
 
-        QBuyerItem buyerItem = QBuyerItem.buyerItem;
         QBuyer buyer = QBuyer.buyer;
         QItem item = QItem.item;
 
         BooleanBuilder builder = new BooleanBuilder();
 
         if (buyerCd != null && !buyerCd.isEmpty()) {
-            builder.and(buyerItem.buyer.buyerCd.containsIgnoreCase(buyerCd));
+            builder.and(buyer.buyerCd.containsIgnoreCase(buyerCd));
         }
 
         if (buyerNm != null && !buyerNm.isEmpty()) {
-            builder.and(buyerItem.buyer.buyerNm.containsIgnoreCase(buyerNm));
+            builder.and(buyer.buyerNm.containsIgnoreCase(buyerNm));
         }
 
         if (itemCd != null && !itemCd.isEmpty()) {
-            builder.and(buyerItem.item.itemCd.containsIgnoreCase(itemCd));
+            builder.and(item.itemCd.containsIgnoreCase(itemCd));
         }
 
         if (itemNm != null && !itemNm.isEmpty()) {
-            builder.and(buyerItem.item.itemNm.containsIgnoreCase(itemNm));
+            builder.and(item.itemNm.containsIgnoreCase(itemNm));
         }
 
-        //sort 처리
-        List<OrderSpecifier<?>> orderSpecifiers = getSortOrder(pageable, buyerItem);
-
-        List<BuyerItem> results = queryFactory.selectFrom(buyerItem)
-                .where(builder)
-                .orderBy(orderSpecifiers.toArray(new OrderSpecifier[0]))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-
-        long total = queryFactory.selectFrom(buyerItem)
-                .where(builder)
-                .fetchCount();
-
-        return new PageImpl<>(results, pageable, total);
+        return findPage(builder, pageable);
     }
 
     @Override
-    public Page<BuyerItem> findBuyerItemsByBuyerCdAndCurrentDate(String buyerCd, LocalDate currentDate, Pageable pageable) {
+    public Page<Dto.BuyerItemResponseDto> findBuyerItemsByBuyerCdAndCurrentDate(String buyerCd, LocalDate currentDate, Pageable pageable) {
         QBuyerItem buyerItem = QBuyerItem.buyerItem;
+        QBuyer buyer = QBuyer.buyer;
 
         BooleanBuilder builder = new BooleanBuilder();
         if (buyerCd != null && !buyerCd.isEmpty()) {
-            builder.and(buyerItem.buyer.buyerCd.eq(buyerCd));
+            builder.and(buyer.buyerCd.eq(buyerCd));
         }
 
         if (currentDate != null) {
@@ -88,29 +78,61 @@ public class BuyerItemQueryRepositoryImpl implements BuyerItemQueryRepositoryCus
                     .and(buyerItem.endDate.goe(startOfDay));
         }
 
-        List<OrderSpecifier<?>> orderSpecifiers = getSortOrder(pageable, buyerItem);
+        return findPage(builder, pageable);
+    }
 
-        List<BuyerItem> results = queryFactory.selectFrom(buyerItem)
-                .where(builder)
+    // buyer / item 을 join 한 select 한 번으로 응답 컬럼만 조회하고, count 도 같은 join 으로 센다
+    private Page<Dto.BuyerItemResponseDto> findPage(BooleanBuilder builder, Pageable pageable) {
+        QBuyerItem buyerItem = QBuyerItem.buyerItem;
+        QBuyer buyer = QBuyer.buyer;
+        QItem item = QItem.item;
+
+        // 판매중지 제품은 목록에서 제외 (페이지 크기와 전체 건수가 맞도록 조회 조건에서 거른다)
+        Predicate condition = builder.and(item.itemStatus.ne(Item.ItemStatus.NOT_FOR_SALE));
+
+        //sort 처리
+        List<OrderSpecifier<?>> orderSpecifiers = getSortOrder(pageable, buyerItem, buyer, item);
+
+        List<Dto.BuyerItemResponseDto> results = queryFactory
+                .select(Projections.constructor(Dto.BuyerItemResponseDto.class,
+                        buyerItem.buyerItemId, buyer.buyerCd, buyer.buyerNm, item.itemCd, item.itemNm, item.unit,
+                        buyerItem.unitPrice, buyerItem.startDate, buyerItem.endDate, buyerItem.modifiedAt,
+                        item.itemStatus))
+                .from(buyerItem)
+                .join(buyerItem.buyer, buyer)
+                .join(buyerItem.item, item)
+                .where(condition)
                 .orderBy(orderSpecifiers.toArray(new OrderSpecifier[0]))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        long total = queryFactory.selectFrom(buyerItem)
-                .where(builder)
-                .fetchCount();
+        Long total = queryFactory.select(buyerItem.count())
+                .from(buyerItem)
+                .join(buyerItem.buyer, buyer)
+                .join(buyerItem.item, item)
+                .where(condition)
+                .fetchOne();
 
-        return new PageImpl<>(results, pageable, total);
+        return new PageImpl<>(results, pageable, total != null ? total : 0L);
     }
 
-    private List<OrderSpecifier<?>> getSortOrder(Pageable pageable, QBuyerItem buyerItem) {
+    // "buyer.buyerCd" 처럼 연관 엔티티 필드로 정렬하면 join 한 alias 기준으로 정렬한다 (join 이 추가로 생기지 않도록)
+    private List<OrderSpecifier<?>> getSortOrder(Pageable pageable, QBuyerItem buyerItem, QBuyer buyer, QItem item) {
         List<OrderSpecifier<?>> orders = new ArrayList<>();
         for (Sort.Order order : pageable.getSort()) {
-            PathBuilder pathBuilder = new PathBuilder(buyerItem.getType(), buyerItem.getMetadata());
-            orders.add(new OrderSpecifier(order.isAscending() ? Order.ASC : Order.DESC, pathBuilder.get(order.getProperty())));
+            String property = order.getProperty();
+            EntityPath<?> root = buyerItem;
+            if (property.startsWith("buyer.")) {
+                root = buyer;
+                property = property.substring("buyer.".length());
+            } else if (property.startsWith("item.")) {
+                root = item;
+                property = property.substring("item.".length());
+            }
+            PathBuilder pathBuilder = new PathBuilder(root.getType(), root.getMetadata());
+            orders.add(new OrderSpecifier(order.isAscending() ? Order.ASC : Order.DESC, pathBuilder.get(property)));
         }
         return orders;
     }
 }
-
@@ -11,4 +11,6 @@ public interface BuyerItemRepository extends JpaRepository<BuyerItem, Long> {
 
     List<BuyerItem> findAllByItem_ItemCd(String itemCd);
 
+    List<BuyerItem> findAllByBuyer_BuyerIdAndItem_ItemCd(long buyerId, String itemCd);
+
 }
@@ -2,7 +2,9 @@ package com.springboot.buyer_item.service;
 
 import com.springboot.buyer.entity.Buyer;
 import com.springboot.buyer.service.BuyerService;
+import com.springboot.buyer_item.dto.Dto;
 import com.springboot.buyer_item.entity.BuyerItem;
+import com.springboot.buyer_item.index.BuyerItemPriceIndex;
 import com.springboot.buyer_item.repository.BuyerItemQueryRepositoryCustom;
 import com.springboot.buyer_item.repository.BuyerItemRepository;
 import com.springboot.exception.BusinessLogicException;
@@ -22,6 +24,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -35,26 +38,30 @@ public class BuyerItemService {
     private final BuyerService buyerService;
     private final ItemService itemService;
     private final MemberService memberService;
+    private final BuyerItemPriceIndex buyerItemPriceIndex;
 
     //Buyer-Item 생성
     public void createBuyerItem(List<BuyerItem> buyerItems, Authentication authentication) {
         // 기본 아이템 정보 가져오기 (Item 테이블에서 가져옴)
         extractMemberFromAuthentication(authentication);
 
+        // 요청에 나온 제품은 한 번에 조회
+        Map<String, Item> items = itemService.findVerifiedItemsByNm(buyerItems.stream()
+                .map(buyerItem -> buyerItem.getItem().getItemNm())
+                .collect(Collectors.toList()));
+
         buyerItems.stream().forEach(buyerItem -> {
-            //단가적용기간 중복 검사
-            Item item = itemService.findVerifiedItemNm(buyerItem.getItem().getItemNm());
-            List<BuyerItem> buyerItemList = recentGetBuyerItem(buyerItem.getBuyer().getBuyerNm(), item.getItemCd(), buyerItem.getStartDate());
+            Item item = items.get(buyerItem.getItem().getItemNm());
+            Buyer buyer = buyerService.findVerifiedBuyerByBuyerNm(buyerItem.getBuyer().getBuyerNm());
 
-            if(!buyerItemList.isEmpty()) {
-                throw new BusinessLogicException(ExceptionCode.PERIOD_OVERLAP_ERROR);
-            }
+            //단가적용기간 중복 검사 (앞에서 저장한 요청 건도 인덱스에 반영되어 있다)
+            verifyPeriod(buyer.getBuyerId(), item.getItemCd(), buyerItem.getStartDate(), buyerItem.getEndDate(), null);
 
-            // 중복이 없다면 item, buyer 저장
-            buyerItem.addItem(item);
-            buyerItem.addBuyer(buyerService.findVerifiedBuyerByBuyerNm(buyerItem.getBuyer().getBuyerNm()));
+            // 중복이 없다면 item, buyer 저장 (역방향 컬렉션을 읽지 않도록 한쪽만 연결)
+            buyerItem.setItem(item);
+            buyerItem.setBuyer(buyer);
 
-            buyerItemRepository.save(buyerItem);
+            buyerItemPriceIndex.apply(buyerItemRepository.save(buyerItem));
         });
     }
 
@@ -66,12 +73,13 @@ public class BuyerItemService {
     }
 
     //전체 조회 (Pagination) - 매개변수 개별 검색 가능
-    public Page<BuyerItem> findBuyerItems(int page, int size,
-                                          String buyerCd,
-                                          String buyerNm,
-                                          String itemCd,
-                                          String itemNm,
-                                          String criteria, String direction, Authentication authentication) {
+    @Transactional(readOnly = true)
+    public Page<Dto.BuyerItemResponseDto> findBuyerItems(int page, int size,
+                                                         String buyerCd,
+                                                         String buyerNm,
+                                                         String itemCd,
+                                                         String itemNm,
+                                                         String criteria, String direction, Authentication authentication) {
 
         Pageable pageable = createPageable(page, size, criteria, direction);
 
@@ -79,10 +87,11 @@ public class BuyerItemService {
     }
 
     // BuyerItem 조회 (buyerCd + 해당 날짜가 적용되는 item) / BuyerCd와 날짜에 따라 검색 가능 -> 주문할 때 사용
-    public Page<BuyerItem> findBuyerItemsByBuyerCdAndCurrentDate(String buyerCd, LocalDate date,
-                                                                 int page, int size,
-                                                                 String criteria,
-                                                                 String direction) {
+    @Transactional(readOnly = true)
+    public Page<Dto.BuyerItemResponseDto> findBuyerItemsByBuyerCdAndCurrentDate(String buyerCd, LocalDate date,
+                                                                                int page, int size,
+                                                                                String criteria,
+                                                                                String direction) {
 
         Pageable pageable = createPageable(page, size, criteria, direction);
 
@@ -101,34 +110,24 @@ public class BuyerItemService {
         Optional.ofNullable(buyerItem.getUnitPrice())
                 .ifPresent(findedBuyerItem::setUnitPrice);
 
-        // 단가 적용 시작일 수정
-        Optional.ofNullable(buyerItem.getStartDate())
-                .ifPresent(startDate -> {
-                    //변경하려는 시작일이 있는 buyerItemList -> 하나라도 있으면 수정할 수 없다.
-                    List<BuyerItem> buyerItems = recentGetBuyerItem(findedBuyerItem.getBuyer().getBuyerNm(),findedBuyerItem.getItem().getItemCd(), startDate);
-                    if(!buyerItems.isEmpty()) {
-                        throw new BusinessLogicException(ExceptionCode.PERIOD_OVERLAP_ERROR);
-                    }
-
-                    //겹치지 않으면 변경일 저장
-                    findedBuyerItem.setStartDate(startDate);
-                });
-
-        //단가 적용 종료일 수정
-        Optional.ofNullable(buyerItem.getEndDate())
-                .ifPresent(endDate -> {
-                    //종료일이 시작일보다 앞설 수 없다
-                    if (findedBuyerItem.getStartDate().isAfter(endDate)){
-                        throw new BusinessLogicException(ExceptionCode.PERIOD_OVERLAP_ERROR);
-                    }
-
-                    //시작일 이후라면 종료일 저장
-                    findedBuyerItem.setEndDate(endDate);
-                });
+        // 단가 적용 시작일 / 종료일 수정 - 바뀐 기간 전체가 다른 계약과 겹치면 수정할 수 없다
+        if (buyerItem.getStartDate() != null || buyerItem.getEndDate() != null) {
+            LocalDateTime startDate = Optional.ofNullable(buyerItem.getStartDate()).orElse(findedBuyerItem.getStartDate());
+            LocalDateTime endDate = Optional.ofNullable(buyerItem.getEndDate()).orElse(findedBuyerItem.getEndDate());
+
+            verifyPeriod(findedBuyerItem.getBuyer().getBuyerId(), findedBuyerItem.getItem().getItemCd(),
+                    startDate, endDate, findedBuyerItem.getBuyerItemId());
+
+            findedBuyerItem.setStartDate(startDate);
+            findedBuyerItem.setEndDate(endDate);
+        }
 
         findedBuyerItem.setModifiedAt(LocalDateTime.now());
 
-        return buyerItemRepository.save(findedBuyerItem);
+        BuyerItem savedBuyerItem = buyerItemRepository.save(findedBuyerItem);
+        buyerItemPriceIndex.apply(savedBuyerItem);
+
+        return savedBuyerItem;
     }
 
     // DB 에서 삭제 - 가급적 자제
@@ -138,6 +137,7 @@ public class BuyerItemService {
         BuyerItem buyerItem = findVerifiedBuyerItem(buyerItemId);
 
         buyerItemRepository.delete(buyerItem);
+        buyerItemPriceIndex.remove(buyerItem);
     }
 
     //member 정보 가져오기
@@ -158,14 +158,13 @@ public class BuyerItemService {
         return buyerItemRepository.findAllByItem_ItemCd(itemCd);
     }
 
-    //단가 적용 item 이 있는 BuyerItem List 찾기 (date는 오늘 날짜)
-    private List<BuyerItem> recentGetBuyerItem(String buyerNm, String itemCd, LocalDateTime date) {
-        Buyer buyer = buyerService.findVerifiedBuyerByBuyerNm(buyerNm);
-
-        return buyer.getBuyerItems()
-                .stream()
-                .filter(findBuyerItem -> !findBuyerItem.getStartDate().isAfter(date) && !findBuyerItem.getEndDate().isBefore(date)) // 날짜 조건 필터
-                .filter(findBuyerItem -> findBuyerItem.getItem().getItemCd().equals(itemCd)) // itemCd 조건 필터
-                .collect(Collectors.toList());
+    //단가 적용 기간 검증 - 종료일이 시작일보다 앞서거나 같은 바이어/제품의 다른 계약과 기간이 겹치면 예외
+    private void verifyPeriod(long buyerId, String itemCd, LocalDateTime startDate, LocalDateTime endDate, Long buyerItemId) {
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            throw new BusinessLogicException(ExceptionCode.PERIOD_OVERLAP_ERROR);
+        }
+        if (buyerItemPriceIndex.overlaps(buyerId, itemCd, startDate, endDate, buyerItemId)) {
+            throw new BusinessLogicException(ExceptionCode.PERIOD_OVERLAP_ERROR);
+        }
     }
 }
@@ -0,0 +1,32 @@
+package com.springboot.cache;
+
+import com.springboot.response.SingleResponseDto;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/admin/caches")
+public class CacheStatsController {
+    private final MasterDataCache masterDataCache;
+    private final SecondLevelCache secondLevelCache;
+
+    public CacheStatsController(MasterDataCache masterDataCache, SecondLevelCache secondLevelCache) {
+        this.masterDataCache = masterDataCache;
+        this.secondLevelCache = secondLevelCache;
+    }
+
+    // 기준정보 캐시 적중률 조회 (L1 / L2 / miss)
+    @GetMapping
+    public ResponseEntity getCacheStats() {
+        return new ResponseEntity<>(new SingleResponseDto<>(masterDataCache.stats()), HttpStatus.OK);
+    }
+
+    // Hibernate 2차 캐시 region 별 적중률 / 저장 개수
+    @GetMapping("/second-level")
+    public ResponseEntity getSecondLevelCacheStats() {
+        return new ResponseEntity<>(new SingleResponseDto<>(secondLevelCache.stats()), HttpStatus.OK);
+    }
+}
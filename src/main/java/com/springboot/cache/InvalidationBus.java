@@ -0,0 +1,60 @@
+package com.springboot.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Consumer;
+
+/**
+ * 서버 메모리 캐시들의 서버 간 무효화.
+ * 캐시마다 자기 채널을 subscribe 하고, 지울 때는 evict 를 호출한다.
+ * 보낸 서버도 메시지를 다시 받으므로 리스너는 같은 키를 여러 번 지워도 문제없어야 한다.
+ * 보내기에 실패하면 로그만 남긴다 (다른 서버는 각 캐시의 TTL 이 지나야 맞춰진다).
+ * 구현은 토큰 저장소와 같은 auth.token-store.type 으로 고른다 (redis : RedisInvalidationBus, memory : LocalInvalidationBus).
+ */
+@Slf4j
+public abstract class InvalidationBus {
+
+    public abstract void subscribe(String channel, Consumer<String> listener);
+
+    /**
+     * 이 서버의 캐시를 바로 한 번 비우고, 커밋 후 한 번 더 비운 뒤 다른 서버에 알린다
+     * (커밋 전에 다른 요청이 옛 값을 다시 캐시했을 수 있으므로). 트랜잭션 밖이면 바로 알린다.
+     */
+    public void evict(String channel, String message, Runnable evictLocal) {
+        evictLocal.run();
+        afterCommit(() -> {
+            evictLocal.run();
+            publish(channel, message);
+        });
+    }
+
+    // 롤백되면 보내지 않는다
+    public void publishAfterCommit(String channel, String message) {
+        afterCommit(() -> publish(channel, message));
+    }
+
+    public void publish(String channel, String message) {
+        try {
+            send(channel, message);
+        } catch (RuntimeException e) {
+            log.warn("invalidation publish to {} failed : {}", channel, e.getMessage());
+        }
+    }
+
+    protected abstract void send(String channel, String message);
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,30 @@
+package com.springboot.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 서버 하나용 무효화 버스 (auth.token-store.type=memory). Redis 없이 뜬다.
+ * 알릴 다른 서버가 없으므로 보낸 메시지는 Redis 를 쓸 때처럼 이 서버의 구독자에게만 바로 전달한다.
+ */
+@Component
+@ConditionalOnProperty(name = "auth.token-store.type", havingValue = "memory")
+public class LocalInvalidationBus extends InvalidationBus {
+    private final Map<String, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+
+    @Override
+    public void subscribe(String channel, Consumer<String> listener) {
+        listeners.computeIfAbsent(channel, key -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    @Override
+    protected void send(String channel, String message) {
+        listeners.getOrDefault(channel, List.of()).forEach(listener -> listener.accept(message));
+    }
+}
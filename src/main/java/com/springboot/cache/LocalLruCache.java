@@ -0,0 +1,61 @@
+package com.springboot.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 크기 제한(LRU)과 TTL 이 있는 로컬 캐시 (L1).
+ * 조회도 접근 순서를 바꾸기 때문에 모든 메서드를 동기화한다. 임계 구역이 짧아서 경합 비용은 작다.
+ */
+public class LocalLruCache<V> {
+    private final long ttlNanos;
+    private final LinkedHashMap<String, Entry<V>> entries;
+
+    public LocalLruCache(int maxSize, long ttlMillis) {
+        this.ttlNanos = ttlMillis * 1_000_000L;
+        this.entries = new LinkedHashMap<String, Entry<V>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry<V>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public synchronized V get(String key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (System.nanoTime() - entry.expiresAt > 0) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.value;
+    }
+
+    public synchronized void put(String key, V value) {
+        entries.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+    }
+
+    public synchronized void remove(String key) {
+        entries.remove(key);
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
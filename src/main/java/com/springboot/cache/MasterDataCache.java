@@ -0,0 +1,118 @@
+package com.springboot.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 제품 / 바이어 / 제조사의 이름 -> 코드 색인 (L1 + Redis L2).
+ * 엔티티 값은 세 가지 모두 Hibernate 2차 캐시(natural-id)에만 두고, 이름으로 찾을 때는 여기서 코드를 얻어 NaturalIdLoader 로 읽는다.
+ * 코드만 저장하므로 상태, 단가 같은 값이 바뀌어도 지울 것이 없고, 이름이 바뀔 때만 이전 이름의 키를 지운다.
+ * 지울 때는 InvalidationBus 로 다른 서버의 L1 도 비운다. Redis 를 쓰지 않는 구성(auth.token-store.type=memory)에서는 L1 만 쓴다.
+ */
+@Component
+public class MasterDataCache {
+    public static final String INVALIDATION_CHANNEL = "cache:master-data:invalidation";
+
+    private final TwoTierCache<CodeByName> items;
+    private final TwoTierCache<CodeByName> buyers;
+    private final TwoTierCache<CodeByName> manufactures;
+    private final Map<String, TwoTierCache<?>> caches = new LinkedHashMap<>();
+    private final InvalidationBus invalidationBus;
+
+    public MasterDataCache(@Nullable RedisTemplate<String, Object> redisTemplate,
+                           ObjectMapper objectMapper,
+                           InvalidationBus invalidationBus,
+                           @Value("${cache.master-data.local-max-size:10000}") int localMaxSize,
+                           @Value("${cache.master-data.local-ttl-seconds:60}") long localTtlSeconds,
+                           @Value("${cache.master-data.redis-ttl-seconds:600}") long redisTtlSeconds) {
+        this.invalidationBus = invalidationBus;
+        Duration localTtl = Duration.ofSeconds(localTtlSeconds);
+        Duration redisTtl = Duration.ofSeconds(redisTtlSeconds);
+
+        this.items = register(new TwoTierCache<>("item-name", CodeByName.class, entry -> List.of(entry.getName()),
+                localMaxSize, localTtl, redisTtl, redisTemplate, objectMapper));
+        this.buyers = register(new TwoTierCache<>("buyer-name", CodeByName.class, entry -> List.of(entry.getName()),
+                localMaxSize, localTtl, redisTtl, redisTemplate, objectMapper));
+        this.manufactures = register(new TwoTierCache<>("manufacture-name", CodeByName.class, entry -> List.of(entry.getName()),
+                localMaxSize, localTtl, redisTtl, redisTemplate, objectMapper));
+
+        invalidationBus.subscribe(INVALIDATION_CHANNEL, this::onMessage);
+    }
+
+    private <V> TwoTierCache<V> register(TwoTierCache<V> cache) {
+        caches.put(cache.getName(), cache);
+        return cache;
+    }
+
+    // loader : 이름으로 DB 를 조회해서 코드를 돌려준다
+    public Optional<String> findItemCd(String itemNm, Function<String, Optional<String>> loader) {
+        return find(items, itemNm, loader);
+    }
+
+    public Optional<String> findBuyerCd(String buyerNm, Function<String, Optional<String>> loader) {
+        return find(buyers, buyerNm, loader);
+    }
+
+    public Optional<String> findMfCd(String mfNm, Function<String, Optional<String>> loader) {
+        return find(manufactures, mfNm, loader);
+    }
+
+    // 이름을 바꿀 때 이전 이름으로 호출한다
+    public void invalidateItemNm(String itemNm) {
+        invalidate(items, itemNm);
+    }
+
+    public void invalidateBuyerNm(String buyerNm) {
+        invalidate(buyers, buyerNm);
+    }
+
+    public void invalidateMfNm(String mfNm) {
+        invalidate(manufactures, mfNm);
+    }
+
+    public List<TwoTierCache.Stats> stats() {
+        List<TwoTierCache.Stats> stats = new ArrayList<>();
+        caches.values().forEach(cache -> stats.add(cache.stats()));
+        return stats;
+    }
+
+    private static Optional<String> find(TwoTierCache<CodeByName> cache, String name,
+                                         Function<String, Optional<String>> loader) {
+        return cache.get(name, () -> loader.apply(name).map(code -> new CodeByName(name, code)))
+                .map(CodeByName::getCode);
+    }
+
+    // 메시지 형식 : 첫 줄은 캐시 이름, 둘째 줄은 키
+    private void invalidate(TwoTierCache<?> cache, String name) {
+        List<String> keys = List.of(name);
+        invalidationBus.evict(INVALIDATION_CHANNEL, cache.getName() + "\n" + name, () -> cache.evict(keys));
+    }
+
+    private void onMessage(String message) {
+        String[] lines = message.split("\n");
+        TwoTierCache<?> cache = caches.get(lines[0]);
+        if (cache != null && lines.length > 1) {
+            cache.evictLocal(Arrays.asList(lines).subList(1, lines.length));
+        }
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CodeByName {
+        private String name;
+        private String code;
+    }
+}
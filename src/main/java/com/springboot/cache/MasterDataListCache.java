@@ -0,0 +1,150 @@
+package com.springboot.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.datasource.ReadYourWrites;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 기준정보 전체 목록(/items/all, /buyers/all, /manufacturers/all) 조건부 응답.
+ * - 목록마다 메모리 버전을 두고, 서비스에서 생성·수정·삭제할 때 changed 로 올린다 (즉시 한 번, 커밋 후 한 번 더)
+ * - ETag 는 서버 기동 epoch + 버전이다. If-None-Match 가 같으면 DB 를 읽지 않고 304 로 응답한다
+ * - 버전이 바뀌지 않았으면 직렬화한 응답 바이트를 그대로 다시 보낸다
+ * - 새 버전의 목록은 primary 에서 읽는다. replica 에서 읽으면 복제 지연 중의 옛 목록이 새 버전으로 캐시된다
+ * 다른 서버의 버전은 커밋 후 InvalidationBus 로 올린다. epoch 가 서버마다 달라 다른 서버에서 받은 ETag 는 200 으로 다시 내려간다.
+ */
+@Component
+public class MasterDataListCache {
+    public static final String CHANGE_CHANNEL = "cache:master-data-list:changed";
+    public static final String ITEM = "item";
+    public static final String BUYER = "buyer";
+    public static final String MANUFACTURE = "manufacture";
+
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private final String epoch = UUID.randomUUID().toString().substring(0, 8);
+    private final Map<String, ListEntry> lists = new ConcurrentHashMap<>();
+    private final InvalidationBus invalidationBus;
+    private final ObjectMapper objectMapper;
+
+    public MasterDataListCache(InvalidationBus invalidationBus, ObjectMapper objectMapper) {
+        this.invalidationBus = invalidationBus;
+        this.objectMapper = objectMapper;
+        for (String list : new String[]{ITEM, BUYER, MANUFACTURE}) {
+            lists.put(list, new ListEntry());
+        }
+        invalidationBus.subscribe(CHANGE_CHANNEL, this::onMessage);
+    }
+
+    /**
+     * 현재 버전의 ETag 가 If-None-Match 와 같으면 304, 아니면 캐시된 바이트(없으면 loader 결과를 직렬화)로 200.
+     */
+    public ResponseEntity<byte[]> respond(String list, String ifNoneMatch, Supplier<?> loader) {
+        ListEntry entry = entry(list);
+        long version = entry.version.get();
+        String etag = "\"" + list + "-" + epoch + "-" + version + "\"";
+        if (matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+        }
+
+        CachedBody body = entry.body;
+        if (body == null || body.version != version) {
+            // 같은 버전을 동시에 여러 요청이 읽지 않도록 목록 단위로 한 번만 읽는다
+            synchronized (entry) {
+                body = entry.body;
+                if (body == null || body.version != version) {
+                    body = new CachedBody(version, serialize(ReadYourWrites.onPrimary(loader)));
+                    // 읽는 동안 버전이 올랐으면 저장하지 않는다 (이번 응답에만 쓴다)
+                    if (entry.version.get() == version) {
+                        entry.body = body;
+                    }
+                }
+            }
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(REVALIDATE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body.bytes);
+    }
+
+    // 커밋 전에 다른 요청이 옛 목록을 새 버전으로 캐시했을 수 있으므로 커밋 후에 한 번 더 올린다
+    public void changed(String list) {
+        ListEntry entry = entry(list);
+        invalidationBus.evict(CHANGE_CHANNEL, list, () -> bump(entry));
+    }
+
+    public long version(String list) {
+        return entry(list).version.get();
+    }
+
+    private void onMessage(String list) {
+        ListEntry entry = lists.get(list);
+        if (entry != null) {
+            bump(entry);
+        }
+    }
+
+    private void bump(ListEntry entry) {
+        entry.version.incrementAndGet();
+        entry.body = null;
+    }
+
+    private ListEntry entry(String list) {
+        ListEntry entry = lists.get(list);
+        if (entry == null) {
+            throw new IllegalArgumentException("unknown master data list : " + list);
+        }
+        return entry;
+    }
+
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("master data list serialization failed", e);
+        }
+    }
+
+    // If-None-Match : "a", W/"b" 처럼 여러 개이거나 * 일 수 있다
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class ListEntry {
+        private final AtomicLong version = new AtomicLong();
+        private volatile CachedBody body;
+    }
+
+    private static class CachedBody {
+        private final long version;
+        private final byte[] bytes;
+
+        CachedBody(long version, byte[] bytes) {
+            this.version = version;
+            this.bytes = bytes;
+        }
+    }
+}
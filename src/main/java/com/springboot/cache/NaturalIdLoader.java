@@ -0,0 +1,23 @@
+package com.springboot.cache;
+
+import org.hibernate.Session;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.Optional;
+
+/**
+ * 코드(@NaturalId)로 엔티티를 조회한다.
+ * findByItemCd 같은 쿼리 메서드는 항상 DB 를 조회하지만, 이 경로는 natural-id 캐시 -> 엔티티 캐시 순서로 찾고
+ * 둘 다 없을 때만 DB 를 조회한다. 반환되는 엔티티는 현재 영속성 컨텍스트에 속한다.
+ */
+@Component
+public class NaturalIdLoader {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public <T> Optional<T> load(Class<T> type, Object naturalId) {
+        return entityManager.unwrap(Session.class).bySimpleNaturalId(type).loadOptional(naturalId);
+    }
+}
@@ -0,0 +1,38 @@
+package com.springboot.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Redis pub/sub 무효화 버스 (auth.token-store.type=redis : 기본값, 여러 서버).
+ */
+@Component
+@ConditionalOnProperty(name = "auth.token-store.type", havingValue = "redis", matchIfMissing = true)
+public class RedisInvalidationBus extends InvalidationBus {
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    public RedisInvalidationBus(RedisTemplate<String, Object> redisTemplate,
+                                RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @Override
+    public void subscribe(String channel, Consumer<String> listener) {
+        listenerContainer.addMessageListener(
+                (message, pattern) -> listener.accept(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(channel));
+    }
+
+    @Override
+    protected void send(String channel, String message) {
+        redisTemplate.convertAndSend(channel, message);
+    }
+}
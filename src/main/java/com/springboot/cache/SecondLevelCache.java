@@ -0,0 +1,88 @@
+package com.springboot.cache;
+
+import com.springboot.config.SecondLevelCacheConfiguration;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Hibernate 2차 캐시(Item / Buyer / Manufacture / Member) 의 서버 간 정합성.
+ * 같은 서버 안에서는 Hibernate 가 수정 시 캐시를 갱신하지만 다른 서버의 캐시는 알 수 없으므로,
+ * 서비스의 수정·삭제 경로에서 evict 를 호출하면 커밋 후 InvalidationBus 로 다른 서버의 해당 엔티티를 지운다.
+ * natural-id(코드) -> id 매핑은 코드가 바뀌지 않으므로 지우지 않는다.
+ * 복제본에서 읽은 행은 캐시에 넣지 않는다 (ReplicaCacheModeJpaDialect).
+ */
+@Slf4j
+@Component
+public class SecondLevelCache {
+    public static final String INVALIDATION_CHANNEL = "cache:second-level:invalidation";
+
+    private final SessionFactory sessionFactory;
+    private final InvalidationBus invalidationBus;
+
+    public SecondLevelCache(EntityManagerFactory entityManagerFactory, InvalidationBus invalidationBus) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.invalidationBus = invalidationBus;
+        invalidationBus.subscribe(INVALIDATION_CHANNEL, this::onMessage);
+    }
+
+    // 메시지 형식 : 엔티티 클래스 이름 + 줄바꿈 + id
+    public void evict(Class<?> entityClass, long id) {
+        invalidationBus.publishAfterCommit(INVALIDATION_CHANNEL, entityClass.getName() + "\n" + id);
+    }
+
+    // 자기 자신이 보낸 메시지도 받는다. 이미 갱신된 값을 한 번 더 지우는 것이므로 다음 조회가 DB 로 갈 뿐이다
+    private void onMessage(String message) {
+        String[] lines = message.split("\n");
+        if (lines.length != 2) {
+            return;
+        }
+        try {
+            sessionFactory.getCache().evictEntityData(Class.forName(lines[0]), Long.valueOf(lines[1]));
+        } catch (ClassNotFoundException | RuntimeException e) {
+            log.warn("second level cache invalidation failed : {}", e.getMessage());
+        }
+    }
+
+    public List<RegionStats> stats() {
+        Statistics statistics = sessionFactory.getStatistics();
+        return SecondLevelCacheConfiguration.REGIONS.keySet().stream()
+                .sorted()
+                .map(region -> RegionStats.of(region, statistics.getDomainDataRegionStatistics(region)))
+                .collect(Collectors.toList());
+    }
+
+    @Getter
+    public static class RegionStats {
+        private final String name;
+        private final long hits;
+        private final long misses;
+        private final long puts;
+        private final long size;
+
+        private RegionStats(String name, long hits, long misses, long puts, long size) {
+            this.name = name;
+            this.hits = hits;
+            this.misses = misses;
+            this.puts = puts;
+            this.size = size;
+        }
+
+        static RegionStats of(String name, CacheRegionStatistics statistics) {
+            return new RegionStats(name, statistics.getHitCount(), statistics.getMissCount(),
+                    statistics.getPutCount(), statistics.getElementCountInMemory());
+        }
+
+        public double getHitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+    }
+}
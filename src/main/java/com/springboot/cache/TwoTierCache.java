@@ -0,0 +1,153 @@
+package com.springboot.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 로컬 LRU(L1) + Redis(L2) 2단계 캐시.
+ * 하나의 값은 keysOf 가 돌려주는 모든 키(예 : 코드, 이름)로 저장된다.
+ * Redis 장애 시에는 L2 를 건너뛰고 DB 조회로 대체한다. redisTemplate 이 없으면 (auth.token-store.type=memory) L1 만 쓴다.
+ */
+@Slf4j
+public class TwoTierCache<V> {
+    @Getter
+    private final String name;
+    private final Class<V> type;
+    private final Function<V, List<String>> keysOf;
+    private final LocalLruCache<V> local;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration redisTtl;
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public TwoTierCache(String name, Class<V> type, Function<V, List<String>> keysOf,
+                        int localMaxSize, Duration localTtl, Duration redisTtl,
+                        @Nullable RedisTemplate<String, Object> redisTemplate, ObjectMapper objectMapper) {
+        this.name = name;
+        this.type = type;
+        this.keysOf = keysOf;
+        this.local = new LocalLruCache<>(localMaxSize, localTtl.toMillis());
+        this.redisTtl = redisTtl;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    // L1 -> L2 -> loader 순서로 조회. 없는 값은 캐시하지 않는다
+    public Optional<V> get(String key, Supplier<Optional<V>> loader) {
+        V value = local.get(key);
+        if (value != null) {
+            localHits.increment();
+            return Optional.of(value);
+        }
+
+        value = readRedis(key);
+        if (value != null) {
+            redisHits.increment();
+            local.put(key, value);
+            return Optional.of(value);
+        }
+
+        misses.increment();
+        Optional<V> loaded = loader.get();
+        loaded.ifPresent(this::put);
+        return loaded;
+    }
+
+    public void put(V value) {
+        for (String key : keysOf.apply(value)) {
+            local.put(key, value);
+            writeRedis(key, value);
+        }
+    }
+
+    public List<String> keysOf(V value) {
+        return keysOf.apply(value);
+    }
+
+    public void evictLocal(Collection<String> keys) {
+        keys.forEach(local::remove);
+    }
+
+    public void evict(Collection<String> keys) {
+        evictLocal(keys);
+        if (redisTemplate == null) {
+            return;
+        }
+        try {
+            redisTemplate.delete(keys.stream().map(this::redisKey).collect(Collectors.toList()));
+        } catch (RuntimeException e) {
+            log.warn("cache [{}] redis evict failed : {}", name, e.getMessage());
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(name, localHits.sum(), redisHits.sum(), misses.sum(), local.size());
+    }
+
+    private V readRedis(String key) {
+        if (redisTemplate == null) {
+            return null;
+        }
+        try {
+            Object json = redisTemplate.opsForValue().get(redisKey(key));
+            return json == null ? null : objectMapper.readValue(json.toString(), type);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.debug("cache [{}] redis read failed : {}", name, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(String key, V value) {
+        if (redisTemplate == null) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(redisKey(key), objectMapper.writeValueAsString(value), redisTtl);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.debug("cache [{}] redis write failed : {}", name, e.getMessage());
+        }
+    }
+
+    private String redisKey(String key) {
+        return "cache:" + name + ":" + key;
+    }
+
+    @Getter
+    public static class Stats {
+        private final String name;
+        private final long localHits;
+        private final long redisHits;
+        private final long misses;
+        private final int localSize;
+
+        public Stats(String name, long localHits, long redisHits, long misses, int localSize) {
+            this.name = name;
+            this.localHits = localHits;
+            this.redisHits = redisHits;
+            this.misses = misses;
+            this.localSize = localSize;
+        }
+
+        // (L1 + L2 적중) / 전체 조회
+        public double getHitRate() {
+            long total = localHits + redisHits + misses;
+            return total == 0 ? 0 : (double) (localHits + redisHits) / total;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.springboot.config;
+
+import org.ehcache.config.CacheConfiguration;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.core.config.DefaultConfiguration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+@Configuration
+public class SecondLevelCacheConfiguration {
+
+    /**
+     * 2차 캐시 region 과 기본 최대 개수. cache.second-level.{region}.max-entries 로 region 별로 바꿀 수 있다.
+     * *-natural-id region 은 코드(itemCd 등) -> id 매핑만 저장한다.
+     */
+    public static final Map<String, Long> REGIONS = Map.of(
+            "item", 10_000L,
+            "item-natural-id", 10_000L,
+            "buyer", 5_000L,
+            "buyer-natural-id", 5_000L,
+            "manufacture", 1_000L,
+            "manufacture-natural-id", 1_000L,
+            "member", 1_000L,
+            "member-natural-id", 1_000L);
+
+    /**
+     * 서버 내부(heap) JCache(Ehcache) 캐시 매니저.
+     * 기본 URI 의 캐시 매니저는 JVM 전체에서 공유되므로 컨텍스트마다 별도의 URI 로 만든다.
+     * TTL 은 다른 서버의 무효화 메시지를 놓쳤을 때 옛 값이 남는 최대 시간이다.
+     */
+    @Bean
+    public CacheManager secondLevelCacheManager(Environment environment,
+                                                @Value("${cache.second-level.ttl-seconds:3600}") long ttlSeconds) {
+        Map<String, CacheConfiguration<?, ?>> caches = new LinkedHashMap<>();
+        REGIONS.forEach((region, defaultMaxEntries) -> {
+            long maxEntries = environment.getProperty("cache.second-level." + region + ".max-entries", Long.class, defaultMaxEntries);
+            caches.put(region, CacheConfigurationBuilder
+                    .newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(maxEntries))
+                    .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(Duration.ofSeconds(ttlSeconds)))
+                    .build());
+        });
+
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        ClassLoader classLoader = getClass().getClassLoader();
+        CacheManager cacheManager = provider.getCacheManager(URI.create("second-level-cache:" + UUID.randomUUID()),
+                new DefaultConfiguration(caches, classLoader));
+        REGIONS.keySet().forEach(region -> cacheManager.enableStatistics(region, true));
+        return cacheManager;
+    }
+
+    /**
+     * Item / Buyer / Manufacture / Member 엔티티와 natural-id 조회를 2차 캐시에 둔다.
+     * Hibernate 통계는 세션마다 집계 비용이 붙으므로 기본은 끄고, 적중률을 볼 때만 cache.second-level.statistics=true 로 켠다
+     * (꺼져 있으면 /admin/caches/second-level 의 hit / miss / put 은 0 이다).
+     * region 이 설정에 없으면 기동 시 실패한다 (엔티티의 region 이름 오타 방지).
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager,
+                                                                    @Value("${cache.second-level.statistics:false}") boolean statistics) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, "true");
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            properties.putIfAbsent(AvailableSettings.GENERATE_STATISTICS, String.valueOf(statistics));
+        };
+    }
+}
@@ -8,10 +8,16 @@ import com.springboot.auth.handler.MemberAuthenticationEntryPoint;
 import com.springboot.auth.handler.MemberAuthenticationFailureHandler;
 import com.springboot.auth.handler.MemberAuthenticationSuccessHandler;
 import com.springboot.auth.jwt.JwtTokenizer;
+import com.springboot.auth.login.BoundedPasswordEncoder;
+import com.springboot.auth.login.LoginAdmissionControl;
+import com.springboot.auth.login.LoginAuthenticationProvider;
+import com.springboot.auth.session.ActiveSessionCache;
+import com.springboot.auth.userdetails.MemberDetailsService;
 import com.springboot.auth.utils.JwtAuthorityUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -30,13 +36,18 @@ public class SecurityConfiguration {
     private final JwtTokenizer jwtTokenizer;
     private final JwtAuthorityUtils authorityUtils;
 
-    // 검증 객체에 전달하기 위해 RedisTemplate DI
-    private final RedisTemplate<String, Object> redisTemplate;
+    // 검증 객체에 전달하기 위해 세션 캐시 DI
+    private final ActiveSessionCache activeSessionCache;
+    private final LoginAdmissionControl loginAdmissionControl;
+    private final MeterRegistry meterRegistry;
 
-    public SecurityConfiguration(JwtTokenizer jwtTokenizer, JwtAuthorityUtils authorityUtils, RedisTemplate<String, Object> redisTemplate) {
+    public SecurityConfiguration(JwtTokenizer jwtTokenizer, JwtAuthorityUtils authorityUtils, ActiveSessionCache activeSessionCache,
+                                 LoginAdmissionControl loginAdmissionControl, MeterRegistry meterRegistry) {
         this.jwtTokenizer = jwtTokenizer;
         this.authorityUtils = authorityUtils;
-        this.redisTemplate = redisTemplate;
+        this.activeSessionCache = activeSessionCache;
+        this.loginAdmissionControl = loginAdmissionControl;
+        this.meterRegistry = meterRegistry;
     }
 
     @Bean
@@ -66,6 +77,7 @@ public class SecurityConfiguration {
                         .antMatchers(HttpMethod.DELETE, "/members/**").hasRole("USER")
                         .antMatchers(HttpMethod.POST, "/auth/logout").hasAnyRole("USER", "ADMIN")
                         .antMatchers(HttpMethod.POST, "/orders").hasAnyRole("USER", "ADMIN")
+                        .antMatchers(HttpMethod.POST, "/orders/import").hasAnyRole("USER", "ADMIN")
                         .antMatchers(HttpMethod.PATCH, "/orders").hasAnyRole("USER", "ADMIN")
                         .antMatchers(HttpMethod.GET, "/orders").hasAnyRole("USER", "ADMIN")
                         .antMatchers(HttpMethod.GET, "/orders/**").hasAnyRole("USER", "ADMIN")
@@ -108,6 +120,7 @@ public class SecurityConfiguration {
                         .antMatchers(HttpMethod.GET, "/manufacture-items/**").hasAnyRole("USER", "ADMIN")
                         .antMatchers(HttpMethod.GET, "/manufacture-items").hasAnyRole("USER", "ADMIN")
                         .antMatchers(HttpMethod.GET, "/manufacture-items/*/histories").hasAnyRole("USER", "ADMIN")
+                        .antMatchers("/admin/**").hasRole("ADMIN")
 
                         .anyRequest().permitAll()
                 );
@@ -120,13 +133,25 @@ public class SecurityConfiguration {
         return PasswordEncoderFactories.createDelegatingPasswordEncoder();
     }
 
+    // 로그인의 비밀번호 확인만 코어 수 크기의 전용 풀에서 실행 (로그인 폭주 시 다른 API 요청이 CPU 를 잃지 않도록)
+    @Bean
+    public LoginAuthenticationProvider loginAuthenticationProvider(MemberDetailsService memberDetailsService,
+                                                                   PasswordEncoder passwordEncoder,
+                                                                   @Value("${auth.login.hash-pool-size:0}") int poolSize,
+                                                                   @Value("${auth.login.hash-queue-capacity:64}") int queueCapacity,
+                                                                   @Value("${auth.login.hash-timeout-ms:3000}") long timeoutMillis){
+        int size = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        return new LoginAuthenticationProvider(memberDetailsService,
+                new BoundedPasswordEncoder(passwordEncoder, size, queueCapacity, timeoutMillis));
+    }
+
     @Bean
     CorsConfigurationSource corsConfigurationSource(){
         CorsConfiguration configuration = new CorsConfiguration();
         configuration.setAllowedOrigins(Arrays.asList("*"));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PATCH", "DELETE"));
         configuration.addAllowedOrigin("http://localhost:3000");
-        configuration.setExposedHeaders(Arrays.asList("Authorization", "Refresh"));
+        configuration.setExposedHeaders(Arrays.asList("Authorization", "Refresh", "ETag"));
         configuration.addAllowedHeader("*");
         configuration.addAllowedMethod("*");
         UrlBasedCorsConfigurationSource source =new UrlBasedCorsConfigurationSource();
@@ -142,12 +167,12 @@ public class SecurityConfiguration {
                     builder.getSharedObject(AuthenticationManager.class);
 
             JwtAuthenticationFilter jwtAuthenticationFilter =
-                    new JwtAuthenticationFilter(authenticationManager, jwtTokenizer);
+                    new JwtAuthenticationFilter(authenticationManager, jwtTokenizer, loginAdmissionControl, authorityUtils);
             jwtAuthenticationFilter.setFilterProcessesUrl("/auth/login");
             jwtAuthenticationFilter.setAuthenticationSuccessHandler(new MemberAuthenticationSuccessHandler());
             jwtAuthenticationFilter.setAuthenticationFailureHandler(new MemberAuthenticationFailureHandler());
             JwtVerificationFilter jwtVerificationFilter =
-                    new JwtVerificationFilter(jwtTokenizer,authorityUtils,redisTemplate);
+                    new JwtVerificationFilter(jwtTokenizer,authorityUtils,activeSessionCache,meterRegistry);
             builder.addFilter(jwtAuthenticationFilter)
                     .addFilterAfter(jwtVerificationFilter, JwtAuthenticationFilter.class);
         }
@@ -0,0 +1,439 @@
+package com.springboot.datagen;
+
+import com.springboot.buyer.entity.Buyer;
+import com.springboot.item.entity.Item;
+import com.springboot.manufacture.entity.Manufacture;
+import com.springboot.member.entity.Member;
+import com.springboot.order_header.entity.OrderHeaders;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 성능 테스트용 대용량 데이터 생성기. datagen.enabled=true 일 때 기동 직후 한 번 실행된다.
+ *   ./gradlew bootRun --args='--datagen.enabled=true --datagen.order-count=2000000 --datagen.exit-when-done=true'
+ * - 같은 seed / 건수 / end-date 면 같은 데이터가 만들어진다 (id 는 기존 데이터의 최대 id 다음부터)
+ * - 제품 인기도와 바이어 주문량은 Zipf 분포, 주문 일시는 계절성(SeasonalDateSampler), 주문 상태는 모든 OrderStatus
+ * - JPA 를 거치지 않고 JDBC batch 로 직접 insert 한 뒤, 엔티티 id 시퀀스를 생성한 id 뒤로 옮긴다
+ * 기존 데이터는 지우지 않는다. 생성 후에는 기준정보 캐시(Redis / 2차 캐시)가 비어 있는 상태로 기동해야 한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "datagen.enabled", havingValue = "true")
+public class DataGenerator implements ApplicationRunner {
+    // pooled 시퀀스의 allocationSize (엔티티 @SequenceGenerator 와 같아야 한다)
+    private static final int ALLOCATION_SIZE = 50;
+    private static final String[] REGIONS = {"Vietnam", "Korea", "China", "Indonesia", "India"};
+    private static final String[] CATEGORIES = {"sneakers", "running", "boots", "sandals", "loafers", "slippers"};
+    private static final String[] COLORS = {"black", "white", "gray", "navy", "red", "beige"};
+    private static final String[] BUSINESS_TYPES = {"Retail", "Wholesale", "Online", "Department"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final ApplicationContext applicationContext;
+    private final long seed;
+    private final int memberCount;
+    private final int buyerCount;
+    private final int itemCount;
+    private final int manufactureCount;
+    private final int contractsPerBuyer;
+    private final int deliveriesPerItem;
+    private final int orderCount;
+    private final int maxLinesPerOrder;
+    private final double itemZipfExponent;
+    private final double buyerZipfExponent;
+    private final int years;
+    private final String endDate;
+    private final String memberPassword;
+    private final int batchSize;
+    private final boolean exitWhenDone;
+
+    public DataGenerator(DataSource dataSource,
+                         PasswordEncoder passwordEncoder,
+                         ApplicationContext applicationContext,
+                         @Value("${datagen.seed:42}") long seed,
+                         @Value("${datagen.member-count:200}") int memberCount,
+                         @Value("${datagen.buyer-count:100000}") int buyerCount,
+                         @Value("${datagen.item-count:50000}") int itemCount,
+                         @Value("${datagen.manufacture-count:500}") int manufactureCount,
+                         @Value("${datagen.contracts-per-buyer:20}") int contractsPerBuyer,
+                         @Value("${datagen.deliveries-per-item:12}") int deliveriesPerItem,
+                         @Value("${datagen.order-count:2000000}") int orderCount,
+                         @Value("${datagen.max-lines-per-order:9}") int maxLinesPerOrder,
+                         @Value("${datagen.item-zipf-exponent:1.07}") double itemZipfExponent,
+                         @Value("${datagen.buyer-zipf-exponent:0.8}") double buyerZipfExponent,
+                         @Value("${datagen.years:3}") int years,
+                         @Value("${datagen.end-date:}") String endDate,
+                         @Value("${datagen.member-password:password1234!}") String memberPassword,
+                         @Value("${datagen.batch-size:1000}") int batchSize,
+                         @Value("${datagen.exit-when-done:false}") boolean exitWhenDone) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.passwordEncoder = passwordEncoder;
+        this.applicationContext = applicationContext;
+        this.seed = seed;
+        this.memberCount = memberCount;
+        this.buyerCount = buyerCount;
+        this.itemCount = itemCount;
+        this.manufactureCount = manufactureCount;
+        this.contractsPerBuyer = Math.min(contractsPerBuyer, itemCount);
+        this.deliveriesPerItem = deliveriesPerItem;
+        this.orderCount = orderCount;
+        this.maxLinesPerOrder = maxLinesPerOrder;
+        this.itemZipfExponent = itemZipfExponent;
+        this.buyerZipfExponent = buyerZipfExponent;
+        this.years = years;
+        this.endDate = endDate;
+        this.memberPassword = memberPassword;
+        this.batchSize = batchSize;
+        this.exitWhenDone = exitWhenDone;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        generate();
+        if (exitWhenDone) {
+            System.exit(SpringApplication.exit(applicationContext, () -> 0));
+        }
+    }
+
+    public void generate() {
+        long started = System.currentTimeMillis();
+        Random random = new Random(seed);
+        // 날짜를 고정하지 않으면 실행한 날 기준이 된다 (재현하려면 datagen.end-date 지정)
+        LocalDate end = endDate.isEmpty() ? LocalDate.now() : LocalDate.parse(endDate);
+        LocalDate start = end.minusYears(years).plusDays(1);
+        log.info("datagen start : seed={}, members={}, buyers={}, items={}, manufactures={}, orders={}, period={}~{}",
+                seed, memberCount, buyerCount, itemCount, manufactureCount, orderCount, start, end);
+
+        long[] memberIds = generateMembers(random);
+        long[] manufactureIds = generateManufactures(random, start);
+        ItemCatalog items = generateItems(random, start);
+        long[] buyerIds = generateBuyers(random, start);
+        generateContracts(random, buyerIds, items, start, end);
+        generateDeliveries(random, manufactureIds, items, start, end);
+        generateOrders(random, memberIds, buyerIds, items, start, end);
+        restartSequences();
+
+        log.info("datagen done in {} s", (System.currentTimeMillis() - started) / 1000);
+    }
+
+    // 회원은 IDENTITY 이므로 id 없이 넣고, 만들어진 id 를 다시 읽는다. 비밀번호 해시는 한 번만 계산한다
+    private long[] generateMembers(Random random) {
+        long before = maxId("member", "member_id");
+        String password = passwordEncoder.encode(memberPassword);
+        try (BatchWriter members = new BatchWriter("member",
+                "INSERT INTO member (employee_id, email, name, password, tel, address, profile_url, member_status) VALUES (?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < memberCount; i++) {
+                String employeeId = String.format("GE%06d", before + i + 1);
+                members.add(employeeId, employeeId.toLowerCase() + "@shoecream.com", "sales " + employeeId, password,
+                        tel(random), "address " + random.nextInt(1000),
+                        "https://ibb.co/9Zvwgzt", Member.MemberStatus.MEMBER_ACTIVE.name());
+            }
+        }
+
+        List<Long> ids = jdbcTemplate.queryForList("SELECT member_id FROM member WHERE member_id > ? ORDER BY member_id", Long.class, before);
+        try (BatchWriter roles = new BatchWriter("member_roles", "INSERT INTO member_roles (member_member_id, roles) VALUES (?, ?)")) {
+            ids.forEach(id -> roles.add(id, "USER"));
+        }
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private long[] generateManufactures(Random random, LocalDate start) {
+        long firstId = maxId("manufacture", "mf_id") + 1;
+        long[] ids = new long[manufactureCount];
+        try (BatchWriter manufactures = new BatchWriter("manufacture",
+                "INSERT INTO manufacture (mf_id, region, email, mf_cd, mf_nm, created_at, modified_at, manufacture_status) VALUES (?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < manufactureCount; i++) {
+                long id = firstId + i;
+                String mfCd = String.format("GM%06d", id);
+                Timestamp createdAt = Timestamp.valueOf(start.atStartOfDay());
+                manufactures.add(id, pick(random, REGIONS), mfCd.toLowerCase() + "@mf.com", mfCd, "factory " + mfCd,
+                        createdAt, createdAt, Manufacture.ManufactureStatus.ACTIVE.name());
+                ids[i] = id;
+            }
+        }
+        return ids;
+    }
+
+    // 제품 순위 0 이 가장 많이 팔리는 제품이다 (Zipf 분포의 순위와 같은 순서)
+    private ItemCatalog generateItems(Random random, LocalDate start) {
+        long firstId = maxId("item", "item_id") + 1;
+        ItemCatalog catalog = new ItemCatalog(itemCount);
+        try (BatchWriter items = new BatchWriter("item",
+                "INSERT INTO item (item_id, item_cd, item_nm, unit, unit_price, size, color, category, item_status, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < itemCount; i++) {
+                long id = firstId + i;
+                String itemCd = String.format("GI%07d", id);
+                BigDecimal unitPrice = BigDecimal.valueOf(20_000 + random.nextInt(180) * 1_000L);
+                double status = random.nextDouble();
+                Item.ItemStatus itemStatus = status < 0.93 ? Item.ItemStatus.ON_SALE
+                        : status < 0.98 ? Item.ItemStatus.NOT_FOR_SALE : Item.ItemStatus.INACTIVE;
+                Timestamp createdAt = Timestamp.valueOf(start.atStartOfDay());
+                items.add(id, itemCd, "shoe " + itemCd, "EA", unitPrice, 220 + random.nextInt(17) * 5,
+                        pick(random, COLORS), pick(random, CATEGORIES), itemStatus.name(), createdAt, createdAt);
+                catalog.set(i, id, itemCd, unitPrice);
+            }
+        }
+        return catalog;
+    }
+
+    private long[] generateBuyers(Random random, LocalDate start) {
+        long firstId = maxId("buyer", "buyer_id") + 1;
+        long[] ids = new long[buyerCount];
+        try (BatchWriter buyers = new BatchWriter("buyer",
+                "INSERT INTO buyer (buyer_id, buyer_cd, email, buyer_nm, tel, address, business_type, modified_at, buyer_status) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < buyerCount; i++) {
+                long id = firstId + i;
+                String buyerCd = String.format("GB%07d", id);
+                double status = random.nextDouble();
+                Buyer.BuyerStatus buyerStatus = status < 0.95 ? Buyer.BuyerStatus.ACTIVE
+                        : status < 0.97 ? Buyer.BuyerStatus.SUSPENDED
+                        : status < 0.99 ? Buyer.BuyerStatus.TERMINATED : Buyer.BuyerStatus.INACTIVE;
+                // 연락처는 unique 이므로 id 로 만든다
+                buyers.add(id, buyerCd, buyerCd.toLowerCase() + "@buyer.com", "buyer " + buyerCd,
+                        String.format("02-%04d-%04d", id / 10_000 % 10_000, id % 10_000),
+                        "address " + random.nextInt(10_000), pick(random, BUSINESS_TYPES),
+                        Timestamp.valueOf(start.atStartOfDay()), buyerStatus.name());
+                ids[i] = id;
+            }
+        }
+        return ids;
+    }
+
+    // 바이어별 계약 단가 : 인기 제품 위주로 contractsPerBuyer 개 (제품 정가의 85 ~ 100%)
+    private void generateContracts(Random random, long[] buyerIds, ItemCatalog items, LocalDate start, LocalDate end) {
+        long nextId = maxId("buyer_item", "buyer_item_id") + 1;
+        ZipfDistribution popularity = new ZipfDistribution(itemCount, itemZipfExponent);
+        Timestamp startDate = Timestamp.valueOf(start.atStartOfDay());
+        Timestamp endDate = Timestamp.valueOf(end.plusYears(1).atStartOfDay());
+        try (BatchWriter contracts = new BatchWriter("buyer_item",
+                "INSERT INTO buyer_item (buyer_item_id, unit_price, start_date, end_date, modified_at, buyer_id, item_id) VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+            Set<Integer> chosen = new HashSet<>();
+            for (long buyerId : buyerIds) {
+                chosen.clear();
+                while (chosen.size() < contractsPerBuyer) {
+                    int rank = chosen.size() < contractsPerBuyer / 2 ? popularity.sample(random) : random.nextInt(itemCount);
+                    if (chosen.add(rank)) {
+                        contracts.add(nextId++, discounted(items.unitPrice(rank), random), startDate, endDate,
+                                startDate, buyerId, items.id(rank));
+                    }
+                }
+            }
+        }
+    }
+
+    // 납품 기록 : 인기 제품일수록 자주 납품된다 (평균 deliveriesPerItem 건, 단가는 정가의 50 ~ 70%)
+    private void generateDeliveries(Random random, long[] manufactureIds, ItemCatalog items, LocalDate start, LocalDate end) {
+        long nextId = maxId("item_manufacture", "mf_item_id") + 1;
+        ZipfDistribution popularity = new ZipfDistribution(itemCount, itemZipfExponent);
+        SeasonalDateSampler dates = new SeasonalDateSampler(start, end);
+        long deliveries = (long) itemCount * deliveriesPerItem;
+        try (BatchWriter writer = new BatchWriter("item_manufacture",
+                "INSERT INTO item_manufacture (mf_item_id, unit_price, qty, created_at, modified_at, mf_id, item_id) VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+            for (long i = 0; i < deliveries; i++) {
+                // 절반은 인기도를 따르고 절반은 모든 제품에 고르게 (재고가 0 인 제품만 남지 않도록)
+                int rank = i % 2 == 0 ? popularity.sample(random) : (int) (i / 2 % itemCount);
+                BigDecimal unitPrice = items.unitPrice(rank)
+                        .multiply(BigDecimal.valueOf(50 + random.nextInt(21)))
+                        .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+                Timestamp createdAt = Timestamp.valueOf(dates.sample(random));
+                writer.add(nextId++, unitPrice, 100 + random.nextInt(900), createdAt, createdAt,
+                        manufactureIds[random.nextInt(manufactureIds.length)], items.id(rank));
+            }
+        }
+    }
+
+    private void generateOrders(Random random, long[] memberIds, long[] buyerIds, ItemCatalog items, LocalDate start, LocalDate end) {
+        long nextOrderId = maxId("order_headers", "order_id") + 1;
+        long nextLineId = maxId("order_items", "order_item_id") + 1;
+        ZipfDistribution popularity = new ZipfDistribution(itemCount, itemZipfExponent);
+        ZipfDistribution buyerVolume = new ZipfDistribution(buyerIds.length, buyerZipfExponent);
+        SeasonalDateSampler dates = new SeasonalDateSampler(start, end);
+        LocalDateTime recent = end.minusDays(14).atStartOfDay();
+
+        try (BatchWriter headers = new BatchWriter("order_headers",
+                "INSERT INTO order_headers (order_id, order_cd, request_date, created_at, message, order_status, member_id, buyer_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?)");
+             // 주문 항목을 보내기 전에 주문 헤더를 먼저 보낸다 (FK)
+             BatchWriter lines = new BatchWriter("order_items",
+                     "INSERT INTO order_items (order_item_id, start_date, end_date, qty, item_cd, unit, unit_price, order_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", headers)) {
+            Set<Integer> chosen = new HashSet<>();
+            for (int i = 0; i < orderCount; i++) {
+                long orderId = nextOrderId++;
+                LocalDateTime createdAt = dates.sample(random);
+                headers.add(orderId, String.format("GO%010d", orderId),
+                        Timestamp.valueOf(createdAt.plusDays(7 + random.nextInt(24))), Timestamp.valueOf(createdAt),
+                        null, orderStatus(random, createdAt.isAfter(recent)).name(),
+                        memberIds[random.nextInt(memberIds.length)], buyerIds[buyerVolume.sample(random)]);
+
+                int lineCount = 1 + random.nextInt(maxLinesPerOrder);
+                chosen.clear();
+                while (chosen.size() < Math.min(lineCount, itemCount)) {
+                    int rank = popularity.sample(random);
+                    if (chosen.add(rank)) {
+                        lines.add(nextLineId++, Timestamp.valueOf(createdAt.minusDays(30)),
+                                Timestamp.valueOf(createdAt.plusDays(335)), 10 * (1 + random.nextInt(50)),
+                                items.code(rank), "EA", discounted(items.unitPrice(rank), random), orderId);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 최근 2 주 주문은 아직 처리 중 (견적요청 / 승인 / 반려),
+     * 그 이전 주문은 대부분 처리가 끝난 상태 (제품합격 위주, 불합격 / 취소 / 반려 포함)
+     */
+    private OrderHeaders.OrderStatus orderStatus(Random random, boolean recent) {
+        double p = random.nextDouble();
+        if (recent) {
+            return p < 0.5 ? OrderHeaders.OrderStatus.REQUEST_TEMP
+                    : p < 0.9 ? OrderHeaders.OrderStatus.APPROVED : OrderHeaders.OrderStatus.REJECTED;
+        }
+        return p < 0.62 ? OrderHeaders.OrderStatus.PRODUCT_PASS
+                : p < 0.72 ? OrderHeaders.OrderStatus.APPROVED
+                : p < 0.80 ? OrderHeaders.OrderStatus.PRODUCT_FAIL
+                : p < 0.88 ? OrderHeaders.OrderStatus.REJECTED
+                : p < 0.96 ? OrderHeaders.OrderStatus.CANCELLED : OrderHeaders.OrderStatus.REQUEST_TEMP;
+    }
+
+    /**
+     * 생성한 id 뒤에서 시퀀스가 다시 시작하도록 옮긴다.
+     * pooled 시퀀스는 읽은 값 - (allocationSize - 1) 부터 id 를 쓰므로 최대 id + allocationSize + 1 로 맞춘다.
+     * H2 / PostgreSQL 은 ALTER SEQUENCE, MySQL / MariaDB 는 Hibernate 의 시퀀스 테이블(next_val)을 갱신한다.
+     */
+    private void restartSequences() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        boolean sequenceTable = product != null && (product.contains("MySQL") || product.contains("MariaDB"));
+
+        Map<String, String[]> sequences = new LinkedHashMap<>();
+        sequences.put("manufacture_seq", new String[]{"manufacture", "mf_id"});
+        sequences.put("item_seq", new String[]{"item", "item_id"});
+        sequences.put("buyer_seq", new String[]{"buyer", "buyer_id"});
+        sequences.put("buyer_item_seq", new String[]{"buyer_item", "buyer_item_id"});
+        sequences.put("item_manufacture_seq", new String[]{"item_manufacture", "mf_item_id"});
+        sequences.put("order_headers_seq", new String[]{"order_headers", "order_id"});
+        sequences.put("order_items_seq", new String[]{"order_items", "order_item_id"});
+
+        sequences.forEach((sequence, table) -> {
+            long next = maxId(table[0], table[1]) + ALLOCATION_SIZE + 1;
+            if (sequenceTable) {
+                jdbcTemplate.update("UPDATE " + sequence + " SET next_val = ?", next);
+            } else {
+                jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + next);
+            }
+        });
+    }
+
+    private long maxId(String table, String idColumn) {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(" + idColumn + ") FROM " + table, Long.class);
+        return max != null ? max : 0L;
+    }
+
+    private static BigDecimal discounted(BigDecimal unitPrice, Random random) {
+        return unitPrice.multiply(BigDecimal.valueOf(85 + random.nextInt(16)))
+                .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+    }
+
+    private static String tel(Random random) {
+        return String.format("010-%04d-%04d", random.nextInt(10_000), random.nextInt(10_000));
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    // 주문 / 계약 / 납품 생성에 필요한 제품 정보만 배열로 들고 있는다 (제품 순위 = 배열 index)
+    private static class ItemCatalog {
+        private final long[] ids;
+        private final String[] codes;
+        private final BigDecimal[] unitPrices;
+
+        ItemCatalog(int size) {
+            ids = new long[size];
+            codes = new String[size];
+            unitPrices = new BigDecimal[size];
+        }
+
+        void set(int rank, long id, String code, BigDecimal unitPrice) {
+            ids[rank] = id;
+            codes[rank] = code;
+            unitPrices[rank] = unitPrice;
+        }
+
+        long id(int rank) {
+            return ids[rank];
+        }
+
+        String code(int rank) {
+            return codes[rank];
+        }
+
+        BigDecimal unitPrice(int rank) {
+            return unitPrices[rank];
+        }
+    }
+
+    // batchSize 건씩 모아서 JDBC batch 로 보낸다. close 할 때 남은 행을 보낸다
+    private class BatchWriter implements AutoCloseable {
+        private final String table;
+        private final String sql;
+        private final BatchWriter parent;
+        private final List<Object[]> rows = new ArrayList<>();
+        private long written;
+
+        BatchWriter(String table, String sql) {
+            this(table, sql, null);
+        }
+
+        BatchWriter(String table, String sql, BatchWriter parent) {
+            this.table = table;
+            this.sql = sql;
+            this.parent = parent;
+        }
+
+        void add(Object... row) {
+            rows.add(row);
+            if (rows.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (parent != null) {
+                parent.flush();
+            }
+            if (rows.isEmpty()) {
+                return;
+            }
+            jdbcTemplate.batchUpdate(sql, rows);
+            long before = written;
+            written += rows.size();
+            rows.clear();
+            if (before / 100_000 != written / 100_000) {
+                log.info("datagen {} : {} rows", table, written);
+            }
+        }
+
+        @Override
+        public void close() {
+            flush();
+            log.info("datagen {} : {} rows written", table, written);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.springboot.datagen;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Random;
+
+/**
+ * 계절성이 있는 주문 일시를 뽑는다.
+ * - 월별 가중치 : 봄(3~5월) / 가을·연말(9~12월) 성수기, 여름·연초 비수기
+ * - 주말은 평일의 40%
+ * - 시각은 업무 시간(09 ~ 18시) 사이
+ * 범위 안의 날짜를 균등하게 뽑은 뒤 가중치 비율로 채택한다 (rejection sampling).
+ */
+public class SeasonalDateSampler {
+    private static final double[] MONTH_WEIGHTS = {0.7, 0.7, 1.1, 1.2, 1.2, 0.9, 0.8, 0.8, 1.1, 1.2, 1.3, 1.4};
+    private static final double WEEKEND_WEIGHT = 0.4;
+    private static final double MAX_WEIGHT = 1.4;
+
+    private final LocalDate start;
+    private final int days;
+
+    public SeasonalDateSampler(LocalDate start, LocalDate end) {
+        this.start = start;
+        this.days = (int) (end.toEpochDay() - start.toEpochDay()) + 1;
+    }
+
+    public LocalDateTime sample(Random random) {
+        while (true) {
+            LocalDate date = start.plusDays(random.nextInt(days));
+            double weight = MONTH_WEIGHTS[date.getMonthValue() - 1];
+            if (date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                weight *= WEEKEND_WEIGHT;
+            }
+            if (random.nextDouble() * MAX_WEIGHT < weight) {
+                return date.atTime(9 + random.nextInt(9), random.nextInt(60), random.nextInt(60));
+            }
+        }
+    }
+}
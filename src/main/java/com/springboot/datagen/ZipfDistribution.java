@@ -0,0 +1,33 @@
+package com.springboot.datagen;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * 0 ~ n-1 순위를 Zipf 분포로 뽑는다 (순위 k 의 확률 ∝ 1 / (k+1)^exponent).
+ * 누적분포를 미리 만들어 두고 이진 탐색하므로 한 번 뽑는 비용은 O(log n) 이다.
+ */
+public class ZipfDistribution {
+    private final double[] cumulative;
+
+    public ZipfDistribution(int n, double exponent) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("n must be positive: " + n);
+        }
+        cumulative = new double[n];
+        double sum = 0;
+        for (int k = 0; k < n; k++) {
+            sum += 1.0 / Math.pow(k + 1, exponent);
+            cumulative[k] = sum;
+        }
+        for (int k = 0; k < n; k++) {
+            cumulative[k] /= sum;
+        }
+    }
+
+    public int sample(Random random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cumulative.length - 1);
+    }
+}
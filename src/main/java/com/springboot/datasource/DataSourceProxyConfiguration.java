@@ -0,0 +1,41 @@
+package com.springboot.datasource;
+
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * SQL 실행 리스너(QueryExecutionListener 빈)가 하나라도 있으면 애플리케이션이 쓰는 "dataSource" 빈을 datasource-proxy 로 감싼다.
+ * 리스너 : SQL 문 수 계측(StatementCountConfiguration), 느린 쿼리 관찰(SlowQueryObserver).
+ * 읽기 / 쓰기 분리(RoutingDataSourceConfiguration)를 쓰면 그 최상위 프록시가 감싸지므로 primary / replica 가 두 번 기록되지 않는다.
+ */
+@Configuration
+public class DataSourceProxyConfiguration {
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    @Bean
+    public static BeanPostProcessor queryListenerDataSourcePostProcessor(ObjectProvider<QueryExecutionListener> listeners) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource) || !DATA_SOURCE_BEAN.equals(beanName)) {
+                    return bean;
+                }
+                List<QueryExecutionListener> active = listeners.orderedStream().collect(Collectors.toList());
+                if (active.isEmpty()) {
+                    return bean;
+                }
+                ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create((DataSource) bean).name(DATA_SOURCE_BEAN);
+                active.forEach(builder::listener);
+                return builder.build();
+            }
+        };
+    }
+}
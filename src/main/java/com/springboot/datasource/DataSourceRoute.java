@@ -0,0 +1,15 @@
+package com.springboot.datasource;
+
+import lombok.Getter;
+
+public enum DataSourceRoute {
+    PRIMARY("쓰기 / 읽기 (원본)"),
+    REPLICA("읽기 전용 (복제본)");
+
+    @Getter
+    private String description;
+
+    DataSourceRoute(String description) {
+        this.description = description;
+    }
+}
@@ -0,0 +1,66 @@
+package com.springboot.datasource;
+
+import com.springboot.response.SingleResponseDto;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/admin/datasources")
+@ConditionalOnProperty(name = "datasource.replica.url")
+public class DataSourceStatsController {
+    private final RoutingDataSource routingDataSource;
+    private final HikariDataSource primaryDataSource;
+    private final HikariDataSource replicaDataSource;
+
+    public DataSourceStatsController(RoutingDataSource routingDataSource,
+                                     @Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+                                     @Qualifier("replicaDataSource") HikariDataSource replicaDataSource) {
+        this.routingDataSource = routingDataSource;
+        this.primaryDataSource = primaryDataSource;
+        this.replicaDataSource = replicaDataSource;
+    }
+
+    // route 별 커넥션 풀 상태와 지금까지 배정된 커넥션 수
+    @GetMapping
+    public ResponseEntity getDataSourceStats() {
+        List<PoolStats> stats = List.of(
+                PoolStats.of(DataSourceRoute.PRIMARY, primaryDataSource, routingDataSource),
+                PoolStats.of(DataSourceRoute.REPLICA, replicaDataSource, routingDataSource));
+        return new ResponseEntity<>(new SingleResponseDto<>(stats), HttpStatus.OK);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class PoolStats {
+        private DataSourceRoute route;
+        private String poolName;
+        private int maximumPoolSize;
+        private int activeConnections;
+        private int idleConnections;
+        private int totalConnections;
+        private int threadsAwaitingConnection;
+        private long routedConnections;
+
+        static PoolStats of(DataSourceRoute route, HikariDataSource dataSource, RoutingDataSource routingDataSource) {
+            // 풀은 첫 커넥션 요청 때 만들어지므로 그 전에는 MXBean 이 없다
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            return new PoolStats(route, dataSource.getPoolName(), dataSource.getMaximumPoolSize(),
+                    pool == null ? 0 : pool.getActiveConnections(),
+                    pool == null ? 0 : pool.getIdleConnections(),
+                    pool == null ? 0 : pool.getTotalConnections(),
+                    pool == null ? 0 : pool.getThreadsAwaitingConnection(),
+                    routingDataSource.routedCount(route));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.springboot.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 요청 단위 "read-your-writes" 표시.
+ * ReadYourWritesFilter 가 요청 시작 / 끝에 begin / end 를 호출하고, 표시된 요청의 읽기 전용 트랜잭션은 primary 로 보낸다.
+ * - 요청 헤더로 명시한 경우 (방금 쓴 데이터를 바로 다시 읽는 화면)
+ * - 같은 요청에서 쓰기 트랜잭션이 한 번이라도 실행된 경우 (복제 지연 동안 옛 값을 읽지 않도록)
+ * 요청 밖의 스레드(이벤트 워커 등)에서는 begin 이 호출되지 않으므로 항상 표시되지 않은 상태다.
+ */
+public final class ReadYourWrites {
+    private static final ThreadLocal<boolean[]> PINNED = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    public static void begin(boolean pinned) {
+        PINNED.set(new boolean[]{pinned});
+    }
+
+    public static void end() {
+        PINNED.remove();
+    }
+
+    // 요청 범위 안에서만 표시한다
+    public static void pin() {
+        boolean[] pinned = PINNED.get();
+        if (pinned != null) {
+            pinned[0] = true;
+        }
+    }
+
+    // 요청 밖에서도 action 안의 읽기를 primary 로 보낸다. 끝나면 이전 상태로 되돌린다
+    public static <T> T onPrimary(Supplier<T> action) {
+        boolean[] previous = PINNED.get();
+        PINNED.set(new boolean[]{true});
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                PINNED.remove();
+            } else {
+                PINNED.set(previous);
+            }
+        }
+    }
+
+    public static boolean isPinned() {
+        boolean[] pinned = PINNED.get();
+        return pinned != null && pinned[0];
+    }
+}
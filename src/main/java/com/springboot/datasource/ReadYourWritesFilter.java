@@ -0,0 +1,25 @@
+package com.springboot.datasource;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+// X-Read-Your-Writes: true 헤더가 있으면 이 요청의 읽기를 모두 primary 에서 처리한다
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    public static final String HEADER = "X-Read-Your-Writes";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        ReadYourWrites.begin(Boolean.parseBoolean(request.getHeader(HEADER)));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.end();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.springboot.datasource;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+
+import javax.persistence.EntityManager;
+import java.sql.SQLException;
+
+/**
+ * 복제본에서 읽는 트랜잭션은 2차 캐시를 읽기만 하고 채우지 않는다 (CacheMode.GET).
+ * 복제 지연 중에 읽은 옛 행이 캐시에 들어가면 primary 의 수정 후 무효화가 이미 지나간 뒤라서
+ * TTL 이 지날 때까지 옛 값이 남는다. 캐시는 primary 에서 읽은 트랜잭션(쓰기, read-your-writes 로 표시된 요청)만 채운다.
+ * route 는 RoutingDataSource 와 같은 기준(readOnly 이고 표시되지 않은 요청)으로 트랜잭션 시작 시점에 판단한다.
+ */
+public class ReplicaCacheModeJpaDialect extends HibernateJpaDialect {
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws SQLException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        if (!definition.isReadOnly() || ReadYourWrites.isPinned()) {
+            return transactionData;
+        }
+
+        Session session = getSession(entityManager);
+        CacheMode previousCacheMode = session.getCacheMode();
+        session.setCacheMode(CacheMode.GET);
+        return new ReplicaTransactionData(transactionData, session, previousCacheMode);
+    }
+
+    // open-in-view 에서는 세션이 다음 트랜잭션에도 쓰이므로 원래 CacheMode 로 되돌린다
+    @Override
+    public void cleanupTransaction(Object transactionData) {
+        if (transactionData instanceof ReplicaTransactionData) {
+            ReplicaTransactionData replica = (ReplicaTransactionData) transactionData;
+            replica.session.setCacheMode(replica.previousCacheMode);
+            super.cleanupTransaction(replica.transactionData);
+            return;
+        }
+        super.cleanupTransaction(transactionData);
+    }
+
+    private static class ReplicaTransactionData {
+        private final Object transactionData;
+        private final Session session;
+        private final CacheMode previousCacheMode;
+
+        ReplicaTransactionData(Object transactionData, Session session, CacheMode previousCacheMode) {
+            this.transactionData = transactionData;
+            this.session = session;
+            this.previousCacheMode = previousCacheMode;
+        }
+    }
+
+    /**
+     * Boot 가 만드는 EntityManagerFactory 에 이 dialect 를 지정한다.
+     * EntityManagerFactory 초기화 전에 넣어야 JpaTransactionManager 도 같은 dialect 를 가져간다.
+     */
+    public static class Installer implements BeanPostProcessor {
+        @Override
+        public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+            if (bean instanceof AbstractEntityManagerFactoryBean) {
+                ((AbstractEntityManagerFactoryBean) bean).setJpaDialect(new ReplicaCacheModeJpaDialect());
+            }
+            return bean;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.springboot.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 트랜잭션 속성에 따라 primary / replica 커넥션 풀을 고른다.
+ * - readOnly 트랜잭션 : replica (read-your-writes 로 표시된 요청이면 primary)
+ * - 그 외 (쓰기 트랜잭션, 트랜잭션 밖) : primary
+ * 트랜잭션 시작 시점에는 readOnly 여부가 아직 설정되지 않으므로 LazyConnectionDataSourceProxy 로 감싸서
+ * 첫 SQL 을 실행할 때 커넥션을 고르게 해야 한다.
+ */
+public class RoutingDataSource extends AbstractRoutingDataSource {
+    private final Map<DataSourceRoute, LongAdder> routed = new EnumMap<>(DataSourceRoute.class);
+
+    public RoutingDataSource() {
+        for (DataSourceRoute route : DataSourceRoute.values()) {
+            routed.put(route, new LongAdder());
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        DataSourceRoute route = route();
+        routed.get(route).increment();
+        return route;
+    }
+
+    private DataSourceRoute route() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                // 이 요청의 이후 읽기는 방금 쓴 데이터를 볼 수 있도록 primary 로 보낸다
+                ReadYourWrites.pin();
+            }
+            return DataSourceRoute.PRIMARY;
+        }
+        return ReadYourWrites.isPinned() ? DataSourceRoute.PRIMARY : DataSourceRoute.REPLICA;
+    }
+
+    public long routedCount(DataSourceRoute route) {
+        return routed.get(route).sum();
+    }
+}
@@ -0,0 +1,99 @@
+package com.springboot.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * datasource.replica.url 이 설정되면 primary / replica 두 개의 커넥션 풀을 만들고 RoutingDataSource 로 묶는다.
+ * 설정이 없으면 이 구성은 동작하지 않고 기존처럼 spring.datasource 하나만 사용한다.
+ * primary 는 spring.datasource.* / spring.datasource.hikari.* 를 그대로 사용한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.url")
+public class RoutingDataSourceConfiguration {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(@Value("${datasource.replica.url}") String url,
+                                              @Value("${datasource.replica.username:${spring.datasource.username:}}") String username,
+                                              @Value("${datasource.replica.password:${spring.datasource.password:}}") String password,
+                                              @Value("${datasource.replica.maximum-pool-size:10}") int maximumPoolSize) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        // 복제본에 쓰기가 잘못 전달되면 DB 에서 거절되도록 한다
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public RoutingDataSource routingDataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                               @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+        RoutingDataSource routingDataSource = new RoutingDataSource();
+        routingDataSource.setTargetDataSources(Map.of(
+                DataSourceRoute.PRIMARY, primaryDataSource,
+                DataSourceRoute.REPLICA, replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        return routingDataSource;
+    }
+
+    // JPA / JdbcTemplate 이 사용하는 DataSource. 첫 SQL 실행 시점까지 커넥션 선택을 미룬다
+    @Bean
+    @Primary
+    public DataSource dataSource(RoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /*
+     * open-in-view 에서는 EntityManager 가 요청 내내 커넥션을 잡고 있어 첫 트랜잭션의 route 가 이후 트랜잭션에도 쓰인다.
+     * 트랜잭션이 끝날 때마다 커넥션을 반납해서 트랜잭션마다 route 를 다시 고르게 한다.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer routingConnectionHandling() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                "DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION");
+    }
+
+    // 복제본에서 읽은 행으로 2차 캐시를 채우지 않는다. BeanPostProcessor 라서 static 으로 먼저 등록한다
+    @Bean
+    public static BeanPostProcessor replicaCacheModeJpaDialectInstaller() {
+        return new ReplicaCacheModeJpaDialect.Installer();
+    }
+
+    // 인증 필터보다 먼저 실행되어 요청 전체를 감싼다
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter() {
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(new ReadYourWritesFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
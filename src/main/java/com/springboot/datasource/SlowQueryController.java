@@ -0,0 +1,37 @@
+package com.springboot.datasource;
+
+import com.springboot.response.SingleResponseDto;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Positive;
+
+@RestController
+@RequestMapping("/admin/slow-queries")
+@Validated
+@ConditionalOnProperty(name = "sql.slow-query.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryController {
+    private final SlowQueryObserver slowQueryObserver;
+
+    public SlowQueryController(SlowQueryObserver slowQueryObserver) {
+        this.slowQueryObserver = slowQueryObserver;
+    }
+
+    // fingerprint 별 실행 통계 상위 N 개 (sort : total / p95 / max / count), 느렸던 SELECT 는 EXPLAIN 결과 포함
+    @GetMapping
+    public ResponseEntity getSlowQueries(@Positive @Max(1000) @RequestParam(defaultValue = "20") int top,
+                                         @RequestParam(defaultValue = "total") String sort) {
+        return new ResponseEntity<>(new SingleResponseDto<>(slowQueryObserver.top(top, sort)), HttpStatus.OK);
+    }
+
+    // 배포 / 인덱스 변경 후 새로 모으기 위해 비운다
+    @DeleteMapping
+    public ResponseEntity resetSlowQueries() {
+        slowQueryObserver.reset();
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+}
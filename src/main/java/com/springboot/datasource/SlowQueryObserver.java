@@ -0,0 +1,339 @@
+package com.springboot.datasource;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * fingerprint(SqlFingerprint) 별 실행 시간 집계.
+ * - Querydsl 동적 조건은 조합마다 SQL 이 달라지므로 fingerprint 하나가 조건 조합 하나다. 처음 실행한 호출 지점을 함께 남긴다
+ * - 실행 수 / 누적 / 최대 시간과 로그 버킷 히스토그램(약 19% 간격)으로 p95 를 잠금 없이 기록한다
+ * - threshold 를 넘긴 SELECT 는 fingerprint 마다 한 번 백그라운드 스레드에서 같은 파라미터로 EXPLAIN 을 떠 둔다
+ * - digest-interval 마다 누적 시간 상위 fingerprint 를 로그로 남긴다
+ * fingerprint 수는 max-fingerprints 로 제한하고, 넘친 문장은 untracked 로만 센다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "sql.slow-query.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryObserver implements QueryExecutionListener {
+    private static final ThreadLocal<long[]> STARTED = ThreadLocal.withInitial(() -> new long[1]);
+    private static final int MAX_PLAN_LENGTH = 4000;
+    private static final int EXPLAIN_QUEUE_CAPACITY = 64;
+
+    private final ObjectProvider<DataSource> dataSource;
+    private final long thresholdMicros;
+    private final int maxFingerprints;
+    private final int digestSize;
+    private final long digestIntervalMillis;
+
+    // 원문 SQL -> fingerprint. 정규식 비용을 문장마다 치르지 않도록 한다 (Hibernate SQL 은 모양 수가 한정돼 있다)
+    private final Map<String, String> fingerprintsBySql = new ConcurrentHashMap<>();
+    private final Map<String, FingerprintStats> stats = new ConcurrentHashMap<>();
+    private final LongAdder untracked = new LongAdder();
+
+    private ThreadPoolExecutor explainExecutor;
+    private ScheduledExecutorService digestScheduler;
+
+    public SlowQueryObserver(ObjectProvider<DataSource> dataSource,
+                             @Value("${sql.slow-query.threshold-ms:200}") long thresholdMillis,
+                             @Value("${sql.slow-query.max-fingerprints:1000}") int maxFingerprints,
+                             @Value("${sql.slow-query.digest-size:10}") int digestSize,
+                             @Value("${sql.slow-query.digest-interval-ms:300000}") long digestIntervalMillis) {
+        this.dataSource = dataSource;
+        this.thresholdMicros = TimeUnit.MILLISECONDS.toMicros(thresholdMillis);
+        this.maxFingerprints = maxFingerprints;
+        this.digestSize = digestSize;
+        this.digestIntervalMillis = digestIntervalMillis;
+    }
+
+    @PostConstruct
+    public void start() {
+        // EXPLAIN 이 밀리면 거절된다 (afterQuery 에서 claim 을 풀어 다음에 느릴 때 다시 시도한다)
+        explainExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(EXPLAIN_QUEUE_CAPACITY), daemon("slow-query-explain"));
+        if (digestIntervalMillis > 0) {
+            digestScheduler = Executors.newSingleThreadScheduledExecutor(daemon("slow-query-digest"));
+            digestScheduler.scheduleWithFixedDelay(this::logDigest, digestIntervalMillis, digestIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        explainExecutor.shutdownNow();
+        if (digestScheduler != null) {
+            digestScheduler.shutdownNow();
+        }
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        STARTED.get()[0] = System.nanoTime();
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsedMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - STARTED.get()[0]);
+        if (queryInfoList.isEmpty()) {
+            return;
+        }
+        // batch 는 같은 문장 여러 벌이므로 첫 문장 기준으로 전송 한 번을 기록한다
+        QueryInfo queryInfo = queryInfoList.get(0);
+        String sql = queryInfo.getQuery();
+        // capturePlan 이 실행한 EXPLAIN 은 집계하지 않는다
+        if (sql.stripLeading().regionMatches(true, 0, "explain", 0, 7)) {
+            return;
+        }
+        String fingerprint = fingerprintsBySql.get(sql);
+        if (fingerprint == null) {
+            fingerprint = SqlFingerprint.of(sql);
+            if (fingerprintsBySql.size() < maxFingerprints) {
+                fingerprintsBySql.put(sql, fingerprint);
+            }
+        }
+
+        FingerprintStats fingerprintStats = stats.get(fingerprint);
+        if (fingerprintStats == null) {
+            if (stats.size() >= maxFingerprints) {
+                untracked.increment();
+                return;
+            }
+            fingerprintStats = stats.computeIfAbsent(fingerprint, key -> new FingerprintStats(key, sql, SqlStatementStats.callSite()));
+        }
+        fingerprintStats.record(elapsedMicros);
+
+        if (elapsedMicros >= thresholdMicros && SqlStatementStats.StatementType.of(sql) == SqlStatementStats.StatementType.SELECT
+                && fingerprintStats.claimPlanCapture()) {
+            List<ParameterSetOperation> parameters = queryInfo.getParametersList().isEmpty()
+                    ? List.of() : new ArrayList<>(queryInfo.getParametersList().get(0));
+            FingerprintStats target = fingerprintStats;
+            try {
+                explainExecutor.execute(() -> capturePlan(target, sql, parameters));
+            } catch (RejectedExecutionException e) {
+                target.releasePlanCapture();
+            }
+        }
+    }
+
+    // 정렬 기준 : total(누적 시간), p95, max, count
+    public List<Snapshot> top(int limit, String sort) {
+        Comparator<Snapshot> comparator;
+        switch (sort == null ? "total" : sort.toLowerCase()) {
+            case "p95":
+                comparator = Comparator.comparingDouble(Snapshot::getP95Millis);
+                break;
+            case "max":
+                comparator = Comparator.comparingDouble(Snapshot::getMaxMillis);
+                break;
+            case "count":
+                comparator = Comparator.comparingLong(Snapshot::getCount);
+                break;
+            default:
+                comparator = Comparator.comparingDouble(Snapshot::getTotalMillis);
+        }
+        return stats.values().stream()
+                .map(FingerprintStats::snapshot)
+                .sorted(comparator.reversed())
+                .limit(Math.max(limit, 0))
+                .collect(Collectors.toList());
+    }
+
+    public long untracked() {
+        return untracked.sum();
+    }
+
+    public void reset() {
+        stats.clear();
+        fingerprintsBySql.clear();
+        untracked.reset();
+    }
+
+    void logDigest() {
+        List<Snapshot> top = top(digestSize, "total");
+        if (top.isEmpty()) {
+            return;
+        }
+        StringBuilder digest = new StringBuilder("slow query digest (top ").append(top.size()).append(" by total time)");
+        for (Snapshot snapshot : top) {
+            digest.append(String.format("%n  total=%.1fms count=%d p95=%.1fms max=%.1fms at %s%n    %s",
+                    snapshot.getTotalMillis(), snapshot.getCount(), snapshot.getP95Millis(), snapshot.getMaxMillis(),
+                    snapshot.getCallSite(), snapshot.getFingerprint()));
+        }
+        if (untracked() > 0) {
+            digest.append(System.lineSeparator()).append("  untracked statements : ").append(untracked());
+        }
+        log.info(digest.toString());
+    }
+
+    private void capturePlan(FingerprintStats target, String sql, List<ParameterSetOperation> parameters) {
+        try (Connection connection = dataSource.getObject().getConnection();
+             PreparedStatement statement = connection.prepareStatement("explain " + sql)) {
+            for (ParameterSetOperation parameter : parameters) {
+                bind(statement, parameter);
+            }
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                int columns = resultSet.getMetaData().getColumnCount();
+                while (resultSet.next() && plan.length() < MAX_PLAN_LENGTH) {
+                    for (int i = 1; i <= columns; i++) {
+                        plan.append(i == 1 ? "" : " | ").append(resultSet.getString(i));
+                    }
+                    plan.append('\n');
+                }
+            }
+            target.plan(plan.length() > MAX_PLAN_LENGTH ? plan.substring(0, MAX_PLAN_LENGTH) : plan.toString().trim());
+            log.info("slow query plan captured ({}) : {}\n{}", target.callSite, target.fingerprint, target.plan);
+        } catch (SQLException | RuntimeException e) {
+            target.plan("explain failed : " + e.getMessage());
+            log.warn("slow query explain failed : {} ({})", target.fingerprint, e.getMessage());
+        }
+    }
+
+    // 위치 기반 setXxx 만 다시 건다. setNull 은 sqlType 을 그대로 넘긴다
+    private static void bind(PreparedStatement statement, ParameterSetOperation parameter) throws SQLException {
+        Object[] args = parameter.getArgs();
+        if (args.length < 2 || !(args[0] instanceof Integer)) {
+            return;
+        }
+        int index = (Integer) args[0];
+        if ("setNull".equals(parameter.getMethod().getName())) {
+            statement.setNull(index, (Integer) args[1]);
+        } else {
+            statement.setObject(index, args[1]);
+        }
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * fingerprint 하나의 누적 값. 버킷 i 의 상한은 10µs * 2^(i/4) 로, 마지막 버킷(약 1.5 시간 이상)까지 쓴다.
+     */
+    static class FingerprintStats {
+        private static final int BUCKETS = 128;
+        private static final double BASE_MICROS = 10;
+        private static final double LOG_GROWTH = Math.log(2) / 4;
+
+        private final String fingerprint;
+        private final String sampleSql;
+        private final String callSite;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalMicros = new LongAdder();
+        private final AtomicLong maxMicros = new AtomicLong();
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+        private final AtomicBoolean planRequested = new AtomicBoolean();
+        private volatile String plan;
+
+        FingerprintStats(String fingerprint, String sampleSql, String callSite) {
+            this.fingerprint = fingerprint;
+            this.sampleSql = sampleSql;
+            this.callSite = callSite;
+        }
+
+        void record(long micros) {
+            count.increment();
+            totalMicros.add(micros);
+            maxMicros.accumulateAndGet(micros, Math::max);
+            buckets.incrementAndGet(bucket(micros));
+        }
+
+        boolean claimPlanCapture() {
+            return planRequested.compareAndSet(false, true);
+        }
+
+        void releasePlanCapture() {
+            planRequested.set(false);
+        }
+
+        void plan(String plan) {
+            this.plan = plan;
+        }
+
+        // 기록 중에 읽으므로 버킷 합과 count 가 어긋날 수 있다. 버킷 합을 기준으로 하고 max 를 넘지 않게 자른다
+        long percentileMicros(double percentile) {
+            long[] counts = new long[BUCKETS];
+            long total = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = buckets.get(i);
+                total += counts[i];
+            }
+            if (total == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(percentile * total);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min((long) Math.ceil(upperBound(i)), maxMicros.get());
+                }
+            }
+            return maxMicros.get();
+        }
+
+        Snapshot snapshot() {
+            return new Snapshot(fingerprint, sampleSql, callSite, count.sum(), millis(totalMicros.sum()),
+                    millis(percentileMicros(0.95)), millis(maxMicros.get()), plan);
+        }
+
+        static int bucket(long micros) {
+            if (micros <= BASE_MICROS) {
+                return 0;
+            }
+            int bucket = (int) Math.ceil(Math.log(micros / BASE_MICROS) / LOG_GROWTH);
+            return Math.min(bucket, BUCKETS - 1);
+        }
+
+        private static double upperBound(int bucket) {
+            return BASE_MICROS * Math.exp(bucket * LOG_GROWTH);
+        }
+
+        private static double millis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Snapshot {
+        private String fingerprint;
+        private String sampleSql;
+        private String callSite;
+        private long count;
+        private double totalMillis;
+        private double p95Millis;
+        private double maxMillis;
+        private String plan;
+
+        public double getAvgMillis() {
+            return count == 0 ? 0 : totalMillis / count;
+        }
+    }
+}
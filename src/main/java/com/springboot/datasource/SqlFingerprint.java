@@ -0,0 +1,25 @@
+package com.springboot.datasource;
+
+import java.util.regex.Pattern;
+
+/**
+ * 같은 모양의 SQL 을 하나로 묶기 위한 정규화.
+ * 리터럴(문자열 / 숫자)은 ? 로, IN 목록은 길이와 상관없이 (?) 로 바꾸고 공백과 대소문자를 통일한다.
+ * 바인드 파라미터만 다른 조회가 반복되면 (N+1) 같은 fingerprint 로 모인다.
+ */
+public final class SqlFingerprint {
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern IN_LIST = Pattern.compile("\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SqlFingerprint() {
+    }
+
+    public static String of(String sql) {
+        String fingerprint = WHITESPACE.matcher(sql.trim()).replaceAll(" ").toLowerCase();
+        fingerprint = STRING_LITERAL.matcher(fingerprint).replaceAll("?");
+        fingerprint = NUMBER_LITERAL.matcher(fingerprint).replaceAll("?");
+        return IN_LIST.matcher(fingerprint).replaceAll("in (?)");
+    }
+}
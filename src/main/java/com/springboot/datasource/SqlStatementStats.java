@@ -0,0 +1,146 @@
+package com.springboot.datasource;
+
+import java.util.*;
+
+/**
+ * 한 범위(HTTP 요청 하나, 테스트 하나) 안에서 실행된 SQL 문 수.
+ * StatementCountingListener 가 현재 스레드에 열린 범위에만 기록하고, 범위가 없으면 아무것도 하지 않는다.
+ * JDBC batch 는 전송 한 번을 한 문장으로 센다.
+ * fingerprint 별로 처음 실행한 위치(com.springboot 코드의 호출 지점)를 함께 남긴다.
+ */
+public final class SqlStatementStats {
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private final EnumMap<StatementType, Integer> counts = new EnumMap<>(StatementType.class);
+    private final Map<String, Repeated> fingerprints = new LinkedHashMap<>();
+
+    private SqlStatementStats() {
+    }
+
+    // 현재 스레드에 새 범위를 연다. 이미 열린 범위가 있으면 새 범위로 바꾼다
+    public static SqlStatementStats begin() {
+        SqlStatementStats stats = new SqlStatementStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    public static SqlStatementStats current() {
+        return CURRENT.get();
+    }
+
+    void record(String sql, boolean batch) {
+        counts.merge(StatementType.of(sql), 1, Integer::sum);
+        Repeated repeated = fingerprints.computeIfAbsent(SqlFingerprint.of(sql), fingerprint -> new Repeated(fingerprint, callSite()));
+        repeated.count++;
+        repeated.batch |= batch;
+    }
+
+    public int count(StatementType type) {
+        return counts.getOrDefault(type, 0);
+    }
+
+    public int total() {
+        return counts.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    // 같은 fingerprint 가 threshold 번 이상 실행된 문장 (많이 실행된 순)
+    public List<Repeated> repeatedAtLeast(int threshold) {
+        List<Repeated> repeated = new ArrayList<>();
+        for (Repeated candidate : fingerprints.values()) {
+            if (candidate.count >= threshold) {
+                repeated.add(candidate);
+            }
+        }
+        repeated.sort(Comparator.comparingInt(Repeated::getCount).reversed());
+        return repeated;
+    }
+
+    public Collection<Repeated> fingerprints() {
+        return Collections.unmodifiableCollection(fingerprints.values());
+    }
+
+    public void reset() {
+        counts.clear();
+        fingerprints.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "select=" + count(StatementType.SELECT) + ", insert=" + count(StatementType.INSERT)
+                + ", update=" + count(StatementType.UPDATE) + ", delete=" + count(StatementType.DELETE)
+                + ", other=" + count(StatementType.OTHER);
+    }
+
+    // 스택은 fingerprint 를 처음 볼 때만 훑는다. 프록시 / 이 패키지를 건너뛴 첫 애플리케이션 코드
+    static String callSite() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith("com.springboot.")
+                        && !frame.getClassName().startsWith("com.springboot.datasource.")
+                        && !frame.getClassName().contains("$$"))
+                .findFirst()
+                .map(frame -> frame.getClassName() + "." + frame.getMethodName() + ":" + frame.getLineNumber())
+                .orElse("unknown"));
+    }
+
+    public enum StatementType {
+        SELECT, INSERT, UPDATE, DELETE, OTHER;
+
+        static StatementType of(String sql) {
+            String head = sql.stripLeading();
+            int end = 0;
+            while (end < head.length() && Character.isLetter(head.charAt(end))) {
+                end++;
+            }
+            switch (head.substring(0, end).toLowerCase()) {
+                case "select":
+                case "with":
+                    return SELECT;
+                case "insert":
+                    return INSERT;
+                case "update":
+                    return UPDATE;
+                case "delete":
+                    return DELETE;
+                default:
+                    return OTHER;
+            }
+        }
+    }
+
+    public static class Repeated {
+        private final String fingerprint;
+        private final String callSite;
+        private int count;
+        private boolean batch;
+
+        Repeated(String fingerprint, String callSite) {
+            this.fingerprint = fingerprint;
+            this.callSite = callSite;
+        }
+
+        public String getFingerprint() {
+            return fingerprint;
+        }
+
+        public String getCallSite() {
+            return callSite;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public boolean isBatch() {
+            return batch;
+        }
+
+        @Override
+        public String toString() {
+            return count + " x [" + fingerprint + "] at " + callSite;
+        }
+    }
+}
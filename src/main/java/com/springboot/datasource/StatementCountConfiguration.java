@@ -0,0 +1,33 @@
+package com.springboot.datasource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.Ordered;
+
+/**
+ * SQL 문 수 계측 (sql.statement-count.enabled=true 일 때만).
+ * 테스트에서는 @Import 하고 SqlStatementStats 범위를 직접 연다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "sql.statement-count.enabled", havingValue = "true")
+@Import(DataSourceProxyConfiguration.class)
+public class StatementCountConfiguration {
+
+    @Bean
+    public StatementCountingListener statementCountingListener() {
+        return new StatementCountingListener();
+    }
+
+    @Bean
+    public FilterRegistrationBean<StatementCountFilter> statementCountFilter(
+            @Value("${sql.statement-count.repeat-threshold:10}") int repeatThreshold) {
+        FilterRegistrationBean<StatementCountFilter> registration = new FilterRegistrationBean<>(new StatementCountFilter(repeatThreshold));
+        registration.addUrlPatterns("/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
@@ -0,0 +1,42 @@
+package com.springboot.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * 요청마다 SQL 문 수를 세고, 같은 fingerprint 가 repeatThreshold 번 이상 실행된 요청을 N+1 의심으로 남긴다.
+ * 개발 / 부하 테스트용 (sql.statement-count.enabled=true). 요청 전체 합계는 debug 로그로 남긴다.
+ */
+@Slf4j
+public class StatementCountFilter extends OncePerRequestFilter {
+    private final int repeatThreshold;
+
+    public StatementCountFilter(int repeatThreshold) {
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        SqlStatementStats stats = SqlStatementStats.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementStats.end();
+            report(request, stats);
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlStatementStats stats) {
+        log.debug("sql {} {} : {}", request.getMethod(), request.getRequestURI(), stats);
+        for (SqlStatementStats.Repeated repeated : stats.repeatedAtLeast(repeatThreshold)) {
+            log.warn("possible N+1 on {} {} : {}", request.getMethod(), request.getRequestURI(), repeated);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.springboot.datasource;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+// datasource-proxy 리스너 : 실행된 문장을 현재 스레드의 SqlStatementStats 에 기록한다
+public class StatementCountingListener implements QueryExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlStatementStats stats = SqlStatementStats.current();
+        if (stats == null) {
+            return;
+        }
+        for (QueryInfo queryInfo : queryInfoList) {
+            stats.record(queryInfo.getQuery(), execInfo.isBatch());
+        }
+    }
+}
@@ -27,12 +27,25 @@ public class EmailConfiguration {
     @Value("${spring.mail.password}")
     private String password;
 
+    @Value("${spring.mail.host:smtp.gmail.com}")
+    private String host;
+
+    @Value("${spring.mail.port:587}")
+    private int port;
+
+    // SMTP 서버가 느려도 발송 스레드가 무한정 묶이지 않도록 제한한다
+    @Value("${email.smtp.timeout-ms:10000}")
+    private int timeoutMillis;
+
+    @Value("${email.smtp.debug:false}")
+    private boolean debug;
+
     @Bean
     public JavaMailSender mailSender() {//JAVA MAILSENDER 인터페이스를 구현한 객체를 빈으로 등록하기 위함.
 
         JavaMailSenderImpl mailSender = new JavaMailSenderImpl();//JavaMailSender 의 구현체를 생성하고
-        mailSender.setHost("smtp.gmail.com");// 속성을 넣기 시작합니다. 이메일 전송에 사용할 SMTP 서버 호스트를 설정
-        mailSender.setPort(587);// 587로 포트를 지정
+        mailSender.setHost(host);// 속성을 넣기 시작합니다. 이메일 전송에 사용할 SMTP 서버 호스트를 설정
+        mailSender.setPort(port);// 포트를 지정 (기본 587)
         mailSender.setUsername(username);//구글계정을 넣습니다.
         mailSender.setPassword(password);//구글 앱 비밀번호를 넣습니다.
 
@@ -41,8 +54,11 @@ public class EmailConfiguration {
         javaMailProperties.put("mail.smtp.auth", "true");//smtp 서버에 인증이 필요
         javaMailProperties.put("mail.smtp.socketFactory.class", "javax.net.ssl.SSLSocketFactory");//SSL 소켓 팩토리 클래스 사용
         javaMailProperties.put("mail.smtp.starttls.enable", "true");//STARTTLS(TLS를 시작하는 명령)를 사용하여 암호화된 통신을 활성화
-        javaMailProperties.put("mail.debug", "true");//디버깅 정보 출력
-        javaMailProperties.put("mail.smtp.ssl.trust", "smtp.gmail.com");//smtp 서버의 ssl 인증서를 신뢰
+        javaMailProperties.put("mail.debug", String.valueOf(debug));//디버깅 정보 출력 (메일 본문과 첨부까지 출력되므로 기본은 끈다)
+        javaMailProperties.put("mail.smtp.ssl.trust", host);//smtp 서버의 ssl 인증서를 신뢰
+        javaMailProperties.put("mail.smtp.connectiontimeout", String.valueOf(timeoutMillis));//연결 제한 시간
+        javaMailProperties.put("mail.smtp.timeout", String.valueOf(timeoutMillis));//응답 대기 제한 시간
+        javaMailProperties.put("mail.smtp.writetimeout", String.valueOf(timeoutMillis));//전송 제한 시간
         javaMailProperties.put("mail.smtp.ssl.protocols", "TLSv1.2");//사용할 ssl 프로토콜 버젼
 
         mailSender.setJavaMailProperties(javaMailProperties);//mailSender에 우리가 만든 properties 넣고
@@ -2,15 +2,17 @@ package com.springboot.email.controller;
 
 
 import com.springboot.email.dto.EmailRequestDto;
+import com.springboot.email.dto.EmailResponseDto;
+import com.springboot.email.service.EmailJob;
 import com.springboot.email.service.EmailService;
-import com.springboot.member.service.MemberService;
+import com.springboot.response.SingleResponseDto;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import javax.mail.MessagingException;
 import java.io.IOException;
 
 @RestController
@@ -21,18 +23,22 @@ public class EmailController {
     @Autowired
     private EmailService emailService;
 
+    // 발송 큐에 넣고 바로 202 를 돌려준다. 발송 결과는 GET /email/{tracking-id} 로 확인
     @PostMapping("/send")
-    public ResponseEntity<String> sendEmailWithAttachment(
+    public ResponseEntity sendEmailWithAttachment(
             @Validated @ModelAttribute EmailRequestDto emailRequestDto,  // DTO를 통해 이메일과 내용을 받음
-            @RequestParam("file") MultipartFile file) throws MessagingException, IOException {
+            @RequestParam("file") MultipartFile file) throws IOException {
 
-        byte[] fileBytes = file.getBytes();
-        String fileName = file.getOriginalFilename();
+        EmailJob job = emailService.sendEmailWithAttachment(emailRequestDto.getEmail(), file);
 
-        // 이메일과 내용을 받아서 이메일 전송 로직 실행
-        emailService.sendEmailWithAttachment(emailRequestDto.getEmail(), fileBytes, fileName);
+        return new ResponseEntity<>(new SingleResponseDto<>(EmailResponseDto.from(job)), HttpStatus.ACCEPTED);
+    }
+
+    @GetMapping("/{tracking-id}")
+    public ResponseEntity getEmail(@PathVariable("tracking-id") String trackingId) {
+        EmailJob job = emailService.findEmail(trackingId);
 
-        return ResponseEntity.ok("파일이 포함된 이메일이 성공적으로 발송되었습니다.");
+        return new ResponseEntity<>(new SingleResponseDto<>(EmailResponseDto.from(job)), HttpStatus.OK);
     }
 
 
@@ -0,0 +1,23 @@
+package com.springboot.email.dto;
+
+import com.springboot.email.service.EmailJob;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class EmailResponseDto {
+    private String trackingId;
+    private String email;
+    private EmailJob.EmailStatus emailStatus;
+    private String error;
+    private LocalDateTime requestedAt;
+    private LocalDateTime completedAt;
+
+    public static EmailResponseDto from(EmailJob job) {
+        return new EmailResponseDto(job.getTrackingId(), job.getTo(), job.getStatus(), job.getError(),
+                job.getRequestedAt(), job.getCompletedAt());
+    }
+}
@@ -0,0 +1,206 @@
+package com.springboot.email.service;
+
+import com.springboot.cache.LocalLruCache;
+import com.springboot.exception.BusinessLogicException;
+import com.springboot.exception.ExceptionCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메일 발송 큐.
+ * - 요청 스레드는 큐에 넣기만 하고 바로 돌아간다. 큐가 가득 차면 EMAIL_QUEUE_FULL 로 거절한다
+ * - 발송 스레드는 큐에서 최대 batchSize 건을 꺼내 send(MimeMessage...) 한 번으로 보낸다 (SMTP 연결 하나를 재사용)
+ * - 첨부 파일은 임시 파일에서 읽어 전송 중에 스트리밍하고, 발송이 끝나면 지운다
+ * - 발송 결과는 trackingId 로 일정 시간 조회할 수 있다. 실패한 메일은 다시 보내지 않는다
+ */
+@Slf4j
+@Component
+public class EmailDispatcher {
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final JavaMailSender mailSender;
+    private final EmailTemplates emailTemplates;
+    private final String from;
+    private final int workerCount;
+    private final int batchSize;
+    private final BlockingQueue<EmailJob> queue;
+    private final LocalLruCache<EmailJob> jobs;
+
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    public EmailDispatcher(JavaMailSender mailSender,
+                           EmailTemplates emailTemplates,
+                           @Value("${email.from:${spring.mail.username}}") String from,
+                           @Value("${email.dispatch.workers:2}") int workerCount,
+                           @Value("${email.dispatch.queue-capacity:500}") int queueCapacity,
+                           @Value("${email.dispatch.batch-size:20}") int batchSize,
+                           @Value("${email.dispatch.tracking-max-size:10000}") int trackingMaxSize,
+                           @Value("${email.dispatch.tracking-ttl-seconds:86400}") long trackingTtlSeconds) {
+        this.mailSender = mailSender;
+        this.emailTemplates = emailTemplates;
+        this.from = from;
+        this.workerCount = workerCount;
+        this.batchSize = batchSize;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.jobs = new LocalLruCache<>(trackingMaxSize, trackingTtlSeconds * 1000);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = new Thread(this::run, "email-worker-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        for (Thread worker : workers) {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        // 보내지 못한 메일은 실패로 남기고 임시 파일을 정리한다
+        List<EmailJob> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(job -> complete(job, "server shutdown"));
+    }
+
+    public EmailJob enqueue(EmailJob job) {
+        jobs.put(job.getTrackingId(), job);
+        if (!queue.offer(job)) {
+            jobs.remove(job.getTrackingId());
+            deleteAttachment(job);
+            throw new BusinessLogicException(ExceptionCode.EMAIL_QUEUE_FULL);
+        }
+        return job;
+    }
+
+    public Optional<EmailJob> find(String trackingId) {
+        return Optional.ofNullable(jobs.get(trackingId));
+    }
+
+    public int queued() {
+        return queue.size();
+    }
+
+    private void run() {
+        List<EmailJob> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                EmailJob first = queue.poll(500, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                send(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("email dispatch failed : {}", e.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void send(List<EmailJob> batch) {
+        Map<MimeMessage, EmailJob> messages = new LinkedHashMap<>();
+        for (EmailJob job : batch) {
+            job.sending();
+            try {
+                messages.put(createMessage(job), job);
+            } catch (MessagingException | RuntimeException e) {
+                complete(job, e.getMessage());
+            }
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        Map<Object, Exception> failures = Collections.emptyMap();
+        try {
+            mailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            // 일부만 실패했으면 실패한 메일만 표시한다. 연결 자체가 실패하면 failedMessages 가 비어 있다
+            failures = e.getFailedMessages().isEmpty() ? failAll(messages.keySet(), e) : e.getFailedMessages();
+        } catch (MailException e) {
+            failures = failAll(messages.keySet(), e);
+        }
+
+        for (Map.Entry<MimeMessage, EmailJob> entry : messages.entrySet()) {
+            Exception failure = failures.get(entry.getKey());
+            complete(entry.getValue(), failure == null ? null : String.valueOf(failure.getMessage()));
+        }
+    }
+
+    private MimeMessage createMessage(EmailJob job) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, job.getAttachment() != null, "UTF-8");
+        helper.setTo(job.getTo());
+        helper.setSubject(job.getSubject());
+        helper.setFrom(from);
+        helper.setText(emailTemplates.render(job.getTemplate(), job.getVariables()), true);
+
+        if (job.getAttachment() != null) {
+            // 파일 내용은 메시지를 SMTP 로 쓰는 시점에 읽는다
+            FileSystemResource attachment = new FileSystemResource(job.getAttachment());
+            if (job.getAttachmentContentType() != null) {
+                helper.addAttachment(job.getAttachmentName(), attachment, job.getAttachmentContentType());
+            } else {
+                helper.addAttachment(job.getAttachmentName(), attachment);
+            }
+        }
+        return message;
+    }
+
+    private Map<Object, Exception> failAll(Set<MimeMessage> messages, Exception e) {
+        Map<Object, Exception> failures = new HashMap<>();
+        messages.forEach(message -> failures.put(message, e));
+        return failures;
+    }
+
+    // 상태를 바꾸기 전에 임시 파일부터 지운다 (완료 상태를 본 쪽에서는 파일이 남아 있지 않다)
+    private void complete(EmailJob job, String error) {
+        deleteAttachment(job);
+        if (error == null) {
+            job.sent();
+        } else {
+            log.warn("email {} to {} failed : {}", job.getTrackingId(), job.getTo(), error);
+            job.failed(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+        }
+    }
+
+    private void deleteAttachment(EmailJob job) {
+        if (job.getAttachment() == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(job.getAttachment());
+        } catch (IOException e) {
+            log.warn("email attachment delete failed : {}", job.getAttachment());
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.springboot.email.service;
+
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 발송 큐에 들어가는 메일 한 건. trackingId 로 진행 상태를 조회한다.
+ * 첨부 파일은 요청 시점에 임시 파일로 옮겨 두고, 발송이 끝나면(성공 / 실패 모두) 지운다.
+ */
+@Getter
+public class EmailJob {
+    private final String trackingId;
+    private final String to;
+    private final String subject;
+    private final String template;
+    private final Map<String, Object> variables;
+    private final Path attachment;
+    private final String attachmentName;
+    private final String attachmentContentType;
+    private final LocalDateTime requestedAt = LocalDateTime.now();
+
+    private volatile EmailStatus status = EmailStatus.QUEUED;
+    private volatile String error;
+    private volatile LocalDateTime completedAt;
+
+    public EmailJob(String trackingId, String to, String subject, String template, Map<String, Object> variables,
+                    Path attachment, String attachmentName, String attachmentContentType) {
+        this.trackingId = trackingId;
+        this.to = to;
+        this.subject = subject;
+        this.template = template;
+        this.variables = Map.copyOf(variables);
+        this.attachment = attachment;
+        this.attachmentName = attachmentName;
+        this.attachmentContentType = attachmentContentType;
+    }
+
+    void sending() {
+        this.status = EmailStatus.SENDING;
+    }
+
+    void sent() {
+        this.completedAt = LocalDateTime.now();
+        this.status = EmailStatus.SENT;
+    }
+
+    void failed(String error) {
+        this.error = error;
+        this.completedAt = LocalDateTime.now();
+        this.status = EmailStatus.FAILED;
+    }
+
+    public enum EmailStatus {
+        QUEUED("발송 대기"),
+        SENDING("발송중"),
+        SENT("발송 완료"),
+        FAILED("발송 실패");
+
+        @Getter
+        private String description;
+
+        EmailStatus(String description) {
+            this.description = description;
+        }
+    }
+}
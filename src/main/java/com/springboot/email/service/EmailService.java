@@ -1,47 +1,48 @@
 package com.springboot.email.service;
 
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
+import com.springboot.exception.BusinessLogicException;
+import com.springboot.exception.ExceptionCode;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.thymeleaf.TemplateEngine;
-import org.thymeleaf.context.Context;
+import org.springframework.web.multipart.MultipartFile;
 
-import javax.mail.MessagingException;
-import javax.mail.internet.MimeMessage;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.UUID;
 
 @Service
 public class EmailService {
+    private final EmailDispatcher emailDispatcher;
+    private final Path spoolDirectory;
 
-    @Autowired
-    private JavaMailSender mailSender;
-
-    @Autowired
-    private TemplateEngine templateEngine;
-
-    public void sendEmailWithAttachment(String to, byte[] fileBytes, String fileName) throws MessagingException, IOException {
-        MimeMessage message = mailSender.createMimeMessage();
-        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-
-        // 받는 사람, 제목, 발신자 설정
-        helper.setTo(to);
-        helper.setSubject("파일 첨부 이메일");
-        helper.setFrom("your-email@gmail.com");
-
-        // Thymeleaf 컨텍스트 설정
-        Context context = new Context();
-        context.setVariable("name", "User");
-
-        // Thymeleaf 템플릿에서 본문 구성
-        String htmlContent = templateEngine.process("emailTemplate", context);
-        helper.setText(htmlContent, true); // HTML로 본문 설정
+    public EmailService(EmailDispatcher emailDispatcher,
+                        @Value("${email.spool-dir:${java.io.tmpdir}/email-spool}") String spoolDirectory) throws IOException {
+        this.emailDispatcher = emailDispatcher;
+        this.spoolDirectory = Files.createDirectories(Paths.get(spoolDirectory));
+    }
 
-        // 파일 첨부
-        helper.addAttachment(fileName, new ByteArrayResource(fileBytes));
+    // 첨부 파일을 임시 파일로 옮기고 발송 큐에 넣는다. 실제 발송은 EmailDispatcher 가 한다
+    public EmailJob sendEmailWithAttachment(String to, MultipartFile file) throws IOException {
+        String trackingId = UUID.randomUUID().toString();
+        Path attachment = Files.createTempFile(spoolDirectory, trackingId, ".tmp");
+        try {
+            // 디스크에 저장된 업로드 파일은 복사 없이 이동된다
+            file.transferTo(attachment.toFile());
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(attachment);
+            throw e;
+        }
+
+        EmailJob job = new EmailJob(trackingId, to, "파일 첨부 이메일", EmailTemplates.ATTACHMENT,
+                Map.of("name", "User"), attachment, file.getOriginalFilename(), file.getContentType());
+        return emailDispatcher.enqueue(job);
+    }
 
-        // 이메일 발송
-        mailSender.send(message);
+    public EmailJob findEmail(String trackingId) {
+        return emailDispatcher.find(trackingId)
+                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.EMAIL_NOT_FOUND));
     }
 }
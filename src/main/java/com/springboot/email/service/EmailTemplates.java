@@ -0,0 +1,51 @@
+package com.springboot.email.service;
+
+import com.springboot.cache.LocalLruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+
+import javax.annotation.PostConstruct;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 메일 본문 템플릿.
+ * 기동 시 알려진 템플릿을 한 번씩 처리해서 Thymeleaf 의 파싱 캐시를 채워 두고,
+ * 렌더링 결과는 (템플릿, 변수) 를 키로 캐시한다. 변수가 같은 메일은 템플릿을 다시 처리하지 않는다.
+ */
+@Component
+public class EmailTemplates {
+    public static final String ATTACHMENT = "emailTemplate";
+    private static final List<String> TEMPLATES = List.of(ATTACHMENT);
+
+    private final TemplateEngine templateEngine;
+    private final LocalLruCache<String> rendered;
+
+    public EmailTemplates(TemplateEngine templateEngine,
+                          @Value("${email.template-cache.max-size:1000}") int maxSize,
+                          @Value("${email.template-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.templateEngine = templateEngine;
+        this.rendered = new LocalLruCache<>(maxSize, ttlSeconds * 1000);
+    }
+
+    @PostConstruct
+    public void warmUp() {
+        TEMPLATES.forEach(template -> templateEngine.process(template, new Context()));
+    }
+
+    public String render(String template, Map<String, Object> variables) {
+        // 변수 순서가 달라도 같은 키가 되도록 정렬한다
+        String key = template + new TreeMap<>(variables);
+        String html = rendered.get(key);
+        if (html == null) {
+            Context context = new Context();
+            context.setVariables(variables);
+            html = templateEngine.process(template, context);
+            rendered.put(key, html);
+        }
+        return html;
+    }
+}
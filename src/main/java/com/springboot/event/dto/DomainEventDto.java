@@ -0,0 +1,51 @@
+package com.springboot.event.dto;
+
+import com.springboot.order_header.entity.OrderHeaders;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이벤트 버스로 전달하는 도메인 이벤트 (payload 는 JSON 으로 저장된다)
+ */
+public class DomainEventDto {
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MemberRegistered {
+        public static final String TYPE = "member.registered";
+
+        private String employeeId;
+        private String email;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class OrderStatusChanged {
+        public static final String TYPE = "order.status-changed";
+
+        private Long orderId;
+        private String orderCd;
+        private String buyerCd;
+        // 새로 등록된 주문이면 null
+        private OrderHeaders.OrderStatus previousStatus;
+        private OrderHeaders.OrderStatus orderStatus;
+        private String employeeId;
+        private LocalDateTime changedAt;
+
+        public static OrderStatusChanged of(OrderHeaders order, OrderHeaders.OrderStatus previousStatus) {
+            return new OrderStatusChanged(order.getOrderId(), order.getOrderCd(),
+                    order.getBuyer() != null ? order.getBuyer().getBuyerCd() : null,
+                    previousStatus, order.getOrderStatus(),
+                    order.getMember() != null ? order.getMember().getEmployeeId() : null,
+                    LocalDateTime.now());
+        }
+    }
+}
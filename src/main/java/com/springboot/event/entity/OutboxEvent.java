@@ -0,0 +1,82 @@
+package com.springboot.event.entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 이벤트 버스의 저장 큐.
+ * 이벤트를 발행한 트랜잭션과 같은 트랜잭션에 저장되므로, 커밋된 변경에 대한 이벤트는 서버가 재시작되어도 유실되지 않는다.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+// 키별 순서 검사 (OutboxEventRepository.FIRST_OF_KEY) 는 (eventKey, eventId) 로 같은 키의 앞선 이벤트를 찾는다
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_events_status", columnList = "status, nextAttemptAt"),
+        @Index(name = "idx_outbox_events_key", columnList = "eventKey, eventId")
+})
+public class OutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", sequenceName = "outbox_events_seq", allocationSize = 50)
+    private Long eventId;
+
+    @Column(nullable = false, length = 100)
+    private String eventType;
+
+    // 같은 키의 이벤트는 같은 작업 스레드에서 순서대로 처리된다 (예 : 주문 코드)
+    @Column(length = 100)
+    private String eventKey;
+
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private EventStatus status = EventStatus.PENDING;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt = LocalDateTime.now();
+
+    // 처리 중인 서버가 죽었을 때 이 시각이 지나면 다른 서버가 다시 가져간다
+    @Column
+    private LocalDateTime lockedUntil;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    @Column(updatable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Column
+    private LocalDateTime processedAt;
+
+    public OutboxEvent(String eventType, String eventKey, String payload) {
+        this.eventType = eventType;
+        this.eventKey = eventKey;
+        this.payload = payload;
+    }
+
+    public enum EventStatus {
+        PENDING("대기"),
+        PROCESSING("처리중"),
+        DONE("완료"),
+        DEAD("실패");
+
+        @Getter
+        private String description;
+
+        EventStatus(String description) {
+            this.description = description;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.springboot.event.handler;
+
+/**
+ * 이벤트 버스 구독자. 빈으로 등록하면 EventDispatcher 가 eventType 별로 모아서 호출한다.
+ * 전달은 at-least-once 이므로 (재시도, 서버 재시작, 같은 타입의 다른 핸들러 실패) handle 은 여러 번 호출되어도 안전해야 한다.
+ */
+public interface EventHandler<T> {
+
+    String eventType();
+
+    Class<T> payloadType();
+
+    // 예외를 던지면 backoff 후 다시 시도한다
+    void handle(T payload) throws Exception;
+
+    // 최대 재시도 횟수를 넘겨 DEAD 상태가 되었을 때 한 번 호출 (보상 처리)
+    default void onDead(T payload, Exception lastError) {
+    }
+}
@@ -0,0 +1,98 @@
+package com.springboot.event.repository;
+
+import com.springboot.event.entity.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.springboot.event.entity.OutboxEvent.EventStatus.*;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    String DUE = "((e.status = :pending and e.nextAttemptAt <= :now) or (e.status = :processing and e.lockedUntil < :now))";
+    // 같은 키의 앞선 이벤트가 아직 대기 / 처리 중이면 뒤의 이벤트는 차례가 아니다 (재시도 중에도 키별 순서 유지)
+    String FIRST_OF_KEY = "not exists (select p.eventId from OutboxEvent p where p.eventKey = e.eventKey " +
+            "and p.eventId < e.eventId and p.status in (:pending, :processing))";
+
+    // 처리할 차례가 된 이벤트 (재시도 대기 시간이 지났거나, 처리하던 서버의 점유 시간이 지난 이벤트). 키마다 가장 앞선 것만
+    default List<Long> findDueEventIds(LocalDateTime now, Pageable pageable) {
+        return findDueEventIds(PENDING, PROCESSING, now, pageable);
+    }
+
+    // 조건부 update 로 점유. 다른 서버가 먼저 가져갔으면 0
+    default int claim(Long eventId, LocalDateTime now, LocalDateTime lockedUntil) {
+        return claim(eventId, PENDING, PROCESSING, now, lockedUntil);
+    }
+
+    // 점유(lockedUntil)가 그대로일 때만 기록한다. 점유 시간이 지나 다른 서버가 다시 가져갔으면 0
+    default int markDone(Long eventId, LocalDateTime lockedUntil, LocalDateTime now) {
+        return markDone(eventId, PROCESSING, lockedUntil, DONE, now);
+    }
+
+    default int markFailed(Long eventId, LocalDateTime lockedUntil, OutboxEvent.EventStatus status,
+                           LocalDateTime nextAttemptAt, String lastError) {
+        return markFailed(eventId, PROCESSING, lockedUntil, status, nextAttemptAt, lastError);
+    }
+
+    // 작업 큐가 가득 차서 처리하지 못한 이벤트를 바로 다시 대기 상태로
+    default int release(Long eventId) {
+        return release(eventId, PENDING, PROCESSING);
+    }
+
+    default int deleteDoneBefore(LocalDateTime before) {
+        return deleteBefore(DONE, before);
+    }
+
+    @Query("select e.eventId from OutboxEvent e where " + DUE + " and " + FIRST_OF_KEY + " order by e.eventId")
+    List<Long> findDueEventIds(@Param("pending") OutboxEvent.EventStatus pending,
+                               @Param("processing") OutboxEvent.EventStatus processing,
+                               @Param("now") LocalDateTime now,
+                               Pageable pageable);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.status = :processing, e.lockedUntil = :lockedUntil " +
+            "where e.eventId = :eventId and " + DUE)
+    int claim(@Param("eventId") Long eventId,
+              @Param("pending") OutboxEvent.EventStatus pending,
+              @Param("processing") OutboxEvent.EventStatus processing,
+              @Param("now") LocalDateTime now,
+              @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.status = :done, e.processedAt = :now, e.lockedUntil = null, " +
+            "e.attempts = e.attempts + 1 " +
+            "where e.eventId = :eventId and e.status = :processing and e.lockedUntil = :lockedUntil")
+    int markDone(@Param("eventId") Long eventId,
+                 @Param("processing") OutboxEvent.EventStatus processing,
+                 @Param("lockedUntil") LocalDateTime lockedUntil,
+                 @Param("done") OutboxEvent.EventStatus done,
+                 @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.status = :status, e.nextAttemptAt = :nextAttemptAt, e.lockedUntil = null, " +
+            "e.attempts = e.attempts + 1, e.lastError = :lastError " +
+            "where e.eventId = :eventId and e.status = :processing and e.lockedUntil = :lockedUntil")
+    int markFailed(@Param("eventId") Long eventId,
+                   @Param("processing") OutboxEvent.EventStatus processing,
+                   @Param("lockedUntil") LocalDateTime lockedUntil,
+                   @Param("status") OutboxEvent.EventStatus status,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                   @Param("lastError") String lastError);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.status = :pending, e.lockedUntil = null " +
+            "where e.eventId = :eventId and e.status = :processing")
+    int release(@Param("eventId") Long eventId,
+                @Param("pending") OutboxEvent.EventStatus pending,
+                @Param("processing") OutboxEvent.EventStatus processing);
+
+    @Modifying
+    @Query("delete from OutboxEvent e where e.status = :status and e.processedAt < :before")
+    int deleteBefore(@Param("status") OutboxEvent.EventStatus status, @Param("before") LocalDateTime before);
+
+    long countByStatus(OutboxEvent.EventStatus status);
+}
@@ -0,0 +1,51 @@
+package com.springboot.event.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.event.entity.OutboxEvent;
+import com.springboot.event.repository.OutboxEventRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 도메인 이벤트 발행.
+ * 이벤트는 호출한 쪽의 트랜잭션 안에서 outbox_events 테이블에 저장되고(롤백되면 이벤트도 사라진다),
+ * 커밋 후 EventDispatcher 를 깨워서 바로 처리를 시작한다.
+ * 핸들러가 발행하는 서비스를 다시 의존할 수 있으므로 (회원 등록 -> MemberService) 디스패처는 사용할 때 찾는다.
+ */
+@Service
+public class EventBus {
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectProvider<EventDispatcher> eventDispatcher;
+    private final ObjectMapper objectMapper;
+
+    public EventBus(OutboxEventRepository outboxEventRepository, ObjectProvider<EventDispatcher> eventDispatcher, ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.eventDispatcher = eventDispatcher;
+        this.objectMapper = objectMapper;
+    }
+
+    // eventKey 가 같은 이벤트는 발행 순서대로 처리된다
+    @Transactional
+    public void publish(String eventType, String eventKey, Object payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("event payload is not serializable : " + eventType, e);
+        }
+        outboxEventRepository.save(new OutboxEvent(eventType, eventKey, json));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eventDispatcher.ifAvailable(EventDispatcher::wakeUp);
+                }
+            });
+        }
+    }
+}
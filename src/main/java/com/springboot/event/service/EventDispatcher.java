@@ -0,0 +1,295 @@
+package com.springboot.event.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.event.entity.OutboxEvent;
+import com.springboot.event.handler.EventHandler;
+import com.springboot.event.repository.OutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * outbox_events 를 읽어 핸들러에 전달한다.
+ * - 폴링 스레드 하나가 처리할 이벤트를 조건부 update 로 점유한 뒤 작업 레인에 넘긴다 (여러 서버가 함께 돌아도 한 서버만 가져간다)
+ * - 같은 eventKey 는 앞선 이벤트가 끝나야(DONE / DEAD) 다음 이벤트를 가져가므로, 재시도 중에도 키별 순서가 지켜진다
+ * - 작업 레인은 단일 스레드 + 크기 제한 큐이고, eventKey 의 해시로 레인을 고른다
+ * - 처리 결과는 점유(lockedUntil)가 그대로일 때만 기록한다. 점유 시간이 지나 다른 서버가 가져간 이벤트는 그쪽 결과를 따른다
+ * - 레인에 남은 자리만큼만 가져오기 때문에 이벤트가 몰려도 스레드나 메모리가 늘어나지 않는다
+ * - 실패하면 지수 backoff 로 다시 시도하고, 최대 횟수를 넘기면 DEAD 로 남긴다
+ */
+@Slf4j
+@Component
+public class EventDispatcher {
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Map<String, List<EventHandler<?>>> handlers = new HashMap<>();
+
+    private final int laneCount;
+    private final int laneQueueCapacity;
+    private final long pollIntervalMillis;
+    private final Duration lockDuration;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    private final Duration retention;
+
+    private ThreadPoolExecutor[] lanes;
+    private ScheduledExecutorService poller;
+    private final AtomicBoolean wakeUpScheduled = new AtomicBoolean();
+    private volatile long lastPurgeAt;
+
+    public EventDispatcher(OutboxEventRepository outboxEventRepository,
+                           PlatformTransactionManager transactionManager,
+                           ObjectMapper objectMapper,
+                           List<EventHandler<?>> eventHandlers,
+                           @Value("${event-bus.workers:4}") int laneCount,
+                           @Value("${event-bus.worker-queue-capacity:100}") int laneQueueCapacity,
+                           @Value("${event-bus.poll-interval-ms:1000}") long pollIntervalMillis,
+                           @Value("${event-bus.lock-seconds:300}") long lockSeconds,
+                           @Value("${event-bus.retry.max-attempts:8}") int maxAttempts,
+                           @Value("${event-bus.retry.initial-backoff-ms:1000}") long initialBackoffMillis,
+                           @Value("${event-bus.retry.max-backoff-ms:600000}") long maxBackoffMillis,
+                           @Value("${event-bus.retention-days:7}") long retentionDays) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        eventHandlers.forEach(handler -> handlers.computeIfAbsent(handler.eventType(), type -> new ArrayList<>()).add(handler));
+        this.laneCount = laneCount;
+        this.laneQueueCapacity = laneQueueCapacity;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.lockDuration = Duration.ofSeconds(lockSeconds);
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.retention = Duration.ofDays(retentionDays);
+    }
+
+    @PostConstruct
+    void start() {
+        lanes = new ThreadPoolExecutor[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            String name = "event-worker-" + i;
+            lanes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(laneQueueCapacity), runnable -> daemon(runnable, name));
+        }
+        poller = Executors.newSingleThreadScheduledExecutor(runnable -> daemon(runnable, "event-poller"));
+        poller.scheduleWithFixedDelay(this::pollSafely, pollIntervalMillis, pollIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        poller.shutdownNow();
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+        // 끝나지 않은 이벤트는 lockedUntil 이 지나면 다시 처리된다
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    // 커밋 직후 호출. 이미 예약된 폴링이 있으면 합친다
+    public void wakeUp() {
+        if (poller != null && wakeUpScheduled.compareAndSet(false, true)) {
+            try {
+                poller.execute(() -> {
+                    wakeUpScheduled.set(false);
+                    pollSafely();
+                });
+            } catch (RejectedExecutionException e) {
+                wakeUpScheduled.set(false);
+            }
+        }
+    }
+
+    private void pollSafely() {
+        try {
+            poll();
+            purgeIfDue();
+        } catch (RuntimeException e) {
+            log.warn("event poll failed : {}", e.getMessage());
+        }
+    }
+
+    private void poll() {
+        while (true) {
+            int capacity = freeCapacity();
+            if (capacity == 0) {
+                return;
+            }
+            List<OutboxEvent> claimed = claim(capacity);
+            if (claimed.isEmpty()) {
+                return;
+            }
+            boolean allSubmitted = true;
+            for (OutboxEvent event : claimed) {
+                allSubmitted &= submit(event);
+            }
+            // 레인이 가득 찼으면 다음 폴링까지 기다린다
+            if (!allSubmitted || claimed.size() < capacity) {
+                return;
+            }
+        }
+    }
+
+    private List<OutboxEvent> claim(int limit) {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> dueIds = outboxEventRepository.findDueEventIds(now, PageRequest.of(0, limit));
+            List<Long> claimedIds = new ArrayList<>(dueIds.size());
+            for (Long eventId : dueIds) {
+                if (outboxEventRepository.claim(eventId, now, now.plus(lockDuration)) == 1) {
+                    claimedIds.add(eventId);
+                }
+            }
+            if (claimedIds.isEmpty()) {
+                return Collections.<OutboxEvent>emptyList();
+            }
+            List<OutboxEvent> events = new ArrayList<>(outboxEventRepository.findAllById(claimedIds));
+            events.sort(Comparator.comparing(OutboxEvent::getEventId));
+            return events;
+        });
+    }
+
+    private boolean submit(OutboxEvent event) {
+        try {
+            laneOf(event).execute(() -> deliver(event));
+            return true;
+        } catch (RejectedExecutionException e) {
+            transactionTemplate.executeWithoutResult(status -> outboxEventRepository.release(event.getEventId()));
+            return false;
+        }
+    }
+
+    private void deliver(OutboxEvent event) {
+        try {
+            for (EventHandler<?> handler : handlers.getOrDefault(event.getEventType(), Collections.emptyList())) {
+                invoke(handler, event);
+            }
+        } catch (Exception e) {
+            failed(event, e);
+            return;
+        }
+        Integer marked;
+        try {
+            marked = transactionTemplate.execute(status ->
+                    outboxEventRepository.markDone(event.getEventId(), event.getLockedUntil(), LocalDateTime.now()));
+        } catch (RuntimeException e) {
+            log.warn("event {} completion could not be recorded : {}", event.getEventId(), e.getMessage());
+            return;
+        }
+        if (marked == null || marked == 0) {
+            log.warn("event {} finished after its lock expired, the result is left to the new owner", event.getEventId());
+            return;
+        }
+        wakeUpNextOfKey(event);
+    }
+
+    // 같은 키의 다음 이벤트가 앞선 이벤트가 끝나기를 기다리고 있을 수 있다
+    private void wakeUpNextOfKey(OutboxEvent event) {
+        if (event.getEventKey() != null) {
+            wakeUp();
+        }
+    }
+
+    private <T> void invoke(EventHandler<T> handler, OutboxEvent event) throws Exception {
+        handler.handle(objectMapper.readValue(event.getPayload(), handler.payloadType()));
+    }
+
+    private void failed(OutboxEvent event, Exception error) {
+        int attempts = event.getAttempts() + 1;
+        boolean dead = attempts >= maxAttempts;
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plus(Duration.ofMillis(backoff(attempts)));
+        String message = truncate(error.getClass().getSimpleName() + ": " + error.getMessage());
+
+        Integer marked;
+        try {
+            marked = transactionTemplate.execute(status -> outboxEventRepository.markFailed(event.getEventId(),
+                    event.getLockedUntil(), dead ? OutboxEvent.EventStatus.DEAD : OutboxEvent.EventStatus.PENDING,
+                    nextAttemptAt, message));
+        } catch (RuntimeException e) {
+            // 상태를 기록하지 못해도 lockedUntil 이 지나면 다시 처리된다
+            log.warn("event {} failure could not be recorded : {}", event.getEventId(), e.getMessage());
+            return;
+        }
+        if (marked == null || marked == 0) {
+            log.warn("event {} failed after its lock expired, the result is left to the new owner : {}", event.getEventId(), message);
+            return;
+        }
+
+        if (dead) {
+            log.error("event {} ({}) moved to DEAD after {} attempts : {}", event.getEventId(), event.getEventType(), attempts, message);
+            for (EventHandler<?> handler : handlers.getOrDefault(event.getEventType(), Collections.emptyList())) {
+                notifyDead(handler, event, error);
+            }
+            wakeUpNextOfKey(event);
+        } else {
+            log.warn("event {} ({}) failed, retry #{} at {} : {}", event.getEventId(), event.getEventType(), attempts, nextAttemptAt, message);
+        }
+    }
+
+    private <T> void notifyDead(EventHandler<T> handler, OutboxEvent event, Exception error) {
+        try {
+            handler.onDead(objectMapper.readValue(event.getPayload(), handler.payloadType()), error);
+        } catch (Exception e) {
+            log.error("dead event handler failed for event {} : {}", event.getEventId(), e.getMessage());
+        }
+    }
+
+    // 1, 2, 4, 8 ... 배 (최대 maxBackoff) + 최대 20% 지터
+    private long backoff(int attempts) {
+        long exponential = initialBackoffMillis << Math.min(attempts - 1, 30);
+        long delay = Math.min(maxBackoffMillis, exponential > 0 ? exponential : maxBackoffMillis);
+        return delay + ThreadLocalRandom.current().nextLong(delay / 5 + 1);
+    }
+
+    private void purgeIfDue() {
+        long now = System.currentTimeMillis();
+        if (now - lastPurgeAt < TimeUnit.HOURS.toMillis(1)) {
+            return;
+        }
+        lastPurgeAt = now;
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxEventRepository.deleteDoneBefore(LocalDateTime.now().minus(retention)));
+        if (deleted != null && deleted > 0) {
+            log.info("purged {} processed events", deleted);
+        }
+    }
+
+    private int freeCapacity() {
+        int free = 0;
+        for (ThreadPoolExecutor lane : lanes) {
+            free += lane.getQueue().remainingCapacity();
+        }
+        return free;
+    }
+
+    private ThreadPoolExecutor laneOf(OutboxEvent event) {
+        String key = event.getEventKey() != null ? event.getEventKey() : String.valueOf(event.getEventId());
+        return lanes[Math.floorMod(key.hashCode(), lanes.length)];
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
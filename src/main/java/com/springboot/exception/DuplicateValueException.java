@@ -0,0 +1,34 @@
+package com.springboot.exception;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 일괄 등록 시 중복된 값을 한 번에 모아서 알려주기 위한 예외
+ */
+public class DuplicateValueException extends BusinessLogicException {
+    @Getter
+    private final List<Conflict> conflicts;
+
+    public DuplicateValueException(List<Conflict> conflicts) {
+        super(ExceptionCode.DUPLICATE_VALUES);
+        this.conflicts = conflicts;
+    }
+
+    @Getter
+    public static class Conflict {
+        // 요청 목록에서의 위치 (0부터 시작)
+        private final int index;
+        private final String field;
+        private final String value;
+        private final String reason;
+
+        public Conflict(int index, String field, String value, String reason) {
+            this.index = index;
+            this.field = field;
+            this.value = value;
+            this.reason = reason;
+        }
+    }
+}
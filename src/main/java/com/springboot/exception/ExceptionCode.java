@@ -33,7 +33,13 @@ public enum ExceptionCode {
     CANNOT_ORDER_NEGATIVE_QUANTITY(400, "The order quantity must not be negative" ),
     PERIOD_OVERLAP_ERROR(409, "The specified period overlaps with an existing period" ),
     TEL_ALREADY_EXIST(409, "Tel Already Exists"),
-    BUYER_NAME_ALREADY_EXIST(409, "Buyer Name Already Exists" );
+    BUYER_NAME_ALREADY_EXIST(409, "Buyer Name Already Exists" ),
+    DUPLICATE_VALUES(409, "Duplicate Values Exist"),
+    DUPLICATED_IN_REQUEST(409, "Duplicated In Request"),
+    EMAIL_NOT_FOUND(404, "Email Not Found"),
+    EMAIL_QUEUE_FULL(503, "Email Queue Is Full"),
+    ORDER_STREAM_FULL(503, "Order Stream Subscribers Exceeded"),
+    INVALID_ORDER_QUANTITY(400, "The order quantity must be a whole number within range");
 
     @Getter
     private int status;
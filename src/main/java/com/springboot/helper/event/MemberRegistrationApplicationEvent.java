@@ -1,16 +0,0 @@
-package com.springboot.helper.event;
-
-import com.springboot.member.entity.Member;
-import lombok.Getter;
-import org.springframework.context.ApplicationEvent;
-
-@Getter
-public class MemberRegistrationApplicationEvent extends ApplicationEvent {
-    private Member member;
-    public  MemberRegistrationApplicationEvent(Object source, Member member){
-        super(source);
-        this.member = member;
-    }
-
-
-}
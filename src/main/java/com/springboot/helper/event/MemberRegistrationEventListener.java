@@ -1,22 +1,19 @@
 package com.springboot.helper.event;
 
+import com.springboot.event.dto.DomainEventDto;
+import com.springboot.event.handler.EventHandler;
 import com.springboot.helper.email.EmailSender;
-import com.springboot.member.entity.Member;
 import com.springboot.member.service.MemberService;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.context.event.EventListener;
-import org.springframework.mail.MailSendException;
-import org.springframework.scheduling.annotation.Async;
-import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.stereotype.Component;
 
-
-@EnableAsync
-@Configuration
+/**
+ * 회원 등록 이벤트 : 안내 메일 발송.
+ * 메일 발송 실패는 이벤트 버스가 backoff 로 재시도하고, 끝내 실패하면 등록한 회원을 탈퇴 처리한다.
+ */
 @Component
 @Slf4j
-public class MemberRegistrationEventListener {
+public class MemberRegistrationEventListener implements EventHandler<DomainEventDto.MemberRegistered> {
     private final EmailSender emailSender;
     private final MemberService memberService;
 
@@ -24,17 +21,26 @@ public class MemberRegistrationEventListener {
         this.emailSender = emailSender;
         this.memberService = memberService;
     }
-    @Async
-    @EventListener
-    public void listen(MemberRegistrationApplicationEvent event) throws  Exception{
-        try {
-            String message = "any email message";
-            emailSender.sendEmail(message);
-        }catch (MailSendException e){
-            e.printStackTrace();
-            log.error("MailSendException: rollback for Member Registration:");
-            Member member = event.getMember();
-            memberService.deleteMember(member.getEmail());
-        }
+
+    @Override
+    public String eventType() {
+        return DomainEventDto.MemberRegistered.TYPE;
+    }
+
+    @Override
+    public Class<DomainEventDto.MemberRegistered> payloadType() {
+        return DomainEventDto.MemberRegistered.class;
+    }
+
+    @Override
+    public void handle(DomainEventDto.MemberRegistered event) throws Exception {
+        String message = "any email message";
+        emailSender.sendEmail(message);
+    }
+
+    @Override
+    public void onDead(DomainEventDto.MemberRegistered event, Exception lastError) {
+        log.error("MailSendException: rollback for Member Registration: {}", event.getEmail());
+        memberService.deleteMember(event.getEmail());
     }
 }
@@ -1,5 +1,6 @@
 package com.springboot.item.controller;
 
+import com.springboot.cache.MasterDataListCache;
 import com.springboot.exception.BusinessLogicException;
 import com.springboot.exception.ExceptionCode;
 import com.springboot.item.dto.Dto;
@@ -12,9 +13,11 @@ import com.springboot.response.MultiResponseDto;
 import com.springboot.response.SingleResponseDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -25,6 +28,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @RestController
@@ -36,6 +40,7 @@ public class ItemController {
     private final ItemMapper itemMapper;
     private final ItemService itemService;
     private final InventoryReport inventoryReport;
+    private final MasterDataListCache masterDataListCache;
 
     @PostMapping
     public ResponseEntity createItem(@Valid @RequestBody List<Dto.ItemPostDto> postDtos, Authentication authentication) {
@@ -43,6 +48,7 @@ public class ItemController {
         return new ResponseEntity<>(HttpStatus.OK);
     }
 
+    @Transactional(readOnly = true)
     @GetMapping("/{itemCd}")
     public ResponseEntity getItem(@PathVariable("itemCd") String itemCd, Authentication authentication) {
         Item item = itemService.findItem(itemCd, authentication);
@@ -51,19 +57,24 @@ public class ItemController {
                 new SingleResponseDto<>(itemMapper.itemToResponseDto(item, report)), HttpStatus.OK);
     }
 
+    // 제품이 바뀌지 않았으면 If-None-Match 로 304 (DB 조회 없음), 바뀌었으면 직렬화된 목록을 캐시해 재사용
+    // 304 에서는 커넥션도 잡지 않도록 핸들러는 트랜잭션 없이 돌고, 목록을 읽을 때만 서비스의 읽기 전용 트랜잭션을 연다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @GetMapping("/all")
-    public ResponseEntity getItemsAll() {
-        List<Item> items = itemService.findItemsAll();
+    public ResponseEntity<byte[]> getItemsAll(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return masterDataListCache.respond(MasterDataListCache.ITEM, ifNoneMatch, () -> {
+            List<Item> items = itemService.findItemsAll();
 
-        List<Item> sortedItems = items.stream()
-                .sorted(Comparator.comparing(Item::getItemNm))
-                .collect(Collectors.toList());
+            List<Item> sortedItems = items.stream()
+                    .sorted(Comparator.comparing(Item::getItemNm))
+                    .collect(Collectors.toList());
 
-        return new ResponseEntity(
-                new SingleResponseDto<>(itemMapper.itemToResponseDtos(sortedItems)),HttpStatus.OK);
+            return new SingleResponseDto<>(itemMapper.itemToResponseDtos(sortedItems));
+        });
     }
 
 
+    @Transactional(readOnly = true)
     @GetMapping
     public ResponseEntity getItems(@RequestParam @Positive int page,
                                    @RequestParam @Positive int size,
@@ -82,17 +93,16 @@ public class ItemController {
             }
         }
 
-        Page<Item> itemPage = itemService.findItems(page-1, size, itemNm, itemCd, sortCriteria, direction, authentication);
-        List<ReportDto.InventoryDto> reports = itemPage.getContent()
-                .stream()
-                .map(item -> inventoryReport.getInventory(item.getItemCd()))
-                .collect(Collectors.toList());
-
-        List<Dto.ItemResponseDto> itemResponseDtos =
-                itemMapper.itemsToResponseDtos(itemPage.getContent(), reports);
+        Page<Dto.ItemResponseDto> itemPage = itemService.findItems(page-1, size, itemNm, itemCd, sortCriteria, direction, authentication);
+        // 페이지의 재고는 제품마다가 아니라 한 번에 계산한다
+        Map<String, ReportDto.InventoryDto> inventories = inventoryReport.getInventories(itemPage.getContent().stream()
+                .map(Dto.ItemResponseDto::getItemCd)
+                .collect(Collectors.toList()));
+        itemPage.getContent()
+                .forEach(item -> itemMapper.setInventory(item, inventories.get(item.getItemCd())));
 
         return new ResponseEntity<>(
-                new MultiResponseDto<>(itemResponseDtos, itemPage), HttpStatus.OK);
+                new MultiResponseDto<>(itemPage.getContent(), itemPage), HttpStatus.OK);
     }
 
     @PatchMapping
@@ -67,6 +67,22 @@ public class Dto {
         private Integer totalStock; // 총 재고량
         private Integer prepareOrder; // 주문대기 수량
         private Integer unusedStock;
+
+        // 목록 조회 projection 용. 재고 수량은 조회 후 채운다
+        public ItemResponseDto(long itemId, String itemCd, String itemNm, String category, String unit,
+                               BigDecimal unitPrice, String color, int size, Item.ItemStatus itemStatus,
+                               LocalDateTime createdAt) {
+            this.itemId = itemId;
+            this.itemCd = itemCd;
+            this.itemNm = itemNm;
+            this.category = category;
+            this.unit = unit;
+            this.unitPrice = unitPrice;
+            this.color = color;
+            this.size = size;
+            this.itemStatus = itemStatus;
+            this.createdAt = createdAt;
+        }
     }
 
     @Getter
@@ -7,7 +7,6 @@ import com.springboot.item.entity.Item;
 import com.springboot.report.reportDto.ReportDto;
 import org.mapstruct.Mapper;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Mapper(componentModel = "spring")
@@ -39,15 +38,10 @@ public interface ItemMapper {
 
     List<Dto.ItemResponseDto> itemToResponseDtos(List<Item> items);
 
-    default List<Dto.ItemResponseDto> itemsToResponseDtos(List<Item> items, List<ReportDto.InventoryDto> reports) {
-
-        List<Dto.ItemResponseDto> responseDtos = new ArrayList<>();
-
-        for(int i = 0 ; i < items.size(); i++) {
-            Item item = items.get(i);
-            ReportDto.InventoryDto report = reports.get(i);
-            responseDtos.add(itemToResponseDto(item, report));
-        }
-        return responseDtos;
+    // 목록 조회 결과에 재고 수량을 채운다
+    default void setInventory(Dto.ItemResponseDto itemResponseDto, ReportDto.InventoryDto report) {
+        itemResponseDto.setTotalStock(report.getTotalStock());
+        itemResponseDto.setPrepareOrder(report.getPreparedOrder());
+        itemResponseDto.setUnusedStock(report.getUnusedStock());
     }
 }
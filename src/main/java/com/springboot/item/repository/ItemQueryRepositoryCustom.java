@@ -1,10 +1,11 @@
 package com.springboot.item.repository;
 
-import com.springboot.item.entity.Item;
+import com.springboot.item.dto.Dto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 public interface ItemQueryRepositoryCustom {
 
-    Page<Item> findItemsByCondition(String itemNm, String itemCd, Pageable pageable);
+    // 목록 화면에 필요한 컬럼만 응답 DTO 로 바로 조회한다 (재고 수량은 비어 있음)
+    Page<Dto.ItemResponseDto> findItemsByCondition(String itemNm, String itemCd, Pageable pageable);
 }
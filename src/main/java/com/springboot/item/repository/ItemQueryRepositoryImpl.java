@@ -3,8 +3,10 @@ package com.springboot.item.repository;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.PathBuilder;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.springboot.item.dto.Dto;
 import com.springboot.item.entity.Item;
 import com.springboot.item.entity.QItem;
 import org.springframework.data.domain.Page;
@@ -26,7 +28,7 @@ public class ItemQueryRepositoryImpl implements ItemQueryRepositoryCustom {
     }
 
     @Override
-    public Page<Item> findItemsByCondition(String itemNm, String itemCd, Pageable pageable) {
+    public Page<Dto.ItemResponseDto> findItemsByCondition(String itemNm, String itemCd, Pageable pageable) {
         QItem item = QItem.item;
 
         BooleanBuilder builder = new BooleanBuilder();
@@ -44,20 +46,25 @@ public class ItemQueryRepositoryImpl implements ItemQueryRepositoryCustom {
         List<OrderSpecifier<?>> orderSpecifiers = getSortOrder(pageable, item);
 
 
-        List<Item> results = queryFactory
-                .selectFrom(item)
+        // 엔티티 대신 응답 컬럼만 조회 (itemManufactures / buyerItems 컬렉션을 건드리지 않는다)
+        List<Dto.ItemResponseDto> results = queryFactory
+                .select(Projections.constructor(Dto.ItemResponseDto.class,
+                        item.itemId, item.itemCd, item.itemNm, item.category, item.unit, item.unitPrice,
+                        item.color, item.size, item.itemStatus, item.createdAt))
+                .from(item)
                 .where(builder)
                 .orderBy(orderSpecifiers.toArray(new OrderSpecifier[0]))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        long total = queryFactory
-                .selectFrom(item)
+        Long total = queryFactory
+                .select(item.count())
+                .from(item)
                 .where(builder)
-                .fetchCount();
+                .fetchOne();
 
-        return new PageImpl<>(results, pageable, total);
+        return new PageImpl<>(results, pageable, total != null ? total : 0L);
     }
 
     private List<OrderSpecifier<?>> getSortOrder(Pageable pageable, QItem item) {
@@ -2,6 +2,10 @@ package com.springboot.item.repository;
 
 import com.springboot.item.entity.Item;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,9 +16,15 @@ public interface ItemRepository extends JpaRepository<Item, Long> {
     boolean existsByItemCd(String itemCd);
     boolean existsByItemNm(String itemNm);
 
-    Optional<Item> findByItemId(Long itemId);
     Optional<Item> findByItemNm(String itemNm);
     Optional<Item> findByItemCd(String itemCd);
 
     List<Item> findAllByItemStatusNot(Item.ItemStatus itemStatus);
+
+    // 일괄 등록 시 요청에 나온 제품명을 한 번에 조회
+    List<Item> findAllByItemNmIn(Collection<String> itemNms);
+
+    // 일괄 등록 중복 검사 : 주어진 값 중 이미 있는 값만 조회
+    @Query("SELECT i.itemNm FROM Item i WHERE i.itemNm IN :itemNms")
+    List<String> findExistingItemNms(@Param("itemNms") Collection<String> itemNms);
 }
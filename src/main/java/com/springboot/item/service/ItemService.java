@@ -1,21 +1,26 @@
 package com.springboot.item.service;
 
+import com.springboot.cache.MasterDataCache;
+import com.springboot.cache.MasterDataListCache;
+import com.springboot.cache.NaturalIdLoader;
+import com.springboot.cache.SecondLevelCache;
 import com.springboot.exception.BusinessLogicException;
 import com.springboot.exception.ExceptionCode;
+import com.springboot.item.dto.Dto;
 import com.springboot.item.entity.Item;
 import com.springboot.item.repository.ItemQueryRepositoryCustom;
 import com.springboot.item.repository.ItemRepository;
 import com.springboot.member.entity.Member;
-import com.springboot.member.repository.MemberRepository;
+import com.springboot.validator.UniqueValueChecker;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.springboot.utils.PageableCreator.createPageable;
 
@@ -24,18 +29,25 @@ import static com.springboot.utils.PageableCreator.createPageable;
 @RequiredArgsConstructor
 public class ItemService {
     private final ItemRepository itemRepository;
-    private final MemberRepository memberRepository;
     private final ItemQueryRepositoryCustom itemQueryRepositoryCustom;
+    private final MasterDataCache masterDataCache;
+    private final MasterDataListCache masterDataListCache;
+    private final NaturalIdLoader naturalIdLoader;
+    private final SecondLevelCache secondLevelCache;
 
     //item 생성
     public void createItem(List<Item> items, Authentication authentication) {
         extractMemberFromAuthentication(authentication);
-        items.stream().forEach(item -> {
-            verifiedExists(item.getItemNm());
-            String itemCd = createItemCd();
-            item.setItemCd(itemCd);
-            itemRepository.save(item);
-        });
+        // 제품명 중복 확인 : IN 쿼리 1번 + 요청 내 중복 검사
+        UniqueValueChecker.of(items)
+                .check("itemNm", Item::getItemNm, itemRepository::findExistingItemNms, ExceptionCode.ITEM_NAME_ALREADY_EXISTS)
+                .validate();
+
+        items.forEach(item -> item.setItemCd(createItemCd()));
+
+        // 검증이 끝난 뒤 한 번에 저장 (flush 시 batch insert)
+        itemRepository.saveAll(items);
+        masterDataListCache.changed(MasterDataListCache.ITEM);
     }
 
     //item Cd로 item 찾기
@@ -58,7 +70,7 @@ public class ItemService {
 
     //전체 item 조회 - pagination
     @Transactional(readOnly = true)
-    public Page<Item> findItems(int page, int size, String itemNm, String itemCd, String criteria, String direction, Authentication authentication) {
+    public Page<Dto.ItemResponseDto> findItems(int page, int size, String itemNm, String itemCd, String criteria, String direction, Authentication authentication) {
         extractMemberFromAuthentication(authentication);
 
         Pageable pageable = createPageable(page, size, criteria, direction);
@@ -66,7 +78,8 @@ public class ItemService {
         return itemQueryRepositoryCustom.findItemsByCondition(itemNm, itemCd, pageable);
     }
 
-    //전체 item 조회
+    //전체 item 조회 (/items/all 은 트랜잭션 없이 호출하므로 여기서 읽기 전용 트랜잭션을 연다)
+    @Transactional(readOnly = true)
     public List<Item> findItemsAll() {
         return itemRepository.findAllByItemStatusNot(Item.ItemStatus.INACTIVE);
     }
@@ -78,12 +91,16 @@ public class ItemService {
 
         //변경 전 Item
         Item findItem = findVerifiedItemId(patch.getItemId());
+        masterDataListCache.changed(MasterDataListCache.ITEM);
+        secondLevelCache.evict(Item.class, findItem.getItemId());
 
         //변경할 필드값
         Optional.ofNullable(patch.getItemNm())
                 .ifPresent(itemNm -> {
                     if(!itemNm.equals(findItem.getItemNm())) {
                         verifiedExists(itemNm);
+                        // 이름 색인에는 코드만 있으므로 이름이 바뀔 때만 지운다
+                        masterDataCache.invalidateItemNm(findItem.getItemNm());
                         findItem.setItemNm(itemNm);
                     }
                 });
@@ -105,6 +122,8 @@ public class ItemService {
         extractMemberFromAuthentication(authentication);
 
         Item item = findVerifiedItemId(itemId);
+        masterDataListCache.changed(MasterDataListCache.ITEM);
+        secondLevelCache.evict(Item.class, item.getItemId());
         item.setItemStatus(Item.ItemStatus.INACTIVE);
 
         itemRepository.save(item);
@@ -114,7 +133,7 @@ public class ItemService {
     private Member extractMemberFromAuthentication(Authentication authentication) {
         String username = (String) authentication.getPrincipal();
 
-        return memberRepository.findByEmployeeId(username)
+        return naturalIdLoader.load(Member.class, username)
                 .orElseThrow(() -> new BusinessLogicException(ExceptionCode.MEMBER_NOT_FOUND));
     }
 
@@ -134,7 +153,7 @@ public class ItemService {
 
     //검증된 item 찾기 - itemCd를 통해
     private Item findVerifiedItem(String itemCd) {
-        Item item = itemRepository.findByItemCd(itemCd)
+        Item item = naturalIdLoader.load(Item.class, itemCd)
                 .orElseThrow(() -> new BusinessLogicException(ExceptionCode.ITEM_NOT_FOUND));
 
       //  isDeleted(item);
@@ -144,7 +163,7 @@ public class ItemService {
 
     //검증된 item 찾기 - itemId를 통해
     public Item findVerifiedItemId(Long itemId) {
-        Item item = itemRepository.findByItemId(itemId)
+        Item item = itemRepository.findById(itemId)
                 .orElseThrow(() -> new BusinessLogicException(ExceptionCode.ITEM_NOT_FOUND));
 
       //  isDeleted(item);
@@ -152,9 +171,12 @@ public class ItemService {
         return item;
     }
 
-    //검증된 item 찾기 - itemNm를 통해
+    //검증된 item 찾기 - itemNm를 통해 (이름 -> 코드 색인 후 natural-id 2차 캐시, 색인이 옛 이름이면 DB 에서 다시 찾는다)
     public Item findVerifiedItemNm(String itemNm) {
-        Item item = itemRepository.findByItemNm(itemNm)
+        Item item = masterDataCache.findItemCd(itemNm, nm -> itemRepository.findByItemNm(nm).map(Item::getItemCd))
+                .flatMap(itemCd -> naturalIdLoader.load(Item.class, itemCd))
+                .filter(found -> itemNm.equals(found.getItemNm()))
+                .or(() -> itemRepository.findByItemNm(itemNm))
                 .orElseThrow(() -> new BusinessLogicException(ExceptionCode.ITEM_NOT_FOUND));
 
         isDeleted(item);
@@ -162,6 +184,22 @@ public class ItemService {
         return item;
     }
 
+    //검증된 item 일괄 찾기 - 일괄 등록에서 사용 (IN 쿼리 1번, 이름 -> item)
+    public Map<String, Item> findVerifiedItemsByNm(Collection<String> itemNms) {
+        Map<String, Item> items = itemRepository.findAllByItemNmIn(new HashSet<>(itemNms)).stream()
+                .collect(Collectors.toMap(Item::getItemNm, Function.identity()));
+
+        for (String itemNm : itemNms) {
+            Item item = items.get(itemNm);
+            if (item == null) {
+                throw new BusinessLogicException(ExceptionCode.ITEM_NOT_FOUND);
+            }
+            isDeleted(item);
+        }
+
+        return items;
+    }
+
     public void isDeleted (Item item) {
         if(item.getItemStatus().equals(Item.ItemStatus.INACTIVE)) {
             throw new BusinessLogicException(ExceptionCode.INACTIVE_STATUS);
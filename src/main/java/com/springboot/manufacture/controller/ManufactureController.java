@@ -1,5 +1,6 @@
 package com.springboot.manufacture.controller;
 
+import com.springboot.cache.MasterDataListCache;
 import com.springboot.exception.BusinessLogicException;
 import com.springboot.exception.ExceptionCode;
 import com.springboot.manufacture.dto.Dto;
@@ -12,9 +13,11 @@ import com.springboot.response.MultiResponseDto;
 import com.springboot.response.SingleResponseDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -36,6 +39,7 @@ public class ManufactureController {
     private final ManufactureService manufactureService;
     private final ManufactureMapper manufactureMapper;
     private final ManufactureHistoryMapper manufactureHistoryMapper;
+    private final MasterDataListCache masterDataListCache;
 
     //제조사 등록
     @PostMapping
@@ -45,6 +49,7 @@ public class ManufactureController {
     }
 
     // 제조사 정보 조회
+    @Transactional(readOnly = true)
     @GetMapping("/{mfCd}")
     public ResponseEntity getManufacture(@PathVariable("mfCd") String mfCd, Authentication authentication) {
 
@@ -54,6 +59,7 @@ public class ManufactureController {
     }
 
     // 제조사 전체 조회 (pagination)
+    @Transactional(readOnly = true)
     @GetMapping
     public ResponseEntity getManufactures(@RequestParam(required = false) String sort,
                                           @RequestParam(required = false) String direction,
@@ -124,6 +130,7 @@ public class ManufactureController {
     }
 
     // 공급 기록 조회 ( manufacture-item 등록/수정 history ->  mfCd로 필터)
+    @Transactional(readOnly = true)
     @GetMapping("/{mfCd}/histories")
     public ResponseEntity getManufactureHistory(@PathVariable("mfCd") String mfCd,
                                                 @Positive @RequestParam int page,
@@ -148,16 +155,18 @@ public class ManufactureController {
                         manufactureHistoryMapper.mfHistoriesToMfHistoriesResponseDtos(historyLists),historyPages), HttpStatus.OK);
     }
 
-    //제조사 전체 조회
+    //제조사 전체 조회 - 변경이 없으면 304 (ETag 조건부 응답), 304 는 트랜잭션 / 커넥션 없이 응답
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @GetMapping("/all")
-    public ResponseEntity getManufactures(){
-        List<Manufacture> manufactures = manufactureService.findManufactureAll();
+    public ResponseEntity<byte[]> getManufactures(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch){
+        return masterDataListCache.respond(MasterDataListCache.MANUFACTURE, ifNoneMatch, () -> {
+            List<Manufacture> manufactures = manufactureService.findManufactureAll();
 
-        List<Manufacture> sortedManufactures = manufactures.stream()
-                .sorted(Comparator.comparing(Manufacture::getMfNm))
-                .collect(Collectors.toList());
+            List<Manufacture> sortedManufactures = manufactures.stream()
+                    .sorted(Comparator.comparing(Manufacture::getMfNm))
+                    .collect(Collectors.toList());
 
-        return new ResponseEntity<>(
-                new SingleResponseDto<>(manufactureMapper.manufactureToResponseDtos(sortedManufactures)), HttpStatus.OK);
+            return new SingleResponseDto<>(manufactureMapper.manufactureToResponseDtos(sortedManufactures));
+        });
     }
 }
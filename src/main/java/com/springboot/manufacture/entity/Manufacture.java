@@ -6,6 +6,10 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
@@ -16,9 +20,13 @@ import java.util.List;
 @Getter
 @Setter
 @NoArgsConstructor
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "manufacture")
+@NaturalIdCache(region = "manufacture-natural-id")
 public class Manufacture {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "manufacture_seq")
+    @SequenceGenerator(name = "manufacture_seq", sequenceName = "manufacture_seq", allocationSize = 50)
     private long mfId;
 
     @Column(nullable = false)
@@ -27,6 +35,7 @@ public class Manufacture {
     @Column(nullable = false, unique = true)
     private String email;
 
+    @NaturalId
     @Column(nullable = false, unique = true)
     private String mfCd;
 
@@ -2,6 +2,10 @@ package com.springboot.manufacture.repository;
 
 import com.springboot.manufacture.entity.Manufacture;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,5 +19,12 @@ public interface ManufactureRepository extends JpaRepository<Manufacture, Long>
     Optional<Manufacture> findByMfNm(String mfNm);
 
     List<Manufacture> findAllByManufactureStatusNot(Manufacture.ManufactureStatus manufactureStatus);
+
+    // 일괄 등록 중복 검사 : 주어진 값 중 이미 있는 값만 조회
+    @Query("SELECT m.mfNm FROM Manufacture m WHERE m.mfNm IN :mfNms")
+    List<String> findExistingMfNms(@Param("mfNms") Collection<String> mfNms);
+
+    @Query("SELECT m.email FROM Manufacture m WHERE m.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
 }
 
@@ -1,5 +1,9 @@
 package com.springboot.manufacture.service;
 
+import com.springboot.cache.MasterDataCache;
+import com.springboot.cache.MasterDataListCache;
+import com.springboot.cache.NaturalIdLoader;
+import com.springboot.cache.SecondLevelCache;
 import com.springboot.exception.BusinessLogicException;
 import com.springboot.exception.ExceptionCode;
 import com.springboot.manufacture.entity.Manufacture;
@@ -8,7 +12,7 @@ import com.springboot.manufacture.repository.ManufactureRepository;
 import com.springboot.manufacture_history.entity.ManuFactureHistory;
 import com.springboot.manufacture_history.repository.ManufactureHistoryRepository;
 import com.springboot.member.entity.Member;
-import com.springboot.member.repository.MemberRepository;
+import com.springboot.validator.UniqueValueChecker;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -27,23 +31,29 @@ import java.util.UUID;
 @Transactional
 public class ManufactureService {
     private final ManufactureRepository manufactureRepository;
-    private final MemberRepository memberRepository;
     private final ManufactureHistoryRepository manufactureHistoryRepository;
     private final MFQueryRepositoryCustom mfQueryRepositoryCustom;
+    private final MasterDataCache masterDataCache;
+    private final MasterDataListCache masterDataListCache;
+    private final NaturalIdLoader naturalIdLoader;
+    private final SecondLevelCache secondLevelCache;
 
     //제조사 등록
     public void createManufacture(List<Manufacture> manufactures, Authentication authentication) {
         extractMemberFromAuthentication(authentication);
 
-        manufactures.stream().forEach(manufacture -> {
+        // 제조사명 / 이메일 중복 확인 : 컬럼별 IN 쿼리 1번 + 요청 내 중복 검사
+        // (mfCd 는 아래에서 새로 생성하므로 요청 값은 검사하지 않는다)
+        UniqueValueChecker.of(manufactures)
+                .check("mfNm", Manufacture::getMfNm, manufactureRepository::findExistingMfNms, ExceptionCode.MANUFACTURE_NAME_EXIST)
+                .check("email", Manufacture::getEmail, manufactureRepository::findExistingEmails, ExceptionCode.EMAIL_ALREADY_EXISTS)
+                .validate();
 
-            verifyManufactureCdExists(manufacture.getMfCd());
-            verifyManufactureNmExists(manufacture.getMfNm());
-            verifyExistsEmail(manufacture.getEmail());
-            String manufactureCd = createManufactureCd();
-            manufacture.setMfCd(manufactureCd);
-            manufactureRepository.save(manufacture);
-        });
+        manufactures.forEach(manufacture -> manufacture.setMfCd(createManufactureCd()));
+
+        // 검증이 끝난 뒤 한 번에 저장 (flush 시 batch insert)
+        manufactureRepository.saveAll(manufactures);
+        masterDataListCache.changed(MasterDataListCache.MANUFACTURE);
     }
 
     //제조사 개별 조회 (mfCd를 통해)
@@ -68,6 +78,7 @@ public class ManufactureService {
     }
 
     // 제조사 전체 조회
+    @Transactional(readOnly = true)
     public List<Manufacture> findManufactureAll() {
         return manufactureRepository.findAllByManufactureStatusNot(Manufacture.ManufactureStatus.INACTIVE);
     }
@@ -77,6 +88,8 @@ public class ManufactureService {
         extractMemberFromAuthentication(authentication);
 
         Manufacture findManufacture = verifyManufacture(manufacture.getMfId());
+        masterDataListCache.changed(MasterDataListCache.MANUFACTURE);
+        secondLevelCache.evict(Manufacture.class, findManufacture.getMfId());
 
         Optional.ofNullable(manufacture.getEmail())
                 .ifPresent(email -> {
@@ -91,6 +104,8 @@ public class ManufactureService {
         Optional.ofNullable(manufacture.getMfNm())
                 .ifPresent(mfNm -> {
                     verifyManufactureNmExists(mfNm);
+                    // 이름 색인에는 코드만 있으므로 이름이 바뀔 때만 지운다
+                    masterDataCache.invalidateMfNm(findManufacture.getMfNm());
                     findManufacture.setMfNm(mfNm);
 
                 });
@@ -114,6 +129,8 @@ public class ManufactureService {
         extractMemberFromAuthentication(authentication);
 
         Manufacture manufacture = verifyManufacture(mfId);
+        masterDataListCache.changed(MasterDataListCache.MANUFACTURE);
+        secondLevelCache.evict(Manufacture.class, manufacture.getMfId());
         manufacture.setManufactureStatus(Manufacture.ManufactureStatus.INACTIVE);
 
         manufactureRepository.save(manufacture);
@@ -124,6 +141,8 @@ public class ManufactureService {
         extractMemberFromAuthentication(authentication);
 
         Manufacture manufacture = findVerifiedManufactureByMfCd(mfCd);
+        masterDataListCache.changed(MasterDataListCache.MANUFACTURE);
+        secondLevelCache.evict(Manufacture.class, manufacture.getMfId());
         manufacture.setManufactureStatus(Manufacture.ManufactureStatus.INACTIVE);
 
         manufactureRepository.save(manufacture);
@@ -147,9 +166,12 @@ public class ManufactureService {
 
     }
 
-    // mfNm로 Manufacture 검증
+    // mfNm로 Manufacture 검증 (이름 -> 코드 색인 후 natural-id 2차 캐시, 색인이 옛 이름이면 DB 에서 다시 찾는다)
     public Manufacture verifyManufactureByNm(String mfNm) {
-        Manufacture manufacture = manufactureRepository.findByMfNm(mfNm)
+        Manufacture manufacture = masterDataCache.findMfCd(mfNm, nm -> manufactureRepository.findByMfNm(nm).map(Manufacture::getMfCd))
+                .flatMap(mfCd -> naturalIdLoader.load(Manufacture.class, mfCd))
+                .filter(found -> mfNm.equals(found.getMfNm()))
+                .or(() -> manufactureRepository.findByMfNm(mfNm))
                 .orElseThrow(() -> new BusinessLogicException(ExceptionCode.MANUFACTURE_NOT_FOUND));
 
         //isDeleted(manufacture);
@@ -159,7 +181,7 @@ public class ManufactureService {
     // mfCd로 Manufacture 검증
     private Manufacture findVerifiedManufactureByMfCd(String mfCd) {
 
-        return manufactureRepository.findByMfCd(mfCd)
+        return naturalIdLoader.load(Manufacture.class, mfCd)
                 .orElseThrow(() -> new BusinessLogicException(ExceptionCode.MANUFACTURE_NOT_FOUND));
     }
 
@@ -167,7 +189,7 @@ public class ManufactureService {
     private Member extractMemberFromAuthentication(Authentication authentication) {
         String username = (String) authentication.getPrincipal();
 
-        return memberRepository.findByEmployeeId(username)
+        return naturalIdLoader.load(Member.class, username)
                 .orElseThrow(() -> new BusinessLogicException(ExceptionCode.MEMBER_NOT_FOUND));
     }
 
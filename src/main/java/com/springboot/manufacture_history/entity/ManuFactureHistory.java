@@ -14,7 +14,8 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 public class ManuFactureHistory {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "manufacture_history_seq")
+    @SequenceGenerator(name = "manufacture_history_seq", sequenceName = "manufacture_history_seq", allocationSize = 50)
     private Long mfHistoryId;
 
     @Column(nullable = false)
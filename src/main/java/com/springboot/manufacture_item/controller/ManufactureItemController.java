@@ -44,6 +44,7 @@ public class ManufactureItemController {
     }
 
     // 제조사 공급단가 조회
+    @Transactional(readOnly = true)
     @GetMapping("/{mfItemId}")
     public ResponseEntity getItemMf(@PathVariable("mfItemId") @Positive long mfItemId, Authentication authentication) {
         ItemManufacture itemMf = manufactureItemService.findItemMf(mfItemId, authentication);
@@ -52,6 +53,7 @@ public class ManufactureItemController {
                 new SingleResponseDto<>(itemMfMapper.itemMfToItemMfResponseDto(itemMf)), HttpStatus.OK);
     }
 
+    @Transactional(readOnly = true)
     @GetMapping
     public ResponseEntity getItemMfs(@RequestParam(required = false) String mfCd,
                                      @RequestParam(required = false) String mfNm,
@@ -74,14 +76,13 @@ public class ManufactureItemController {
             }
         }
 
-        Page<ItemManufacture> itemManufacturePage = manufactureItemService.findItemMfs(page - 1, size, criteria, direction, itemNm, itemCd, mfNm, mfCd, region);
-        List<ItemManufacture> itemManufactures = itemManufacturePage.getContent();
+        Page<Dto.ItemMfResponseDto> itemManufacturePage = manufactureItemService.findItemMfs(page - 1, size, criteria, direction, itemNm, itemCd, mfNm, mfCd, region);
 
         return new ResponseEntity<>(
-                new MultiResponseDto<>(
-                        itemMfMapper.itemMfToItemMfResponseDtos(itemManufactures), itemManufacturePage), HttpStatus.OK);
+                new MultiResponseDto<>(itemManufacturePage.getContent(), itemManufacturePage), HttpStatus.OK);
     }
 
+    @Transactional(readOnly = true)
     @GetMapping("/{mfItemId}/histories")
     public ResponseEntity getHistory(@Positive @PathVariable("mfItemId") Long mfItemId,
                                      @Positive @RequestParam int page,
@@ -17,7 +17,8 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 public class ItemManufacture {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "item_manufacture_seq")
+    @SequenceGenerator(name = "item_manufacture_seq", sequenceName = "item_manufacture_seq", allocationSize = 50)
     private long mfItemId;
 
     @Column
@@ -1,5 +1,6 @@
 package com.springboot.manufacture_item.repository;
 
+import com.springboot.manufacture_item.dto.Dto;
 import com.springboot.manufacture_item.entity.ItemManufacture;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -9,9 +10,10 @@ import java.util.List;
 
 public interface MfItemQueryRepositoryCustom {
 
-    Page<ItemManufacture> findItemManufacture(String itemNm, String itemCd,
-                                              String mfNm, String mfCd,
-                                              String region, Pageable pageable);
+    // 목록 화면에 필요한 컬럼만 응답 DTO 로 바로 조회한다
+    Page<Dto.ItemMfResponseDto> findItemManufacture(String itemNm, String itemCd,
+                                                    String mfNm, String mfCd,
+                                                    String region, Pageable pageable);
 
     List<ItemManufacture> findManufacturedItemsForOrderItems (String employeeId, LocalDateTime start, LocalDateTime end);
 }
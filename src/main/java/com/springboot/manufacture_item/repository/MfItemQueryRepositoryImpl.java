@@ -1,13 +1,16 @@
 package com.springboot.manufacture_item.repository;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.EntityPath;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.PathBuilder;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.springboot.item.entity.QItem;
 import com.springboot.manufacture.entity.QManufacture;
+import com.springboot.manufacture_item.dto.Dto;
 import com.springboot.manufacture_item.entity.ItemManufacture;
 import com.springboot.manufacture_item.entity.QItemManufacture;
 import com.springboot.member.entity.QMember;
@@ -33,7 +36,7 @@ public class MfItemQueryRepositoryImpl implements MfItemQueryRepositoryCustom {
     }
 
     @Override
-    public Page<ItemManufacture> findItemManufacture(String itemNm, String itemCd, String mfNm, String mfCd, String region, Pageable pageable) {
+    public Page<Dto.ItemMfResponseDto> findItemManufacture(String itemNm, String itemCd, String mfNm, String mfCd, String region, Pageable pageable) {
 
         QItemManufacture itemManufacture = QItemManufacture.itemManufacture;
         QItem item = QItem.item;
@@ -42,36 +45,50 @@ public class MfItemQueryRepositoryImpl implements MfItemQueryRepositoryCustom {
         BooleanBuilder builder = new BooleanBuilder();
 
         if (itemNm != null && !itemNm.isEmpty()) {
-            builder.and(itemManufacture.item.itemNm.containsIgnoreCase(itemNm));
+            builder.and(item.itemNm.containsIgnoreCase(itemNm));
         }
 
         if (itemCd != null && !itemCd.isEmpty()) {
-            builder.and(itemManufacture.item.itemCd.containsIgnoreCase(itemCd));
+            builder.and(item.itemCd.containsIgnoreCase(itemCd));
         }
 
         if (mfNm != null && !mfNm.isEmpty()) {
-            builder.and(itemManufacture.manufacture.mfNm.containsIgnoreCase(mfNm));
+            builder.and(manufacture.mfNm.containsIgnoreCase(mfNm));
         }
 
         if (mfCd != null && !mfCd.isEmpty()) {
-            builder.and(itemManufacture.manufacture.mfCd.containsIgnoreCase(mfCd));
+            builder.and(manufacture.mfCd.containsIgnoreCase(mfCd));
         }
 
-        //sort 처리
-        List<OrderSpecifier<?>> orderSpecifiers = getSortOrder(pageable, itemManufacture);
+        if (region != null && !region.isEmpty()) {
+            builder.and(manufacture.region.containsIgnoreCase(region));
+        }
 
-        List<ItemManufacture> results = queryFactory.selectFrom(itemManufacture)
+        //sort 처리
+        List<OrderSpecifier<?>> orderSpecifiers = getSortOrder(pageable, itemManufacture, item, manufacture);
+
+        // item / manufacture 를 join 한 select 한 번으로 응답 컬럼만 조회한다
+        List<Dto.ItemMfResponseDto> results = queryFactory
+                .select(Projections.constructor(Dto.ItemMfResponseDto.class,
+                        itemManufacture.mfItemId, manufacture.region, manufacture.email, manufacture.mfNm,
+                        manufacture.mfCd, item.itemCd, item.itemNm, itemManufacture.unitPrice, itemManufacture.qty))
+                .from(itemManufacture)
+                .join(itemManufacture.item, item)
+                .join(itemManufacture.manufacture, manufacture)
                 .where(builder)
                 .orderBy(orderSpecifiers.toArray(new OrderSpecifier[0]))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        long total = queryFactory.selectFrom(itemManufacture)
+        Long total = queryFactory.select(itemManufacture.count())
+                .from(itemManufacture)
+                .join(itemManufacture.item, item)
+                .join(itemManufacture.manufacture, manufacture)
                 .where(builder)
-                .fetchCount();
+                .fetchOne();
 
-        return new PageImpl<>(results, pageable, total);
+        return new PageImpl<>(results, pageable, total != null ? total : 0L);
     }
 
     @Override
@@ -95,8 +112,10 @@ public class MfItemQueryRepositoryImpl implements MfItemQueryRepositoryCustom {
                 .fetch();
 
         // 제조된 제품의 itemCd와 조인하여 일치하는 항목 찾기
+        // 제품 / 제조사는 EAGER 라서 납품 기록마다 따로 읽지 않도록 fetch join 한다
         return queryFactory.selectFrom(itemManufacture)
-                .join(itemManufacture.item, item)  // ItemManufacture와 Item을 조인
+                .join(itemManufacture.item, item).fetchJoin()  // ItemManufacture와 Item을 조인
+                .join(itemManufacture.manufacture, QManufacture.manufacture).fetchJoin()
                 .where(
                         item.itemCd.in(orderItemCds)  // Item의 itemCd와 OrderItems의 itemCd 비교
                                 .and(itemManufacture.createdAt.before(
@@ -109,11 +128,21 @@ public class MfItemQueryRepositoryImpl implements MfItemQueryRepositoryCustom {
                 .fetch();
     }
 
-    private List<OrderSpecifier<?>> getSortOrder(Pageable pageable, QItemManufacture itemManufacture) {
+    // "item.itemNm", "manufacture.region" 처럼 연관 엔티티 필드로 정렬하면 join 한 alias 기준으로 정렬한다
+    private List<OrderSpecifier<?>> getSortOrder(Pageable pageable, QItemManufacture itemManufacture, QItem item, QManufacture manufacture) {
         List<OrderSpecifier<?>> orders = new ArrayList<>();
         for (Sort.Order order : pageable.getSort()) {
-            PathBuilder pathBuilder = new PathBuilder(itemManufacture.getType(), itemManufacture.getMetadata());
-            orders.add(new OrderSpecifier(order.isAscending() ? Order.ASC : Order.DESC, pathBuilder.get(order.getProperty())));
+            String property = order.getProperty();
+            EntityPath<?> root = itemManufacture;
+            if (property.startsWith("item.")) {
+                root = item;
+                property = property.substring("item.".length());
+            } else if (property.startsWith("manufacture.")) {
+                root = manufacture;
+                property = property.substring("manufacture.".length());
+            }
+            PathBuilder pathBuilder = new PathBuilder(root.getType(), root.getMetadata());
+            orders.add(new OrderSpecifier(order.isAscending() ? Order.ASC : Order.DESC, pathBuilder.get(property)));
         }
         return orders;
     }
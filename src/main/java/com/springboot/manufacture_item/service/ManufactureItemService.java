@@ -5,6 +5,7 @@ import com.springboot.exception.ExceptionCode;
 import com.springboot.item.entity.Item;
 import com.springboot.item.service.ItemService;
 import com.springboot.manufacture.service.ManufactureService;
+import com.springboot.manufacture_item.dto.Dto;
 import com.springboot.manufacture_item.entity.ItemManufacture;
 import com.springboot.manufacture_item.repository.ManufactureItemRepository;
 import com.springboot.manufacture.entity.Manufacture;
@@ -22,8 +23,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static com.springboot.utils.PageableCreator.createPageable;
 
@@ -43,16 +47,27 @@ public class ManufactureItemService {
     public void createItemMf(List<ItemManufacture> itemManufactures, Authentication authentication) {
         Member member = extractMemberFromAuthentication(authentication);
 
-        itemManufactures.stream().forEach(itemManufacture -> {
-            Item item = itemService.findVerifiedItemNm(itemManufacture.getItem().getItemNm());
-            Manufacture manufacture = manufactureService.verifyManufactureByNm(itemManufacture.getManufacture().getMfNm());
+        // 제품은 IN 쿼리 한 번, 같은 요청 안에서 반복되는 제조사는 한 번만 조회
+        Map<String, Item> items = itemService.findVerifiedItemsByNm(itemManufactures.stream()
+                .map(itemManufacture -> itemManufacture.getItem().getItemNm())
+                .collect(Collectors.toList()));
+        Map<String, Manufacture> manufactures = new HashMap<>();
 
-            itemManufacture.addItem(item);
-            itemManufacture.addMf(manufacture);
+        // 조회를 먼저 끝내야 저장 도중 auto flush 가 일어나지 않아 insert 가 batch 로 묶인다
+        itemManufactures.stream().forEach(itemManufacture -> {
+            Item item = items.get(itemManufacture.getItem().getItemNm());
+            Manufacture manufacture = manufactures.computeIfAbsent(itemManufacture.getManufacture().getMfNm(), manufactureService::verifyManufactureByNm);
 
-            ItemManufacture saveItemManufacture = itemMfRepository.save(itemManufacture);
-            manufactureHistoryRepository.save(manufactureHistoryMapper.manufactureHistoryToItemManufacture(saveItemManufacture, member));
+            // 역방향 컬렉션(item.itemManufactures 등)은 저장에 필요 없으므로 초기화하지 않는다
+            itemManufacture.setItem(item);
+            itemManufacture.setManufacture(manufacture);
         });
+
+        // id 는 sequence 로 persist 시점에 발급되므로 history 에 바로 사용할 수 있다
+        List<ItemManufacture> savedItemManufactures = itemMfRepository.saveAll(itemManufactures);
+        manufactureHistoryRepository.saveAll(savedItemManufactures.stream()
+                .map(saved -> manufactureHistoryMapper.manufactureHistoryToItemManufacture(saved, member))
+                .collect(Collectors.toList()));
     }
 
     // mfItemId로 개별 조회
@@ -63,11 +78,12 @@ public class ManufactureItemService {
     }
 
     //납품 전체내역 조회 (매개변수 별로 filter 가능)
-    public Page<ItemManufacture> findItemMfs(int page, int size,
-                                             String criteria,String direction,
-                                             String itemNm, String itemCd,
-                                             String mfNm, String mfCd,
-                                             String region) {
+    @Transactional(readOnly = true)
+    public Page<Dto.ItemMfResponseDto> findItemMfs(int page, int size,
+                                                   String criteria,String direction,
+                                                   String itemNm, String itemCd,
+                                                   String mfNm, String mfCd,
+                                                   String region) {
 
         Pageable pageable = createPageable(page, size, criteria, direction);
 
@@ -75,6 +91,7 @@ public class ManufactureItemService {
     }
 
     //납품 History 전체조회
+    @Transactional(readOnly = true)
     public Page<ManuFactureHistory> findHistories (int page, int size, String criteria, String direction, Long mfItemId, Authentication authentication) {
         extractMemberFromAuthentication(authentication);
 
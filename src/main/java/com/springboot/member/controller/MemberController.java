@@ -41,6 +41,14 @@ public class MemberController {
         this.emailService = emailService;
     }
 
+    // 사원 등록 (관리자). SecurityConfiguration 에는 POST /members 가 ADMIN 으로 열려 있었지만 처리할 핸들러가 없어
+    // 이벤트 버스의 member.registered 를 발행하는 곳이 없었다. 안내 메일은 커밋 후 이벤트로 발송된다
+    @PostMapping
+    public ResponseEntity<?> postMember(@Valid @RequestBody MemberDto.Post requestBody) {
+        Member member = memberService.createMember(mapper.memberPostToMember(requestBody));
+        return new ResponseEntity<>(new SingleResponseDto<>(mapper.memberToMemberResponse(member)), HttpStatus.CREATED);
+    }
+
     // 현재 로그인된 사용자의 정보를 조회
     @GetMapping("/my-info")
     public ResponseEntity<?> getMember(Authentication authentication) {
@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import javax.validation.constraints.Email;
+import javax.validation.constraints.NotBlank;
 
 import com.springboot.validator.NotSpace;
 
@@ -17,9 +18,17 @@ public class MemberDto {
 
     @Getter
     @AllArgsConstructor
+    @NoArgsConstructor
     public static class Post {
 
+        @NotBlank
         private String employeeId;
+        @NotBlank
+        @Email
+        private String email;
+        @NotSpace(message = "회원 이름은 공백이 아니어야 합니다")
+        private String name;
+        // 없으면 이메일로 정한다 (관리자 메일이면 ADMIN)
         private String role;
 
     }
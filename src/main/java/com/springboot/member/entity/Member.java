@@ -5,6 +5,10 @@ import com.springboot.order_header.entity.OrderHeaders;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import javax.persistence.*;
 import java.util.ArrayList;
@@ -14,12 +18,18 @@ import java.util.List;
 @Setter
 @Entity
 @NoArgsConstructor
+// 로그인(인증) 경로에서만 roles 를 함께 조회한다
+@NamedEntityGraph(name = "Member.roles", attributeNodes = @NamedAttributeNode("roles"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "member")
+@NaturalIdCache(region = "member-natural-id")
 public class Member {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private long memberId;
 
+    @NaturalId
     @Column(nullable = false, updatable = false, unique = true)
     private String employeeId;
 
@@ -38,7 +48,7 @@ public class Member {
     @Column(nullable = true)
     private String address;
 
-    @ElementCollection(fetch = FetchType.EAGER)
+    @ElementCollection(fetch = FetchType.LAZY)
     private List<String> roles = new ArrayList<>();
 
     @Column(nullable = true)
@@ -7,6 +7,7 @@ import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.ReportingPolicy;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
@@ -15,7 +16,11 @@ public interface MemberMapper {
     default Member memberPostToMember(MemberDto.Post requestBody){
         Member member = new Member();
         member.setEmployeeId(requestBody.getEmployeeId());
-        member.setRoles(List.of(requestBody.getRole()));
+        member.setEmail(requestBody.getEmail());
+        member.setName(requestBody.getName());
+        if (requestBody.getRole() != null) {
+            member.setRoles(new ArrayList<>(List.of(requestBody.getRole())));
+        }
         return member;
     }
 
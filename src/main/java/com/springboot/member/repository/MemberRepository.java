@@ -1,6 +1,7 @@
 package com.springboot.member.repository;
 
 import com.springboot.member.entity.Member;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Optional;
@@ -11,6 +12,10 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     boolean existsByEmail(String email);
 
     Optional<Member> findByEmployeeId(String employeeId);
+
+    // 인증용 : roles 를 join 으로 한 번에 조회
+    @EntityGraph(value = "Member.roles")
+    Optional<Member> findWithRolesByEmployeeId(String employeeId);
     boolean existsByEmployeeId(String employeeId);
 
 }
@@ -1,7 +1,12 @@
 package com.springboot.member.service;
 
+import com.springboot.auth.userdetails.UserDetailsCache;
 import com.springboot.auth.utils.JwtAuthorityUtils;
+import com.springboot.cache.NaturalIdLoader;
+import com.springboot.cache.SecondLevelCache;
 import com.springboot.email.service.EmailService;
+import com.springboot.event.dto.DomainEventDto;
+import com.springboot.event.service.EventBus;
 import com.springboot.exception.BusinessLogicException;
 import com.springboot.exception.ExceptionCode;
 import com.springboot.member.entity.Member;
@@ -14,6 +19,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -28,14 +34,46 @@ public class MemberService {
     private final PasswordEncoder passwordEncoder;
     private final JwtAuthorityUtils authorityUtils;
     private final EmailService emailService;
-
-
-    public MemberService(MemberRepository memberRepository, ApplicationEventPublisher publisher, PasswordEncoder passwordEncoder, JwtAuthorityUtils authorityUtils, EmailService emailService) {
+    private final UserDetailsCache userDetailsCache;
+    private final NaturalIdLoader naturalIdLoader;
+    private final SecondLevelCache secondLevelCache;
+    private final EventBus eventBus;
+
+    public MemberService(MemberRepository memberRepository, ApplicationEventPublisher publisher, PasswordEncoder passwordEncoder, JwtAuthorityUtils authorityUtils, EmailService emailService,
+                         UserDetailsCache userDetailsCache, NaturalIdLoader naturalIdLoader, SecondLevelCache secondLevelCache,
+                         EventBus eventBus) {
         this.memberRepository = memberRepository;
         this.publisher = publisher;
         this.passwordEncoder = passwordEncoder;
         this.authorityUtils = authorityUtils;
         this.emailService = emailService;
+        this.userDetailsCache = userDetailsCache;
+        this.naturalIdLoader = naturalIdLoader;
+        this.secondLevelCache = secondLevelCache;
+        this.eventBus = eventBus;
+    }
+
+    // 사원 등록. 안내 메일은 같은 트랜잭션에 저장한 등록 이벤트로 커밋 후에 보낸다
+    // (메일이 끝내 실패하면 MemberRegistrationEventListener 가 등록을 되돌린다)
+    @Transactional
+    public Member createMember(Member member) {
+        verifyExistsEmail(member.getEmail());
+        if (memberRepository.existsByEmployeeId(member.getEmployeeId())) {
+            throw new BusinessLogicException(ExceptionCode.MEMBER_EXISTS);
+        }
+
+        if (member.getPassword() == null || member.getPassword().isEmpty()) {
+            member.setPassword(generateRandomPassword());
+        }
+        member.setPassword(passwordEncoder.encode(member.getPassword()));
+        if (member.getRoles().isEmpty()) {
+            member.setRoles(new ArrayList<>(authorityUtils.createRoles(member.getEmail())));
+        }
+
+        Member savedMember = memberRepository.save(member);
+        eventBus.publish(DomainEventDto.MemberRegistered.TYPE, savedMember.getEmployeeId(),
+                new DomainEventDto.MemberRegistered(savedMember.getEmployeeId(), savedMember.getEmail()));
+        return savedMember;
     }
 
 
@@ -55,6 +93,10 @@ public class MemberService {
         Optional.ofNullable(member.getMemberStatus())
                 .ifPresent(findMember::setMemberStatus);
 
+        // 로그인 캐시에 남은 이전 상태 제거
+        userDetailsCache.invalidate(findMember.getEmployeeId());
+        secondLevelCache.evict(Member.class, findMember.getMemberId());
+
         return memberRepository.save(findMember);
     }
 
@@ -80,7 +122,7 @@ public class MemberService {
 
     @Transactional(readOnly = true)
     public Member findVerifiedEmployee(String employeeId) {
-        Optional<Member> optionalMember = memberRepository.findByEmployeeId(employeeId);
+        Optional<Member> optionalMember = naturalIdLoader.load(Member.class, employeeId);
         Member findMember = optionalMember.orElseThrow(() ->
                 new BusinessLogicException(ExceptionCode.MEMBER_NOT_FOUND));
         return findMember;
@@ -95,6 +137,8 @@ public class MemberService {
         Member findMember = findVerifiedMember(email);
 
         findMember.setMemberStatus(MEMBER_QUIT);
+        userDetailsCache.invalidate(findMember.getEmployeeId());
+        secondLevelCache.evict(Member.class, findMember.getMemberId());
 
         memberRepository.save(findMember);
     }
@@ -107,6 +151,8 @@ public class MemberService {
         }
 
         findMember.setMemberStatus(Member.MemberStatus.MEMBER_SLEEP);
+        userDetailsCache.invalidate(findMember.getEmployeeId());
+        secondLevelCache.evict(Member.class, findMember.getMemberId());
         memberRepository.save(findMember);
     }
 
@@ -129,6 +175,8 @@ public class MemberService {
         }
 
         findMember.setPassword(passwordEncoder.encode(member.getPassword()));
+        userDetailsCache.invalidate(findMember.getEmployeeId());
+        secondLevelCache.evict(Member.class, findMember.getMemberId());
 
         return memberRepository.save(findMember);
     }
@@ -147,6 +195,7 @@ public class MemberService {
     public Member uploadProfile(String employeeId, String profileUrl) {
         Member member = findVerifiedEmployee(employeeId);
         member.setProfileUrl(profileUrl);
+        secondLevelCache.evict(Member.class, member.getMemberId());
         return memberRepository.save(member);
     }
 
@@ -154,6 +203,7 @@ public class MemberService {
     public Member updateProfile(String employeeId, String newProfileUrl) {
         Member member = findVerifiedEmployee(employeeId);
         member.setProfileUrl(newProfileUrl);
+        secondLevelCache.evict(Member.class, member.getMemberId());
         return memberRepository.save(member);
     }
 
@@ -161,6 +211,7 @@ public class MemberService {
     public Member deleteProfile(String employeeId) {
         Member member = findVerifiedEmployee(employeeId);
         member.setProfileUrl("https://img.hankyung.com/photo/202208/BF.30820179.1.jpg"); // 기본 이미지 URL
+        secondLevelCache.evict(Member.class, member.getMemberId());
         return memberRepository.save(member);
     }
 
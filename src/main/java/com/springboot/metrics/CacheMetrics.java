@@ -0,0 +1,81 @@
+package com.springboot.metrics;
+
+import com.springboot.auth.session.ActiveSessionCache;
+import com.springboot.cache.MasterDataCache;
+import com.springboot.cache.SecondLevelCache;
+import com.springboot.cache.TwoTierCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 캐시 적중 메트릭 (Micrometer 캐시 메트릭 이름 규칙을 따른다).
+ * - cache.gets{cache, tier, result} : 기준정보 캐시(local / redis), Hibernate 2차 캐시, 로그인 세션 캐시
+ * - cache.hit.ratio{cache, tier}   : 기동 후 누적 적중률
+ * 값은 각 캐시가 이미 세고 있는 카운터를 수집 시점에 읽는다 (요청 경로에 추가 비용 없음).
+ */
+@Component
+public class CacheMetrics implements MeterBinder {
+    private final MasterDataCache masterDataCache;
+    private final SecondLevelCache secondLevelCache;
+    private final ActiveSessionCache activeSessionCache;
+
+    public CacheMetrics(MasterDataCache masterDataCache, SecondLevelCache secondLevelCache,
+                        ActiveSessionCache activeSessionCache) {
+        this.masterDataCache = masterDataCache;
+        this.secondLevelCache = secondLevelCache;
+        this.activeSessionCache = activeSessionCache;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (TwoTierCache.Stats stats : masterDataCache.stats()) {
+            String name = stats.getName();
+            gets(registry, name, "local", "hit", masterDataCache, cache -> masterData(cache, name).getLocalHits());
+            gets(registry, name, "redis", "hit", masterDataCache, cache -> masterData(cache, name).getRedisHits());
+            gets(registry, name, "redis", "miss", masterDataCache, cache -> masterData(cache, name).getMisses());
+            ratio(registry, name, "master-data", masterDataCache, cache -> masterData(cache, name).getHitRate());
+        }
+
+        for (SecondLevelCache.RegionStats stats : secondLevelCache.stats()) {
+            String region = stats.getName();
+            gets(registry, region, "second-level", "hit", secondLevelCache, cache -> region(cache, region).getHits());
+            gets(registry, region, "second-level", "miss", secondLevelCache, cache -> region(cache, region).getMisses());
+            ratio(registry, region, "second-level", secondLevelCache, cache -> region(cache, region).getHitRate());
+        }
+
+        // 로컬에서 통과하지 못한 확인은 Redis 로 넘어간다
+        gets(registry, "active-session", "local", "hit", activeSessionCache, ActiveSessionCache::getLocalHits);
+        gets(registry, "active-session", "local", "miss", activeSessionCache, ActiveSessionCache::getRedisLookups);
+    }
+
+    private static <T> void gets(MeterRegistry registry, String cache, String tier, String result,
+                                 T source, ToDoubleFunction<T> count) {
+        FunctionCounter.builder("cache.gets", source, count)
+                .tag("cache", cache)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static <T> void ratio(MeterRegistry registry, String cache, String tier, T source, ToDoubleFunction<T> ratio) {
+        Gauge.builder("cache.hit.ratio", source, ratio)
+                .tag("cache", cache)
+                .tag("tier", tier)
+                .register(registry);
+    }
+
+    private static TwoTierCache.Stats masterData(MasterDataCache cache, String name) {
+        return cache.stats().stream().filter(stats -> stats.getName().equals(name)).findFirst()
+                .orElseThrow(IllegalStateException::new);
+    }
+
+    private static SecondLevelCache.RegionStats region(SecondLevelCache cache, String region) {
+        return cache.stats().stream().filter(stats -> stats.getName().equals(region)).findFirst()
+                .orElseThrow(IllegalStateException::new);
+    }
+}
@@ -0,0 +1,102 @@
+package com.springboot.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컨트롤러 / 저장소 메서드별 응답 시간.
+ * - controller.method{controller, method, exception}
+ * - repository.method{repository, method, exception} : Spring Data 저장소와 *QueryRepositoryImpl (Querydsl) 모두.
+ *   저장소 호출 안에서 다시 저장소 프록시를 거치는 호출 (default 메서드가 부르는 쿼리 메서드 등) 은 바깥 호출 하나로만 기록한다.
+ * 정상 완료 Timer 는 (클래스, 메서드)별로 한 번만 만들어 두고 재사용한다 (호출마다 Meter id 를 만들지 않도록).
+ * Timer 기록은 잠금 없이 누적되고, 히스토그램 구간은 MetricsConfiguration 에서 켠다.
+ */
+@Aspect
+@Component
+public class HotPathMetricsAspect {
+    static final String CONTROLLER_TIMER = "controller.method";
+    static final String REPOSITORY_TIMER = "repository.method";
+    private static final String NONE = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Class<?>, Map<Method, Timer>> controllerTimers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Map<Method, Timer>> repositoryTimers = new ConcurrentHashMap<>();
+    private final ThreadLocal<Boolean> inRepositoryCall = new ThreadLocal<>();
+
+    public HotPathMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("@within(org.springframework.web.bind.annotation.RestController) && execution(public * com.springboot..*(..))")
+    public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, CONTROLLER_TIMER, "controller", controllerTimers);
+    }
+
+    // Spring Data 저장소는 프록시 (this(Repository)) 로 잡아서 상속받은 CRUD 메서드(findById 등)도 포함하고,
+    // Querydsl 저장소는 *QueryRepositoryImpl 빈의 메서드로 잡는다. 패키지 전체를 잡으면 인터페이스와 구현이 겹친다
+    @Around("this(org.springframework.data.repository.Repository) " +
+            "|| execution(public * com.springboot..repository.*QueryRepositoryImpl.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (inRepositoryCall.get() != null) {
+            return joinPoint.proceed();
+        }
+        inRepositoryCall.set(Boolean.TRUE);
+        try {
+            return time(joinPoint, REPOSITORY_TIMER, "repository", repositoryTimers);
+        } finally {
+            inRepositoryCall.remove();
+        }
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, String name, String ownerTag,
+                        Map<Class<?>, Map<Method, Timer>> timers) throws Throwable {
+        long started = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+            Class<?> owner = owner(joinPoint);
+            timers.computeIfAbsent(owner, key -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(method, key -> timer(name, ownerTag, owner, method, NONE))
+                    .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+            timer(name, ownerTag, owner(joinPoint), method, e.getClass().getSimpleName())
+                    .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private Timer timer(String name, String ownerTag, Class<?> owner, Method method, String exception) {
+        return Timer.builder(name)
+                .tag(ownerTag, owner.getSimpleName())
+                .tag("method", method.getName())
+                .tag("exception", exception)
+                .register(meterRegistry);
+    }
+
+    // Spring Data 저장소는 JDK 프록시이므로 이 프로젝트의 저장소 인터페이스 이름을 쓴다
+    private static Class<?> owner(ProceedingJoinPoint joinPoint) {
+        Object proxy = joinPoint.getThis();
+        if (proxy != null && AopUtils.isJdkDynamicProxy(proxy)) {
+            for (Class<?> candidate : AopProxyUtils.proxiedUserInterfaces(proxy)) {
+                if (candidate.getName().startsWith("com.springboot.")) {
+                    return candidate;
+                }
+            }
+        }
+        return AopUtils.getTargetClass(joinPoint.getTarget());
+    }
+}
@@ -0,0 +1,45 @@
+package com.springboot.metrics;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+public class MetricsConfiguration {
+    // 히스토그램 구간을 내보내는 Timer (Prometheus 에서 histogram_quantile 로 p95 / p99 계산)
+    private static final List<String> HISTOGRAM_TIMERS = List.of(
+            HotPathMetricsAspect.CONTROLLER_TIMER,
+            HotPathMetricsAspect.REPOSITORY_TIMER,
+            "jwt.verification",
+            "http.server.requests",
+            "hikaricp.connections.acquire",
+            "lettuce.command.completion");
+
+    /**
+     * 응답 시간 Timer 에 히스토그램 구간을 켠다.
+     * 구간 수(시계열 수)를 줄이기 위해 1ms ~ metrics.histogram.max-seconds 사이만 둔다.
+     */
+    @Bean
+    public MeterFilter hotPathHistograms(@Value("${metrics.histogram.max-seconds:30}") long maxSeconds) {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!HISTOGRAM_TIMERS.contains(id.getName())) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .minimumExpectedValue((double) Duration.ofMillis(1).toNanos())
+                        .maximumExpectedValue((double) Duration.ofSeconds(maxSeconds).toNanos())
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+}
@@ -0,0 +1,27 @@
+package com.springboot.metrics;
+
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import io.prometheus.client.exporter.common.TextFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+// Prometheus 수집 엔드포인트 (/admin/** 이므로 ADMIN 만). actuator 엔드포인트는 웹에 노출하지 않는다
+@RestController
+@RequestMapping("/admin/metrics")
+public class MetricsController {
+    private static final MediaType PROMETHEUS_TEXT = MediaType.parseMediaType(TextFormat.CONTENT_TYPE_004);
+
+    private final PrometheusMeterRegistry prometheusMeterRegistry;
+
+    public MetricsController(PrometheusMeterRegistry prometheusMeterRegistry) {
+        this.prometheusMeterRegistry = prometheusMeterRegistry;
+    }
+
+    @GetMapping
+    public ResponseEntity<String> scrape() {
+        return ResponseEntity.ok().contentType(PROMETHEUS_TEXT).body(prometheusMeterRegistry.scrape());
+    }
+}
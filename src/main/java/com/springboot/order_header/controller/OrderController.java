@@ -9,7 +9,9 @@ import com.springboot.order_header.dto.OrderDto;
 import com.springboot.report.reportDto.ReportDto;
 import com.springboot.order_header.entity.OrderHeaders;
 import com.springboot.order_header.mapper.OrderMapper;
+import com.springboot.order_header.service.OrderImportService;
 import com.springboot.order_header.service.OrderService;
+import com.springboot.order_header.stream.OrderStreamHub;
 import com.springboot.order_item.entity.OrderItems;
 import com.springboot.response.MultiResponseDto;
 import com.springboot.response.SingleResponseDto;
@@ -20,14 +22,18 @@ import org.springframework.boot.context.properties.bind.DefaultValue;
 import org.springframework.data.domain.Page;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import javax.persistence.criteria.CriteriaBuilder;
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import javax.validation.constraints.Positive;
+import java.io.IOException;
 import java.net.URI;
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -39,16 +45,20 @@ import java.util.List;
 @RequestMapping("/orders")
 public class OrderController {
     private final OrderService orderService;
+    private final OrderImportService orderImportService;
     private final OrderMapper orderMapper;
     private final BuyerService buyerService;
     private final SaleHistoryMapper saleHistoryMapper;
+    private final OrderStreamHub orderStreamHub;
     private final static String ORDER_DEFAULT_URI ="/orders";
 
-    public OrderController(OrderService orderService, OrderMapper orderMapper, BuyerService buyerService, SaleHistoryMapper saleHistoryMapper) {
+    public OrderController(OrderService orderService, OrderImportService orderImportService, OrderMapper orderMapper, BuyerService buyerService, SaleHistoryMapper saleHistoryMapper, OrderStreamHub orderStreamHub) {
         this.orderService = orderService;
+        this.orderImportService = orderImportService;
         this.orderMapper = orderMapper;
         this.buyerService = buyerService;
         this.saleHistoryMapper = saleHistoryMapper;
+        this.orderStreamHub = orderStreamHub;
     }
 
     // 주문 등록
@@ -86,6 +96,17 @@ public class OrderController {
         return new ResponseEntity(orderMapper.ordersToOrderResponseDtos(orders), HttpStatus.CREATED);
     }
 
+    // 대량 주문 등록 (CSV / NDJSON) : 요청 본문을 스트림으로 읽고 chunkSize 줄 단위로 커밋
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity importOrders(HttpServletRequest request,
+                                       @Positive @RequestParam(required = false) Integer chunkSize,
+                                       Authentication authentication) throws IOException {
+        MediaType contentType = MediaType.parseMediaType(request.getContentType());
+        OrderDto.ImportReport report = orderImportService.importOrders(request.getInputStream(), contentType, chunkSize, authentication);
+
+        return new ResponseEntity<>(new SingleResponseDto<>(report), HttpStatus.OK);
+    }
+
     //주문 (order-header) 수정
     @PatchMapping
     public ResponseEntity patchOrder(@Valid @RequestBody List<OrderDto.OrderPatch> orderPatchDtos , Authentication authentication) {
@@ -149,6 +170,15 @@ public class OrderController {
         return new ResponseEntity<>(new SingleResponseDto<>(orderMapper.ordersToOrderResponseDtos(orderHeaders)),HttpStatus.OK);
     }
 
+    // 주문 상태 변경 스트림 (SSE) : ADMIN 은 전체 주문, 그 외에는 본인이 등록한 주문만. 재연결하면 Last-Event-ID 다음부터 받는다
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamOrders(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                                   Authentication authentication) {
+        boolean admin = authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+        return orderStreamHub.subscribe((String) authentication.getPrincipal(), admin, lastEventId);
+    }
+
     //주문 개별 조회
     @GetMapping("/{order-cd}")
     public ResponseEntity getOrder(@PathVariable("order-cd") String orderCd) {
@@ -107,5 +107,25 @@ public class OrderDto {
         private String orderCd;
         private String rejectReason;
     }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ImportRowError {
+        private long line;
+        private String orderRef;
+        private String message;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ImportReport {
+        private long totalRows;
+        private long importedOrders;
+        private long importedRows;
+        private long failedOrders;
+        private List<ImportRowError> errors;
+        // 오류가 너무 많아 일부만 담았는지 여부
+        private boolean errorsTruncated;
+    }
 }
 
@@ -20,7 +20,8 @@ import java.util.List;
 @NoArgsConstructor
 public class OrderHeaders {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_headers_seq")
+    @SequenceGenerator(name = "order_headers_seq", sequenceName = "order_headers_seq", allocationSize = 50)
     private Long orderId;
 
     @Column(unique = true, updatable = false)
@@ -0,0 +1,81 @@
+package com.springboot.order_header.importer;
+
+import com.springboot.exception.BusinessLogicException;
+import com.springboot.exception.ExceptionCode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 첫 줄을 헤더로 사용하는 CSV 리더.
+ * 큰따옴표로 감싼 필드와 "" 이스케이프를 지원한다. (필드 안의 줄바꿈은 지원하지 않음)
+ */
+public class CsvOrderImportRowReader extends OrderImportRowReader {
+    private final String[] columns;
+
+    public CsvOrderImportRowReader(InputStream inputStream) throws IOException {
+        super(inputStream);
+        String header = readLine();
+        if (header == null) {
+            throw new BusinessLogicException(ExceptionCode.INVALID_REQUEST);
+        }
+        // UTF-8 BOM 제거
+        if (header.charAt(0) == '\uFEFF') {
+            header = header.substring(1);
+        }
+        List<String> headerColumns = split(header);
+        this.columns = headerColumns.stream().map(String::trim).toArray(String[]::new);
+    }
+
+    @Override
+    public OrderImportRow next() throws IOException {
+        String line = readLine();
+        if (line == null) {
+            return null;
+        }
+
+        OrderImportRow row = new OrderImportRow(lineNumber);
+        List<String> values = split(line);
+        if (values.size() > columns.length) {
+            row.setParseError("컬럼 수가 헤더보다 많습니다.");
+            return row;
+        }
+        for (int i = 0; i < values.size(); i++) {
+            setField(row, columns[i], values.get(i));
+        }
+        return row;
+    }
+
+    private static List<String> split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,52 @@
+package com.springboot.order_header.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * 한 줄에 JSON 객체 하나씩 들어있는 NDJSON 리더.
+ */
+public class NdjsonOrderImportRowReader extends OrderImportRowReader {
+    private static final ObjectReader JSON_READER = new ObjectMapper().readerFor(JsonNode.class);
+
+    public NdjsonOrderImportRowReader(InputStream inputStream) {
+        super(inputStream);
+    }
+
+    @Override
+    public OrderImportRow next() throws IOException {
+        String line = readLine();
+        if (line == null) {
+            return null;
+        }
+
+        OrderImportRow row = new OrderImportRow(lineNumber);
+        JsonNode node;
+        try {
+            node = JSON_READER.readTree(line);
+        } catch (JsonProcessingException e) {
+            row.setParseError("JSON 형식이 올바르지 않습니다.");
+            return row;
+        }
+        if (node == null || !node.isObject()) {
+            row.setParseError("JSON 객체가 아닙니다.");
+            return row;
+        }
+
+        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (!field.getValue().isNull()) {
+                setField(row, field.getKey(), field.getValue().asText());
+            }
+        }
+        return row;
+    }
+}
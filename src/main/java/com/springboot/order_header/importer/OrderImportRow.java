@@ -0,0 +1,33 @@
+package com.springboot.order_header.importer;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 대량 주문 등록 파일의 한 줄.
+ * 같은 orderRef 를 가진 연속된 줄이 하나의 주문(OrderHeaders)으로 묶인다.
+ */
+@Getter
+@Setter
+public class OrderImportRow {
+    private long line;
+    private String orderRef;
+    private String buyerCd;
+    private LocalDateTime requestDate;
+    private String itemCd;
+    private BigDecimal unitPrice;
+    private Integer qty;
+    private String unit;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+
+    // 파싱 단계에서 발생한 오류 (null 이면 정상)
+    private String parseError;
+
+    public OrderImportRow(long line) {
+        this.line = line;
+    }
+}
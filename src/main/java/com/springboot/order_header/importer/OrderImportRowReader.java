@@ -0,0 +1,121 @@
+package com.springboot.order_header.importer;
+
+import com.springboot.exception.BusinessLogicException;
+import com.springboot.exception.ExceptionCode;
+import org.springframework.http.MediaType;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 업로드 스트림을 한 줄씩 읽어 {@link OrderImportRow} 로 변환한다.
+ * 전체 파일을 메모리에 올리지 않으므로 파일 크기와 관계없이 힙 사용량이 일정하다.
+ */
+public abstract class OrderImportRowReader implements Closeable {
+    public static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+    public static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    protected final BufferedReader reader;
+    protected long lineNumber = 0;
+
+    protected OrderImportRowReader(InputStream inputStream) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    }
+
+    public static OrderImportRowReader of(MediaType contentType, InputStream inputStream) throws IOException {
+        if (contentType != null && TEXT_CSV.includes(contentType)) {
+            return new CsvOrderImportRowReader(inputStream);
+        }
+        if (contentType != null && APPLICATION_NDJSON.includes(contentType)) {
+            return new NdjsonOrderImportRowReader(inputStream);
+        }
+        throw new BusinessLogicException(ExceptionCode.INVALID_REQUEST);
+    }
+
+    // 다음 줄을 읽는다. 더 이상 읽을 줄이 없으면 null
+    public abstract OrderImportRow next() throws IOException;
+
+    // 빈 줄은 건너뛰고 다음 줄을 반환
+    protected String readLine() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.trim().isEmpty());
+        return line;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    // 컬럼 이름에 맞는 필드에 값을 설정 (알 수 없는 컬럼은 무시)
+    protected static void setField(OrderImportRow row, String column, String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return;
+        }
+        String trimmed = value.trim();
+        try {
+            switch (column) {
+                case "orderRef":
+                    row.setOrderRef(trimmed);
+                    break;
+                case "buyerCd":
+                    row.setBuyerCd(trimmed);
+                    break;
+                case "requestDate":
+                    row.setRequestDate(parseDateTime(trimmed, LocalTime.MIN));
+                    break;
+                case "itemCd":
+                    row.setItemCd(trimmed);
+                    break;
+                case "unitPrice":
+                    row.setUnitPrice(new BigDecimal(trimmed));
+                    break;
+                case "qty":
+                    row.setQty(parseQty(trimmed));
+                    break;
+                case "unit":
+                    row.setUnit(trimmed);
+                    break;
+                case "startDate":
+                    row.setStartDate(parseDateTime(trimmed, LocalTime.MIN));
+                    break;
+                case "endDate":
+                    row.setEndDate(parseDateTime(trimmed, LocalTime.of(23, 59, 59)));
+                    break;
+                default:
+            }
+        } catch (NumberFormatException | DateTimeParseException e) {
+            row.setParseError("잘못된 " + column + " 값입니다: " + trimmed);
+        } catch (BusinessLogicException e) {
+            row.setParseError(e.getExceptionCode().getMessage() + ": " + trimmed);
+        }
+    }
+
+    // 소수점 아래가 있거나 int 범위를 넘는 수량은 잘라내지 않고 거절한다 ("2.0" 처럼 정수로 떨어지는 값은 허용)
+    private static int parseQty(String value) {
+        try {
+            return new BigDecimal(value).intValueExact();
+        } catch (ArithmeticException e) {
+            throw new BusinessLogicException(ExceptionCode.INVALID_ORDER_QUANTITY);
+        }
+    }
+
+    // yyyy-MM-dd 만 주어지면 defaultTime 을 붙인다
+    private static LocalDateTime parseDateTime(String value, LocalTime defaultTime) {
+        if (value.length() == 10) {
+            return LocalDate.parse(value).atTime(defaultTime);
+        }
+        return LocalDateTime.parse(value);
+    }
+}
@@ -0,0 +1,384 @@
+package com.springboot.order_header.service;
+
+import com.springboot.buyer.entity.Buyer;
+import com.springboot.buyer.repository.BuyerRepository;
+import com.springboot.buyer_item.index.BuyerItemPriceIndex;
+import com.springboot.event.dto.DomainEventDto;
+import com.springboot.event.service.EventBus;
+import com.springboot.exception.BusinessLogicException;
+import com.springboot.exception.ExceptionCode;
+import com.springboot.item.entity.Item;
+import com.springboot.item.repository.ItemRepository;
+import com.springboot.member.entity.Member;
+import com.springboot.member.service.MemberService;
+import com.springboot.order_header.dto.OrderDto;
+import com.springboot.order_header.entity.OrderHeaders;
+import com.springboot.order_header.importer.OrderImportRow;
+import com.springboot.order_header.importer.OrderImportRowReader;
+import com.springboot.order_item.entity.OrderItems;
+import com.springboot.report.service.InventoryReport;
+import com.springboot.sale_history.mapper.SaleHistoryMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * CSV / NDJSON 대량 주문 등록.
+ * 스트림을 한 줄씩 읽어 orderRef 단위로 주문을 만들고, chunkSize 줄마다 별도 트랜잭션으로 커밋한다.
+ * 바이어, 제품, 재고는 import 한 번 동안 캐시하고 계약 단가는 BuyerItemPriceIndex 에서 찾아서 같은 값을 반복 조회하지 않는다.
+ */
+@Service
+@Slf4j
+public class OrderImportService {
+    private static final int MAX_CHUNK_SIZE = 5000;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final TransactionTemplate transactionTemplate;
+    private final BuyerRepository buyerRepository;
+    private final ItemRepository itemRepository;
+    private final BuyerItemPriceIndex buyerItemPriceIndex;
+    private final InventoryReport inventoryReport;
+    private final SaleHistoryMapper saleHistoryMapper;
+    private final MemberService memberService;
+    private final EventBus eventBus;
+    private final int defaultChunkSize;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public OrderImportService(PlatformTransactionManager transactionManager,
+                              BuyerRepository buyerRepository,
+                              ItemRepository itemRepository,
+                              BuyerItemPriceIndex buyerItemPriceIndex,
+                              InventoryReport inventoryReport,
+                              SaleHistoryMapper saleHistoryMapper,
+                              MemberService memberService,
+                              EventBus eventBus,
+                              @Value("${order.import.chunk-size:500}") int defaultChunkSize) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.buyerRepository = buyerRepository;
+        this.itemRepository = itemRepository;
+        this.buyerItemPriceIndex = buyerItemPriceIndex;
+        this.inventoryReport = inventoryReport;
+        this.saleHistoryMapper = saleHistoryMapper;
+        this.memberService = memberService;
+        this.eventBus = eventBus;
+        this.defaultChunkSize = defaultChunkSize;
+    }
+
+    public OrderDto.ImportReport importOrders(InputStream inputStream, MediaType contentType,
+                                              Integer chunkSize, Authentication authentication) throws IOException {
+        Member member = memberService.findVerifiedEmployee((String) authentication.getPrincipal());
+        ImportContext context = new ImportContext(member, resolveChunkSize(chunkSize));
+
+        try (OrderImportRowReader reader = OrderImportRowReader.of(contentType, inputStream)) {
+            List<OrderImportRow> group = new ArrayList<>();
+            OrderImportRow row;
+
+            while ((row = reader.next()) != null) {
+                context.totalRows++;
+                // orderRef 가 바뀌면 지금까지 모은 줄을 하나의 주문으로 처리
+                if (!group.isEmpty() && !Objects.equals(group.get(0).getOrderRef(), row.getOrderRef())) {
+                    addOrder(context, group);
+                    group = new ArrayList<>();
+                }
+                group.add(row);
+            }
+
+            if (!group.isEmpty()) {
+                addOrder(context, group);
+            }
+        }
+        commitChunk(context);
+
+        return new OrderDto.ImportReport(context.totalRows, context.importedOrders, context.importedRows,
+                context.failedOrders, context.errors, context.errorsTruncated);
+    }
+
+    private int resolveChunkSize(Integer chunkSize) {
+        int size = chunkSize != null ? chunkSize : defaultChunkSize;
+        return Math.max(1, Math.min(size, MAX_CHUNK_SIZE));
+    }
+
+    // 주문 단위 검증 후 커밋 대기열에 추가
+    private void addOrder(ImportContext context, List<OrderImportRow> rows) {
+        OrderImportRow first = rows.get(0);
+        boolean valid = true;
+
+        Buyer buyer = null;
+        if (first.getOrderRef() == null) {
+            valid = context.addError(first, "orderRef 가 누락되었습니다.");
+        }
+        if (first.getBuyerCd() == null) {
+            valid = context.addError(first, "buyerCd 가 누락되었습니다.");
+        } else {
+            buyer = context.buyers.computeIfAbsent(first.getBuyerCd(), buyerRepository::findByBuyerCd).orElse(null);
+            if (buyer == null) {
+                valid = context.addError(first, ExceptionCode.BUYER_NOT_FOUND.getMessage());
+            } else if (buyer.getBuyerStatus() == Buyer.BuyerStatus.INACTIVE) {
+                valid = context.addError(first, ExceptionCode.INACTIVE_STATUS.getMessage());
+                buyer = null;
+            }
+        }
+        if (first.getRequestDate() == null) {
+            valid = context.addError(first, "requestDate 가 누락되었습니다.");
+        } else if (first.getRequestDate().toLocalDate().isBefore(LocalDate.now())) {
+            valid = context.addError(first, ExceptionCode.CHECK_REQUEST_DATE.getMessage());
+        }
+
+        OrderHeaders orderHeaders = new OrderHeaders();
+        orderHeaders.setBuyer(buyer);
+        orderHeaders.setMember(context.member);
+        orderHeaders.setRequestDate(first.getRequestDate());
+
+        // 이 주문에서 제품별로 요청한 수량 (같은 제품이 여러 줄에 나뉘어 있을 수 있다)
+        Map<String, Integer> requested = new HashMap<>();
+        for (OrderImportRow row : rows) {
+            OrderItems orderItem = validateRow(context, row, first, buyer, requested);
+            if (orderItem == null) {
+                valid = false;
+                continue;
+            }
+            orderItem.setOrderHeaders(orderHeaders);
+            orderHeaders.getOrderItems().add(orderItem);
+        }
+
+        if (!valid) {
+            context.failedOrders++;
+            return;
+        }
+
+        orderHeaders.setOrderCd(OrderService.createOrderCd());
+        context.reserve(requested);
+        context.pending.add(new PendingOrder(orderHeaders, first.getLine(), first.getOrderRef(), rows.size(), requested));
+        context.pendingRows += rows.size();
+
+        if (context.pendingRows >= context.chunkSize) {
+            commitChunk(context);
+        }
+    }
+
+    // 한 줄 검증 : 실패하면 오류를 기록하고 null 반환
+    private OrderItems validateRow(ImportContext context, OrderImportRow row, OrderImportRow first, Buyer buyer,
+                                   Map<String, Integer> requested) {
+        if (row.getParseError() != null) {
+            context.addError(row, row.getParseError());
+            return null;
+        }
+        if (!Objects.equals(row.getBuyerCd(), first.getBuyerCd())
+                || !Objects.equals(row.getRequestDate(), first.getRequestDate())) {
+            context.addError(row, "같은 orderRef 의 buyerCd, requestDate 는 모두 같아야 합니다.");
+            return null;
+        }
+        if (row.getItemCd() == null) {
+            context.addError(row, "itemCd 가 누락되었습니다.");
+            return null;
+        }
+        if (row.getQty() == null) {
+            context.addError(row, "qty 가 누락되었습니다.");
+            return null;
+        }
+        if (row.getQty() < 0) {
+            context.addError(row, ExceptionCode.CANNOT_ORDER_NEGATIVE_QUANTITY.getMessage());
+            return null;
+        }
+
+        Item item = context.items.computeIfAbsent(row.getItemCd(), itemRepository::findByItemCd).orElse(null);
+        if (item == null) {
+            context.addError(row, ExceptionCode.ITEM_NOT_FOUND.getMessage());
+            return null;
+        }
+        if (item.getItemStatus() == Item.ItemStatus.INACTIVE) {
+            context.addError(row, ExceptionCode.INACTIVE_STATUS.getMessage());
+            return null;
+        }
+        // 바이어 / 납기일 오류는 주문 단위로 이미 기록됨
+        if (buyer == null || row.getRequestDate() == null) {
+            return null;
+        }
+
+        // 단가, 계약기간이 비어 있으면 납기일 기준 유효한 계약에서 가져온다
+        BuyerItemPriceIndex.PriceSegment contract = null;
+        if (row.getUnitPrice() == null || row.getStartDate() == null || row.getEndDate() == null) {
+            contract = findContract(buyer, row.getItemCd(), row.getRequestDate());
+            if (contract == null) {
+                context.addError(row, ExceptionCode.BUYER_ITEM_NOT_FOUND.getMessage());
+                return null;
+            }
+        }
+
+        OrderItems orderItem = new OrderItems();
+        orderItem.setItemCd(item.getItemCd());
+        orderItem.setQty(row.getQty());
+        orderItem.setUnit(row.getUnit() != null ? row.getUnit() : item.getUnit());
+        orderItem.setUnitPrice(row.getUnitPrice() != null ? row.getUnitPrice() : contract.getUnitPrice());
+        orderItem.setStartDate(row.getStartDate() != null ? row.getStartDate() : contract.getStartDate());
+        orderItem.setEndDate(row.getEndDate() != null ? row.getEndDate() : contract.getEndDate());
+
+        if (orderItem.getStartDate() == null || orderItem.getEndDate() == null
+                || orderItem.getStartDate().isAfter(row.getRequestDate())
+                || orderItem.getEndDate().isBefore(row.getRequestDate())) {
+            context.addError(row, ExceptionCode.CHECK_CONTRACT_DATE.getMessage());
+            return null;
+        }
+
+        // 앞서 받아들인 주문과 이 주문의 앞줄이 가져간 수량을 빼고 남은 재고로 판단한다
+        int alreadyRequested = requested.getOrDefault(item.getItemCd(), 0);
+        if (context.availableOf(item.getItemCd(), inventoryReport) - alreadyRequested - orderItem.getQty() < 0) {
+            context.addError(row, ExceptionCode.OUT_OF_STOCK.getMessage());
+            return null;
+        }
+        requested.merge(item.getItemCd(), orderItem.getQty(), Integer::sum);
+
+        return orderItem;
+    }
+
+    // 납기일에 유효한 바이어 계약 조회 (계약 단가 인덱스 사용)
+    private BuyerItemPriceIndex.PriceSegment findContract(Buyer buyer, String itemCd, LocalDateTime date) {
+        return buyerItemPriceIndex.findEffective(buyer.getBuyerId(), itemCd, date).orElse(null);
+    }
+
+    // 대기 중인 주문을 하나의 트랜잭션으로 커밋. 실패하면 주문 단위로 다시 시도해서 실패한 주문만 보고한다
+    private void commitChunk(ImportContext context) {
+        if (context.pending.isEmpty()) {
+            return;
+        }
+        List<PendingOrder> chunk = context.pending;
+        context.pending = new ArrayList<>();
+        context.pendingRows = 0;
+
+        try {
+            persist(context, chunk);
+            chunk.forEach(context::imported);
+        } catch (RuntimeException e) {
+            log.warn("order import chunk failed, retrying per order: {}", e.getMessage());
+            for (PendingOrder pending : chunk) {
+                pending.resetIds();
+                try {
+                    persist(context, Collections.singletonList(pending));
+                    context.imported(pending);
+                } catch (RuntimeException orderException) {
+                    context.release(pending.requested);
+                    context.failedOrders++;
+                    context.addError(pending.firstLine, pending.orderRef, "주문 저장에 실패했습니다.");
+                }
+            }
+        }
+    }
+
+    private void persist(ImportContext context, List<PendingOrder> orders) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Session session = entityManager.unwrap(Session.class);
+            session.setJdbcBatchSize(context.chunkSize);
+
+            for (PendingOrder pending : orders) {
+                entityManager.persist(pending.order);
+                entityManager.persist(saleHistoryMapper.orderToSaleHistory(pending.order, context.member));
+                eventBus.publish(DomainEventDto.OrderStatusChanged.TYPE, pending.order.getOrderCd(),
+                        DomainEventDto.OrderStatusChanged.of(pending.order, null));
+            }
+            entityManager.flush();
+            entityManager.clear();
+        });
+    }
+
+    private static class PendingOrder {
+        private final OrderHeaders order;
+        private final long firstLine;
+        private final String orderRef;
+        private final int rows;
+        private final Map<String, Integer> requested;
+
+        private PendingOrder(OrderHeaders order, long firstLine, String orderRef, int rows,
+                             Map<String, Integer> requested) {
+            this.order = order;
+            this.firstLine = firstLine;
+            this.orderRef = orderRef;
+            this.rows = rows;
+            this.requested = requested;
+        }
+
+        // 롤백된 트랜잭션에서 할당된 id 제거
+        private void resetIds() {
+            order.setOrderId(null);
+            order.getOrderItems().forEach(orderItem -> orderItem.setOrderItemId(null));
+        }
+    }
+
+    // import 한 번 동안 유지되는 상태 (캐시, 대기열, 결과 집계)
+    private static class ImportContext {
+        private final Member member;
+        private final int chunkSize;
+        private final Map<String, Optional<Buyer>> buyers = new HashMap<>();
+        private final Map<String, Optional<Item>> items = new HashMap<>();
+        private final Map<String, Integer> stocks = new HashMap<>();
+        // 받아들인 주문(커밋 대기 + 커밋 완료)이 제품별로 가져간 수량
+        private final Map<String, Integer> reserved = new HashMap<>();
+        private final List<OrderDto.ImportRowError> errors = new ArrayList<>();
+        private List<PendingOrder> pending = new ArrayList<>();
+        private int pendingRows;
+        private long totalRows;
+        private long importedOrders;
+        private long importedRows;
+        private long failedOrders;
+        private boolean errorsTruncated;
+
+        private ImportContext(Member member, int chunkSize) {
+            this.member = member;
+            this.chunkSize = chunkSize;
+        }
+
+        // import 시작 시점 재고에서 이번 import 가 이미 가져간 수량을 뺀 값
+        private int availableOf(String itemCd, InventoryReport inventoryReport) {
+            int stock = stocks.computeIfAbsent(itemCd, cd -> {
+                try {
+                    return inventoryReport.calculateInventory(cd);
+                } catch (BusinessLogicException e) {
+                    return 0;
+                }
+            });
+            return stock - reserved.getOrDefault(itemCd, 0);
+        }
+
+        private void reserve(Map<String, Integer> requested) {
+            requested.forEach((itemCd, qty) -> reserved.merge(itemCd, qty, Integer::sum));
+        }
+
+        // 저장에 실패한 주문의 수량은 뒤 주문이 쓸 수 있게 돌려준다
+        private void release(Map<String, Integer> requested) {
+            requested.forEach((itemCd, qty) -> reserved.merge(itemCd, -qty, Integer::sum));
+        }
+
+        private void imported(PendingOrder pending) {
+            importedOrders++;
+            importedRows += pending.rows;
+        }
+
+        // 항상 false 를 반환해서 valid = addError(...) 형태로 쓸 수 있게 한다
+        private boolean addError(OrderImportRow row, String message) {
+            return addError(row.getLine(), row.getOrderRef(), message);
+        }
+
+        private boolean addError(long line, String orderRef, String message) {
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new OrderDto.ImportRowError(line, orderRef, message));
+            } else {
+                errorsTruncated = true;
+            }
+            return false;
+        }
+    }
+}
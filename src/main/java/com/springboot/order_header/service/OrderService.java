@@ -1,5 +1,7 @@
 package com.springboot.order_header.service;
 
+import com.springboot.event.dto.DomainEventDto;
+import com.springboot.event.service.EventBus;
 import com.springboot.exception.BusinessLogicException;
 import com.springboot.exception.ExceptionCode;
 import com.springboot.member.entity.Member;
@@ -42,6 +44,7 @@ public class OrderService {
     private final SaleReport saleReport;
     private final EmployeeReport employeeReport;
     private final InventoryReport inventoryReport;
+    private final EventBus eventBus;
 
     public OrderService(OrderHeadersRepository orderHeadersRepository,
                         OrderItemsRepository orderItemsRepository,
@@ -49,7 +52,8 @@ public class OrderService {
                         SaleHistoryRepository saleHistoryRepository,
                         SaleHistoryMapper saleHistoryMapper,
                         MemberService memberService,
-                        SaleReport saleReport, EmployeeReport employeeReport, InventoryReport inventoryReport) {
+                        SaleReport saleReport, EmployeeReport employeeReport, InventoryReport inventoryReport,
+                        EventBus eventBus) {
 
         this.orderHeadersRepository = orderHeadersRepository;
         this.orderItemsRepository = orderItemsRepository;
@@ -60,6 +64,7 @@ public class OrderService {
         this.saleReport = saleReport;
         this.employeeReport = employeeReport;
         this.inventoryReport = inventoryReport;
+        this.eventBus = eventBus;
     }
 
     @Transactional
@@ -88,6 +93,7 @@ public class OrderService {
         // DB에 저장
         OrderHeaders orderHeader = orderHeadersRepository.save(orderHeaders);
         saleHistoryRepository.save(saleHistoryMapper.orderToSaleHistory(orderHeader, member));
+        publishStatusChanged(orderHeader, null);
         return orderHeader;
     }
 
@@ -117,6 +123,7 @@ public class OrderService {
         }
 
         boolean isUpdated = false;
+        OrderHeaders.OrderStatus previousStatus = findOrder.getOrderStatus();
 
         // 상태, 납기일 변경
         if (orderHeaders.getOrderStatus() != null && !orderHeaders.getOrderStatus().equals(findOrder.getOrderStatus())) {
@@ -143,6 +150,9 @@ public class OrderService {
         if (isUpdated) {
             orderHeadersRepository.save(findOrder);
             saleHistoryRepository.save(saleHistoryMapper.orderToSaleHistory(findOrder, member));
+            if (previousStatus != findOrder.getOrderStatus()) {
+                publishStatusChanged(findOrder, previousStatus);
+            }
         }
 
             return findOrder;
@@ -221,20 +231,30 @@ public class OrderService {
             orderHeaders.setMessage(reason);
         }
 
+        OrderHeaders.OrderStatus previousStatus = orderHeaders.getOrderStatus();
         orderHeaders.setOrderStatus(status);
 
         OrderHeaders savedOrder = orderHeadersRepository.save(orderHeaders);
         saleHistoryRepository.save(saleHistoryMapper.orderToSaleHistory(orderHeaders, member));
+        publishStatusChanged(savedOrder, previousStatus);
         return savedOrder;
     }
 
+    // 주문 등록 / 상태 변경 이벤트 발행 (같은 트랜잭션에 저장되고 커밋 후 전달된다)
+    private void publishStatusChanged(OrderHeaders order, OrderHeaders.OrderStatus previousStatus) {
+        eventBus.publish(DomainEventDto.OrderStatusChanged.TYPE, order.getOrderCd(),
+                DomainEventDto.OrderStatusChanged.of(order, previousStatus));
+    }
+
     // order 조회 (조회조건 (조합 가능) : 주문 상태별, buyerCode별, itemCode별, 날짜별로 조회가능(기본값 별도))
+    @Transactional(readOnly = true)
     public Page<OrderHeaders> findOrders(int page, int size, String criteria, String direction, OrderDto.OrderSearchRequest orderSearchRequest) {
         Pageable pageable = createPageable(page, size, criteria, direction);
         return orderQueryRepository.findByCreatedAtBetweenAndOrderStatusAndBuyer_BuyerCdAndOrderItems_ItemCdAndOrderCd(orderSearchRequest, pageable);
     }
 
     // 판매내역 조회 (order-code 로 분류)
+    @Transactional(readOnly = true)
     public Page<SaleHistory> findHistories(int page, int size, String criteria, String direction, String orderCd) {
         Pageable pageable = createPageable(page, size, criteria, direction);
         return saleHistoryRepository.findByOrderCd(orderCd, pageable);
@@ -269,6 +289,7 @@ public class OrderService {
     }
 
     // 판매 report - 주문량으로 정렬
+    @Transactional(readOnly = true)
     public List<ReportDto.SaleReportDto> generateReport(LocalDate startDate, LocalDate endDate) {
 
         return saleReport.getSaleReport(startDate, endDate).stream()
@@ -277,6 +298,7 @@ public class OrderService {
     }
 
     // 판매 report (마진률, 판매량) -> 주문금액별 top seller (topNumber) 수만큼
+    @Transactional(readOnly = true)
     public List<ReportDto.SaleReportDto> generateTopReport(LocalDate startDate, LocalDate endDate, Integer topNumber) {
 
         return saleReport.getSaleReport(startDate, endDate).stream()
@@ -286,28 +308,37 @@ public class OrderService {
     }
 
     // 아이템 재고 조회
+    @Transactional(readOnly = true)
     public ReportDto.InventoryDto getStock(String itemCd) {
 
         return inventoryReport.getInventory(itemCd);
     }
 
     //사원 전체 판매실적 조회
+    @Transactional(readOnly = true)
     public List<ReportDto.EmployeeReportDto> getEmployeesReport (LocalDate start, LocalDate end) {
 
         return employeeReport.getEmployeesReport(start, end);
     }
 
     //사원 개별 판매실적 조회
+    @Transactional(readOnly = true)
     public ReportDto.EmployeeReportDto getEmployeeReport (String employeeId, LocalDate start, LocalDate end) {
 
         return employeeReport.getEmployeeReport(employeeId, start, end);
     }
 
-    //재고 여부 확인
+    //재고 여부 확인 : 주문에 나온 제품의 재고를 한 번에 읽고 줄마다 확인한다 (없는 제품은 재고 0)
     private void isStock (OrderHeaders orderHeaders) {
-        boolean isStock = orderHeaders.getOrderItems()
-                .stream()
-                .map(orderItems -> inventoryReport.calculateInventory(orderItems.getItemCd()) - orderItems.getQty())
+        List<OrderItems> orderItems = orderHeaders.getOrderItems();
+        Map<String, ReportDto.InventoryDto> inventories = inventoryReport.getInventories(orderItems.stream()
+                .map(OrderItems::getItemCd)
+                .collect(Collectors.toSet()));
+        boolean isStock = orderItems.stream()
+                .map(orderItem -> {
+                    ReportDto.InventoryDto inventory = inventories.get(orderItem.getItemCd());
+                    return (inventory != null ? inventory.getTotalStock() : 0) - orderItem.getQty();
+                })
                 .anyMatch(qty -> qty < 0);
         if (isStock) {
             throw new BusinessLogicException(ExceptionCode.OUT_OF_STOCK);
@@ -315,7 +346,7 @@ public class OrderService {
     }
 
     // 주문 코드 생성 메서드
-    private String createOrderCd() {
+    static String createOrderCd() {
         String uuid = UUID.randomUUID().toString().replace("-", "").substring(0, 12).toUpperCase();
 
         return "SHO" + uuid;
@@ -0,0 +1,77 @@
+package com.springboot.order_header.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.event.dto.DomainEventDto;
+import com.springboot.event.handler.EventHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * OrderService 의 상태 변경 이벤트를 모든 서버의 OrderStreamHub 로 보낸다.
+ * outbox 이벤트는 한 서버만 처리하므로 Redis pub/sub 으로 다시 뿌리고, 각 서버는 구독 메시지를 자기 hub 에 넣는다.
+ * Redis 에 보내지 못하면 이 서버의 구독자에게만 전달한다.
+ * Redis 를 쓰지 않는 구성(auth.token-store.type=memory)은 서버가 하나이므로 바로 이 서버의 hub 에 넣는다.
+ */
+@Slf4j
+@Component
+public class OrderStreamEventHandler implements EventHandler<DomainEventDto.OrderStatusChanged>, MessageListener {
+    public static final String CHANNEL = "order:status-changed";
+
+    private final OrderStreamHub orderStreamHub;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public OrderStreamEventHandler(OrderStreamHub orderStreamHub,
+                                   @Nullable RedisTemplate<String, Object> redisTemplate,
+                                   ObjectMapper objectMapper,
+                                   @Nullable RedisMessageListenerContainer listenerContainer) {
+        this.orderStreamHub = orderStreamHub;
+        this.redisTemplate = listenerContainer != null ? redisTemplate : null;
+        this.objectMapper = objectMapper;
+        if (this.redisTemplate != null) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        }
+    }
+
+    @Override
+    public String eventType() {
+        return DomainEventDto.OrderStatusChanged.TYPE;
+    }
+
+    @Override
+    public Class<DomainEventDto.OrderStatusChanged> payloadType() {
+        return DomainEventDto.OrderStatusChanged.class;
+    }
+
+    @Override
+    public void handle(DomainEventDto.OrderStatusChanged payload) throws Exception {
+        if (redisTemplate == null) {
+            orderStreamHub.publish(payload);
+            return;
+        }
+        String json = objectMapper.writeValueAsString(payload);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, json);
+        } catch (RuntimeException e) {
+            log.warn("order stream publish failed, delivering locally : {}", e.getMessage());
+            orderStreamHub.publish(payload);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            orderStreamHub.publish(objectMapper.readValue(message.getBody(), DomainEventDto.OrderStatusChanged.class));
+        } catch (IOException e) {
+            log.warn("order stream message ignored : {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,322 @@
+package com.springboot.order_header.stream;
+
+import com.springboot.event.dto.DomainEventDto;
+import com.springboot.exception.BusinessLogicException;
+import com.springboot.exception.ExceptionCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 주문 상태 변경 SSE 구독자에게 이벤트를 나눠 준다 (서버 안의 fan-out).
+ * - 구독자마다 크기 제한 큐를 두고 전송 스레드가 순서대로 보낸다. 큐가 넘치면 연결을 끊는다 (클라이언트는 Last-Event-ID 로 재연결)
+ * - 전송(emitter.send)은 클라이언트가 읽지 않으면 막힐 수 있다. 전송 스레드는 보낼 것이 있는 구독자 수만큼 (max-sender-threads 까지)
+ *   늘어나므로 막힌 구독자가 다른 구독자의 전송을 붙잡지 않는다. 상한에 닿으면 새로 보낼 구독자를 끊는다
+ * - send-timeout 을 넘긴 전송은 전송 스레드를 interrupt 해서 풀고, 그 구독자는 오류로 완료한다
+ * - 최근 이벤트는 ring buffer 에 남겨 두고, 재연결하면 Last-Event-ID 다음부터 다시 보낸다
+ * - 이어 받을 수 없으면 (서버 재시작 / 다른 서버 / 너무 오래 끊김 / 밀린 양이 큐보다 많음) resync 이벤트로 목록을 한 번 다시 조회하게 한다
+ * - heartbeat 주석을 주기적으로 보내 프록시가 유휴 연결을 끊지 않게 하고, 끊긴 연결을 찾아낸다
+ * 이벤트 id 는 "서버 epoch-순번" 이다.
+ */
+@Slf4j
+@Component
+public class OrderStreamHub {
+    public static final String EVENT_NAME = "order-status-changed";
+    public static final String RESYNC_EVENT = "resync";
+
+    private final String epoch = UUID.randomUUID().toString().substring(0, 8);
+    private final long timeoutMillis;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long heartbeatMillis;
+    private final int senderThreads;
+    private final long sendTimeoutMillis;
+    private final int maxSenderThreads;
+
+    // ring / sequence 는 this 로 보호한다. 구독 등록과 replay 도 같은 잠금 안에서 해서 빠지거나 겹치는 이벤트가 없다
+    private final DomainEventDto.OrderStatusChanged[] ring;
+    private long sequence;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    private ExecutorService sender;
+    private ScheduledExecutorService heartbeat;
+
+    public OrderStreamHub(@Value("${order-stream.timeout-ms:1800000}") long timeoutMillis,
+                          @Value("${order-stream.buffer-size:100}") int bufferSize,
+                          @Value("${order-stream.replay-size:1000}") int replaySize,
+                          @Value("${order-stream.max-subscribers:1000}") int maxSubscribers,
+                          @Value("${order-stream.heartbeat-ms:15000}") long heartbeatMillis,
+                          @Value("${order-stream.sender-threads:2}") int senderThreads,
+                          @Value("${order-stream.send-timeout-ms:10000}") long sendTimeoutMillis,
+                          @Value("${order-stream.max-sender-threads:32}") int maxSenderThreads) {
+        this.timeoutMillis = timeoutMillis;
+        this.bufferSize = bufferSize;
+        this.ring = new DomainEventDto.OrderStatusChanged[replaySize];
+        this.maxSubscribers = maxSubscribers;
+        this.heartbeatMillis = heartbeatMillis;
+        this.senderThreads = senderThreads;
+        this.sendTimeoutMillis = sendTimeoutMillis;
+        this.maxSenderThreads = maxSenderThreads;
+    }
+
+    @PostConstruct
+    public void start() {
+        // 평소에는 senderThreads 개로 돌고, 막힌 전송이 있으면 max-sender-threads 까지 스레드를 더 만든다
+        sender = new ThreadPoolExecutor(senderThreads, Math.max(senderThreads, maxSenderThreads), 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), daemon("order-stream-sender"));
+        heartbeat = Executors.newSingleThreadScheduledExecutor(daemon("order-stream-heartbeat"));
+        heartbeat.scheduleWithFixedDelay(this::sendHeartbeats, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+        long stallCheckMillis = Math.max(1, sendTimeoutMillis / 2);
+        heartbeat.scheduleWithFixedDelay(this::closeStalledSubscribers, stallCheckMillis, stallCheckMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        heartbeat.shutdownNow();
+        subscribers.forEach(this::close);
+        sender.shutdownNow();
+    }
+
+    /**
+     * employeeId 의 주문만 받는 구독 (all 이면 전체). lastEventId 가 있으면 그 다음 이벤트부터 보낸다.
+     */
+    public SseEmitter subscribe(String employeeId, boolean all, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, all ? null : employeeId, bufferSize);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> close(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+
+        synchronized (this) {
+            // 수 확인과 등록을 한 잠금 안에서 해야 동시에 들어온 구독이 상한을 넘지 않는다
+            if (subscribers.size() >= maxSubscribers) {
+                throw new BusinessLogicException(ExceptionCode.ORDER_STREAM_FULL);
+            }
+            // 첫 응답을 바로 내보내 연결이 열렸음을 알린다
+            subscriber.offer(SseEmitter.event().comment("connected"));
+            replay(subscriber, lastEventId);
+            subscribers.add(subscriber);
+        }
+        drain(subscriber);
+        return emitter;
+    }
+
+    public void publish(DomainEventDto.OrderStatusChanged event) {
+        List<Subscriber> targets = new ArrayList<>();
+        synchronized (this) {
+            long id = ++sequence;
+            ring[(int) (id % ring.length)] = event;
+            for (Subscriber subscriber : subscribers) {
+                if (!subscriber.accepts(event)) {
+                    continue;
+                }
+                if (subscriber.offer(toSse(id, event))) {
+                    targets.add(subscriber);
+                } else {
+                    // 느린 구독자 : 기다리지 않고 끊는다. 재연결하면 ring buffer 에서 이어 받는다
+                    log.debug("order stream subscriber overflowed, closing ({})", subscriber.employeeId);
+                    close(subscriber);
+                }
+            }
+        }
+        targets.forEach(this::drain);
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    // this 잠금 안에서 호출한다
+    private void replay(Subscriber subscriber, String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return;
+        }
+        long after = parseSequence(lastEventId);
+        long oldest = Math.max(1, sequence - ring.length + 1);
+        if (after < 0 || after > sequence || after + 1 < oldest) {
+            subscriber.offer(SseEmitter.event().name(RESYNC_EVENT).data(""));
+            return;
+        }
+        for (long id = after + 1; id <= sequence; id++) {
+            DomainEventDto.OrderStatusChanged event = ring[(int) (id % ring.length)];
+            if (subscriber.accepts(event) && !subscriber.offer(toSse(id, event))) {
+                subscriber.queue.clear();
+                subscriber.offer(SseEmitter.event().name(RESYNC_EVENT).data(""));
+                return;
+            }
+        }
+    }
+
+    // 다른 epoch (재시작 전 / 다른 서버) 의 id 는 -1
+    private long parseSequence(String lastEventId) {
+        int separator = lastEventId.lastIndexOf('-');
+        if (separator < 0 || !lastEventId.substring(0, separator).equals(epoch)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private SseEmitter.SseEventBuilder toSse(long id, DomainEventDto.OrderStatusChanged event) {
+        return SseEmitter.event().id(epoch + "-" + id).name(EVENT_NAME).data(event, MediaType.APPLICATION_JSON);
+    }
+
+    // 구독자 하나는 한 번에 한 스레드만 보낸다 (순서 유지). draining 을 가진 스레드만 emitter 를 건드린다
+    private void drain(Subscriber subscriber) {
+        if (subscriber.closed || !subscriber.draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            sender.execute(() -> {
+                try {
+                    SseEmitter.SseEventBuilder event;
+                    while (!subscriber.closed && (event = subscriber.queue.poll()) != null) {
+                        subscriber.startSending();
+                        try {
+                            subscriber.emitter.send(event);
+                        } finally {
+                            subscriber.stopSending();
+                        }
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    // 클라이언트가 끊었거나 이미 완료된 emitter, 또는 send-timeout 으로 interrupt 됨
+                    subscribers.remove(subscriber);
+                    subscriber.closed = true;
+                } finally {
+                    // 전송이 끝난 직후에 도착한 interrupt 가 다음 작업에 남지 않게 지운다
+                    Thread.interrupted();
+                    subscriber.draining.set(false);
+                }
+                if (subscriber.closed) {
+                    completeIfIdle(subscriber);
+                } else if (!subscriber.queue.isEmpty()) {
+                    drain(subscriber);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 전송 스레드가 상한까지 찼거나 종료 중 : 기다리지 않고 끊는다
+            subscriber.draining.set(false);
+            close(subscriber);
+        }
+    }
+
+    private void sendHeartbeats() {
+        for (Subscriber subscriber : subscribers) {
+            // 이미 밀려 있는 구독자는 보낼 것이 있으므로 건너뛴다
+            if (subscriber.offer(SseEmitter.event().comment("heartbeat"))) {
+                drain(subscriber);
+            }
+        }
+    }
+
+    /**
+     * send-timeout 을 넘기도록 한 전송이 끝나지 않은 구독자는 끊는다.
+     * emitter 의 send 와 complete 는 같은 잠금을 쓰므로 여기서 완료할 수 없다. 막힌 전송 스레드를 interrupt 해서 send 를 실패시키면
+     * 컨테이너가 쓰기 오류로 요청을 끝내고, interrupt 전에 send 가 끝났으면 전송 스레드가 emitter 를 오류로 완료한다.
+     */
+    private void closeStalledSubscribers() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            long sendingSince = subscriber.sendingSince;
+            if (sendingSince != 0 && now - sendingSince > TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis)) {
+                log.debug("order stream send timed out, aborting ({})", subscriber.employeeId);
+                subscriber.timedOut = true;
+                close(subscriber);
+                subscriber.interruptSending();
+            }
+        }
+    }
+
+    /**
+     * 구독자를 빼고 큐를 비운다. emitter 의 send / complete 는 같은 잠금을 쓰므로
+     * 전송 중이면 여기서 기다리지 않고 전송 스레드가 끝날 때 완료한다.
+     */
+    private void close(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+        subscriber.closed = true;
+        subscriber.queue.clear();
+        completeIfIdle(subscriber);
+    }
+
+    // closed 를 먼저 표시한 뒤 호출한다. draining 을 가져간 쪽(close 또는 전송 스레드)이 한 번만 완료한다
+    private void completeIfIdle(Subscriber subscriber) {
+        if (!subscriber.draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            if (subscriber.timedOut) {
+                subscriber.emitter.completeWithError(new IOException("order stream send timed out"));
+            } else {
+                subscriber.emitter.complete();
+            }
+        } catch (IllegalStateException ignored) {
+            // 이미 완료됨
+        }
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static class Subscriber {
+        private final SseEmitter emitter;
+        // null 이면 전체 주문
+        private final String employeeId;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+        private volatile boolean timedOut;
+        // 진행 중인 send 의 시작 시각 (System.nanoTime), 보내는 중이 아니면 0
+        private volatile long sendingSince;
+        // 진행 중인 send 를 하는 스레드. interrupt 가 다른 구독자의 전송에 떨어지지 않도록 this 로 보호한다
+        private Thread sendingThread;
+
+        Subscriber(SseEmitter emitter, String employeeId, int bufferSize) {
+            this.emitter = emitter;
+            this.employeeId = employeeId;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        boolean accepts(DomainEventDto.OrderStatusChanged event) {
+            return employeeId == null || employeeId.equals(event.getEmployeeId());
+        }
+
+        boolean offer(SseEmitter.SseEventBuilder event) {
+            return !closed && queue.offer(event);
+        }
+
+        synchronized void startSending() {
+            sendingThread = Thread.currentThread();
+            sendingSince = System.nanoTime();
+        }
+
+        synchronized void stopSending() {
+            sendingThread = null;
+            sendingSince = 0;
+        }
+
+        synchronized void interruptSending() {
+            if (sendingThread != null) {
+                sendingThread.interrupt();
+            }
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package com.springboot.order_item.repository;
 
 import com.springboot.order_item.entity.OrderItems;
+import com.springboot.report.reportDto.ReportDto;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface OrderItemQueryRepositoryCustom {
@@ -27,4 +29,7 @@ public interface OrderItemQueryRepositoryCustom {
     // 총 주문 대기량
     Integer findTotalPreparationOrderByItemCd(@Param("itemCd") String itemCd);
 
+    // 여러 제품의 재고 계산용 수량을 한 번에 (제품 / 주문 상태별 주문량 + 제품별 총 공급량)
+    List<ReportDto.ItemStockQtyDto> findStockQtyByItemCds(Collection<String> itemCds);
+
 }
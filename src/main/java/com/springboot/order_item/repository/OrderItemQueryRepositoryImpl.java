@@ -1,17 +1,24 @@
 package com.springboot.order_item.repository;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.springboot.buyer.entity.QBuyer;
 
+import com.springboot.item.entity.QItem;
+import com.springboot.manufacture_item.entity.QItemManufacture;
 import com.springboot.member.entity.QMember;
 import com.springboot.order_header.entity.OrderHeaders;
 import com.springboot.order_header.entity.QOrderHeaders;
 import com.springboot.order_item.entity.OrderItems;
 import com.springboot.order_item.entity.QOrderItems;
+import com.springboot.report.reportDto.ReportDto;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -38,10 +45,12 @@ public class OrderItemQueryRepositoryImpl implements OrderItemQueryRepositoryCus
 
         booleanBuilder.and(orderHeaders.requestDate.between(startDateTime, endDateTime));
 
+        // 주문 / 사원 / 바이어는 EAGER 라서 join 만 하면 주문마다 따로 읽는다. 한 select 로 함께 읽는다
         return queryFactory
                 .selectFrom(orderItems)
-                .join(orderItems.orderHeaders, orderHeaders)
-                .join(orderHeaders.member, member)
+                .join(orderItems.orderHeaders, orderHeaders).fetchJoin()
+                .join(orderHeaders.member, member).fetchJoin()
+                .leftJoin(orderHeaders.buyer, QBuyer.buyer).fetchJoin()
                 .where(booleanBuilder)
                 .fetch();
     }
@@ -139,4 +148,26 @@ public class OrderItemQueryRepositoryImpl implements OrderItemQueryRepositoryCus
                         .and(orderHeaders.orderStatus.eq(OrderHeaders.OrderStatus.REQUEST_TEMP)))
                 .fetchOne();
     }
+
+    // 제품 목록 재고 : 제품마다 4 번씩 조회하던 수량을 페이지 전체에 대해 한 번에 (제품 / 주문 상태로 묶는다)
+    @Override
+    public List<ReportDto.ItemStockQtyDto> findStockQtyByItemCds(Collection<String> itemCds) {
+        QItem item = QItem.item;
+        QOrderItems orderItems = QOrderItems.orderItems;
+        QOrderHeaders orderHeaders = QOrderHeaders.orderHeaders;
+        QItemManufacture itemManufacture = QItemManufacture.itemManufacture;
+
+        return queryFactory
+                .select(Projections.constructor(ReportDto.ItemStockQtyDto.class,
+                        item.itemId, item.itemCd, item.itemNm, orderHeaders.orderStatus, orderItems.qty.sum(),
+                        JPAExpressions.select(itemManufacture.qty.sum())
+                                .from(itemManufacture)
+                                .where(itemManufacture.item.eq(item))))
+                .from(item)
+                .leftJoin(orderItems).on(orderItems.itemCd.eq(item.itemCd))
+                .leftJoin(orderItems.orderHeaders, orderHeaders)
+                .where(item.itemCd.in(itemCds))
+                .groupBy(item.itemId, item.itemCd, item.itemNm, orderHeaders.orderStatus)
+                .fetch();
+    }
 }
@@ -1,16 +1,25 @@
 package com.springboot.redis;
 
+import io.lettuce.core.resource.ClientResources;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+/**
+ * 토큰 저장소가 Redis 일 때만 (auth.token-store.type=redis : 기본값) 등록한다.
+ * memory 이면 서버 하나만 쓰는 구성이므로 Redis 없이 뜬다 (LocalInvalidationBus, 기준정보 캐시는 L1 만 사용).
+ */
 @Configuration
+@ConditionalOnProperty(name = "auth.token-store.type", havingValue = "redis", matchIfMissing = true)
 @EnableRedisRepositories // Redis 리포지토리를 활성화하여 Redis 데이터를 JPA처럼 다룰 수 있게 해주는 애너테이션
 public class RedisRepositoryConfig {
 
@@ -31,11 +40,12 @@ public class RedisRepositoryConfig {
      * 실행되고 있음을 설정합니다. 이 구성은 호스트와 포트 정보를 포함합니다.
      * LettuceConnectionFactory는 Redis와의 연결을 비동기적으로 관리하는 클라이언트 라이브러리입니다.
      * Lettuce는 비동기, 동시성 및 스레드 안정성을 지원하며, 다수의 Redis 명령어를 효율적으로 처리할 수 있습니다.
+     * Spring Boot 가 만든 ClientResources 를 사용해야 Redis 명령별 응답 시간(lettuce.command.completion)이 메트릭으로 기록됩니다.
      *
      * @return RedisConnectionFactory
      */
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
+    public RedisConnectionFactory redisConnectionFactory(ClientResources clientResources) {
         // RedisStandaloneConfiguration 객체를 생성하여 Redis 서버의 호스트와 포트를 설정합니다.
         RedisStandaloneConfiguration redisStandaloneConfiguration = new RedisStandaloneConfiguration();
         redisStandaloneConfiguration.setHostName(host); // Redis 서버의 호스트 설정
@@ -43,7 +53,10 @@ public class RedisRepositoryConfig {
 
         // LettuceConnectionFactory를 사용하여 Redis 연결을 설정합니다.
         // LettuceConnectionFactory는 연결 풀을 지원하고, Redis 명령어를 비동기적으로 처리합니다.
-        LettuceConnectionFactory lettuceConnectionFactory = new LettuceConnectionFactory(redisStandaloneConfiguration);
+        LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
+                .clientResources(clientResources)
+                .build();
+        LettuceConnectionFactory lettuceConnectionFactory = new LettuceConnectionFactory(redisStandaloneConfiguration, clientConfiguration);
         return lettuceConnectionFactory; // RedisConnectionFactory 빈 반환
     }
 
@@ -62,13 +75,13 @@ public class RedisRepositoryConfig {
      * @return RedisTemplate<String, Object>
      */
     @Bean
-    public RedisTemplate<String, Object> redisTemplate() {
+    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory redisConnectionFactory) {
         // RedisTemplate 객체를 생성합니다.
         RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
 
         // RedisConnectionFactory를 RedisTemplate에 설정합니다.
         // RedisTemplate이 Redis 서버와의 연결을 사용할 수 있도록 해줍니다.
-        redisTemplate.setConnectionFactory(redisConnectionFactory());
+        redisTemplate.setConnectionFactory(redisConnectionFactory);
 
         // Redis의 키와 값을 직렬화하는 방식을 설정합니다.
         // 여기서는 StringRedisSerializer를 사용하여 키와 값을 문자열로 직렬화합니다.
@@ -78,4 +91,20 @@ public class RedisRepositoryConfig {
 
         return redisTemplate; // RedisTemplate 빈 반환
     }
+
+    /**
+     * RedisMessageListenerContainer 빈을 생성하는 메서드
+     *
+     * Redis pub/sub 채널을 구독하는 리스너들을 관리합니다.
+     * 캐시 무효화처럼 여러 서버 인스턴스가 함께 알아야 하는 이벤트를 받을 때 사용하며,
+     * 캐시들은 RedisInvalidationBus 를 통해 생성 시점에 자신이 구독할 채널을 등록합니다.
+     *
+     * @return RedisMessageListenerContainer
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        return container;
+    }
 }
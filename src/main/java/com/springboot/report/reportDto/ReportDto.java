@@ -1,5 +1,7 @@
 package com.springboot.report.reportDto;
 
+import com.springboot.order_header.entity.OrderHeaders;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -20,6 +22,18 @@ public class ReportDto {
         private Integer totalSupply; //총 공급량
     }
 
+    // 제품 / 주문 상태별 주문 수량과 총 공급량. 주문이 없는 제품은 orderStatus, orderQty 가 null
+    @Getter
+    @AllArgsConstructor
+    public static class ItemStockQtyDto {
+        private Long itemId;
+        private String itemCd;
+        private String itemNm;
+        private OrderHeaders.OrderStatus orderStatus;
+        private Integer orderQty;
+        private Integer supplyQty;
+    }
+
     @Getter
     @Setter
     @NoArgsConstructor
@@ -10,16 +10,16 @@ import com.springboot.order_item.entity.OrderItems;
 import com.springboot.order_item.repository.OrderItemQueryRepositoryCustom;
 import com.springboot.report.reportDto.ReportDto;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Component
+@Transactional(readOnly = true)
 public class EmployeeReport {
 
     private final OrderItemQueryRepositoryCustom orderItemsRepository;
@@ -47,10 +47,7 @@ public class EmployeeReport {
         List<ReportDto.EmployeeReportDto> reportDtos = employees.stream().map(employee -> {
             String employeeId = employee.getEmployeeId();
 
-            // 해당 사원의 기간별 주문 정보 가져오기
-            List<OrderItems> ordersInRange = orderItemsRepository.findByOrderHeadersRequestDateBetween(employeeId, startDateTime, endDateTime);
-
-            // 실적 정보 계산
+            // 실적 정보 계산 : 조회 수는 사원마다 일정하다 (주문 건수와 상관없음)
             ReportDto.EmployeeReportDto reportDto = new ReportDto.EmployeeReportDto();
             reportDto.setEmployeeId(employeeId);
             reportDto.setEmployeeName(employee.getName()); // 사원 이름 추가 가능
@@ -69,9 +66,6 @@ public class EmployeeReport {
         LocalDateTime startDateTime = startDate.atStartOfDay();
         LocalDateTime endDateTime = endDate.atTime(23, 59, 59);
 
-        // 해당 사원의 기간별 주문 정보 가져오기
-        List<OrderItems> ordersInRange = orderItemsRepository.findByOrderHeadersRequestDateBetween(employeeId, startDateTime, endDateTime);
-
         // 실적 정보 계산
         ReportDto.EmployeeReportDto reportDto = new ReportDto.EmployeeReportDto();
         reportDto.setEmployeeId(employeeId);
@@ -92,39 +86,7 @@ public class EmployeeReport {
         // 판매된 제품의 제조단가 리스트
         List<ItemManufacture> mfItems = mfItemRepository.findManufacturedItemsForOrderItems(employeeId, start, end);
 
-        BigDecimal totalOrderPrice = BigDecimal.ZERO;
-        BigDecimal totalManufacturePrice = BigDecimal.ZERO;
-
-        //총 판매 가격 계산
-        for (OrderItems orderItem : orderItems) {
-            totalOrderPrice = totalOrderPrice.add(orderItem.getUnitPrice().multiply(BigDecimal.valueOf(orderItem.getQty())));
-        }
-
-        // 총 제조 가격 계산
-        for (ItemManufacture mfItem : mfItems) {
-            Optional<OrderItems> correspondingOrderItem = orderItems.stream()
-                    .filter(orderItem -> orderItem.getItemCd().equals(mfItem.getItem().getItemCd())) // ItemCd가 일치하는지 확인
-                    .findFirst();
-
-            if (correspondingOrderItem.isPresent()) {
-                OrderItems orderItem = correspondingOrderItem.get();
-                // 해당 판매 수량 가져오기
-                totalManufacturePrice = totalManufacturePrice.add(mfItem.getUnitPrice().multiply(BigDecimal.valueOf(orderItem.getQty())));
-            }
-        }
-
-
-        // 나누기 0 조심
-        if (totalManufacturePrice.compareTo(BigDecimal.ZERO) == 0) {
-            return BigDecimal.ZERO;
-        }
-
-        //마진률 계산
-        BigDecimal marginRate = (totalOrderPrice.subtract(totalManufacturePrice))
-                .divide(totalOrderPrice, 2, RoundingMode.HALF_UP)
-                .multiply(BigDecimal.valueOf(100));
-
-        return marginRate;
+        return MarginCalculator.employeeMarginRate(orderItems, mfItems);
     }
 
     //사원 실적 - 판매 건수
@@ -1,29 +1,37 @@
 package com.springboot.report.service;
 
+import com.springboot.cache.NaturalIdLoader;
 import com.springboot.exception.BusinessLogicException;
 import com.springboot.exception.ExceptionCode;
 import com.springboot.item.entity.Item;
-import com.springboot.item.repository.ItemRepository;
 import com.springboot.manufacture_item.repository.ManufactureItemRepository;
+import com.springboot.order_header.entity.OrderHeaders;
 import com.springboot.order_item.repository.OrderItemQueryRepositoryCustom;
 import com.springboot.report.reportDto.ReportDto;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Component
+@Transactional(readOnly = true)
 public class InventoryReport {
 
     private final ManufactureItemRepository manufactureItemRepository;
     private final OrderItemQueryRepositoryCustom orderItemsRepository;
-    private final ItemRepository itemRepository;
+    private final NaturalIdLoader naturalIdLoader;
 
     public InventoryReport(ManufactureItemRepository manufactureItemRepository,
                             OrderItemQueryRepositoryCustom orderItemsRepository,
-                            ItemRepository itemRepository) {
+                            NaturalIdLoader naturalIdLoader) {
         this.manufactureItemRepository = manufactureItemRepository;
         this.orderItemsRepository = orderItemsRepository;
-        this.itemRepository = itemRepository;
+        this.naturalIdLoader = naturalIdLoader;
     }
 
     // 현재 재고 확인
@@ -40,18 +48,57 @@ public class InventoryReport {
         return response.build();
     }
 
+    // 목록 페이지의 재고 (itemCd 별). 제품마다 조회하지 않고 페이지의 제품을 묶어서 한 번에 읽는다
+    public Map<String, ReportDto.InventoryDto> getInventories(Collection<String> itemCds) {
+        Map<String, ReportDto.InventoryDto> inventories = new HashMap<>();
+        if (itemCds.isEmpty()) {
+            return inventories;
+        }
+
+        Map<String, List<ReportDto.ItemStockQtyDto>> rowsByItem = orderItemsRepository.findStockQtyByItemCds(itemCds)
+                .stream()
+                .collect(Collectors.groupingBy(ReportDto.ItemStockQtyDto::getItemCd));
+        rowsByItem.forEach((itemCd, rows) -> {
+            ReportDto.ItemStockQtyDto first = rows.get(0);
+            int totalSupply = first.getSupplyQty() != null ? first.getSupplyQty() : 0;
+            int totalOrder = sumOrderQty(rows, OrderHeaders.OrderStatus.APPROVED, OrderHeaders.OrderStatus.PRODUCT_PASS);
+            int unusedStock = sumOrderQty(rows, OrderHeaders.OrderStatus.PRODUCT_FAIL);
+            int preparedOrder = sumOrderQty(rows, OrderHeaders.OrderStatus.REQUEST_TEMP);
+
+            inventories.put(itemCd, ReportDto.InventoryDto.builder()
+                    .itemId(first.getItemId())
+                    .itemName(first.getItemNm())
+                    .totalOrder(totalOrder)
+                    .totalSupply(totalSupply)
+                    .unusedStock(unusedStock)
+                    .preparedOrder(preparedOrder)
+                    .totalStock(stock(totalSupply, totalOrder, unusedStock))
+                    .build());
+        });
+        return inventories;
+    }
+
     // 재고 계산 (총 공급량 - 총 주문량(승인이후) - 불용재고량)
     public Integer calculateInventory(String itemCd) {
-        Integer totalManufactured = getManufacturedQty(itemCd);
-        Integer totalOrdered = getOrderQty(itemCd);
-        Integer totalUnused = getUnusedItemQty(itemCd);
-        Integer stock = totalManufactured - totalOrdered - totalUnused;
+        return stock(getManufacturedQty(itemCd), getOrderQty(itemCd), getUnusedItemQty(itemCd));
+    }
+
+    private static Integer stock(int totalManufactured, int totalOrdered, int totalUnused) {
+        int stock = totalManufactured - totalOrdered - totalUnused;
         if (stock < 0) {
             throw new BusinessLogicException(ExceptionCode.OUT_OF_STOCK);
         }
         return stock;
     }
 
+    private static int sumOrderQty(List<ReportDto.ItemStockQtyDto> rows, OrderHeaders.OrderStatus... statuses) {
+        List<OrderHeaders.OrderStatus> included = List.of(statuses);
+        return rows.stream()
+                .filter(row -> row.getOrderQty() != null && included.contains(row.getOrderStatus()))
+                .mapToInt(ReportDto.ItemStockQtyDto::getOrderQty)
+                .sum();
+    }
+
     // 재고 계산을 위한 공급량
     private Integer getManufacturedQty(String itemCd) {
         Integer totalManufactured = manufactureItemRepository.findTotalManufacturedByItemCd(itemCd);
@@ -76,9 +123,9 @@ public class InventoryReport {
         return totalUnused != null ? totalUnused : 0;
     }
 
-    // 유효한 제품인지 검증
+    // 유효한 제품인지 검증 (제품은 2차 캐시에서 읽는다)
     private Item findVerifiedItem(String itemCd) {
-        Optional<Item> item = itemRepository.findByItemCd(itemCd);
+        Optional<Item> item = naturalIdLoader.load(Item.class, itemCd);
         return item.orElseThrow(() -> new BusinessLogicException(ExceptionCode.ITEM_NOT_FOUND));
     }
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.springboot.report.service;
+
+import com.springboot.manufacture_item.entity.ItemManufacture;
+import com.springboot.order_item.entity.OrderItems;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 리포트 마진률 계산 : (판매가 - 원가) / 판매가 * 100, 소수 둘째 자리 반올림
+ */
+public final class MarginCalculator {
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private MarginCalculator() {
+    }
+
+    public static BigDecimal marginRate(BigDecimal orderPrice, BigDecimal manufacturePrice) {
+        if (orderPrice != null && manufacturePrice != null && orderPrice.compareTo(BigDecimal.ZERO) > 0) {
+            return orderPrice.subtract(manufacturePrice)
+                    .divide(orderPrice, 2, RoundingMode.HALF_UP)
+                    .multiply(HUNDRED);
+        }
+        return BigDecimal.ZERO;
+    }
+
+    /**
+     * 사원 마진률. 원가는 납품 기록의 제조단가 * 같은 제품의 (첫 번째) 판매 수량으로 계산한다.
+     * 제품코드별 판매 항목을 먼저 Map 으로 만들어 납품 기록마다 판매 목록을 다시 훑지 않는다.
+     */
+    public static BigDecimal employeeMarginRate(List<OrderItems> orderItems, List<ItemManufacture> mfItems) {
+        BigDecimal totalOrderPrice = BigDecimal.ZERO;
+        Map<String, OrderItems> orderItemByItemCd = new HashMap<>();
+        for (OrderItems orderItem : orderItems) {
+            totalOrderPrice = totalOrderPrice.add(orderItem.getUnitPrice().multiply(BigDecimal.valueOf(orderItem.getQty())));
+            orderItemByItemCd.putIfAbsent(orderItem.getItemCd(), orderItem);
+        }
+
+        BigDecimal totalManufacturePrice = BigDecimal.ZERO;
+        for (ItemManufacture mfItem : mfItems) {
+            OrderItems orderItem = orderItemByItemCd.get(mfItem.getItem().getItemCd());
+            if (orderItem != null) {
+                totalManufacturePrice = totalManufacturePrice.add(mfItem.getUnitPrice().multiply(BigDecimal.valueOf(orderItem.getQty())));
+            }
+        }
+
+        // 나누기 0 조심 : 원가가 없거나 판매 합계가 0 이면 0 (판매 합계 0 은 예전에는 ArithmeticException 으로 리포트 전체가 실패했다)
+        if (totalManufacturePrice.signum() == 0 || totalOrderPrice.signum() == 0) {
+            return BigDecimal.ZERO;
+        }
+        return marginRate(totalOrderPrice, totalManufacturePrice);
+    }
+}
@@ -1,39 +1,40 @@
 package com.springboot.report.service;
 
+import com.springboot.cache.NaturalIdLoader;
 import com.springboot.exception.BusinessLogicException;
 import com.springboot.exception.ExceptionCode;
 import com.springboot.item.entity.Item;
-import com.springboot.item.repository.ItemRepository;
 import com.springboot.manufacture_item.repository.ManufactureItemRepository;
 import com.springboot.order_item.entity.OrderItems;
 import com.springboot.order_item.repository.OrderItemQueryRepositoryCustom;
 import com.springboot.order_item.repository.OrderItemsRepository;
 import com.springboot.report.reportDto.ReportDto;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import javax.swing.text.html.Option;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+// 리포트 조회는 읽기 전용 트랜잭션으로 실행한다 (replica 설정 시 replica 로 라우팅)
 @Component
+@Transactional(readOnly = true)
 public class SaleReport {
     private final OrderItemQueryRepositoryCustom orderItemsRepository;
     private final ManufactureItemRepository manufactureItemRepository;
-    private final ItemRepository itemRepository;
+    private final NaturalIdLoader naturalIdLoader;
 
     public SaleReport(OrderItemQueryRepositoryCustom orderItemsRepository,
                       ManufactureItemRepository manufactureItemRepository,
-                      ItemRepository itemRepository) {
+                      NaturalIdLoader naturalIdLoader) {
 
         this.orderItemsRepository = orderItemsRepository;
         this.manufactureItemRepository = manufactureItemRepository;
-        this.itemRepository = itemRepository;
+        this.naturalIdLoader = naturalIdLoader;
     }
 
     //기간별 레포트 (마진률, 판매량)
@@ -44,34 +45,26 @@ public class SaleReport {
 
         List<OrderItems> ordersInRange = orderItemsRepository.findByOrderHeadersRequestDateBetween(null, startDateTime, endDateTime);
 
-        return new ArrayList<>(ordersInRange.stream()
-                .collect(Collectors.toMap(OrderItems::getItemCd, orderItem -> {
-                    Optional<Item> item = itemRepository.findByItemCd(orderItem.getItemCd());
+        // 합계 쿼리는 주문 줄마다가 아니라 제품마다 한 번씩만 실행한다
+        return ordersInRange.stream()
+                .map(OrderItems::getItemCd)
+                .distinct()
+                .map(itemCd -> {
+                    Optional<Item> item = naturalIdLoader.load(Item.class, itemCd);
+                    BigDecimal totalOrderedPrice = getOrderTotalPrice(itemCd, startDateTime, endDateTime);
+                    BigDecimal totalMfPrice = getManufactureTotalPrice(itemCd, startDateTime, endDateTime);
                     ReportDto.SaleReportDto reportDto = new ReportDto.SaleReportDto();
-                    reportDto.setItemCd(orderItem.getItemCd());
+                    reportDto.setItemCd(itemCd);
                     reportDto.setItemNm(item.get().getItemNm());
-                    reportDto.setTotalOrdered(getTotalOrderedPeriod(orderItem.getItemCd(), startDateTime, endDateTime));
-                    reportDto.setTotalManufactured(getTotalManufacturedPeriod(orderItem.getItemCd(), startDateTime, endDateTime));
-                    reportDto.setTotalOrderedPrice(getOrderTotalPrice(orderItem.getItemCd(), startDateTime, endDateTime));
-                    reportDto.setTotalMfPrice(getManufactureTotalPrice(orderItem.getItemCd(), startDateTime, endDateTime));
-                    reportDto.setMarginRate(calculateMarginRate(
-                            getOrderTotalPrice(orderItem.getItemCd(), startDateTime, endDateTime),
-                            getManufactureTotalPrice(orderItem.getItemCd(), startDateTime, endDateTime)
-                    ));
+                    reportDto.setTotalOrdered(getTotalOrderedPeriod(itemCd, startDateTime, endDateTime));
+                    reportDto.setTotalManufactured(getTotalManufacturedPeriod(itemCd, startDateTime, endDateTime));
+                    reportDto.setTotalOrderedPrice(totalOrderedPrice);
+                    reportDto.setTotalMfPrice(totalMfPrice);
+                    reportDto.setMarginRate(MarginCalculator.marginRate(totalOrderedPrice, totalMfPrice));
 
                     return reportDto;
-                }, (existing, replacement) -> existing)).values());
-    }
-
-    //마진률 계산
-    private BigDecimal calculateMarginRate(BigDecimal orderUnitPrice, BigDecimal manufactureUnitPrice) {
-        if (orderUnitPrice != null && manufactureUnitPrice != null && orderUnitPrice.compareTo(BigDecimal.ZERO) > 0) {
-            // (판매가 - 원가) / 판매가 * 100
-            return orderUnitPrice.subtract(manufactureUnitPrice)
-                    .divide(orderUnitPrice, 2, RoundingMode.HALF_UP)
-                    .multiply(BigDecimal.valueOf(100));
-        }
-        return BigDecimal.ZERO;
+                })
+                .collect(Collectors.toList());
     }
 
     //해당 기간의 총 판매가(승인 이후 상태만 계산 = PRODUCT_PASS
@@ -1,5 +1,7 @@
 package com.springboot.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.springboot.exception.DuplicateValueException;
 import com.springboot.exception.ExceptionCode;
 import lombok.Getter;
 import org.springframework.http.HttpStatus;
@@ -16,6 +18,8 @@ public class ErrorResponse {
     private String message;
     private List<FieldError> fieldErrors;
     private List<ConstraintViolationError> violationErrors;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<DuplicateValueException.Conflict> conflicts;
 
     public ErrorResponse(int status, String message) {
         this.status = status;
@@ -40,6 +44,12 @@ public class ErrorResponse {
         return new ErrorResponse(exceptionCode.getStatus(), exceptionCode.getMessage());
     }
 
+    public static ErrorResponse of(DuplicateValueException e) {
+        ErrorResponse response = of(e.getExceptionCode());
+        response.conflicts = e.getConflicts();
+        return response;
+    }
+
     public static ErrorResponse of(HttpStatus httpStatus) {
         return new ErrorResponse(httpStatus.value(), httpStatus.getReasonPhrase());
     }
@@ -20,7 +20,8 @@ import java.util.List;
 @NoArgsConstructor
 public class SaleHistory {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sale_history_seq")
+    @SequenceGenerator(name = "sale_history_seq", sequenceName = "sale_history_seq", allocationSize = 50)
     private long saleHistoryId;
 
     @Column(nullable = false)
@@ -17,7 +17,8 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 public class SaleHistoryItems {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sale_history_items_seq")
+    @SequenceGenerator(name = "sale_history_items_seq", sequenceName = "sale_history_items_seq", allocationSize = 50)
     private long saleHistoryItemId;
 
     @ManyToOne
@@ -0,0 +1,76 @@
+package com.springboot.validator;
+
+import com.springboot.exception.DuplicateValueException;
+import com.springboot.exception.ExceptionCode;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 일괄 등록 요청의 유니크 컬럼 검증.
+ * 컬럼마다 요청 안의 중복은 메모리에서, DB 와의 중복은 IN 쿼리로 확인하고
+ * 발견한 충돌을 모두 모아서 한 번에 예외로 던진다.
+ */
+public class UniqueValueChecker<T> {
+    // IN 절 하나에 넣을 최대 값 개수
+    private static final int IN_CLAUSE_SIZE = 500;
+
+    private final List<T> rows;
+    private final List<DuplicateValueException.Conflict> conflicts = new ArrayList<>();
+
+    private UniqueValueChecker(List<T> rows) {
+        this.rows = rows;
+    }
+
+    public static <T> UniqueValueChecker<T> of(List<T> rows) {
+        return new UniqueValueChecker<>(rows);
+    }
+
+    /**
+     * @param field         응답에 표시할 필드 이름
+     * @param getter        요청 객체에서 값을 꺼내는 함수 (null 값은 검사하지 않는다)
+     * @param existingFinder 주어진 값 중 DB 에 이미 있는 값을 돌려주는 IN 쿼리
+     * @param existsCode    DB 에 이미 있을 때 사용할 예외 코드
+     */
+    public UniqueValueChecker<T> check(String field,
+                                       Function<T, String> getter,
+                                       Function<Collection<String>, Collection<String>> existingFinder,
+                                       ExceptionCode existsCode) {
+        // 값 -> 요청 목록에서 처음 나온 위치
+        Map<String, Integer> firstIndexes = new LinkedHashMap<>();
+
+        for (int i = 0; i < rows.size(); i++) {
+            String value = getter.apply(rows.get(i));
+            if (value == null) {
+                continue;
+            }
+            Integer firstIndex = firstIndexes.putIfAbsent(value, i);
+            if (firstIndex != null) {
+                conflicts.add(new DuplicateValueException.Conflict(i, field, value,
+                        ExceptionCode.DUPLICATED_IN_REQUEST.getMessage()));
+            }
+        }
+
+        List<String> values = new ArrayList<>(firstIndexes.keySet());
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < values.size(); from += IN_CLAUSE_SIZE) {
+            existing.addAll(existingFinder.apply(values.subList(from, Math.min(from + IN_CLAUSE_SIZE, values.size()))));
+        }
+
+        firstIndexes.forEach((value, index) -> {
+            if (existing.contains(value)) {
+                conflicts.add(new DuplicateValueException.Conflict(index, field, value, existsCode.getMessage()));
+            }
+        });
+
+        return this;
+    }
+
+    // 충돌이 하나라도 있으면 전부 담아서 예외 발생
+    public void validate() {
+        if (!conflicts.isEmpty()) {
+            conflicts.sort(Comparator.comparingInt(DuplicateValueException.Conflict::getIndex));
+            throw new DuplicateValueException(conflicts);
+        }
+    }
+}
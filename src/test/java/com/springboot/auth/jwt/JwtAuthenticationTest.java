@@ -0,0 +1,24 @@
+package com.springboot.auth.jwt;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 토큰 인증 정보 : UsernamePasswordAuthenticationToken 과 같이 신뢰 표시는 생성자로만 한다
+ */
+class JwtAuthenticationTest {
+
+    @Test
+    void cannotBeMarkedTrustedButCanBeRevoked() {
+        JwtAuthentication authentication = new JwtAuthentication("E1", AuthorityUtils.createAuthorityList("ROLE_USER"));
+        assertThat(authentication.isAuthenticated()).isTrue();
+
+        assertThatThrownBy(() -> authentication.setAuthenticated(true)).isInstanceOf(IllegalArgumentException.class);
+
+        authentication.setAuthenticated(false);
+        assertThat(authentication.isAuthenticated()).isFalse();
+    }
+}
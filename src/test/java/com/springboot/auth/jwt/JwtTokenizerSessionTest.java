@@ -0,0 +1,71 @@
+package com.springboot.auth.jwt;
+
+import com.springboot.auth.session.InMemoryTokenStore;
+import com.springboot.auth.session.TokenStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로그인 / 로그아웃 세션 등록과 삭제 (Redis 없이 InMemoryTokenStore 사용)
+ */
+class JwtTokenizerSessionTest {
+    private final InMemoryTokenStore tokenStore = new InMemoryTokenStore(10, 64);
+
+    @AfterEach
+    void tearDown() {
+        tokenStore.close();
+    }
+
+    @Test
+    void loginRegistersBothKeysAndLogoutRemovesThemOnce() {
+        JwtTokenizer jwtTokenizer = new JwtTokenizer(tokenStore);
+        ReflectionTestUtils.setField(jwtTokenizer, "accessTokenExpirationMinutes", 30);
+        ReflectionTestUtils.setField(jwtTokenizer, "refreshTokenExpirationMinutes", 420);
+
+        jwtTokenizer.registerToken("E0001", "access-token", "refresh-token");
+
+        assertThat(tokenStore.sessions("E0001")).extracting(TokenStore.TokenSession::getAccessToken)
+                .containsExactly("access-token");
+        assertThat(tokenStore.findRefreshToken("access-token")).isEqualTo("refresh-token");
+
+        assertThat(jwtTokenizer.deleteRegisterToken("E0001")).isTrue();
+        assertThat(tokenStore.exists("E0001")).isFalse();
+        assertThat(tokenStore.findRefreshToken("access-token")).isNull();
+
+        // 두 번째 로그아웃은 삭제할 세션이 없다
+        assertThat(jwtTokenizer.deleteRegisterToken("E0001")).isFalse();
+    }
+
+    @Test
+    void sessionsAreListedPerUserAndRevokedIndividually() {
+        tokenStore.register("E0001", "pc", Duration.ofMinutes(30), "pc-refresh", Duration.ofMinutes(60));
+        tokenStore.register("E0001", "mobile", Duration.ofMinutes(10), "mobile-refresh", Duration.ofMinutes(60));
+
+        assertThat(tokenStore.sessions("E0001")).extracting(TokenStore.TokenSession::getAccessToken)
+                .containsExactly("mobile", "pc");
+
+        assertThat(tokenStore.revokeSession("E0001", "mobile")).isTrue();
+        assertThat(tokenStore.exists("E0001")).isTrue();
+        assertThat(tokenStore.findRefreshToken("mobile")).isNull();
+    }
+
+    @Test
+    void expiredSessionsAreReclaimedByTheTimingWheel() throws InterruptedException {
+        tokenStore.register("E0001", "short", Duration.ofMillis(20), "short-refresh", Duration.ofMillis(20));
+
+        assertThat(tokenStore.size()).isEqualTo(1);
+
+        long deadline = System.currentTimeMillis() + 2_000;
+        while (tokenStore.size() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertThat(tokenStore.exists("E0001")).isFalse();
+        assertThat(tokenStore.size()).isZero();
+    }
+}
@@ -0,0 +1,106 @@
+package com.springboot.auth.login;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 비밀번호 확인 전용 풀 : 대기열이 차거나 시간이 초과되면 429(LoginThrottledException) 로 거절
+ */
+class BoundedPasswordEncoderTest {
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch started = new CountDownLatch(1);
+    private volatile Thread encodingThread;
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.shutdown();
+    }
+
+    @Test
+    void matchesRunsOnThePoolAndEncodeOnTheCallingThread() {
+        encoder = new BoundedPasswordEncoder(new PlainEncoder(), 1, 1, 1_000);
+
+        assertThat(encoder.matches("secret", "{plain}secret")).isTrue();
+        assertThat(encoder.matches("wrong", "{plain}secret")).isFalse();
+
+        assertThat(encoder.encode("secret")).isEqualTo("{plain}secret");
+        assertThat(encodingThread).isSameAs(Thread.currentThread());
+    }
+
+    @Test
+    void fullQueueIsRejectedWithoutWaiting() throws InterruptedException {
+        encoder = new BoundedPasswordEncoder(new BlockingEncoder(), 1, 1, 5_000);
+
+        // 하나는 실행 중, 하나는 대기열에 있다
+        CompletableFuture.runAsync(() -> encoder.matches("a", "{plain}a"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture.runAsync(() -> encoder.matches("b", "{plain}b"));
+        Thread.sleep(50);
+
+        assertThatThrownBy(() -> encoder.matches("c", "{plain}c"))
+                .isInstanceOf(LoginThrottledException.class)
+                .hasMessageContaining("queue is full");
+    }
+
+    @Test
+    void slowHashTimesOut() {
+        encoder = new BoundedPasswordEncoder(new BlockingEncoder(), 1, 1, 50);
+
+        assertThatThrownBy(() -> encoder.matches("a", "{plain}a"))
+                .isInstanceOf(LoginThrottledException.class)
+                .hasMessageContaining("timed out");
+    }
+
+    @Test
+    void onlyTheLoginProviderUsesTheBoundedEncoder() {
+        encoder = new BoundedPasswordEncoder(new PlainEncoder(), 1, 1, 1_000);
+        LoginAuthenticationProvider provider = new LoginAuthenticationProvider(
+                username -> User.withUsername(username).password("{plain}secret").roles("USER").build(), encoder);
+
+        Authentication authentication = provider.authenticate(
+                new UsernamePasswordAuthenticationToken("E0001", "secret"));
+
+        assertThat(authentication.isAuthenticated()).isTrue();
+        assertThat(encodingThread.getName()).startsWith("password-hash-");
+    }
+
+    private class PlainEncoder implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            encodingThread = Thread.currentThread();
+            return "{plain}" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            encodingThread = Thread.currentThread();
+            return encodedPassword.equals("{plain}" + rawPassword);
+        }
+    }
+
+    private class BlockingEncoder extends PlainEncoder {
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.matches(rawPassword, encodedPassword);
+        }
+    }
+}
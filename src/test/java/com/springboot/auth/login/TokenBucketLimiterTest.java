@@ -0,0 +1,72 @@
+package com.springboot.auth.login;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 키별 토큰 버킷 : 한도, 재충전, 키 수 제한 (LRU)
+ */
+class TokenBucketLimiterTest {
+
+    @Test
+    void allowsUpToCapacityThenReportsRetryAfter() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(3, 0.1, 100);
+
+        assertThat(limiter.tryAcquire("E0001")).isZero();
+        assertThat(limiter.tryAcquire("E0001")).isZero();
+        assertThat(limiter.tryAcquire("E0001")).isZero();
+
+        // 0.1 개/초 : 다음 토큰까지 약 10 초
+        assertThat(limiter.tryAcquire("E0001")).isBetween(9L, 10L);
+        // 다른 키는 따로 센다
+        assertThat(limiter.tryAcquire("E0002")).isZero();
+    }
+
+    @Test
+    void bucketRefillsOverTime() throws InterruptedException {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, 50, 100);
+
+        assertThat(limiter.tryAcquire("10.0.0.1")).isZero();
+        assertThat(limiter.tryAcquire("10.0.0.1")).isEqualTo(1);
+
+        Thread.sleep(60);
+
+        assertThat(limiter.tryAcquire("10.0.0.1")).isZero();
+    }
+
+    @Test
+    void keyCountIsBoundedByDroppingTheLeastRecentlyUsedBucket() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, 0.001, 2);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("b");
+        // a 를 다시 써서 b 가 가장 오래됐다
+        assertThat(limiter.tryAcquire("a")).isPositive();
+
+        limiter.tryAcquire("c");
+
+        assertThat(limiter.size()).isEqualTo(2);
+        // a 는 남아 있어서 여전히 막히고, 버려진 b 는 새 버킷으로 시작한다
+        assertThat(limiter.tryAcquire("a")).isPositive();
+        assertThat(limiter.tryAcquire("b")).isZero();
+        assertThat(limiter.size()).isEqualTo(2);
+    }
+
+    @Test
+    void acquireStaysCheapWhenTheMapIsFullOfActiveBuckets() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(5, 0.1, 1_000);
+        for (int i = 0; i < 1_000; i++) {
+            limiter.tryAcquire("key-" + i);
+        }
+
+        long started = System.nanoTime();
+        for (int i = 0; i < 100_000; i++) {
+            limiter.tryAcquire("new-" + i);
+        }
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        assertThat(limiter.size()).isEqualTo(1_000);
+        // 가득 찬 맵을 매번 훑으면 (1,000 x 100,000) 수 초가 걸린다
+        assertThat(elapsedMillis).isLessThan(2_000);
+    }
+}
@@ -0,0 +1,189 @@
+package com.springboot.auth.session;
+
+import com.springboot.cache.InvalidationBus;
+import com.springboot.cache.RedisInvalidationBus;
+import com.springboot.redis.InMemoryRedisTemplate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 세션 확인 캐시 : 저장소 장애 시 fail-open / fail-closed, 로그아웃 무효화
+ */
+class ActiveSessionCacheTest {
+    private InMemoryRedisTemplate redis;
+    private StubTokenStore tokenStore;
+    private Date expiration;
+
+    @BeforeEach
+    void setUp() {
+        redis = new InMemoryRedisTemplate();
+        tokenStore = new StubTokenStore();
+        expiration = new Date(System.currentTimeMillis() + 60_000);
+    }
+
+    @Test
+    void activeSessionIsCachedUntilInvalidated() {
+        ActiveSessionCache cache = cache(false);
+
+        assertThat(cache.isActive("emp1", expiration)).isTrue();
+        assertThat(cache.isActive("emp1", expiration)).isTrue();
+        assertThat(tokenStore.lookups).hasValue(1);
+        assertThat(cache.getLocalHits()).isEqualTo(1);
+
+        tokenStore.active = false;
+        cache.invalidate("emp1");
+
+        assertThat(cache.isActive("emp1", expiration)).isFalse();
+        assertThat(tokenStore.lookups).hasValue(2);
+    }
+
+    @Test
+    void revokedSessionIsNotCached() {
+        ActiveSessionCache cache = cache(false);
+        tokenStore.active = false;
+
+        assertThat(cache.isActive("emp1", expiration)).isFalse();
+        tokenStore.active = true;
+        assertThat(cache.isActive("emp1", expiration)).isTrue();
+    }
+
+    @Test
+    void invalidationFromAnotherServerClearsTheLocalEntry() {
+        ActiveSessionCache serverA = cache(false);
+        ActiveSessionCache serverB = cache(false);
+        serverB.isActive("emp1", expiration);
+
+        tokenStore.active = false;
+        serverA.invalidate("emp1");
+
+        assertThat(serverB.isActive("emp1", expiration)).isFalse();
+    }
+
+    @Test
+    void storeOutageFailsClosedByDefaultAndOpenWhenConfigured() {
+        tokenStore.failing = true;
+
+        ActiveSessionCache closed = cache(false);
+        ActiveSessionCache open = cache(true);
+
+        assertThat(closed.isActive("emp1", expiration)).isFalse();
+        assertThat(open.isActive("emp1", expiration)).isTrue();
+        assertThat(closed.getRedisFailures()).isEqualTo(1);
+
+        // 장애 중의 통과 결과는 캐시하지 않는다
+        tokenStore.failing = false;
+        tokenStore.active = false;
+        assertThat(open.isActive("emp1", expiration)).isFalse();
+    }
+
+    @Test
+    void lookupThatRacesWithALogoutDoesNotReAdmitTheSession() throws Exception {
+        ActiveSessionCache cache = cache(false);
+        tokenStore.blockNextLookup();
+
+        // 로그아웃 전에 시작한 조회가 true 를 들고 늦게 돌아온다
+        CompletableFuture<Boolean> staleLookup = CompletableFuture.supplyAsync(() -> cache.isActive("emp1", expiration));
+        assertThat(tokenStore.lookupStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        tokenStore.active = false;
+        cache.invalidate("emp1");
+        tokenStore.release.countDown();
+        assertThat(staleLookup.get(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(cache.isActive("emp1", expiration)).isFalse();
+        assertThat(tokenStore.lookups).hasValue(2);
+    }
+
+    @Test
+    void processLocalTokenStoreNeedsNoRedisBeans() {
+        InMemoryTokenStore memoryStore = new InMemoryTokenStore(1000, 64);
+        try {
+            StaticListableBeanFactory noBeans = new StaticListableBeanFactory();
+            ActiveSessionCache cache = new ActiveSessionCache(noBeans.getBeanProvider(InvalidationBus.class), memoryStore,
+                    100, 30, false);
+            memoryStore.register("emp1", "access", Duration.ofMinutes(1), "refresh", Duration.ofMinutes(2));
+
+            assertThat(cache.isActive("emp1", expiration)).isTrue();
+            memoryStore.revoke("emp1");
+            cache.invalidate("emp1");
+            assertThat(cache.isActive("emp1", expiration)).isFalse();
+        } finally {
+            memoryStore.close();
+        }
+    }
+
+    private ActiveSessionCache cache(boolean failOpen) {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("invalidationBus", new RedisInvalidationBus(redis, redis.listenerContainer()));
+        return new ActiveSessionCache(beans.getBeanProvider(InvalidationBus.class), tokenStore, 100, 30, failOpen);
+    }
+
+    private static class StubTokenStore implements TokenStore {
+        private final AtomicInteger lookups = new AtomicInteger();
+        private final CountDownLatch lookupStarted = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile boolean active = true;
+        private volatile boolean failing;
+        private volatile boolean blockNext;
+
+        void blockNextLookup() {
+            blockNext = true;
+        }
+
+        @Override
+        public boolean exists(String username) {
+            lookups.incrementAndGet();
+            if (failing) {
+                throw new IllegalStateException("redis unavailable");
+            }
+            // 블록되기 전의 값을 읽어 둔다
+            boolean result = active;
+            if (blockNext) {
+                blockNext = false;
+                lookupStarted.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public void register(String username, String accessToken, Duration accessTokenTtl,
+                             String refreshToken, Duration refreshTokenTtl) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean revoke(String username) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean revokeSession(String username, String accessToken) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<TokenSession> sessions(String username) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String findRefreshToken(String accessToken) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
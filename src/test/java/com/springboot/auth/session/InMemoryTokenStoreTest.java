@@ -0,0 +1,14 @@
+package com.springboot.auth.session;
+
+class InMemoryTokenStoreTest extends TokenStoreContractTest {
+
+    @Override
+    protected TokenStore createStore() {
+        return new InMemoryTokenStore(10, 64);
+    }
+
+    @Override
+    protected void closeStore() {
+        ((InMemoryTokenStore) store).close();
+    }
+}
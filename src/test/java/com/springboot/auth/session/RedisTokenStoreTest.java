@@ -0,0 +1,57 @@
+package com.springboot.auth.session;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+/**
+ * Lua 스크립트를 실행해야 하므로 실제 Redis 가 필요하다.
+ * test.redis.host / test.redis.port (기본 localhost:6379) 에 연결할 수 없으면 건너뛴다.
+ */
+class RedisTokenStoreTest extends TokenStoreContractTest {
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, Object> redisTemplate;
+
+    @BeforeAll
+    static void connect() {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(
+                System.getProperty("test.redis.host", "localhost"),
+                Integer.getInteger("test.redis.port", 6379));
+        connectionFactory = new LettuceConnectionFactory(configuration);
+        connectionFactory.afterPropertiesSet();
+        boolean reachable;
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            reachable = "PONG".equals(connection.ping());
+        } catch (RuntimeException e) {
+            reachable = false;
+        }
+        if (!reachable) {
+            connectionFactory.destroy();
+            connectionFactory = null;
+        }
+        Assumptions.assumeTrue(reachable, "Redis is not reachable");
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void disconnect() {
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+    }
+
+    @Override
+    protected TokenStore createStore() {
+        return new RedisTokenStore(redisTemplate);
+    }
+}
@@ -0,0 +1,119 @@
+package com.springboot.auth.session;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TokenStore 구현체가 모두 지켜야 하는 동작. 구현체마다 하위 클래스에서 저장소를 만든다.
+ */
+abstract class TokenStoreContractTest {
+    private static final Duration HOUR = Duration.ofHours(1);
+
+    protected TokenStore store;
+    private String username;
+
+    protected abstract TokenStore createStore();
+
+    protected void closeStore() {
+    }
+
+    @BeforeEach
+    void setUpStore() {
+        store = createStore();
+        // 실제 Redis 를 쓸 때 이전 실행의 키와 겹치지 않도록 사용자와 토큰 이름을 매번 새로 만든다
+        username = "E-" + UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDownStore() {
+        store.revoke(username);
+        closeStore();
+    }
+
+    @Test
+    void registeredSessionIsActiveAndHoldsItsRefreshToken() {
+        store.register(username, token("access"), HOUR, token("refresh"), HOUR.multipliedBy(2));
+
+        assertThat(store.exists(username)).isTrue();
+        assertThat(store.sessions(username)).extracting(TokenStore.TokenSession::getAccessToken)
+                .containsExactly(token("access"));
+        assertThat(store.findRefreshToken(token("access"))).isEqualTo(token("refresh"));
+        assertThat(store.exists("E-" + UUID.randomUUID())).isFalse();
+    }
+
+    @Test
+    void sessionsAreOrderedByExpiryAndRevokedOneByOne() {
+        store.register(username, token("pc"), HOUR, token("pc-refresh"), HOUR.multipliedBy(2));
+        store.register(username, token("mobile"), Duration.ofMinutes(10), token("mobile-refresh"), HOUR.multipliedBy(2));
+
+        assertThat(store.sessions(username)).extracting(TokenStore.TokenSession::getAccessToken)
+                .containsExactly(token("mobile"), token("pc"));
+
+        assertThat(store.revokeSession(username, token("mobile"))).isTrue();
+        assertThat(store.revokeSession(username, token("mobile"))).isFalse();
+        assertThat(store.findRefreshToken(token("mobile"))).isNull();
+        assertThat(store.findRefreshToken(token("pc"))).isEqualTo(token("pc-refresh"));
+        assertThat(store.exists(username)).isTrue();
+    }
+
+    @Test
+    void revokeRemovesEverySessionAndReportsWhetherOneWasActive() {
+        store.register(username, token("a"), HOUR, token("a-refresh"), HOUR.multipliedBy(2));
+        store.register(username, token("b"), HOUR, token("b-refresh"), HOUR.multipliedBy(2));
+
+        assertThat(store.revoke(username)).isTrue();
+
+        assertThat(store.exists(username)).isFalse();
+        assertThat(store.sessions(username)).isEmpty();
+        assertThat(store.findRefreshToken(token("a"))).isNull();
+        assertThat(store.findRefreshToken(token("b"))).isNull();
+        assertThat(store.revoke(username)).isFalse();
+    }
+
+    @Test
+    void expiredAccessTokenKeepsItsRefreshTokenUntilLogout() throws InterruptedException {
+        store.register(username, token("old"), Duration.ofMillis(20), token("old-refresh"), HOUR);
+        Thread.sleep(100);
+
+        assertThat(store.exists(username)).isFalse();
+        assertThat(store.sessions(username)).isEmpty();
+        assertThat(store.findRefreshToken(token("old"))).isEqualTo(token("old-refresh"));
+
+        // 다른 기기의 로그인이 만료된 세션을 정리해도 refresh 가 살아 있는 세션은 남는다
+        store.register(username, token("new"), Duration.ofMinutes(30), token("new-refresh"), HOUR);
+        assertThat(store.findRefreshToken(token("old"))).isEqualTo(token("old-refresh"));
+
+        // 로그아웃은 access 가 만료된 세션의 refresh 까지 지운다
+        assertThat(store.revoke(username)).isTrue();
+        assertThat(store.findRefreshToken(token("old"))).isNull();
+        assertThat(store.findRefreshToken(token("new"))).isNull();
+    }
+
+    @Test
+    void logoutAfterEveryAccessTokenExpiredStillRemovesTheRefreshToken() throws InterruptedException {
+        store.register(username, token("only"), Duration.ofMillis(20), token("only-refresh"), HOUR);
+        Thread.sleep(100);
+
+        assertThat(store.revoke(username)).isFalse();
+        assertThat(store.findRefreshToken(token("only"))).isNull();
+    }
+
+    @Test
+    void fullyExpiredSessionHasNoRefreshToken() throws InterruptedException {
+        store.register(username, token("gone"), Duration.ofMillis(20), token("gone-refresh"), Duration.ofMillis(40));
+        Thread.sleep(100);
+
+        assertThat(store.findRefreshToken(token("gone"))).isNull();
+        assertThat(store.exists(username)).isFalse();
+    }
+
+    private String token(String name) {
+        return username + "-" + name;
+    }
+}
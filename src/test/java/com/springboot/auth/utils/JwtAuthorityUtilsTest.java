@@ -0,0 +1,76 @@
+package com.springboot.auth.utils;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 토큰의 roleMask 클레임 변환과 권한 목록 공유
+ */
+class JwtAuthorityUtilsTest {
+    private final JwtAuthorityUtils authorityUtils = new JwtAuthorityUtils();
+
+    @Test
+    void knownRolesRoundTripThroughTheRoleMask() {
+        assertThat(authorityUtils.toRoleMask(List.of())).isZero();
+        assertThat(authorityUtils.toRoleMask(List.of("USER"))).isEqualTo(1);
+        assertThat(authorityUtils.toRoleMask(List.of("ADMIN", "USER"))).isEqualTo(3);
+        // 순서와 중복은 마스크에 영향이 없다
+        assertThat(authorityUtils.toRoleMask(List.of("USER", "ADMIN", "USER"))).isEqualTo(3);
+
+        assertThat(names(authorityUtils.createAuthorities(1))).containsExactly("ROLE_USER");
+        assertThat(names(authorityUtils.createAuthorities(2))).containsExactly("ROLE_ADMIN");
+        assertThat(names(authorityUtils.createAuthorities(3))).containsExactly("ROLE_USER", "ROLE_ADMIN");
+    }
+
+    @Test
+    void roleMaskOutsideTheKnownBitsIsRejected() {
+        assertThatThrownBy(() -> authorityUtils.createAuthorities(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> authorityUtils.createAuthorities(4)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void sameRolesShareOneImmutableList() {
+        List<GrantedAuthority> fromRoles = authorityUtils.createAuthorities(List.of("ADMIN", "USER"));
+
+        assertThat(authorityUtils.createAuthorities(List.of("USER", "ADMIN"))).isSameAs(fromRoles);
+        assertThat(authorityUtils.createAuthorities(3)).isSameAs(fromRoles);
+        assertThatThrownBy(() -> fromRoles.add(null)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void unknownRoleHasNoMaskButStillGetsItsAuthorities() {
+        List<String> roles = List.of("USER", "AUDITOR");
+
+        assertThat(authorityUtils.toRoleMask(roles)).isEqualTo(-1);
+        List<GrantedAuthority> authorities = authorityUtils.createAuthorities(roles);
+        assertThat(names(authorities)).containsExactly("ROLE_USER", "ROLE_AUDITOR");
+        assertThat(authorityUtils.createAuthorities(List.of("USER", "AUDITOR"))).isSameAs(authorities);
+    }
+
+    @Test
+    void unknownCombinationsStopBeingCachedAtTheCap() {
+        // 캐시 상한 256 개를 채운다
+        for (int i = 0; i < 256; i++) {
+            authorityUtils.createAuthorities(List.of("ROLE" + i));
+        }
+
+        List<String> overflow = List.of("AUDITOR");
+        List<GrantedAuthority> first = authorityUtils.createAuthorities(overflow);
+        List<GrantedAuthority> second = authorityUtils.createAuthorities(overflow);
+
+        assertThat(second).isEqualTo(first).isNotSameAs(first);
+        // 이미 들어간 조합은 계속 공유한다
+        assertThat(authorityUtils.createAuthorities(List.of("ROLE0")))
+                .isSameAs(authorityUtils.createAuthorities(List.of("ROLE0")));
+    }
+
+    private static List<String> names(List<GrantedAuthority> authorities) {
+        return authorities.stream().map(GrantedAuthority::getAuthority).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,258 @@
+package com.springboot.buyer_item.index;
+
+import com.springboot.buyer.entity.Buyer;
+import com.springboot.buyer_item.entity.BuyerItem;
+import com.springboot.buyer_item.repository.BuyerItemRepository;
+import com.springboot.cache.RedisInvalidationBus;
+import com.springboot.item.entity.Item;
+import com.springboot.redis.InMemoryRedisTemplate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 계약 단가 기간 인덱스 : 기간 탐색과 트랜잭션 경계
+ */
+class BuyerItemPriceIndexTest {
+    private static final LocalDateTime JAN_1 = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final LocalDateTime MAR_1 = LocalDateTime.of(2024, 3, 1, 0, 0);
+    private static final LocalDateTime MAR_31 = LocalDateTime.of(2024, 3, 31, 23, 59, 59);
+    private static final LocalDateTime DEC_31 = LocalDateTime.of(2024, 12, 31, 23, 59, 59);
+
+    private final List<BuyerItem> stored = new CopyOnWriteArrayList<>();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final List<String> published = new CopyOnWriteArrayList<>();
+    // DB 에서 행을 읽은 직후, 결과를 돌려주기 전에 실행된다 (그 사이 다른 트랜잭션의 커밋)
+    private volatile Runnable afterRead = () -> { };
+    private BuyerItemPriceIndex index;
+
+    @BeforeEach
+    void setUp() {
+        InMemoryRedisTemplate redis = new InMemoryRedisTemplate();
+        redis.subscribe(BuyerItemPriceIndex.INVALIDATION_CHANNEL,
+                (message, pattern) -> published.add(new String(message.getBody())));
+        index = new BuyerItemPriceIndex(repository(), new RedisInvalidationBus(redis, new RedisMessageListenerContainer()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(index);
+    }
+
+    @Test
+    void findCoveringOnEmptySegments() {
+        assertThat(segments().findCovering(JAN_1, DEC_31, null)).isNull();
+    }
+
+    @Test
+    void findCoveringUsesInclusiveBoundsAndSkipsGaps() {
+        BuyerItemPriceIndex.Segments segments = segments(
+                contract(1, JAN_1, JAN_1.plusDays(9)),
+                contract(2, JAN_1.plusDays(20), JAN_1.plusDays(29)));
+
+        assertThat(segments.findCovering(JAN_1, JAN_1, null).getBuyerItemId()).isEqualTo(1);
+        assertThat(segments.findCovering(JAN_1.plusDays(9), JAN_1.plusDays(9), null).getBuyerItemId()).isEqualTo(1);
+        assertThat(segments.findCovering(JAN_1.plusDays(15), JAN_1.plusDays(15), null)).isNull();
+        assertThat(segments.findCovering(JAN_1.plusDays(15), JAN_1.plusDays(20), null).getBuyerItemId()).isEqualTo(2);
+        assertThat(segments.findCovering(DEC_31, DEC_31, null)).isNull();
+    }
+
+    @Test
+    void findCoveringPrefersTheLatestStartAndWalksBackPastShortContracts() {
+        BuyerItemPriceIndex.Segments segments = segments(
+                contract(1, JAN_1, DEC_31),
+                contract(2, MAR_1, MAR_31),
+                contract(3, MAR_1.plusDays(1), MAR_1.plusDays(2)));
+
+        assertThat(segments.findCovering(MAR_1.plusDays(10), MAR_1.plusDays(10), null).getBuyerItemId()).isEqualTo(2);
+        // 6월에는 뒤의 짧은 계약들을 지나 1년 계약까지 거슬러 올라간다
+        assertThat(segments.findCovering(MAR_31.plusMonths(3), MAR_31.plusMonths(3), null).getBuyerItemId()).isEqualTo(1);
+        assertThat(segments.findCovering(MAR_1.plusDays(10), MAR_1.plusDays(10), 2L).getBuyerItemId()).isEqualTo(1);
+    }
+
+    @Test
+    void missingDatesAreOpenEnded() {
+        BuyerItemPriceIndex.Segments segments = segments(contract(1, null, JAN_1), contract(2, DEC_31, null));
+
+        assertThat(segments.findCovering(LocalDateTime.MIN, JAN_1.minusYears(50), null).getBuyerItemId()).isEqualTo(1);
+        assertThat(segments.findCovering(DEC_31.plusYears(50), LocalDateTime.MAX, null).getBuyerItemId()).isEqualTo(2);
+        assertThat(segments.findCovering(MAR_1, MAR_1, null)).isNull();
+    }
+
+    @Test
+    void withReplacesByIdAndWithoutRemoves() {
+        BuyerItemPriceIndex.Segments segments = segments(contract(1, JAN_1, MAR_31))
+                .with(BuyerItemPriceIndex.PriceSegment.from(contract(1, MAR_1, DEC_31)));
+
+        assertThat(segments.findCovering(JAN_1, JAN_1, null)).isNull();
+        assertThat(segments.findCovering(DEC_31, DEC_31, null).getBuyerItemId()).isEqualTo(1);
+        assertThat(segments.without(1).findCovering(DEC_31, DEC_31, null)).isNull();
+    }
+
+    @Test
+    void keyIsLoadedOnceAndOutsideATransactionChangesApplyImmediately() {
+        stored.add(contract(1, JAN_1, MAR_31));
+
+        assertThat(index.findEffective(1, "IT-1", MAR_1)).isPresent();
+        assertThat(index.overlaps(1, "IT-1", MAR_1, DEC_31, null)).isTrue();
+        assertThat(loads).hasValue(1);
+
+        index.apply(contract(2, MAR_31.plusDays(1), DEC_31));
+
+        assertThat(index.findEffective(1, "IT-1", DEC_31).get().getBuyerItemId()).isEqualTo(2);
+        assertThat(published).containsExactly("1:IT-1");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void uncommittedChangeIsVisibleOnlyToItsOwnTransactionAndDiscardedOnRollback() {
+        stored.add(contract(1, JAN_1, MAR_31));
+        index.findEffective(1, "IT-1", MAR_1);
+
+        TransactionSynchronizationManager.initSynchronization();
+        BuyerItem added = contract(2, MAR_31.plusDays(1), DEC_31);
+        stored.add(added);
+        index.apply(added);
+
+        // 같은 트랜잭션의 다음 행 검사에서는 보이고, 여러 번 검사해도 DB 를 다시 읽지 않는다
+        assertThat(index.overlaps(1, "IT-1", DEC_31, DEC_31, null)).isTrue();
+        assertThat(index.overlaps(1, "IT-1", DEC_31, DEC_31, null)).isTrue();
+        assertThat(loads).hasValue(1);
+        // 다른 요청 (스레드) 에서는 보이지 않는다
+        assertThat(CompletableFuture.supplyAsync(() -> index.overlaps(1, "IT-1", DEC_31, DEC_31, null)).join()).isFalse();
+
+        stored.remove(added);
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(index.overlaps(1, "IT-1", DEC_31, DEC_31, null)).isFalse();
+        assertThat(published).isEmpty();
+        // 공유 인덱스는 버려지지 않았다
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void keyFirstReadInsideAWritingTransactionIsNotSharedBeforeCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        BuyerItem added = contract(1, JAN_1, DEC_31);
+        stored.add(added);
+        index.apply(added);
+
+        assertThat(index.overlaps(1, "IT-1", MAR_1, MAR_1, null)).isTrue();
+        assertThat(index.size()).isZero();
+
+        stored.remove(added);
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(index.overlaps(1, "IT-1", MAR_1, MAR_1, null)).isFalse();
+    }
+
+    @Test
+    void committedChangeIsAppliedToTheSharedIndexAndPublished() {
+        stored.add(contract(1, JAN_1, MAR_31));
+        index.findEffective(1, "IT-1", MAR_1);
+
+        TransactionSynchronizationManager.initSynchronization();
+        BuyerItem removed = stored.remove(0);
+        index.remove(removed);
+        assertThat(published).isEmpty();
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(index.findEffective(1, "IT-1", MAR_1)).isEmpty();
+        assertThat(published).containsExactly("1:IT-1");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void loadThatRacesACommitIsNotShared() {
+        stored.add(contract(1, JAN_1, MAR_31));
+        afterRead = () -> {
+            afterRead = () -> { };
+            TransactionSynchronizationManager.initSynchronization();
+            BuyerItem removed = stored.remove(0);
+            index.remove(removed);
+            complete(TransactionSynchronization.STATUS_COMMITTED);
+        };
+
+        // 커밋 전에 읽은 값은 이번 조회에만 쓰인다
+        assertThat(index.findEffective(1, "IT-1", MAR_1)).isPresent();
+        assertThat(index.size()).isZero();
+
+        assertThat(index.findEffective(1, "IT-1", MAR_1)).isEmpty();
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void loadThatRacesAnInvalidationIsNotShared() {
+        stored.add(contract(1, JAN_1, MAR_31));
+        afterRead = () -> {
+            afterRead = () -> { };
+            stored.clear();
+            index.invalidate(1, "IT-1");
+        };
+
+        index.findEffective(1, "IT-1", MAR_1);
+
+        assertThat(index.size()).isZero();
+        assertThat(index.findEffective(1, "IT-1", MAR_1)).isEmpty();
+    }
+
+    private void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    private BuyerItemRepository repository() {
+        return (BuyerItemRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{BuyerItemRepository.class}, (proxy, method, args) -> {
+                    if (!method.getName().equals("findAllByBuyer_BuyerIdAndItem_ItemCd")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    loads.incrementAndGet();
+                    List<BuyerItem> rows = new ArrayList<>(stored);
+                    afterRead.run();
+                    return rows;
+                });
+    }
+
+    private static BuyerItemPriceIndex.Segments segments(BuyerItem... buyerItems) {
+        return BuyerItemPriceIndex.Segments.of(List.of(buyerItems));
+    }
+
+    private static BuyerItem contract(long buyerItemId, LocalDateTime startDate, LocalDateTime endDate) {
+        Buyer buyer = new Buyer();
+        buyer.setBuyerId(1);
+        Item item = new Item();
+        item.setItemCd("IT-1");
+
+        BuyerItem buyerItem = new BuyerItem();
+        buyerItem.setBuyerItemId(buyerItemId);
+        buyerItem.setBuyer(buyer);
+        buyerItem.setItem(item);
+        buyerItem.setUnitPrice(BigDecimal.valueOf(9_000 + buyerItemId));
+        buyerItem.setStartDate(startDate);
+        buyerItem.setEndDate(endDate);
+        return buyerItem;
+    }
+}
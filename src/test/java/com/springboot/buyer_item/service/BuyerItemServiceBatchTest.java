@@ -0,0 +1,93 @@
+package com.springboot.buyer_item.service;
+
+import com.springboot.buyer.entity.Buyer;
+import com.springboot.buyer_item.entity.BuyerItem;
+import com.springboot.datasource.SqlStatementAssertions;
+import com.springboot.datasource.SqlStatementStats;
+import com.springboot.datasource.StatementCountConfiguration;
+import com.springboot.fixture.SeedData;
+import com.springboot.fixture.ServiceTestConfiguration;
+import com.springboot.item.entity.Item;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import javax.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.springboot.datasource.SqlStatementAssertions.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 계약 단가 일괄 등록 : 제품 / 바이어는 요청 건수와 상관없이 한 번씩 조회하고, insert 는 batch 하나로 나간다
+ */
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "sql.statement-count.enabled=true",
+        "mail.address.admin=admin@shoecream.com"
+})
+@Import({StatementCountConfiguration.class, ServiceTestConfiguration.class})
+@ExtendWith(SqlStatementAssertions.class)
+class BuyerItemServiceBatchTest {
+    private static final int ROWS = 10;
+
+    @Autowired
+    private BuyerItemService buyerItemService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        new SeedData().buyers(1).items(ROWS).members(1).persist(entityManager);
+    }
+
+    @Test
+    void bulkCreateLooksUpItemsAndBuyerOnce() {
+        // SeedData 의 계약 (오늘 앞뒤 30일) 과 겹치지 않는 기간
+        LocalDateTime start = LocalDate.now().plusDays(60).atStartOfDay();
+        List<BuyerItem> request = IntStream.range(0, ROWS)
+                .mapToObj(i -> buyerItem("shoe " + i, start, start.plusDays(30)))
+                .collect(Collectors.toList());
+        resetStatementCounts();
+
+        buyerItemService.createBuyerItem(request, new UsernamePasswordAuthenticationToken("E0", null, List.of()));
+        entityManager.flush();
+
+        assertThat(statementsTouching("from item item")).extracting(SqlStatementStats.Repeated::getCount)
+                .containsExactly(1);
+        assertThat(statementsTouching("from buyer buyer")).extracting(SqlStatementStats.Repeated::getCount)
+                .containsOnly(1);
+        assertInsertCount(exactly(1));
+    }
+
+    private static BuyerItem buyerItem(String itemNm, LocalDateTime startDate, LocalDateTime endDate) {
+        Item item = new Item();
+        item.setItemNm(itemNm);
+        Buyer buyer = new Buyer();
+        buyer.setBuyerNm("buyer 0");
+
+        BuyerItem buyerItem = new BuyerItem();
+        buyerItem.setItem(item);
+        buyerItem.setBuyer(buyer);
+        buyerItem.setUnitPrice(BigDecimal.valueOf(8_000));
+        buyerItem.setStartDate(startDate);
+        buyerItem.setEndDate(endDate);
+        return buyerItem;
+    }
+
+    private static List<SqlStatementStats.Repeated> statementsTouching(String sql) {
+        return statementCounts().fingerprints().stream()
+                .filter(statement -> statement.getFingerprint().contains(sql))
+                .collect(Collectors.toList());
+    }
+}
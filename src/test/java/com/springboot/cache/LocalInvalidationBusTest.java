@@ -0,0 +1,69 @@
+package com.springboot.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 서버 하나용 무효화 버스 (auth.token-store.type=memory) : Redis 없이 이 서버의 구독자에게만 전달한다
+ */
+class LocalInvalidationBusTest {
+    private final LocalInvalidationBus bus = new LocalInvalidationBus();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void messageReachesEverySubscriberOfItsChannelOnly() {
+        List<String> first = new ArrayList<>();
+        List<String> second = new ArrayList<>();
+        List<String> other = new ArrayList<>();
+        bus.subscribe("channel", first::add);
+        bus.subscribe("channel", second::add);
+        bus.subscribe("other", other::add);
+
+        bus.publish("channel", "key");
+
+        assertThat(first).containsExactly("key");
+        assertThat(second).containsExactly("key");
+        assertThat(other).isEmpty();
+    }
+
+    @Test
+    void publishAfterCommitWaitsForTheCommit() {
+        List<String> received = new ArrayList<>();
+        bus.subscribe("channel", received::add);
+
+        TransactionSynchronizationManager.initSynchronization();
+        bus.publishAfterCommit("channel", "key");
+        assertThat(received).isEmpty();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(received).containsExactly("key");
+    }
+
+    @Test
+    void masterDataCacheWorksFromTheLocalTierWithoutRedis() {
+        MasterDataCache cache = new MasterDataCache(null, new ObjectMapper(), bus, 100, 60, 600);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.findItemCd("shoe", name -> Optional.of("I-" + loads.incrementAndGet()));
+        assertThat(cache.findItemCd("shoe", name -> Optional.of("I-" + loads.incrementAndGet()))).contains("I-1");
+
+        cache.invalidateItemNm("shoe");
+        assertThat(cache.findItemCd("shoe", name -> Optional.of("I-" + loads.incrementAndGet()))).contains("I-2");
+    }
+}
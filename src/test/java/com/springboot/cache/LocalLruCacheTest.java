@@ -0,0 +1,52 @@
+package com.springboot.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * L1 로컬 캐시 : 크기 제한을 넘으면 가장 오래 쓰지 않은 값부터 버리고, TTL 이 지난 값은 돌려주지 않는다
+ */
+class LocalLruCacheTest {
+
+    @Test
+    void evictsTheLeastRecentlyUsedEntryWhenFull() {
+        LocalLruCache<String> cache = new LocalLruCache<>(2, 60_000);
+        cache.put("a", "A");
+        cache.put("b", "B");
+        // 조회도 접근 순서를 바꾼다 : 이제 b 가 가장 오래됐다
+        assertThat(cache.get("a")).isEqualTo("A");
+
+        cache.put("c", "C");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("a")).isEqualTo("A");
+        assertThat(cache.get("c")).isEqualTo("C");
+    }
+
+    @Test
+    void expiredEntryIsDroppedOnRead() throws InterruptedException {
+        LocalLruCache<String> cache = new LocalLruCache<>(10, 1);
+        cache.put("a", "A");
+
+        Thread.sleep(10);
+
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void removeAndClear() {
+        LocalLruCache<String> cache = new LocalLruCache<>(10, 60_000);
+        cache.put("a", "A");
+        cache.put("b", "B");
+
+        cache.remove("a");
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.size()).isEqualTo(1);
+
+        cache.clear();
+        assertThat(cache.size()).isZero();
+    }
+}
@@ -0,0 +1,115 @@
+package com.springboot.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.redis.InMemoryRedisTemplate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기준정보 이름 색인 무효화 : 한 서버에서 지우면 Redis 와 다른 서버의 L1 도 비워진다
+ */
+class MasterDataCacheTest {
+    private InMemoryRedisTemplate redis;
+    private MasterDataCache serverA;
+    private MasterDataCache serverB;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        redis = new InMemoryRedisTemplate();
+        serverA = server();
+        serverB = server();
+        loads = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void secondServerIsServedFromRedisThenFromItsOwnLocalCache() {
+        serverA.findBuyerCd("buyer", loader("B-1"));
+        serverB.findBuyerCd("buyer", loader("B-1"));
+
+        assertThat(serverB.findBuyerCd("buyer", name -> Optional.empty())).contains("B-1");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void sameNameIsIndexedSeparatelyPerEntity() {
+        serverA.findBuyerCd("shoe", loader("B-1"));
+
+        assertThat(serverA.findItemCd("shoe", loader("I-1"))).contains("I-1");
+        assertThat(serverA.findMfCd("shoe", loader("MF-1"))).contains("MF-1");
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void missingNameIsNotCached() {
+        serverA.findMfCd("factory", name -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+
+        assertThat(serverA.findMfCd("factory", loader("MF-1"))).contains("MF-1");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void invalidationClearsRedisAndTheOtherServersLocalCache() {
+        serverA.findBuyerCd("buyer", loader("B-1"));
+        serverB.findBuyerCd("buyer", loader("B-1"));
+
+        serverA.invalidateBuyerNm("buyer");
+
+        assertThat(redis.size()).isZero();
+        // 이름이 다른 바이어에게 넘어갔다
+        assertThat(serverB.findBuyerCd("buyer", loader("B-2"))).contains("B-2");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void insideATransactionOtherServersAreNotifiedOnlyAfterCommit() {
+        serverA.findBuyerCd("buyer", loader("B-1"));
+        serverB.findBuyerCd("buyer", loader("B-1"));
+
+        TransactionSynchronizationManager.initSynchronization();
+        serverA.invalidateBuyerNm("buyer");
+
+        // 커밋 전 : 다른 서버의 L1 은 그대로
+        assertThat(serverB.findBuyerCd("buyer", loader("B-2"))).contains("B-1");
+        assertThat(loads).hasValue(1);
+
+        // 커밋 전에 다른 요청이 옛 값을 다시 채워도 커밋 후에 한 번 더 지운다
+        serverA.findBuyerCd("buyer", loader("B-1"));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(serverB.findBuyerCd("buyer", loader("B-2"))).contains("B-2");
+        assertThat(loads).hasValue(3);
+    }
+
+    private MasterDataCache server() {
+        // 서버마다 자기 버스로 같은 Redis 채널을 구독한다
+        return new MasterDataCache(redis, new ObjectMapper(),
+                new RedisInvalidationBus(redis, redis.listenerContainer()), 100, 60, 600);
+    }
+
+    private Function<String, Optional<String>> loader(String code) {
+        return name -> {
+            loads.incrementAndGet();
+            return Optional.of(code);
+        };
+    }
+}
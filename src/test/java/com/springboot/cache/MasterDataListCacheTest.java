@@ -0,0 +1,65 @@
+package com.springboot.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기준정보 목록 조건부 응답 (서버 하나 : LocalInvalidationBus)
+ */
+class MasterDataListCacheTest {
+    private MasterDataListCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new MasterDataListCache(new LocalInvalidationBus(), new ObjectMapper());
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void unchangedListIsServedFromCachedBytesAndRevalidatesWithoutLoading() {
+        ResponseEntity<byte[]> first = respond(null);
+        String etag = first.getHeaders().getETag();
+
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(new String(first.getBody(), StandardCharsets.UTF_8)).isEqualTo("[\"shoe 1\"]");
+        assertThat(etag).isNotBlank();
+
+        ResponseEntity<byte[]> notModified = respond("W/" + etag);
+        assertThat(notModified.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(notModified.getBody()).isNull();
+
+        ResponseEntity<byte[]> again = respond("\"other\"");
+        assertThat(again.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(again.getBody()).isSameAs(first.getBody());
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void changeBumpsTheVersionAndReloads() {
+        String etag = respond(null).getHeaders().getETag();
+
+        cache.changed(MasterDataListCache.ITEM);
+
+        ResponseEntity<byte[]> changed = respond(etag);
+        assertThat(changed.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(changed.getHeaders().getETag()).isNotEqualTo(etag);
+        assertThat(new String(changed.getBody(), StandardCharsets.UTF_8)).isEqualTo("[\"shoe 2\"]");
+        assertThat(loads).hasValue(2);
+        // 다른 목록의 버전은 그대로다
+        assertThat(cache.version(MasterDataListCache.BUYER)).isZero();
+    }
+
+    private ResponseEntity<byte[]> respond(String ifNoneMatch) {
+        return cache.respond(MasterDataListCache.ITEM, ifNoneMatch, () -> List.of("shoe " + loads.incrementAndGet()));
+    }
+}
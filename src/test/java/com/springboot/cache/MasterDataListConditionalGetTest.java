@@ -0,0 +1,159 @@
+package com.springboot.cache;
+
+import com.springboot.buyer.controller.BuyerController;
+import com.springboot.buyer.entity.Buyer;
+import com.springboot.buyer.mapper.BuyerMapperImpl;
+import com.springboot.buyer_item.entity.BuyerItem;
+import com.springboot.datasource.SqlStatementAssertions;
+import com.springboot.datasource.StatementCountConfiguration;
+import com.springboot.fixture.SeedData;
+import com.springboot.fixture.ServiceTestConfiguration;
+import com.springboot.item.controller.ItemController;
+import com.springboot.item.entity.Item;
+import com.springboot.item.mapper.ItemMapperImpl;
+import com.springboot.manufacture.controller.ManufactureController;
+import com.springboot.manufacture.entity.Manufacture;
+import com.springboot.manufacture.mapper.ManufactureMapperImpl;
+import com.springboot.manufacture_item.entity.ItemManufacture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static com.springboot.datasource.SqlStatementAssertions.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기준정보 전체 목록(/all) 조건부 응답 : 304 는 SQL 을 실행하지 않고 커넥션도 잡지 않는다
+ */
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "sql.statement-count.enabled=true",
+        "mail.address.admin=admin@shoecream.com"
+})
+@Import({StatementCountConfiguration.class, ServiceTestConfiguration.class,
+        MasterDataListConditionalGetTest.ConnectionCounting.class,
+        ItemController.class, BuyerController.class, ManufactureController.class,
+        ItemMapperImpl.class, BuyerMapperImpl.class, ManufactureMapperImpl.class})
+@ExtendWith(SqlStatementAssertions.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MasterDataListConditionalGetTest {
+
+    @Autowired
+    private ItemController itemController;
+
+    @Autowired
+    private BuyerController buyerController;
+
+    @Autowired
+    private ManufactureController manufactureController;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status ->
+                new SeedData().buyers(2).items(3).manufactures(2).persist(entityManager));
+    }
+
+    // 테스트 컨텍스트는 다른 테스트와 공유되므로 남기지 않는다
+    @AfterEach
+    void tearDown() {
+        transaction.executeWithoutResult(status -> {
+            for (Class<?> entity : new Class<?>[]{BuyerItem.class, ItemManufacture.class, Item.class, Buyer.class, Manufacture.class}) {
+                entityManager.createQuery("delete from " + entity.getSimpleName()).executeUpdate();
+            }
+        });
+    }
+
+    @Test
+    void itemsNotModifiedTouchesNoConnection() {
+        assertNotModifiedWithoutConnection(itemController::getItemsAll);
+    }
+
+    @Test
+    void buyersNotModifiedTouchesNoConnection() {
+        assertNotModifiedWithoutConnection(buyerController::getAllBuyers);
+    }
+
+    @Test
+    void manufacturesNotModifiedTouchesNoConnection() {
+        assertNotModifiedWithoutConnection(manufactureController::getManufactures);
+    }
+
+    private void assertNotModifiedWithoutConnection(Function<String, ResponseEntity<byte[]>> handler) {
+        ResponseEntity<byte[]> first = handler.apply(null);
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(first.getBody()).isNotEmpty();
+        String etag = first.getHeaders().getETag();
+
+        resetStatementCounts();
+        ConnectionCounting.CONNECTIONS.set(0);
+
+        ResponseEntity<byte[]> revalidated = handler.apply(etag);
+
+        assertThat(revalidated.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(statementCounts().total()).isZero();
+        assertThat(ConnectionCounting.CONNECTIONS).hasValue(0);
+    }
+
+    /**
+     * 애플리케이션이 쓰는 dataSource 에서 커넥션을 꺼낸 횟수를 센다
+     */
+    @TestConfiguration
+    static class ConnectionCounting {
+        static final AtomicInteger CONNECTIONS = new AtomicInteger();
+
+        @Bean
+        static BeanPostProcessor connectionCountingPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource) || !"dataSource".equals(beanName)) {
+                        return bean;
+                    }
+                    return new DelegatingDataSource((DataSource) bean) {
+                        @Override
+                        public Connection getConnection() throws SQLException {
+                            CONNECTIONS.incrementAndGet();
+                            return super.getConnection();
+                        }
+
+                        @Override
+                        public Connection getConnection(String username, String password) throws SQLException {
+                            CONNECTIONS.incrementAndGet();
+                            return super.getConnection(username, password);
+                        }
+                    };
+                }
+            };
+        }
+    }
+}
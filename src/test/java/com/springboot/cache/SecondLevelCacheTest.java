@@ -0,0 +1,128 @@
+package com.springboot.cache;
+
+import com.springboot.config.SecondLevelCacheConfiguration;
+import com.springboot.item.entity.Item;
+import com.springboot.item.repository.ItemRepository;
+import com.springboot.redis.InMemoryRedisConfiguration;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 2차 캐시 : 커밋된 제품은 id / 코드 조회 모두 DB 를 다시 읽지 않고, 수정 후에는 새 값을 읽는다.
+ * evict 는 커밋된 뒤에만 (자기 자신을 포함한) 모든 서버의 엔티티를 지운다.
+ */
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "cache.second-level.statistics=true"
+})
+@Import({SecondLevelCacheConfiguration.class, NaturalIdLoader.class, InMemoryRedisConfiguration.class,
+        SecondLevelCache.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private NaturalIdLoader naturalIdLoader;
+
+    @Autowired
+    private SecondLevelCache secondLevelCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private Cache cache;
+    private Statistics statistics;
+    private long itemId;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        itemId = transaction.execute(status -> {
+            Item item = new Item();
+            item.setItemCd("IT-CACHE");
+            item.setItemNm("cached shoe");
+            item.setUnit("EA");
+            item.setUnitPrice(BigDecimal.valueOf(10_000));
+            item.setSize(250);
+            item.setColor("white");
+            item.setCategory("sneakers");
+            return itemRepository.save(item).getItemId();
+        });
+
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        cache = sessionFactory.getCache();
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transaction.executeWithoutResult(status -> itemRepository.deleteAll());
+    }
+
+    @Test
+    void committedItemIsServedFromCacheByIdAndByCode() {
+        for (int i = 0; i < 3; i++) {
+            transaction.executeWithoutResult(status -> {
+                assertThat(itemRepository.findById(itemId)).isPresent();
+                assertThat(naturalIdLoader.load(Item.class, "IT-CACHE")).get()
+                        .extracting(Item::getItemNm).isEqualTo("cached shoe");
+            });
+        }
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+        assertThat(statistics.getNaturalIdCacheHitCount()).isEqualTo(3);
+    }
+
+    @Test
+    void updateThroughTheSessionRefreshesTheCachedEntity() {
+        transaction.executeWithoutResult(status -> itemRepository.findById(itemId).orElseThrow().setItemNm("renamed shoe"));
+        statistics.clear();
+
+        transaction.executeWithoutResult(status ->
+                assertThat(naturalIdLoader.load(Item.class, "IT-CACHE")).get()
+                        .extracting(Item::getItemNm).isEqualTo("renamed shoe"));
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void evictRemovesTheEntityOnlyAfterCommit() {
+        assertThat(cache.containsEntity(Item.class, itemId)).isTrue();
+
+        transaction.executeWithoutResult(status -> {
+            secondLevelCache.evict(Item.class, itemId);
+            status.setRollbackOnly();
+        });
+        assertThat(cache.containsEntity(Item.class, itemId)).isTrue();
+
+        transaction.executeWithoutResult(status -> {
+            secondLevelCache.evict(Item.class, itemId);
+            assertThat(cache.containsEntity(Item.class, itemId)).isTrue();
+        });
+        assertThat(cache.containsEntity(Item.class, itemId)).isFalse();
+    }
+}
@@ -0,0 +1,146 @@
+package com.springboot.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.redis.InMemoryRedisTemplate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 2단계 캐시 조회 순서 : L1 -> Redis -> loader, Redis 장애 시에는 loader 로 대체
+ */
+class TwoTierCacheTest {
+    private InMemoryRedisTemplate redis;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        redis = new InMemoryRedisTemplate();
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void missLoadsOnceAndStoresTheValueUnderEveryKey() {
+        TwoTierCache<Shoe> cache = cache();
+
+        assertThat(cache.get("cd:S1", loader())).get().extracting(Shoe::getName).isEqualTo("runner");
+        assertThat(cache.get("nm:runner", loader())).isPresent();
+        assertThat(cache.get("cd:S1", loader())).isPresent();
+
+        assertThat(loads).hasValue(1);
+        assertThat(redis.containsKey("cache:shoe:cd:S1")).isTrue();
+        assertThat(redis.containsKey("cache:shoe:nm:runner")).isTrue();
+        assertThat(cache.stats().getLocalHits()).isEqualTo(2);
+        assertThat(cache.stats().getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void localMissFallsThroughToRedisAndRefillsLocal() {
+        // 같은 Redis 를 쓰는 다른 서버가 먼저 읽어 둔 값
+        cache().get("cd:S1", loader());
+        TwoTierCache<Shoe> other = cache();
+
+        assertThat(other.get("cd:S1", loader())).get().extracting(Shoe::getCode).isEqualTo("S1");
+        assertThat(other.get("cd:S1", loader())).isPresent();
+
+        assertThat(loads).hasValue(1);
+        assertThat(other.stats().getRedisHits()).isEqualTo(1);
+        assertThat(other.stats().getLocalHits()).isEqualTo(1);
+        assertThat(other.stats().getHitRate()).isEqualTo(1.0);
+    }
+
+    @Test
+    void absentValueIsNotCached() {
+        TwoTierCache<Shoe> cache = cache();
+
+        assertThat(cache.get("cd:NONE", () -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        })).isEmpty();
+        cache.get("cd:NONE", () -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+
+        assertThat(loads).hasValue(2);
+        assertThat(redis.size()).isZero();
+    }
+
+    @Test
+    void evictRemovesLocalAndRedisButEvictLocalKeepsRedis() {
+        TwoTierCache<Shoe> cache = cache();
+        cache.get("cd:S1", loader());
+
+        cache.evictLocal(List.of("cd:S1"));
+        cache.get("cd:S1", loader());
+        assertThat(loads).hasValue(1);
+        assertThat(cache.stats().getRedisHits()).isEqualTo(1);
+
+        cache.evict(List.of("cd:S1", "nm:runner"));
+        cache.get("cd:S1", loader());
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void redisOutageFallsBackToTheLoaderButLocalStillServes() {
+        redis.setAvailable(false);
+        TwoTierCache<Shoe> cache = cache();
+
+        assertThat(cache.get("cd:S1", loader())).isPresent();
+        assertThat(cache.get("cd:S1", loader())).isPresent();
+        cache.evict(List.of("cd:S1"));
+        assertThat(cache.get("cd:S1", loader())).isPresent();
+
+        assertThat(loads).hasValue(2);
+        assertThat(cache.stats().getLocalHits()).isEqualTo(1);
+    }
+
+    private TwoTierCache<Shoe> cache() {
+        return new TwoTierCache<>("shoe", Shoe.class, shoe -> List.of("cd:" + shoe.getCode(), "nm:" + shoe.getName()),
+                100, Duration.ofMinutes(1), Duration.ofMinutes(10), redis, new ObjectMapper());
+    }
+
+    private Supplier<Optional<Shoe>> loader() {
+        return () -> {
+            loads.incrementAndGet();
+            return Optional.of(new Shoe("S1", "runner"));
+        };
+    }
+
+    // 테스트 소스에는 Lombok 이 없다
+    static class Shoe {
+        private String code;
+        private String name;
+
+        Shoe() {
+        }
+
+        Shoe(String code, String name) {
+            this.code = code;
+            this.name = name;
+        }
+
+        public String getCode() {
+            return code;
+        }
+
+        public void setCode(String code) {
+            this.code = code;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.springboot.config;
+
+import com.springboot.buyer.entity.Buyer;
+import com.springboot.buyer.service.BuyerService;
+import com.springboot.datasource.SqlStatementAssertions;
+import com.springboot.datasource.StatementCountConfiguration;
+import com.springboot.fixture.SeedData;
+import com.springboot.fixture.ServiceTestConfiguration;
+import com.springboot.item.entity.Item;
+import com.springboot.item.service.ItemService;
+import com.springboot.manufacture.entity.Manufacture;
+import com.springboot.manufacture.service.ManufactureService;
+import com.springboot.manufacture_item.entity.ItemManufacture;
+import com.springboot.manufacture_item.service.ManufactureItemService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import javax.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.springboot.datasource.SqlStatementAssertions.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 쓰기 경로 : 기준정보 / 납품 일괄 등록이 PersistenceConfiguration 의 batch 설정으로 테이블마다 insert batch 하나가 된다
+ */
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "sql.statement-count.enabled=true",
+        "mail.address.admin=admin@shoecream.com"
+})
+@Import({StatementCountConfiguration.class, ServiceTestConfiguration.class})
+@ExtendWith(SqlStatementAssertions.class)
+class WritePathBatchingTest {
+    // 코드가 UUID 3 자리로 만들어지므로 unique 충돌이 나지 않게 건수를 작게 둔다
+    private static final int ROWS = 5;
+    private static final Authentication EMPLOYEE = new UsernamePasswordAuthenticationToken("E0", null, List.of());
+
+    @Autowired
+    private BuyerService buyerService;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private ManufactureService manufactureService;
+
+    @Autowired
+    private ManufactureItemService manufactureItemService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        new SeedData().items(ROWS).manufactures(1).members(1).persist(entityManager);
+        entityManager.flush();
+        resetStatementCounts();
+    }
+
+    @Test
+    void createBuyerIsOneInsertBatch() {
+        buyerService.createBuyer(rows(this::buyer), EMPLOYEE);
+        entityManager.flush();
+
+        assertInsertCount(exactly(1));
+        assertThat(count(Buyer.class)).isEqualTo(ROWS);
+    }
+
+    @Test
+    void createItemIsOneInsertBatch() {
+        itemService.createItem(rows(this::item), EMPLOYEE);
+        entityManager.flush();
+
+        assertInsertCount(exactly(1));
+        assertThat(count(Item.class)).isEqualTo(ROWS * 2);
+    }
+
+    @Test
+    void createManufactureIsOneInsertBatch() {
+        manufactureService.createManufacture(rows(this::manufacture), EMPLOYEE);
+        entityManager.flush();
+
+        assertInsertCount(exactly(1));
+        assertThat(count(Manufacture.class)).isEqualTo(ROWS + 1);
+    }
+
+    @Test
+    void createItemMfIsOneInsertBatchPerTable() {
+        manufactureItemService.createItemMf(rows(this::itemManufacture), EMPLOYEE);
+        entityManager.flush();
+
+        // item_manufacture, manufacture_history 각각 batch 하나
+        assertInsertCount(exactly(2));
+    }
+
+    private static <T> List<T> rows(IntFunction<T> row) {
+        return IntStream.range(0, ROWS).mapToObj(row).collect(Collectors.toList());
+    }
+
+    private long count(Class<?> entity) {
+        return entityManager.createQuery("select count(e) from " + entity.getSimpleName() + " e", Long.class)
+                .getSingleResult();
+    }
+
+    private Buyer buyer(int i) {
+        Buyer buyer = new Buyer();
+        buyer.setBuyerNm("new buyer " + i);
+        buyer.setEmail("new-buyer" + i + "@shoecream.com");
+        buyer.setTel("010-9000-000" + i);
+        buyer.setAddress("seoul");
+        buyer.setBusinessType("retail");
+        return buyer;
+    }
+
+    private Item item(int i) {
+        Item item = new Item();
+        item.setItemNm("new shoe " + i);
+        item.setUnit("EA");
+        item.setUnitPrice(BigDecimal.valueOf(10_000));
+        item.setSize(260);
+        item.setColor("black");
+        item.setCategory("sneakers");
+        return item;
+    }
+
+    private Manufacture manufacture(int i) {
+        Manufacture manufacture = new Manufacture();
+        manufacture.setMfNm("new factory " + i);
+        manufacture.setEmail("new-factory" + i + "@shoecream.com");
+        manufacture.setRegion("busan");
+        return manufacture;
+    }
+
+    // SeedData 의 제품 "shoe i" 를 제조사 "factory 0" 에서 납품
+    private ItemManufacture itemManufacture(int i) {
+        Item item = new Item();
+        item.setItemNm("shoe " + i);
+        Manufacture manufacture = new Manufacture();
+        manufacture.setMfNm("factory 0");
+
+        ItemManufacture itemManufacture = new ItemManufacture();
+        itemManufacture.setItem(item);
+        itemManufacture.setManufacture(manufacture);
+        itemManufacture.setUnitPrice(BigDecimal.valueOf(5_000));
+        itemManufacture.setQty(50);
+        return itemManufacture;
+    }
+}
@@ -0,0 +1,107 @@
+package com.springboot.datagen;
+
+import com.springboot.item.entity.Item;
+import com.springboot.order_header.entity.OrderHeaders;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 데이터 생성기 : 기동 시 ApplicationRunner 로 소량 생성한 결과를 확인한다
+ */
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "datagen.enabled=true",
+        "datagen.member-count=3",
+        "datagen.buyer-count=20",
+        "datagen.item-count=30",
+        "datagen.manufacture-count=4",
+        "datagen.contracts-per-buyer=5",
+        "datagen.deliveries-per-item=2",
+        "datagen.order-count=400",
+        "datagen.end-date=2024-06-30",
+        "datagen.batch-size=64"
+})
+@Import(DataGenerator.class)
+class DataGeneratorTest {
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void generatesConfiguredVolumes() {
+        assertThat(count("member")).isEqualTo(3);
+        assertThat(count("member_roles")).isEqualTo(3);
+        assertThat(count("buyer")).isEqualTo(20);
+        assertThat(count("item")).isEqualTo(30);
+        assertThat(count("manufacture")).isEqualTo(4);
+        assertThat(count("buyer_item")).isEqualTo(20 * 5);
+        assertThat(count("item_manufacture")).isEqualTo(30 * 2);
+        assertThat(count("order_headers")).isEqualTo(400);
+        assertThat(count("order_items")).isBetween(400L, 400L * 9);
+    }
+
+    @Test
+    void ordersCoverEveryStatusWithinThePeriod() {
+        List<String> statuses = jdbcTemplate.queryForList("SELECT DISTINCT order_status FROM order_headers", String.class);
+        assertThat(statuses).containsExactlyInAnyOrder(
+                Arrays.stream(OrderHeaders.OrderStatus.values()).map(Enum::name).toArray(String[]::new));
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM order_headers WHERE created_at < '2021-07-01' OR created_at >= '2024-07-01'", Long.class))
+                .isZero();
+    }
+
+    @Test
+    void popularItemsDominateOrderLines() {
+        // Zipf 분포 : 가장 많이 팔린 제품이 가장 적게 팔린 제품보다 훨씬 많이 주문된다
+        List<Long> perItem = jdbcTemplate.queryForList(
+                "SELECT COUNT(*) FROM order_items GROUP BY item_cd ORDER BY COUNT(*) DESC", Long.class);
+        assertThat(perItem.get(0)).isGreaterThan(perItem.get(perItem.size() - 1) * 5);
+    }
+
+    @Test
+    void sequencesContinueAfterGeneratedIds() {
+        long maxItemId = jdbcTemplate.queryForObject("SELECT MAX(item_id) FROM item", Long.class);
+
+        Item item = new Item();
+        item.setItemCd("NEW");
+        item.setItemNm("new shoe");
+        item.setUnit("EA");
+        item.setUnitPrice(BigDecimal.valueOf(10_000));
+        item.setSize(250);
+        item.setColor("black");
+        item.setCategory("sneakers");
+        entityManager.persist(item);
+        entityManager.flush();
+
+        assertThat(item.getItemId()).isGreaterThan(maxItemId);
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+
+    @TestConfiguration
+    static class PasswordEncoderConfig {
+        @Bean
+        PasswordEncoder passwordEncoder() {
+            return NoOpPasswordEncoder.getInstance();
+        }
+    }
+}
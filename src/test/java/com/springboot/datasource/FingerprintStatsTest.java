@@ -0,0 +1,83 @@
+package com.springboot.datasource;
+
+import com.springboot.datasource.SlowQueryObserver.FingerprintStats;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 느린 쿼리 히스토그램 : 버킷 경계와 백분위 계산
+ */
+class FingerprintStatsTest {
+    // 버킷 하나의 폭 (상한 / 하한)
+    private static final double GROWTH = Math.pow(2, 0.25);
+
+    @Test
+    void tenMicrosAndBelowShareTheFirstBucket() {
+        assertThat(FingerprintStats.bucket(0)).isZero();
+        assertThat(FingerprintStats.bucket(10)).isZero();
+        assertThat(FingerprintStats.bucket(11)).isEqualTo(1);
+    }
+
+    @Test
+    void bucketsNeverDecreaseAndEachIsAtMostAQuarterOctaveWide() {
+        int previous = 0;
+        for (long micros = 11; micros < 10_000_000; micros += micros / 7 + 1) {
+            int bucket = FingerprintStats.bucket(micros);
+            assertThat(bucket).isGreaterThanOrEqualTo(previous);
+            previous = bucket;
+
+            double upperBound = upperBound(bucket);
+            assertThat(upperBound).isGreaterThanOrEqualTo(micros * (1 - 1e-9));
+            assertThat(upperBound).isLessThan(micros * GROWTH * (1 + 1e-9));
+        }
+    }
+
+    @Test
+    void hugeDurationsLandInTheLastBucket() {
+        assertThat(FingerprintStats.bucket(Long.MAX_VALUE)).isEqualTo(127);
+        assertThat(FingerprintStats.bucket(24L * 3_600_000_000L)).isEqualTo(127);
+    }
+
+    @Test
+    void noRecordsMeansZero() {
+        assertThat(stats().percentileMicros(0.95)).isZero();
+    }
+
+    @Test
+    void percentileIsTheUpperBoundOfItsBucket() {
+        FingerprintStats stats = stats();
+        record(stats, 95, 100);
+        record(stats, 5, 100_000);
+
+        // 95 번째 값은 100µs 버킷, 상한은 100µs 의 한 버킷 폭 안
+        assertThat(stats.percentileMicros(0.95)).isBetween(100L, (long) Math.ceil(100 * GROWTH));
+        // 96 번째부터는 100ms 버킷이고 최댓값을 넘지 않는다
+        assertThat(stats.percentileMicros(0.96)).isEqualTo(100_000);
+        assertThat(stats.percentileMicros(1.0)).isEqualTo(100_000);
+    }
+
+    @Test
+    void percentileNeverExceedsTheMaximum() {
+        FingerprintStats stats = stats();
+        record(stats, 20, 15);
+
+        assertThat(stats.percentileMicros(0.5)).isEqualTo(15);
+        assertThat(stats.percentileMicros(0.95)).isEqualTo(15);
+        assertThat(stats.snapshot().getP95Millis()).isEqualTo(0.015);
+    }
+
+    private static FingerprintStats stats() {
+        return new FingerprintStats("select ? from buyer", "select 1 from buyer", "test");
+    }
+
+    private static void record(FingerprintStats stats, int times, long micros) {
+        for (int i = 0; i < times; i++) {
+            stats.record(micros);
+        }
+    }
+
+    private static double upperBound(int bucket) {
+        return 10 * Math.pow(2, bucket / 4.0);
+    }
+}
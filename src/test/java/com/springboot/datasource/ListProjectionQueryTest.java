@@ -0,0 +1,128 @@
+package com.springboot.datasource;
+
+import com.springboot.buyer.dto.Dto.BuyerResponse;
+import com.springboot.buyer.repository.BuyerQueryRepositoryImpl;
+import com.springboot.buyer_item.dto.Dto.BuyerItemResponseDto;
+import com.springboot.buyer_item.repository.BuyerItemQueryRepositoryImpl;
+import com.springboot.fixture.SeedData;
+import com.springboot.item.dto.Dto.ItemResponseDto;
+import com.springboot.item.repository.ItemQueryRepositoryImpl;
+import com.springboot.manufacture_item.dto.Dto.ItemMfResponseDto;
+import com.springboot.manufacture_item.repository.MfItemQueryRepositoryImpl;
+import com.springboot.utils.QuerydslConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+
+import static com.springboot.datasource.SqlStatementAssertions.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 조회 쿼리 수 : 페이지마다 목록 select 1 번 + count 1 번, 연관 엔티티 / 컬렉션은 읽지 않는다
+ */
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "sql.statement-count.enabled=true"
+})
+@Import({StatementCountConfiguration.class, QuerydslConfig.class, BuyerQueryRepositoryImpl.class,
+        ItemQueryRepositoryImpl.class, BuyerItemQueryRepositoryImpl.class, MfItemQueryRepositoryImpl.class})
+@ExtendWith(SqlStatementAssertions.class)
+class ListProjectionQueryTest {
+    private static final int BUYERS = 5;
+    private static final int ITEMS = 6;
+    private static final int MANUFACTURES = 3;
+    private static final PageRequest PAGE = PageRequest.of(0, 10);
+
+    @Autowired
+    private BuyerQueryRepositoryImpl buyerQueryRepository;
+
+    @Autowired
+    private ItemQueryRepositoryImpl itemQueryRepository;
+
+    @Autowired
+    private BuyerItemQueryRepositoryImpl buyerItemQueryRepository;
+
+    @Autowired
+    private MfItemQueryRepositoryImpl mfItemQueryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        // 마지막 제품은 판매중지 (바이어 제품 목록에서 빠진다), 제조사 MF0 / MF2 는 Vietnam
+        new SeedData().buyers(BUYERS).items(ITEMS).manufactures(MANUFACTURES).notForSale(1)
+                .persist(entityManager);
+        resetStatementCounts();
+    }
+
+    @Test
+    void buyerListIsOneSelectPlusCount() {
+        Page<BuyerResponse> page = buyerQueryRepository.findBuyer(null, null, null, null, null,
+                PageRequest.of(0, 10, Sort.by("buyerNm")));
+
+        assertThat(page.getTotalElements()).isEqualTo(BUYERS);
+        assertThat(page.getContent().get(0).getBuyerCd()).isEqualTo("B0");
+        assertSingleSelectPerPage();
+    }
+
+    @Test
+    void itemListIsOneSelectPlusCount() {
+        Page<ItemResponseDto> page = itemQueryRepository.findItemsByCondition("shoe", null, PAGE);
+
+        assertThat(page.getTotalElements()).isEqualTo(ITEMS);
+        assertThat(page.getContent()).extracting(ItemResponseDto::getUnit).containsOnly("EA");
+        assertSingleSelectPerPage();
+    }
+
+    @Test
+    void buyerItemListJoinsBuyerAndItemInOneSelect() {
+        Page<BuyerItemResponseDto> page = buyerItemQueryRepository.findBuyerItems(
+                null, null, null, null, PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "buyer.buyerCd")));
+
+        // 판매중지 제품은 조회 조건에서 빠지므로 전체 건수에도 포함되지 않는다
+        assertThat(page.getTotalElements()).isEqualTo((long) BUYERS * (ITEMS - 1));
+        assertThat(page.getContent()).hasSize(10);
+        assertThat(page.getContent().get(0).getBuyerCd()).isEqualTo("B" + (BUYERS - 1));
+        assertThat(page.getContent().get(0).getItemNm()).startsWith("shoe");
+        assertSingleSelectPerPage();
+    }
+
+    @Test
+    void buyerItemPeriodListJoinsBuyerAndItemInOneSelect() {
+        Page<BuyerItemResponseDto> page =
+                buyerItemQueryRepository.findBuyerItemsByBuyerCdAndCurrentDate("B1", LocalDate.now(), PAGE);
+
+        assertThat(page.getTotalElements()).isEqualTo(ITEMS - 1);
+        assertThat(page.getContent()).extracting(BuyerItemResponseDto::getBuyerNm).containsOnly("buyer 1");
+        assertSingleSelectPerPage();
+    }
+
+    @Test
+    void manufactureItemListJoinsItemAndManufactureInOneSelect() {
+        Page<ItemMfResponseDto> page = mfItemQueryRepository.findItemManufacture(
+                null, null, null, null, "Vietnam", PageRequest.of(0, 10, Sort.by("item.itemNm")));
+
+        // MF0, MF2 (Vietnam) 에 납품된 제품만
+        assertThat(page.getTotalElements()).isEqualTo(4);
+        assertThat(page.getContent()).extracting(ItemMfResponseDto::getItemNm)
+                .containsExactly("shoe 0", "shoe 2", "shoe 3", "shoe 5");
+        assertThat(page.getContent()).extracting(ItemMfResponseDto::getRegion).containsOnly("Vietnam");
+        assertSingleSelectPerPage();
+    }
+
+    // 목록 1 번 + count 1 번. 엔티티를 만들지 않으므로 EAGER 연관이나 컬렉션 조회가 따라오지 않는다
+    private void assertSingleSelectPerPage() {
+        assertSelectCount(exactly(2));
+        assertNoRepeatedStatements(2);
+    }
+}
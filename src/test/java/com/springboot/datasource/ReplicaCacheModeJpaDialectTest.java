@@ -0,0 +1,112 @@
+package com.springboot.datasource;
+
+import com.springboot.config.SecondLevelCacheConfiguration;
+import com.springboot.item.entity.Item;
+import com.springboot.item.repository.ItemRepository;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 복제본으로 가는 트랜잭션(readOnly, read-your-writes 표시 없음)은 2차 캐시를 채우지 않고 읽기만 한다
+ */
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "cache.second-level.statistics=true"
+})
+@Import({SecondLevelCacheConfiguration.class, ReplicaCacheModeJpaDialect.Installer.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReplicaCacheModeJpaDialectTest {
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+    private Cache cache;
+    private long itemId;
+
+    @BeforeEach
+    void setUp() {
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        itemId = readWrite.execute(status -> itemRepository.save(item()).getItemId());
+
+        // 저장하면서 들어간 엔티티를 비워 두고 조회로 채워지는지 본다
+        cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        cache.evictAllRegions();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWrites.end();
+        readWrite.executeWithoutResult(status -> itemRepository.deleteAll());
+    }
+
+    @Test
+    void replicaReadDoesNotPopulateTheCache() {
+        readOnly.executeWithoutResult(status -> assertThat(itemRepository.findById(itemId)).isPresent());
+
+        assertThat(cache.containsEntity(Item.class, itemId)).isFalse();
+    }
+
+    @Test
+    void primaryReadPopulatesTheCache() {
+        readWrite.executeWithoutResult(status -> assertThat(itemRepository.findById(itemId)).isPresent());
+
+        assertThat(cache.containsEntity(Item.class, itemId)).isTrue();
+    }
+
+    @Test
+    void pinnedReadOnlyTransactionGoesToPrimaryAndPopulatesTheCache() {
+        ReadYourWrites.begin(true);
+
+        readOnly.executeWithoutResult(status -> assertThat(itemRepository.findById(itemId)).isPresent());
+
+        assertThat(cache.containsEntity(Item.class, itemId)).isTrue();
+    }
+
+    @Test
+    void replicaReadStillUsesWhatThePrimaryCached() {
+        readWrite.executeWithoutResult(status -> itemRepository.findById(itemId));
+        long hits = entityManagerFactory.unwrap(SessionFactory.class).getStatistics().getSecondLevelCacheHitCount();
+
+        readOnly.executeWithoutResult(status -> assertThat(itemRepository.findById(itemId)).isPresent());
+
+        assertThat(entityManagerFactory.unwrap(SessionFactory.class).getStatistics().getSecondLevelCacheHitCount())
+                .isEqualTo(hits + 1);
+    }
+
+    private static Item item() {
+        Item item = new Item();
+        item.setItemCd("IT-REPLICA");
+        item.setItemNm("replica shoe");
+        item.setUnit("EA");
+        item.setUnitPrice(BigDecimal.valueOf(10_000));
+        item.setSize(250);
+        item.setColor("white");
+        item.setCategory("sneakers");
+        return item;
+    }
+}
@@ -0,0 +1,108 @@
+package com.springboot.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 개의 H2 인메모리 DB 를 primary / replica 로 두고 route 를 확인한다. 각 DB 에는 자기 이름이 한 줄 들어 있다.
+ */
+class RoutingDataSourceTest {
+    private RoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = h2("primary");
+        DataSource replica = h2("replica");
+
+        routingDataSource = new RoutingDataSource();
+        routingDataSource.setTargetDataSources(Map.of(DataSourceRoute.PRIMARY, primary, DataSourceRoute.REPLICA, replica));
+        routingDataSource.setDefaultTargetDataSource(primary);
+        routingDataSource.afterPropertiesSet();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWrites.end();
+    }
+
+    @Test
+    void readOnlyTransactionGoesToReplicaAndWritesGoToPrimary() {
+        assertThat(readOnly.execute(status -> node())).isEqualTo("replica");
+        assertThat(readWrite.execute(status -> node())).isEqualTo("primary");
+        assertThat(routingDataSource.routedCount(DataSourceRoute.REPLICA)).isEqualTo(1);
+        assertThat(routingDataSource.routedCount(DataSourceRoute.PRIMARY)).isEqualTo(1);
+    }
+
+    @Test
+    void pinnedRequestReadsFromPrimary() {
+        ReadYourWrites.begin(true);
+
+        assertThat(readOnly.execute(status -> node())).isEqualTo("primary");
+    }
+
+    @Test
+    void writeInRequestPinsLaterReadsToPrimary() {
+        ReadYourWrites.begin(false);
+        assertThat(readOnly.execute(status -> node())).isEqualTo("replica");
+
+        readWrite.execute(status -> jdbcTemplate.update("update node set name = name"));
+
+        assertThat(readOnly.execute(status -> node())).isEqualTo("primary");
+    }
+
+    @Test
+    void onPrimaryReadsFromPrimaryAndRestoresTheRequestState() {
+        ReadYourWrites.begin(false);
+
+        assertThat(ReadYourWrites.onPrimary(() -> readOnly.execute(status -> node()))).isEqualTo("primary");
+        assertThat(readOnly.execute(status -> node())).isEqualTo("replica");
+    }
+
+    @Test
+    void onPrimaryWorksOutsideARequest() {
+        assertThat(ReadYourWrites.onPrimary(() -> readOnly.execute(status -> node()))).isEqualTo("primary");
+        assertThat(ReadYourWrites.isPinned()).isFalse();
+    }
+
+    @Test
+    void writeOutsideRequestDoesNotPin() {
+        readWrite.execute(status -> jdbcTemplate.update("update node set name = name"));
+
+        assertThat(readOnly.execute(status -> node())).isEqualTo("replica");
+    }
+
+    private String node() {
+        return jdbcTemplate.queryForObject("select name from node", String.class);
+    }
+
+    private DataSource h2(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate setup = new JdbcTemplate(dataSource);
+        setup.execute("create table node (name varchar(20))");
+        setup.update("insert into node values (?)", name);
+        return dataSource;
+    }
+}
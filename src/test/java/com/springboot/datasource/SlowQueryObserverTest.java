@@ -0,0 +1,73 @@
+package com.springboot.datasource;
+
+import com.springboot.buyer.repository.BuyerQueryRepositoryImpl;
+import com.springboot.utils.QuerydslConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 느린 쿼리 관찰 : 동적 조건 조합별 fingerprint 집계와 EXPLAIN 수집 (threshold 0 으로 모든 SELECT 를 느린 쿼리로 본다)
+ */
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "sql.slow-query.threshold-ms=0",
+        "sql.slow-query.digest-interval-ms=0"
+})
+@Import({DataSourceProxyConfiguration.class, SlowQueryObserver.class,
+        QuerydslConfig.class, BuyerQueryRepositoryImpl.class})
+class SlowQueryObserverTest {
+
+    @Autowired
+    private SlowQueryObserver slowQueryObserver;
+
+    @Autowired
+    private BuyerQueryRepositoryImpl buyerQueryRepository;
+
+    @BeforeEach
+    void setUp() {
+        slowQueryObserver.reset();
+    }
+
+    @Test
+    void sameFilterCombinationIsOneFingerprintWithCapturedPlan() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            buyerQueryRepository.findBuyer("B" + i, null, null, null, null, PageRequest.of(0, 10));
+        }
+        buyerQueryRepository.findBuyer(null, "buyer", null, null, null, PageRequest.of(0, 10));
+
+        List<SlowQueryObserver.Snapshot> byCount = slowQueryObserver.top(10, "count");
+        SlowQueryObserver.Snapshot buyerNmQuery = byCount.get(0);
+        // 바인드 값만 다른 조회 3 번은 하나로, 다른 조건 조합은 별도 fingerprint 로 모인다
+        assertThat(buyerNmQuery.getCount()).isEqualTo(3);
+        assertThat(buyerNmQuery.getFingerprint()).startsWith("select");
+        assertThat(buyerNmQuery.getCallSite()).startsWith(BuyerQueryRepositoryImpl.class.getName());
+        assertThat(buyerNmQuery.getMaxMillis()).isGreaterThanOrEqualTo(buyerNmQuery.getP95Millis());
+        assertThat(byCount).extracting(SlowQueryObserver.Snapshot::getFingerprint).doesNotHaveDuplicates().hasSizeGreaterThan(1);
+
+        assertThat(awaitPlan(buyerNmQuery.getFingerprint())).isNotBlank().doesNotStartWith("explain failed");
+        // EXPLAIN 자신은 집계되지 않는다
+        assertThat(slowQueryObserver.top(100, "total")).extracting(SlowQueryObserver.Snapshot::getFingerprint)
+                .noneMatch(fingerprint -> fingerprint.startsWith("explain"));
+    }
+
+    private String awaitPlan(String fingerprint) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (System.currentTimeMillis() < deadline) {
+            for (SlowQueryObserver.Snapshot snapshot : slowQueryObserver.top(100, "total")) {
+                if (snapshot.getFingerprint().equals(fingerprint) && snapshot.getPlan() != null) {
+                    return snapshot.getPlan();
+                }
+            }
+            Thread.sleep(20);
+        }
+        return null;
+    }
+}
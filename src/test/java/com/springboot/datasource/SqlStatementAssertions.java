@@ -0,0 +1,97 @@
+package com.springboot.datasource;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * SQL 문 수 검증. StatementCountConfiguration 을 @Import 하고 sql.statement-count.enabled=true 로 띄운 테스트에서 쓴다.
+ *   @ExtendWith(SqlStatementAssertions.class)       // 테스트마다 범위를 연다
+ *   resetStatementCounts();                         // 준비 데이터 insert 는 빼고
+ *   assertSelectCount(atMost(3));
+ *   assertNoRepeatedStatements(5);                  // 같은 fingerprint 5 번 이상이면 실패 (N+1)
+ */
+public class SqlStatementAssertions implements BeforeEachCallback, AfterEachCallback {
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        SqlStatementStats.begin();
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        SqlStatementStats.end();
+    }
+
+    public static SqlStatementStats statementCounts() {
+        SqlStatementStats stats = SqlStatementStats.current();
+        if (stats == null) {
+            fail("no SQL statement scope : add @ExtendWith(SqlStatementAssertions.class) or call SqlStatementStats.begin()");
+        }
+        return stats;
+    }
+
+    public static void resetStatementCounts() {
+        statementCounts().reset();
+    }
+
+    public static Bound atMost(int max) {
+        return new Bound(0, max, "<= " + max);
+    }
+
+    public static Bound exactly(int count) {
+        return new Bound(count, count, "== " + count);
+    }
+
+    public static void assertSelectCount(Bound bound) {
+        assertCount(SqlStatementStats.StatementType.SELECT, bound);
+    }
+
+    public static void assertInsertCount(Bound bound) {
+        assertCount(SqlStatementStats.StatementType.INSERT, bound);
+    }
+
+    public static void assertUpdateCount(Bound bound) {
+        assertCount(SqlStatementStats.StatementType.UPDATE, bound);
+    }
+
+    public static void assertDeleteCount(Bound bound) {
+        assertCount(SqlStatementStats.StatementType.DELETE, bound);
+    }
+
+    // 반복된 문장을 fingerprint / 호출 위치와 함께 보여 준다
+    public static void assertNoRepeatedStatements(int threshold) {
+        List<SqlStatementStats.Repeated> repeated = statementCounts().repeatedAtLeast(threshold);
+        if (!repeated.isEmpty()) {
+            fail("statements repeated " + threshold + "+ times (possible N+1) :\n  "
+                    + repeated.stream().map(Object::toString).collect(Collectors.joining("\n  ")));
+        }
+    }
+
+    private static void assertCount(SqlStatementStats.StatementType type, Bound bound) {
+        SqlStatementStats stats = statementCounts();
+        int actual = stats.count(type);
+        assertThat(actual >= bound.min && actual <= bound.max)
+                .as("%s count %d, expected %s\n  %s", type, actual, bound.description,
+                        stats.fingerprints().stream().map(Object::toString).collect(Collectors.joining("\n  ")))
+                .isTrue();
+    }
+
+    public static final class Bound {
+        private final int min;
+        private final int max;
+        private final String description;
+
+        private Bound(int min, int max, String description) {
+            this.min = min;
+            this.max = max;
+            this.description = description;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.springboot.datasource;
+
+import com.springboot.buyer_item.repository.BuyerItemQueryRepositoryImpl;
+import com.springboot.config.PersistenceConfiguration;
+import com.springboot.fixture.SeedData;
+import com.springboot.item.entity.Item;
+import com.springboot.utils.QuerydslConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+import static com.springboot.datasource.SqlStatementAssertions.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * SQL 문 수 계측 (datasource-proxy) : 목록 조회 회귀 방지와 N+1 검출
+ */
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "sql.statement-count.enabled=true"
+})
+@Import({StatementCountConfiguration.class, PersistenceConfiguration.class,
+        QuerydslConfig.class, BuyerItemQueryRepositoryImpl.class})
+@ExtendWith(SqlStatementAssertions.class)
+class StatementCountTest {
+    private static final int ITEMS = 12;
+
+    @Autowired
+    private BuyerItemQueryRepositoryImpl buyerItemQueryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        // 바이어 1 곳, 제품 12 개, 제품마다 계약 단가 1 건
+        new SeedData().buyers(1).items(ITEMS).persist(entityManager);
+    }
+
+    @Test
+    void batchedInsertsCountOncePerBatch() {
+        // setUp 의 insert : buyer 1 건, item / buyer_item 각 12 건이 테이블별 batch 하나씩
+        assertInsertCount(exactly(3));
+    }
+
+    @Test
+    void buyerItemListStaysAtOneSelectPlusCount() {
+        resetStatementCounts();
+
+        buyerItemQueryRepository.findBuyerItems(null, null, null, null, PageRequest.of(0, 10));
+
+        assertSelectCount(atMost(2));
+        assertNoRepeatedStatements(2);
+    }
+
+    @Test
+    void lazyCollectionPerRowIsReportedWithItsCallSite() {
+        resetStatementCounts();
+
+        List<Item> items = entityManager.createQuery("select i from Item i", Item.class).getResultList();
+        items.forEach(item -> item.getBuyerItems().size());
+
+        List<SqlStatementStats.Repeated> repeated = statementCounts().repeatedAtLeast(ITEMS);
+        assertThat(repeated).hasSize(1);
+        assertThat(repeated.get(0).getFingerprint()).contains("from buyer_item").contains("item_id=?");
+        assertThat(repeated.get(0).getCallSite()).startsWith(StatementCountTest.class.getName());
+        assertThatThrownBy(() -> assertNoRepeatedStatements(5)).isInstanceOf(AssertionError.class)
+                .hasMessageContaining("possible N+1");
+        assertThatThrownBy(() -> assertSelectCount(atMost(3))).isInstanceOf(AssertionError.class);
+    }
+}
@@ -0,0 +1,113 @@
+package com.springboot.email;
+
+import com.springboot.email.service.EmailDispatcher;
+import com.springboot.email.service.EmailJob;
+import com.springboot.email.service.EmailTemplates;
+import com.springboot.exception.BusinessLogicException;
+import com.springboot.exception.ExceptionCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 메일 발송 큐 (FakeSmtpServer 로 수신)
+ */
+class EmailDispatcherTest {
+    private FakeSmtpServer smtpServer;
+    private JavaMailSenderImpl mailSender;
+    private EmailTemplates emailTemplates;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        smtpServer = new FakeSmtpServer();
+        mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(smtpServer.getPort());
+
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        TemplateEngine templateEngine = new TemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+        emailTemplates = new EmailTemplates(templateEngine, 100, 60);
+        emailTemplates.warmUp();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        smtpServer.close();
+    }
+
+    @Test
+    void queuedEmailsAreSentInBatchesOverOneConnectionAndSpoolFilesAreRemoved() throws Exception {
+        EmailDispatcher dispatcher = new EmailDispatcher(mailSender, emailTemplates, "sender@test.com",
+                1, 100, 20, 100, 60);
+        // 발송 스레드를 띄우기 전에 쌓아 두어 한 번의 배치로 나가게 한다
+        List<EmailJob> jobs = new ArrayList<>();
+        List<Path> attachments = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Path attachment = Files.createTempFile("email-test", ".txt");
+            Files.write(attachment, ("order-" + i).getBytes(StandardCharsets.UTF_8));
+            attachments.add(attachment);
+            jobs.add(dispatcher.enqueue(job("buyer" + i + "@test.com", attachment, "order-" + i + ".txt")));
+        }
+
+        dispatcher.start();
+        try {
+            awaitCompletion(jobs);
+        } finally {
+            dispatcher.stop();
+        }
+
+        assertThat(jobs).extracting(EmailJob::getStatus).containsOnly(EmailJob.EmailStatus.SENT);
+        assertThat(smtpServer.getMessages()).hasSize(5);
+        assertThat(smtpServer.getMessages().get(0)).contains("order-0.txt");
+        assertThat(smtpServer.getConnections()).isEqualTo(1);
+        assertThat(attachments).noneMatch(Files::exists);
+        assertThat(dispatcher.find(jobs.get(0).getTrackingId())).containsSame(jobs.get(0));
+    }
+
+    @Test
+    void fullQueueRejectsAndDeletesTheSpooledAttachment() throws IOException {
+        EmailDispatcher dispatcher = new EmailDispatcher(mailSender, emailTemplates, "sender@test.com",
+                1, 1, 20, 100, 60);
+        dispatcher.enqueue(job("first@test.com", null, null));
+
+        Path attachment = Files.createTempFile("email-test", ".txt");
+        EmailJob rejected = job("second@test.com", attachment, "rejected.txt");
+
+        assertThatThrownBy(() -> dispatcher.enqueue(rejected))
+                .isInstanceOf(BusinessLogicException.class)
+                .extracting("exceptionCode").isEqualTo(ExceptionCode.EMAIL_QUEUE_FULL);
+        assertThat(Files.exists(attachment)).isFalse();
+        assertThat(dispatcher.find(rejected.getTrackingId())).isEmpty();
+    }
+
+    private EmailJob job(String to, Path attachment, String attachmentName) {
+        return new EmailJob(UUID.randomUUID().toString(), to, "파일 첨부 이메일", EmailTemplates.ATTACHMENT,
+                Map.of("name", "User"), attachment, attachmentName, "text/plain");
+    }
+
+    private void awaitCompletion(List<EmailJob> jobs) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (jobs.stream().anyMatch(job -> job.getStatus() != EmailJob.EmailStatus.SENT
+                && job.getStatus() != EmailJob.EmailStatus.FAILED) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+}
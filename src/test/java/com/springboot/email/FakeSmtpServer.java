@@ -0,0 +1,94 @@
+package com.springboot.email;
+
+import java.io.*;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 SMTP 수신 서버. 인증 / TLS 없이 모든 명령에 성공으로 응답하고 받은 메일 원문을 모아 둔다.
+ */
+class FakeSmtpServer implements Closeable {
+    private final ServerSocket serverSocket;
+    private final List<String> messages = new CopyOnWriteArrayList<>();
+    private final AtomicInteger connections = new AtomicInteger();
+
+    FakeSmtpServer() throws IOException {
+        this.serverSocket = new ServerSocket(0);
+        Thread acceptor = new Thread(this::accept, "fake-smtp");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    List<String> getMessages() {
+        return messages;
+    }
+
+    int getConnections() {
+        return connections.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                connections.incrementAndGet();
+                Thread session = new Thread(() -> handle(socket), "fake-smtp-session");
+                session.setDaemon(true);
+                session.start();
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void handle(Socket socket) {
+        try (socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.ISO_8859_1));
+             Writer out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.ISO_8859_1)) {
+            reply(out, "220 fake smtp");
+            String line;
+            while ((line = in.readLine()) != null) {
+                String command = line.length() >= 4 ? line.substring(0, 4).toUpperCase() : line.toUpperCase();
+                if (command.equals("DATA")) {
+                    reply(out, "354 end data with <CR><LF>.<CR><LF>");
+                    messages.add(readData(in));
+                    reply(out, "250 queued");
+                } else if (command.equals("QUIT")) {
+                    reply(out, "221 bye");
+                    return;
+                } else {
+                    reply(out, "250 ok");
+                }
+            }
+        } catch (IOException ignored) {
+            // 클라이언트가 연결을 끊으면 세션을 끝낸다
+        }
+    }
+
+    private String readData(BufferedReader in) throws IOException {
+        StringBuilder data = new StringBuilder();
+        String line;
+        while ((line = in.readLine()) != null && !line.equals(".")) {
+            data.append(line.startsWith("..") ? line.substring(1) : line).append("\r\n");
+        }
+        return data.toString();
+    }
+
+    private void reply(Writer out, String response) throws IOException {
+        out.write(response + "\r\n");
+        out.flush();
+    }
+}
@@ -0,0 +1,91 @@
+package com.springboot.event.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.event.dto.DomainEventDto;
+import com.springboot.event.entity.OutboxEvent;
+import com.springboot.event.repository.OutboxEventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이벤트 발행 : 호출한 트랜잭션과 함께 저장 / 롤백되고, 커밋된 뒤에만 디스패처를 깨운다
+ */
+@DataJpaTest(properties = "spring.sql.init.mode=never")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EventBusTest {
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final AtomicInteger wakeUps = new AtomicInteger();
+    private TransactionTemplate transactionTemplate;
+    private EventBus eventBus;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        ObjectMapper objectMapper = new ObjectMapper();
+        // 폴링하지 않고 깨운 횟수만 센다
+        EventDispatcher eventDispatcher = new EventDispatcher(outboxEventRepository, transactionManager, objectMapper,
+                List.of(), 1, 1, 1_000, 300, 1, 1_000, 1_000, 7) {
+            @Override
+            public void wakeUp() {
+                wakeUps.incrementAndGet();
+            }
+        };
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("eventDispatcher", eventDispatcher);
+        eventBus = new EventBus(outboxEventRepository, beans.getBeanProvider(EventDispatcher.class), objectMapper);
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxEventRepository.deleteAll();
+    }
+
+    @Test
+    void eventIsStoredWithTheTransactionAndWakesTheDispatcherAfterCommit() {
+        transactionTemplate.executeWithoutResult(status -> {
+            eventBus.publish(DomainEventDto.MemberRegistered.TYPE, "E1",
+                    new DomainEventDto.MemberRegistered("E1", "member1@shoecream.com"));
+            assertThat(wakeUps).hasValue(0);
+        });
+
+        assertThat(wakeUps).hasValue(1);
+        List<OutboxEvent> events = outboxEventRepository.findAll();
+        assertThat(events).hasSize(1);
+        OutboxEvent event = events.get(0);
+        assertThat(event.getEventType()).isEqualTo(DomainEventDto.MemberRegistered.TYPE);
+        assertThat(event.getEventKey()).isEqualTo("E1");
+        assertThat(event.getStatus()).isEqualTo(OutboxEvent.EventStatus.PENDING);
+        assertThat(event.getPayload()).contains("\"email\":\"member1@shoecream.com\"");
+    }
+
+    @Test
+    void rolledBackTransactionLeavesNoEventAndNoWakeUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            eventBus.publish(DomainEventDto.MemberRegistered.TYPE, "E1",
+                    new DomainEventDto.MemberRegistered("E1", "member1@shoecream.com"));
+            status.setRollbackOnly();
+        });
+
+        assertThat(wakeUps).hasValue(0);
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+}
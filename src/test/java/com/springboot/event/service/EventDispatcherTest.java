@@ -0,0 +1,267 @@
+package com.springboot.event.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.event.entity.OutboxEvent;
+import com.springboot.event.handler.EventHandler;
+import com.springboot.event.repository.OutboxEventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이벤트 디스패처 : 점유 / 재시도 backoff / DEAD / 키별 순서 / 점유 만료.
+ * 작업 스레드가 커밋된 이벤트를 읽어야 하므로 테스트 트랜잭션 없이 돌리고, 끝나면 지운다.
+ */
+@DataJpaTest(properties = "spring.sql.init.mode=never")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EventDispatcherTest {
+    private static final String TYPE = "test.event";
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long INITIAL_BACKOFF_MILLIS = 100;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final RecordingHandler handler = new RecordingHandler();
+    private TransactionTemplate transactionTemplate;
+    private EventDispatcher eventDispatcher;
+    private boolean started;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        // 레인 하나 : 처리 순서가 곧 호출 순서
+        eventDispatcher = new EventDispatcher(outboxEventRepository, transactionManager, objectMapper, List.of(handler),
+                1, 10, 20, 300, MAX_ATTEMPTS, INITIAL_BACKOFF_MILLIS, 400, 7);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (started) {
+            eventDispatcher.stop();
+        }
+        outboxEventRepository.deleteAll();
+    }
+
+    @Test
+    void claimedEventIsDeliveredOnceAndMarkedDone() throws Exception {
+        Long eventId = save("K1", "first").getEventId();
+
+        startDispatcher();
+        OutboxEvent done = awaitEvent(eventId, event -> event.getStatus() == OutboxEvent.EventStatus.DONE);
+
+        assertThat(done.getAttempts()).isEqualTo(1);
+        assertThat(done.getLockedUntil()).isNull();
+        assertThat(done.getProcessedAt()).isNotNull();
+        assertThat(handler.calls).containsExactly("first");
+    }
+
+    @Test
+    void failedEventIsRetriedAfterBackoff() throws Exception {
+        handler.failTimes("flaky", 1);
+        Long eventId = save("K1", "flaky").getEventId();
+
+        startDispatcher();
+        OutboxEvent done = awaitEvent(eventId, event -> event.getStatus() == OutboxEvent.EventStatus.DONE);
+
+        assertThat(done.getAttempts()).isEqualTo(2);
+        assertThat(done.getLastError()).isEqualTo("IllegalStateException: flaky failed");
+        assertThat(handler.calls).containsExactly("flaky", "flaky");
+        // 두 번째 시도는 첫 backoff 이후
+        assertThat(handler.callTimes.get(1) - handler.callTimes.get(0)).isGreaterThanOrEqualTo(INITIAL_BACKOFF_MILLIS);
+    }
+
+    @Test
+    void eventMovesToDeadAfterMaxAttemptsAndNotifiesOnce() throws Exception {
+        handler.failTimes("broken", Integer.MAX_VALUE);
+        Long eventId = save("K1", "broken").getEventId();
+
+        startDispatcher();
+        OutboxEvent dead = awaitEvent(eventId, event -> event.getStatus() == OutboxEvent.EventStatus.DEAD);
+        Thread.sleep(INITIAL_BACKOFF_MILLIS * 2);
+
+        assertThat(dead.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+        assertThat(handler.calls).hasSize(MAX_ATTEMPTS);
+        assertThat(handler.dead).containsExactly("broken");
+    }
+
+    @Test
+    void laterEventOfAKeyWaitsForTheEarlierOneToBeRetried() throws Exception {
+        handler.failTimes("K1-first", 1);
+        save("K1", "K1-first");
+        Long second = save("K1", "K1-second").getEventId();
+        save("K2", "K2-only");
+
+        startDispatcher();
+        awaitEvent(second, event -> event.getStatus() == OutboxEvent.EventStatus.DONE);
+
+        // 다른 키는 기다리지 않지만, 같은 키의 두 번째 이벤트는 첫 이벤트의 재시도가 성공한 뒤에만 호출된다
+        assertThat(handler.calls).containsSubsequence("K1-first", "K2-only", "K1-first", "K1-second");
+        assertThat(handler.calls).filteredOn(call -> call.startsWith("K1"))
+                .containsExactly("K1-first", "K1-first", "K1-second");
+    }
+
+    @Test
+    void onlyTheOldestOpenEventOfAKeyIsDue() {
+        OutboxEvent waitingRetry = save("K1", "retrying", event -> {
+            event.setAttempts(1);
+            event.setNextAttemptAt(LocalDateTime.now().plusMinutes(5));
+        });
+        save("K1", "blocked");
+        OutboxEvent otherKey = save("K2", "due");
+
+        List<Long> due = outboxEventRepository.findDueEventIds(LocalDateTime.now(), PageRequest.of(0, 10));
+
+        assertThat(due).containsExactly(otherKey.getEventId());
+        assertThat(due).doesNotContain(waitingRetry.getEventId());
+    }
+
+    @Test
+    void eventWhoseLockExpiredIsClaimedAgain() throws Exception {
+        Long eventId = save("K1", "orphaned", event -> {
+            // 처리하던 서버가 죽은 이벤트
+            event.setStatus(OutboxEvent.EventStatus.PROCESSING);
+            event.setLockedUntil(LocalDateTime.now().minusMinutes(1));
+        }).getEventId();
+
+        startDispatcher();
+        OutboxEvent done = awaitEvent(eventId, event -> event.getStatus() == OutboxEvent.EventStatus.DONE);
+
+        assertThat(done.getAttempts()).isEqualTo(1);
+        assertThat(handler.calls).containsExactly("orphaned");
+    }
+
+    @Test
+    void resultIsRecordedOnlyUnderTheCurrentClaim() {
+        Long eventId = save("K1", "claimed").getEventId();
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.execute(status -> outboxEventRepository.claim(eventId, now, now.plusMinutes(5)));
+        LocalDateTime lockedUntil = outboxEventRepository.findById(eventId).orElseThrow().getLockedUntil();
+
+        // 점유가 만료되어 다른 서버가 다시 가져간 뒤에 끝난 처리 (이전 lockedUntil)
+        Integer stale = transactionTemplate.execute(status ->
+                outboxEventRepository.markDone(eventId, lockedUntil.minusMinutes(10), LocalDateTime.now()));
+        Integer staleFailure = transactionTemplate.execute(status -> outboxEventRepository.markFailed(eventId,
+                lockedUntil.minusMinutes(10), OutboxEvent.EventStatus.DEAD, LocalDateTime.now(), "late"));
+        assertThat(stale).isZero();
+        assertThat(staleFailure).isZero();
+        assertThat(outboxEventRepository.findById(eventId).orElseThrow().getStatus())
+                .isEqualTo(OutboxEvent.EventStatus.PROCESSING);
+
+        Integer current = transactionTemplate.execute(status ->
+                outboxEventRepository.markDone(eventId, lockedUntil, LocalDateTime.now()));
+        assertThat(current).isEqualTo(1);
+        assertThat(outboxEventRepository.findById(eventId).orElseThrow().getStatus())
+                .isEqualTo(OutboxEvent.EventStatus.DONE);
+    }
+
+    private void startDispatcher() {
+        eventDispatcher.start();
+        started = true;
+    }
+
+    private OutboxEvent save(String eventKey, String name) {
+        return save(eventKey, name, event -> {
+        });
+    }
+
+    private OutboxEvent save(String eventKey, String name, Consumer<OutboxEvent> customizer) {
+        try {
+            OutboxEvent event = new OutboxEvent(TYPE, eventKey, objectMapper.writeValueAsString(new Payload(name)));
+            customizer.accept(event);
+            return outboxEventRepository.save(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private OutboxEvent awaitEvent(Long eventId, Predicate<OutboxEvent> condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        OutboxEvent event = outboxEventRepository.findById(eventId).orElseThrow();
+        while (!condition.test(event) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            event = outboxEventRepository.findById(eventId).orElseThrow();
+        }
+        assertThat(condition.test(event)).as("event %d status %s", eventId, event.getStatus()).isTrue();
+        return event;
+    }
+
+    public static class Payload {
+        private String name;
+
+        public Payload() {
+        }
+
+        public Payload(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    // 정해진 횟수만큼 실패하고, 호출 순서 / 시각과 DEAD 알림을 기록한다
+    private static class RecordingHandler implements EventHandler<Payload> {
+        private final Map<String, AtomicInteger> failuresLeft = new ConcurrentHashMap<>();
+        private final List<String> calls = new CopyOnWriteArrayList<>();
+        private final List<Long> callTimes = new CopyOnWriteArrayList<>();
+        private final List<String> dead = new CopyOnWriteArrayList<>();
+
+        void failTimes(String name, int times) {
+            failuresLeft.put(name, new AtomicInteger(times));
+        }
+
+        @Override
+        public String eventType() {
+            return TYPE;
+        }
+
+        @Override
+        public Class<Payload> payloadType() {
+            return Payload.class;
+        }
+
+        @Override
+        public void handle(Payload payload) {
+            calls.add(payload.getName());
+            callTimes.add(System.currentTimeMillis());
+            AtomicInteger failures = failuresLeft.get(payload.getName());
+            if (failures != null && failures.getAndDecrement() > 0) {
+                throw new IllegalStateException(payload.getName() + " failed");
+            }
+        }
+
+        @Override
+        public void onDead(Payload payload, Exception lastError) {
+            dead.add(payload.getName());
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.springboot.fixture;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.auth.userdetails.UserDetailsCache;
+import com.springboot.auth.utils.JwtAuthorityUtils;
+import com.springboot.buyer.repository.BuyerQueryRepositoryImpl;
+import com.springboot.buyer.service.BuyerService;
+import com.springboot.buyer_item.index.BuyerItemPriceIndex;
+import com.springboot.buyer_item.repository.BuyerItemQueryRepositoryImpl;
+import com.springboot.buyer_item.service.BuyerItemService;
+import com.springboot.cache.MasterDataCache;
+import com.springboot.cache.MasterDataListCache;
+import com.springboot.cache.NaturalIdLoader;
+import com.springboot.cache.SecondLevelCache;
+import com.springboot.config.PersistenceConfiguration;
+import com.springboot.email.service.EmailDispatcher;
+import com.springboot.email.service.EmailService;
+import com.springboot.email.service.EmailTemplates;
+import com.springboot.event.repository.OutboxEventRepository;
+import com.springboot.event.service.EventBus;
+import com.springboot.event.service.EventDispatcher;
+import com.springboot.item.repository.ItemQueryRepositoryImpl;
+import com.springboot.item.service.ItemService;
+import com.springboot.manufacture.repository.MFQueryRepositoryImpl;
+import com.springboot.manufacture.service.ManufactureService;
+import com.springboot.manufacture_history.mapper.ManufactureHistoryMapperImpl;
+import com.springboot.manufacture_item.repository.MfItemQueryRepositoryImpl;
+import com.springboot.manufacture_item.service.ManufactureItemService;
+import com.springboot.member.service.MemberService;
+import com.springboot.order_header.repository.OrderQueryRepositoryImpl;
+import com.springboot.order_header.service.OrderService;
+import com.springboot.order_item.repository.OrderItemQueryRepositoryImpl;
+import com.springboot.redis.InMemoryRedisConfiguration;
+import com.springboot.report.service.EmployeeReport;
+import com.springboot.report.service.InventoryReport;
+import com.springboot.report.service.SaleReport;
+import com.springboot.sale_history.mapper.SaleHistoryMapperImpl;
+import com.springboot.utils.QuerydslConfig;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.thymeleaf.TemplateEngine;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+/**
+ * 서비스 계층을 H2 위의 실제 저장소로 돌리는 @DataJpaTest 용 설정 (SQL 문 수 검증에 쓴다).
+ * 주문 / 리포트 경로와 기준정보 등록 경로의 서비스를 함께 올린다.
+ * Redis 는 메모리로 대신하고, 메일 / 이벤트 버스는 작업 스레드가 일하지 않는다. JwtAuthorityUtils 때문에
+ * 테스트 속성에 mail.address.admin 이 있어야 한다.
+ */
+@TestConfiguration
+@Import({InMemoryRedisConfiguration.class, PersistenceConfiguration.class, QuerydslConfig.class, NaturalIdLoader.class,
+        OrderQueryRepositoryImpl.class, OrderItemQueryRepositoryImpl.class, MfItemQueryRepositoryImpl.class,
+        SaleHistoryMapperImpl.class, MasterDataCache.class, SecondLevelCache.class, UserDetailsCache.class,
+        JwtAuthorityUtils.class, MemberService.class, SaleReport.class, EmployeeReport.class, InventoryReport.class,
+        EventBus.class, OrderService.class,
+        // 기준정보 등록 경로 (제품 / 바이어 / 제조사 / 계약 단가 / 납품)
+        ItemQueryRepositoryImpl.class, BuyerQueryRepositoryImpl.class, MFQueryRepositoryImpl.class,
+        BuyerItemQueryRepositoryImpl.class, ManufactureHistoryMapperImpl.class, MasterDataListCache.class,
+        BuyerItemPriceIndex.class, ItemService.class, BuyerService.class, ManufactureService.class,
+        BuyerItemService.class, ManufactureItemService.class})
+public class ServiceTestConfiguration {
+
+    @Bean
+    public ObjectMapper objectMapper() {
+        return new ObjectMapper().findAndRegisterModules();
+    }
+
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    }
+
+    // 빈이 아닌 디스패처라 발송 스레드가 뜨지 않는다
+    @Bean
+    public EmailService emailService() throws IOException {
+        EmailDispatcher emailDispatcher = new EmailDispatcher(new JavaMailSenderImpl(),
+                new EmailTemplates(new TemplateEngine(), 10, 60), "test@shoecream.com", 1, 10, 10, 10, 60);
+        return new EmailService(emailDispatcher, Files.createTempDirectory("email-spool").toString());
+    }
+
+    // 핸들러 없이, 폴링 간격은 테스트보다 길게. 저장된 이벤트는 테스트 트랜잭션과 함께 롤백된다
+    @Bean
+    public EventDispatcher eventDispatcher(OutboxEventRepository outboxEventRepository,
+                                           PlatformTransactionManager transactionManager, ObjectMapper objectMapper) {
+        return new EventDispatcher(outboxEventRepository, transactionManager, objectMapper, List.of(),
+                1, 10, 3_600_000, 300, 8, 1_000, 600_000, 7);
+    }
+}
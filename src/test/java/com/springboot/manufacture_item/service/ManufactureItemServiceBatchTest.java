@@ -0,0 +1,90 @@
+package com.springboot.manufacture_item.service;
+
+import com.springboot.datasource.SqlStatementAssertions;
+import com.springboot.datasource.SqlStatementStats;
+import com.springboot.datasource.StatementCountConfiguration;
+import com.springboot.fixture.SeedData;
+import com.springboot.fixture.ServiceTestConfiguration;
+import com.springboot.item.entity.Item;
+import com.springboot.manufacture.entity.Manufacture;
+import com.springboot.manufacture_item.entity.ItemManufacture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import javax.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.springboot.datasource.SqlStatementAssertions.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 납품 일괄 등록 : 제품은 IN 쿼리 한 번, 제조사는 이름마다 한 번 조회하고 납품 / 이력 insert 는 테이블마다 batch 하나
+ */
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "sql.statement-count.enabled=true",
+        "mail.address.admin=admin@shoecream.com"
+})
+@Import({StatementCountConfiguration.class, ServiceTestConfiguration.class})
+@ExtendWith(SqlStatementAssertions.class)
+class ManufactureItemServiceBatchTest {
+    private static final int ROWS = 10;
+    private static final int MANUFACTURES = 2;
+
+    @Autowired
+    private ManufactureItemService manufactureItemService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        new SeedData().items(ROWS).manufactures(MANUFACTURES).members(1).persist(entityManager);
+    }
+
+    @Test
+    void bulkCreateLooksUpEachItemAndManufactureOnce() {
+        List<ItemManufacture> request = IntStream.range(0, ROWS)
+                .mapToObj(i -> itemManufacture("shoe " + i, "factory " + i % MANUFACTURES))
+                .collect(Collectors.toList());
+        resetStatementCounts();
+
+        manufactureItemService.createItemMf(request, new UsernamePasswordAuthenticationToken("E0", null, List.of()));
+        entityManager.flush();
+
+        assertThat(statementsTouching("from item item")).extracting(SqlStatementStats.Repeated::getCount)
+                .containsExactly(1);
+        assertThat(statementsTouching("from manufacture manufactur")).extracting(SqlStatementStats.Repeated::getCount)
+                .containsExactly(MANUFACTURES);
+        // item_manufacture, manufacture_history 각각 batch 하나
+        assertInsertCount(exactly(2));
+    }
+
+    private static ItemManufacture itemManufacture(String itemNm, String mfNm) {
+        Item item = new Item();
+        item.setItemNm(itemNm);
+        Manufacture manufacture = new Manufacture();
+        manufacture.setMfNm(mfNm);
+
+        ItemManufacture itemManufacture = new ItemManufacture();
+        itemManufacture.setItem(item);
+        itemManufacture.setManufacture(manufacture);
+        itemManufacture.setUnitPrice(BigDecimal.valueOf(5_000));
+        itemManufacture.setQty(50);
+        return itemManufacture;
+    }
+
+    private static List<SqlStatementStats.Repeated> statementsTouching(String sql) {
+        return statementCounts().fingerprints().stream()
+                .filter(statement -> statement.getFingerprint().contains(sql))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,69 @@
+package com.springboot.member;
+
+import com.springboot.event.dto.DomainEventDto;
+import com.springboot.event.entity.OutboxEvent;
+import com.springboot.event.repository.OutboxEventRepository;
+import com.springboot.exception.BusinessLogicException;
+import com.springboot.exception.ExceptionCode;
+import com.springboot.fixture.ServiceTestConfiguration;
+import com.springboot.member.entity.Member;
+import com.springboot.member.service.MemberService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 사원 등록 : 같은 트랜잭션에 member.registered 이벤트가 저장되어 커밋 후 안내 메일 핸들러로 전달된다
+ */
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "mail.address.admin=admin@shoecream.com"
+})
+@Import(ServiceTestConfiguration.class)
+class MemberRegistrationTest {
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Test
+    void createMemberStoresTheRegisteredEventInTheSameTransaction() {
+        Member member = memberService.createMember(member("E100", "new@shoecream.com"));
+
+        assertThat(member.getRoles()).containsExactly("USER");
+        // 비밀번호를 주지 않으면 임의로 만들어 암호화한다
+        assertThat(member.getPassword()).startsWith("{bcrypt}");
+
+        List<OutboxEvent> events = outboxEventRepository.findAll();
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getEventType()).isEqualTo(DomainEventDto.MemberRegistered.TYPE);
+        assertThat(events.get(0).getEventKey()).isEqualTo("E100");
+        assertThat(events.get(0).getPayload()).contains("new@shoecream.com");
+    }
+
+    @Test
+    void duplicateMemberIsRejectedWithoutAnEvent() {
+        memberService.createMember(member("E100", "new@shoecream.com"));
+
+        assertThatThrownBy(() -> memberService.createMember(member("E100", "other@shoecream.com")))
+                .isInstanceOf(BusinessLogicException.class)
+                .extracting(e -> ((BusinessLogicException) e).getExceptionCode())
+                .isEqualTo(ExceptionCode.MEMBER_EXISTS);
+        assertThat(outboxEventRepository.count()).isEqualTo(1);
+    }
+
+    private static Member member(String employeeId, String email) {
+        Member member = new Member(email);
+        member.setEmployeeId(employeeId);
+        member.setName("new member");
+        return member;
+    }
+}
@@ -0,0 +1,104 @@
+package com.springboot.member;
+
+import com.springboot.datasource.SqlStatementAssertions;
+import com.springboot.datasource.SqlStatementStats;
+import com.springboot.datasource.StatementCountConfiguration;
+import com.springboot.fixture.SeedData;
+import com.springboot.fixture.ServiceTestConfiguration;
+import com.springboot.member.entity.Member;
+import com.springboot.member.repository.MemberRepository;
+import com.springboot.order_header.entity.OrderHeaders;
+import com.springboot.order_header.service.OrderService;
+import com.springboot.report.reportDto.ReportDto;
+import com.springboot.report.service.EmployeeReport;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.springboot.datasource.SqlStatementAssertions.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * member_roles 조회 : 리포트 / 주문 경로의 Member 조회는 roles 를 읽지 않고, 인증 경로만 join 으로 함께 읽는다
+ */
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "sql.statement-count.enabled=true",
+        "mail.address.admin=admin@shoecream.com"
+})
+@Import({StatementCountConfiguration.class, ServiceTestConfiguration.class})
+@ExtendWith(SqlStatementAssertions.class)
+class MemberRolesFetchTest {
+    private static final int MEMBERS = 20;
+
+    @Autowired
+    private EmployeeReport employeeReport;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        new SeedData().buyers(1).items(1).members(MEMBERS)
+                .orders(1, 1, OrderHeaders.OrderStatus.REQUEST_TEMP)
+                .persist(entityManager);
+    }
+
+    @Test
+    void employeesReportReadsMembersOnceWithoutRoles() {
+        resetStatementCounts();
+
+        List<ReportDto.EmployeeReportDto> report = employeeReport.getEmployeesReport(LocalDate.now(), LocalDate.now().plusDays(30));
+
+        assertThat(report).hasSize(MEMBERS);
+        assertThat(statementsTouching("member_roles")).isEmpty();
+        assertThat(statementsTouching("from member member")).extracting(SqlStatementStats.Repeated::getCount)
+                .containsExactly(1);
+    }
+
+    @Test
+    void orderStatusChangeLooksUpTheEmployeeWithoutRoles() {
+        resetStatementCounts();
+
+        orderService.updateStatus("ORD3-0", OrderHeaders.OrderStatus.REJECTED, "out of stock",
+                new UsernamePasswordAuthenticationToken("E3", null, List.of()));
+        entityManager.flush();
+
+        assertThat(statementsTouching("member_roles")).isEmpty();
+        assertNoRepeatedStatements(2);
+    }
+
+    @Test
+    void authenticationPathLoadsRolesInTheSameSelect() {
+        resetStatementCounts();
+
+        Member member = memberRepository.findWithRolesByEmployeeId("E3").orElseThrow();
+
+        assertThat(Hibernate.isInitialized(member.getRoles())).isTrue();
+        assertThat(member.getRoles()).containsExactly("USER");
+        assertSelectCount(exactly(1));
+        assertThat(statementsTouching("member_roles")).hasSize(1);
+    }
+
+    private static List<SqlStatementStats.Repeated> statementsTouching(String sql) {
+        return statementCounts().fingerprints().stream()
+                .filter(statement -> statement.getFingerprint().contains(sql))
+                .collect(Collectors.toList());
+    }
+}
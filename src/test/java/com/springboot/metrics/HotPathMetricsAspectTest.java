@@ -0,0 +1,92 @@
+package com.springboot.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.repository.Repository;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 컨트롤러 / 저장소 메서드별 Timer : 정상 완료와 예외를 exception 태그로 나눠 기록하고, 저장소 안의 중첩 호출은 한 번만 잰다
+ */
+class HotPathMetricsAspectTest {
+    private SimpleMeterRegistry registry;
+    private SampleController controller;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        AspectJProxyFactory factory = new AspectJProxyFactory(new SampleController());
+        factory.addAspect(new HotPathMetricsAspect(registry));
+        controller = factory.getProxy();
+    }
+
+    @Test
+    void recordsEachControllerMethodUnderItsOwnTimer() {
+        controller.getOrders();
+        controller.getOrders();
+        assertThatThrownBy(controller::postOrder).isInstanceOf(IllegalStateException.class);
+
+        Timer success = registry.get(HotPathMetricsAspect.CONTROLLER_TIMER)
+                .tags("controller", "SampleController", "method", "getOrders", "exception", "none").timer();
+        Timer failure = registry.get(HotPathMetricsAspect.CONTROLLER_TIMER)
+                .tags("controller", "SampleController", "method", "postOrder", "exception", "IllegalStateException").timer();
+
+        assertThat(success.count()).isEqualTo(2);
+        assertThat(failure.count()).isEqualTo(1);
+    }
+
+    @Test
+    void repositoryCallThatReentersTheProxyIsRecordedOnce() {
+        SampleRepositoryTarget target = new SampleRepositoryTarget();
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(new HotPathMetricsAspect(registry));
+        SampleRepository repository = factory.getProxy();
+        target.self = repository;
+
+        repository.findDue();
+        repository.findDue();
+
+        assertThat(registry.get(HotPathMetricsAspect.REPOSITORY_TIMER).timers()).hasSize(1);
+        Timer timer = registry.get(HotPathMetricsAspect.REPOSITORY_TIMER)
+                .tags("repository", "SampleRepository", "method", "findDue", "exception", "none").timer();
+        assertThat(timer.count()).isEqualTo(2);
+    }
+
+    interface SampleRepository extends Repository<Object, Long> {
+        // Spring Data 의 default 메서드처럼 다시 프록시를 거쳐 쿼리 메서드를 부른다
+        String findDue();
+
+        String findByStatus(String status);
+    }
+
+    static class SampleRepositoryTarget implements SampleRepository {
+        private SampleRepository self;
+
+        @Override
+        public String findDue() {
+            return self.findByStatus("PENDING");
+        }
+
+        @Override
+        public String findByStatus(String status) {
+            return status;
+        }
+    }
+
+    @RestController
+    static class SampleController {
+        public String getOrders() {
+            return "orders";
+        }
+
+        public String postOrder() {
+            throw new IllegalStateException("rejected");
+        }
+    }
+}
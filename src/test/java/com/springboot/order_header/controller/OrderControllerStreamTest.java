@@ -0,0 +1,241 @@
+package com.springboot.order_header.controller;
+
+import com.springboot.event.dto.DomainEventDto;
+import com.springboot.order_header.entity.OrderHeaders;
+import com.springboot.order_header.stream.OrderStreamHub;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * GET /orders/stream : 권한에 따른 주문 필터, 느린 구독자 끊기 (큐 넘침 / send-timeout / 전송 스레드 상한), heartbeat
+ */
+class OrderControllerStreamTest {
+    private final SlowClientFilter slowClient = new SlowClientFilter();
+    private OrderStreamHub hub;
+    private MockMvc mockMvc;
+
+    @AfterEach
+    void tearDown() {
+        slowClient.release.countDown();
+        hub.stop();
+    }
+
+    @Test
+    void employeeReceivesOnlyOwnOrdersAndAdminReceivesAll() throws Exception {
+        start(60_000, 10_000);
+        MvcResult employee = subscribe("E1", "ROLE_USER", false);
+        MvcResult admin = subscribe("A0", "ROLE_ADMIN", false);
+
+        hub.publish(event("O1", "E1"));
+        hub.publish(event("O2", "E2"));
+        hub.publish(event("O3", "E1"));
+
+        assertThat(await(employee, "O3")).contains("O1").doesNotContain("O2");
+        assertThat(await(admin, "O3")).contains("O1", "O2");
+    }
+
+    @Test
+    void overflowingSubscriberIsDisconnectedWithoutStallingTheOthers() throws Exception {
+        start(60_000, 60_000);
+        MvcResult slow = subscribe("A0", "ROLE_ADMIN", true);
+        await(slow, "connected");
+        slowClient.armed = true;
+
+        // 전송 스레드 하나가 느린 클라이언트에 쓰는 중에 막힌다
+        hub.publish(event("O1", "E1"));
+        assertThat(slowClient.blocked.await(5, TimeUnit.SECONDS)).isTrue();
+        MvcResult fast = subscribe("A1", "ROLE_ADMIN", false);
+
+        // 큐(3 건)가 넘치면 끊는다. 막힌 전송을 기다리지 않는다
+        for (int i = 2; i <= 5; i++) {
+            hub.publish(event("O" + i, "E1"));
+        }
+
+        assertThat(hub.subscriberCount()).isEqualTo(1);
+        assertThat(await(fast, "O5")).contains("O2", "O3", "O4");
+    }
+
+    @Test
+    void subscriberStuckInASendIsDisconnectedAfterTheSendTimeout() throws Exception {
+        start(60_000, 200);
+        MvcResult slow = subscribe("A0", "ROLE_ADMIN", true);
+        await(slow, "connected");
+        slowClient.armed = true;
+
+        hub.publish(event("O1", "E1"));
+
+        assertThat(slowClient.blocked.await(5, TimeUnit.SECONDS)).isTrue();
+        awaitTrue(() -> hub.subscriberCount() == 0);
+        // 막힌 전송 스레드는 release (10 초) 를 기다리지 않고 풀린다
+        assertThat(slowClient.interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void subscribersBeyondTheSenderThreadCapAreDisconnected() throws Exception {
+        start(60_000, 60_000, 2);
+        MvcResult[] slow = new MvcResult[3];
+        for (int i = 0; i < slow.length; i++) {
+            slow[i] = subscribe("A" + i, "ROLE_ADMIN", true);
+            await(slow[i], "connected");
+        }
+        slowClient.armed = true;
+
+        // 전송 스레드 2 개가 모두 막히면 세 번째 구독자는 스레드를 더 만들지 않고 끊는다
+        hub.publish(event("O1", "E1"));
+
+        awaitTrue(() -> hub.subscriberCount() == 2);
+    }
+
+    @Test
+    void idleStreamReceivesHeartbeats() throws Exception {
+        start(50, 10_000);
+
+        await(subscribe("E1", "ROLE_USER", false), ":heartbeat");
+    }
+
+    private void start(long heartbeatMillis, long sendTimeoutMillis) {
+        start(heartbeatMillis, sendTimeoutMillis, 4);
+    }
+
+    // bufferSize 3, 기본 전송 스레드 1 개
+    private void start(long heartbeatMillis, long sendTimeoutMillis, int maxSenderThreads) {
+        hub = new OrderStreamHub(60_000, 3, 100, 10, heartbeatMillis, 1, sendTimeoutMillis, maxSenderThreads);
+        hub.start();
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new OrderController(null, null, null, null, null, hub))
+                .addFilters(slowClient)
+                .build();
+    }
+
+    private MvcResult subscribe(String employeeId, String role, boolean slow) throws Exception {
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(employeeId, null, List.of(new SimpleGrantedAuthority(role)));
+        return mockMvc.perform(get("/orders/stream").principal(authentication)
+                        .header(SlowClientFilter.HEADER, String.valueOf(slow)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private static String await(MvcResult result, String expected) throws Exception {
+        awaitTrue(() -> contentOf(result).contains(expected));
+        return contentOf(result);
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    private static String contentOf(MvcResult result) {
+        try {
+            return result.getResponse().getContentAsString();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static DomainEventDto.OrderStatusChanged event(String orderCd, String employeeId) {
+        return new DomainEventDto.OrderStatusChanged(1L, orderCd, "B0", OrderHeaders.OrderStatus.REQUEST_TEMP,
+                OrderHeaders.OrderStatus.APPROVED, employeeId, LocalDateTime.now());
+    }
+
+    /**
+     * X-Slow-Client: true 인 요청은 armed 이후 응답 쓰기가 release 될 때까지 막힌다 (읽지 않는 클라이언트)
+     */
+    private static class SlowClientFilter implements Filter {
+        static final String HEADER = "X-Slow-Client";
+
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final CountDownLatch interrupted = new CountDownLatch(1);
+        private volatile boolean armed;
+
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+                throws IOException, ServletException {
+            if (!Boolean.parseBoolean(((HttpServletRequest) request).getHeader(HEADER))) {
+                chain.doFilter(request, response);
+                return;
+            }
+            chain.doFilter(request, new HttpServletResponseWrapper((HttpServletResponse) response) {
+                @Override
+                public ServletOutputStream getOutputStream() throws IOException {
+                    return new BlockingOutputStream(super.getOutputStream());
+                }
+            });
+        }
+
+        private class BlockingOutputStream extends ServletOutputStream {
+            private final ServletOutputStream delegate;
+
+            BlockingOutputStream(ServletOutputStream delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                awaitRelease();
+                delegate.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                awaitRelease();
+                delegate.write(b, off, len);
+            }
+
+            @Override
+            public boolean isReady() {
+                return !armed;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                delegate.setWriteListener(writeListener);
+            }
+
+            private void awaitRelease() throws IOException {
+                if (!armed) {
+                    return;
+                }
+                blocked.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.springboot.order_header.importer;
+
+import com.springboot.exception.BusinessLogicException;
+import com.springboot.exception.ExceptionCode;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 대량 주문 등록 파일 (CSV / NDJSON) 한 줄 단위 파싱
+ */
+class OrderImportRowReaderTest {
+
+    @Test
+    void csvUsesTheHeaderAndSupportsBomAndQuotedFields() throws IOException {
+        List<OrderImportRow> rows = read(OrderImportRowReader.TEXT_CSV,
+                "\uFEFForderRef,buyerCd,requestDate,itemCd,unitPrice,qty,endDate\n"
+                        + "\n"
+                        + "R1,B1,2024-03-01,\"IT,\"\"1\"\"\",1500.50,3,2024-03-31\n"
+                        + "R1,B1,2024-03-01T09:30:00,IT2,,2\n");
+
+        assertThat(rows).hasSize(2);
+        OrderImportRow first = rows.get(0);
+        assertThat(first.getParseError()).isNull();
+        // 빈 줄도 줄 번호에 포함한다
+        assertThat(first.getLine()).isEqualTo(3);
+        assertThat(first.getOrderRef()).isEqualTo("R1");
+        assertThat(first.getItemCd()).isEqualTo("IT,\"1\"");
+        assertThat(first.getUnitPrice()).isEqualByComparingTo(new BigDecimal("1500.50"));
+        assertThat(first.getQty()).isEqualTo(3);
+        assertThat(first.getRequestDate()).isEqualTo(LocalDateTime.of(2024, 3, 1, 0, 0));
+        assertThat(first.getEndDate()).isEqualTo(LocalDateTime.of(2024, 3, 31, 23, 59, 59));
+
+        OrderImportRow second = rows.get(1);
+        assertThat(second.getRequestDate()).isEqualTo(LocalDateTime.of(2024, 3, 1, 9, 30));
+        assertThat(second.getUnitPrice()).isNull();
+    }
+
+    @Test
+    void csvRowWithMoreColumnsThanTheHeaderIsAParseError() throws IOException {
+        List<OrderImportRow> rows = read(OrderImportRowReader.TEXT_CSV, "orderRef,qty\nR1,1,extra\n");
+
+        assertThat(rows).singleElement().extracting(OrderImportRow::getParseError).isNotNull();
+    }
+
+    @Test
+    void fractionalOrOversizedQuantityIsRejectedInsteadOfTruncated() throws IOException {
+        List<OrderImportRow> rows = read(OrderImportRowReader.TEXT_CSV,
+                "orderRef,qty\nR1,1.5\nR2,3000000000\nR3,2.0\nR4,abc\n");
+
+        String invalidQuantity = ExceptionCode.INVALID_ORDER_QUANTITY.getMessage();
+        assertThat(rows.get(0).getParseError()).startsWith(invalidQuantity);
+        assertThat(rows.get(0).getQty()).isNull();
+        assertThat(rows.get(1).getParseError()).startsWith(invalidQuantity);
+        assertThat(rows.get(1).getQty()).isNull();
+        assertThat(rows.get(2).getParseError()).isNull();
+        assertThat(rows.get(2).getQty()).isEqualTo(2);
+        assertThat(rows.get(3).getParseError()).isEqualTo("잘못된 qty 값입니다: abc");
+    }
+
+    @Test
+    void ndjsonReadsOneObjectPerLine() throws IOException {
+        List<OrderImportRow> rows = read(OrderImportRowReader.APPLICATION_NDJSON,
+                "{\"orderRef\":\"R1\",\"buyerCd\":\"B1\",\"qty\":4,\"unit\":null,\"unknown\":1}\n"
+                        + "{\"orderRef\":\"R1\",\"qty\":4.5}\n"
+                        + "{not json\n"
+                        + "[1,2]\n");
+
+        assertThat(rows).hasSize(4);
+        assertThat(rows.get(0).getParseError()).isNull();
+        assertThat(rows.get(0).getBuyerCd()).isEqualTo("B1");
+        assertThat(rows.get(0).getQty()).isEqualTo(4);
+        assertThat(rows.get(0).getUnit()).isNull();
+        assertThat(rows.get(1).getParseError()).startsWith(ExceptionCode.INVALID_ORDER_QUANTITY.getMessage());
+        assertThat(rows.get(2).getParseError()).isEqualTo("JSON 형식이 올바르지 않습니다.");
+        assertThat(rows.get(3).getParseError()).isEqualTo("JSON 객체가 아닙니다.");
+    }
+
+    @Test
+    void unsupportedContentTypeOrEmptyCsvIsRejected() {
+        assertThatThrownBy(() -> OrderImportRowReader.of(null, stream("")))
+                .isInstanceOf(BusinessLogicException.class);
+        assertThatThrownBy(() -> OrderImportRowReader.of(OrderImportRowReader.TEXT_CSV, stream("")))
+                .isInstanceOf(BusinessLogicException.class);
+    }
+
+    private static List<OrderImportRow> read(MediaType contentType, String content) throws IOException {
+        List<OrderImportRow> rows = new ArrayList<>();
+        try (OrderImportRowReader reader = OrderImportRowReader.of(contentType, stream(content))) {
+            OrderImportRow row;
+            while ((row = reader.next()) != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,97 @@
+package com.springboot.order_header.service;
+
+import com.springboot.exception.ExceptionCode;
+import com.springboot.fixture.SeedData;
+import com.springboot.fixture.ServiceTestConfiguration;
+import com.springboot.order_header.dto.OrderDto;
+import com.springboot.order_header.importer.OrderImportRowReader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import javax.persistence.EntityManager;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대량 주문 등록 : 재고는 import 안에서 앞서 받아들인 주문의 수량만큼 줄어든다
+ */
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "mail.address.admin=admin@shoecream.com"
+})
+@Import({ServiceTestConfiguration.class, OrderImportService.class})
+class OrderImportServiceTest {
+    private static final String HEADER = "orderRef,buyerCd,requestDate,itemCd,qty\n";
+
+    @Autowired
+    private OrderImportService orderImportService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final Authentication employee = new UsernamePasswordAuthenticationToken("E0", null, List.of());
+
+    @BeforeEach
+    void setUp() {
+        // 제품 I0, I1 마다 납품 100, 바이어 B0 는 두 제품 모두 계약
+        new SeedData().buyers(1).items(2).manufactures(1).members(1).persist(entityManager);
+    }
+
+    @Test
+    void secondOrderThatWouldOversellTheItemIsRejected() throws IOException {
+        OrderDto.ImportReport report = importCsv(
+                row("R1", "I0", 60)
+                        + row("R2", "I0", 60)
+                        + row("R3", "I1", 60));
+
+        assertThat(report.getImportedOrders()).isEqualTo(2);
+        assertThat(report.getFailedOrders()).isEqualTo(1);
+        assertThat(report.getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.getOrderRef()).isEqualTo("R2");
+            assertThat(error.getMessage()).isEqualTo(ExceptionCode.OUT_OF_STOCK.getMessage());
+        });
+    }
+
+    @Test
+    void linesOfOneOrderShareTheStockOfTheirItem() throws IOException {
+        OrderDto.ImportReport report = importCsv(
+                row("R1", "I0", 60)
+                        + row("R1", "I0", 60));
+
+        assertThat(report.getImportedOrders()).isZero();
+        assertThat(report.getFailedOrders()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectedOrderDoesNotHoldStockForLaterOrders() throws IOException {
+        // R1 은 I1 재고 부족으로 실패하므로 I0 60 개를 가져가지 않는다
+        OrderDto.ImportReport report = importCsv(
+                row("R1", "I0", 60) + row("R1", "I1", 101)
+                        + row("R2", "I0", 100));
+
+        assertThat(report.getImportedOrders()).isEqualTo(1);
+        assertThat(report.getFailedOrders()).isEqualTo(1);
+        assertThat(report.getErrors()).extracting(OrderDto.ImportRowError::getOrderRef).containsOnly("R1");
+    }
+
+    private OrderDto.ImportReport importCsv(String rows) throws IOException {
+        byte[] csv = (HEADER + rows).getBytes(StandardCharsets.UTF_8);
+        return orderImportService.importOrders(new ByteArrayInputStream(csv), OrderImportRowReader.TEXT_CSV,
+                null, employee);
+    }
+
+    private static String row(String orderRef, String itemCd, int qty) {
+        return String.join(",", orderRef, "B0", LocalDate.now().plusDays(7).toString(), itemCd,
+                String.valueOf(qty)) + "\n";
+    }
+}
@@ -0,0 +1,77 @@
+package com.springboot.order_header.service;
+
+import com.springboot.datasource.SqlStatementAssertions;
+import com.springboot.datasource.StatementCountConfiguration;
+import com.springboot.exception.BusinessLogicException;
+import com.springboot.exception.ExceptionCode;
+import com.springboot.fixture.SeedData;
+import com.springboot.fixture.ServiceTestConfiguration;
+import com.springboot.order_header.entity.OrderHeaders;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+import static com.springboot.datasource.SqlStatementAssertions.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 주문 승인 시 재고 확인 : 주문 줄 수와 상관없이 재고 조회는 한 번이다
+ */
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "sql.statement-count.enabled=true",
+        "mail.address.admin=admin@shoecream.com"
+})
+@Import({StatementCountConfiguration.class, ServiceTestConfiguration.class})
+@ExtendWith(SqlStatementAssertions.class)
+class OrderServiceStockTest {
+    private static final int LINES = 6;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final Authentication manager = new UsernamePasswordAuthenticationToken("E0", null, List.of());
+
+    @BeforeEach
+    void setUp() {
+        // 주문 ORD0-0 한 건에 제품 I0 ~ I5 가 수량 10 씩, 제품마다 납품 100
+        new SeedData().buyers(1).items(LINES).manufactures(1).members(1)
+                .orders(1, LINES, OrderHeaders.OrderStatus.REQUEST_TEMP)
+                .persist(entityManager);
+    }
+
+    @Test
+    void approvalChecksTheStockOfAllLinesInOneQuery() {
+        resetStatementCounts();
+
+        OrderHeaders approved = orderService.updateStatus("ORD0-0", OrderHeaders.OrderStatus.APPROVED, "ok", manager);
+        entityManager.flush();
+
+        assertThat(approved.getOrderStatus()).isEqualTo(OrderHeaders.OrderStatus.APPROVED);
+        // 줄마다 재고를 계산했다면 재고 쿼리가 LINES 번 반복된다
+        assertNoRepeatedStatements(2);
+    }
+
+    @Test
+    void approvalFailsWhenAnyLineExceedsTheStock() {
+        entityManager.createQuery("update OrderItems i set i.qty = 101 where i.itemCd = 'I5'").executeUpdate();
+        entityManager.clear();
+
+        assertThatThrownBy(() -> orderService.updateStatus("ORD0-0", OrderHeaders.OrderStatus.APPROVED, "ok", manager))
+                .isInstanceOf(BusinessLogicException.class)
+                .extracting(e -> ((BusinessLogicException) e).getExceptionCode())
+                .isEqualTo(ExceptionCode.OUT_OF_STOCK);
+    }
+}
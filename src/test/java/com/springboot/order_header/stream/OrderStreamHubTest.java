@@ -0,0 +1,150 @@
+package com.springboot.order_header.stream;
+
+import com.springboot.event.dto.DomainEventDto;
+import com.springboot.exception.BusinessLogicException;
+import com.springboot.order_header.entity.OrderHeaders;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * 주문 상태 스트림 : 구독자 필터, Last-Event-ID 로 이어 받기, 이어 받을 수 없을 때 resync, 구독자 수 상한
+ */
+class OrderStreamHubTest {
+    private static final Pattern EVENT_ID = Pattern.compile("id:(\\S+)");
+
+    private OrderStreamHub hub;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        hub = new OrderStreamHub(60_000, 10, 100, 10, 60_000, 1, 10_000, 4);
+        hub.start();
+        mockMvc = MockMvcBuilders.standaloneSetup(new StreamController(hub)).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.stop();
+    }
+
+    @Test
+    void subscriberReceivesOnlyOwnOrdersAndResumesAfterLastEventId() throws Exception {
+        MvcResult own = subscribe("E1", false, null);
+        MvcResult all = subscribe("ADMIN", true, null);
+
+        hub.publish(event("O1", "E1"));
+        hub.publish(event("O2", "E2"));
+        hub.publish(event("O3", "E1"));
+
+        String ownBody = await(own, "O3");
+        assertThat(ownBody).contains("O1").doesNotContain("O2");
+        assertThat(await(all, "O3")).contains("O1", "O2");
+
+        Matcher firstId = EVENT_ID.matcher(ownBody);
+        assertThat(firstId.find()).isTrue();
+        String resumed = await(subscribe("E1", false, firstId.group(1)), "O3");
+        assertThat(resumed).doesNotContain("O1").doesNotContain("O2");
+    }
+
+    @Test
+    void unknownLastEventIdAsksForResync() throws Exception {
+        hub.publish(event("O1", "E1"));
+
+        String body = await(subscribe("E1", false, "restarted-1"), "event:" + OrderStreamHub.RESYNC_EVENT);
+        assertThat(body).doesNotContain("O1");
+    }
+
+    @Test
+    void concurrentSubscriptionsNeverExceedTheLimit() throws Exception {
+        int attempts = 50;
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService clients = Executors.newFixedThreadPool(attempts);
+        try {
+            for (int i = 0; i < attempts; i++) {
+                String employeeId = "E" + i;
+                clients.execute(() -> {
+                    try {
+                        start.await();
+                        hub.subscribe(employeeId, false, null);
+                        accepted.incrementAndGet();
+                    } catch (BusinessLogicException e) {
+                        rejected.incrementAndGet();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+            start.countDown();
+        } finally {
+            clients.shutdown();
+            assertThat(clients.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        // maxSubscribers 10
+        assertThat(accepted).hasValue(10);
+        assertThat(rejected).hasValue(attempts - 10);
+        assertThat(hub.subscriberCount()).isEqualTo(10);
+    }
+
+    private MvcResult subscribe(String employeeId, boolean all, String lastEventId) throws Exception {
+        return mockMvc.perform(get("/stream").param("employeeId", employeeId).param("all", String.valueOf(all))
+                        .header("Last-Event-ID", lastEventId == null ? "" : lastEventId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private String await(MvcResult result, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        String body = result.getResponse().getContentAsString();
+        while (!body.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            body = result.getResponse().getContentAsString();
+        }
+        assertThat(body).contains(expected);
+        return body;
+    }
+
+    private static DomainEventDto.OrderStatusChanged event(String orderCd, String employeeId) {
+        return new DomainEventDto.OrderStatusChanged(1L, orderCd, "B0", OrderHeaders.OrderStatus.REQUEST_TEMP,
+                OrderHeaders.OrderStatus.APPROVED, employeeId, LocalDateTime.now());
+    }
+
+    @RestController
+    static class StreamController {
+        private final OrderStreamHub hub;
+
+        StreamController(OrderStreamHub hub) {
+            this.hub = hub;
+        }
+
+        @GetMapping("/stream")
+        SseEmitter stream(@RequestParam String employeeId, @RequestParam boolean all,
+                          @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+            return hub.subscribe(employeeId, all, lastEventId);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.springboot.redis;
+
+import com.springboot.cache.RedisInvalidationBus;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * RedisRepositoryConfig 대신 쓰는 테스트용 Redis 빈. Redis 서버 없이 컨텍스트를 띄운다.
+ * 리스너 컨테이너는 연결하지 않고, 등록된 리스너를 InMemoryRedisTemplate 의 구독자로 붙인다.
+ * 캐시들이 쓰는 RedisInvalidationBus 도 함께 등록한다.
+ */
+@TestConfiguration
+@Import(RedisInvalidationBus.class)
+public class InMemoryRedisConfiguration {
+
+    @Bean
+    public InMemoryRedisTemplate redisTemplate() {
+        return new InMemoryRedisTemplate();
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(InMemoryRedisTemplate redisTemplate) {
+        return redisTemplate.listenerContainer();
+    }
+}
@@ -0,0 +1,129 @@
+package com.springboot.redis;
+
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 테스트용 Redis. RedisRepositoryConfig 와 같은 직렬화 설정의 RedisTemplate 이 메모리 Map 과 구독자 목록을 쓴다.
+ * 문자열 get / set / del / exists 와 publish 만 지원한다 (만료 시간은 무시).
+ * 여러 서버 인스턴스 흉내를 낼 때는 같은 템플릿을 나눠 쓰고 subscribe (또는 listenerContainer) 로 리스너를 붙인다.
+ * available 을 false 로 두면 모든 명령이 연결 실패처럼 예외를 던진다.
+ */
+public class InMemoryRedisTemplate extends RedisTemplate<String, Object> {
+    private final Map<ByteBuffer, byte[]> values = new ConcurrentHashMap<>();
+    private final Map<String, List<MessageListener>> listeners = new ConcurrentHashMap<>();
+    private final RedisConnection connection = (RedisConnection) Proxy.newProxyInstance(
+            RedisConnection.class.getClassLoader(), new Class<?>[]{RedisConnection.class},
+            (proxy, method, args) -> command(method.getName(), args));
+    private volatile boolean available = true;
+
+    public InMemoryRedisTemplate() {
+        setKeySerializer(new StringRedisSerializer());
+        setValueSerializer(new StringRedisSerializer());
+    }
+
+    // 연결 팩토리 없이 빈으로 등록할 수 있게 한다 (명령은 execute 에서 모두 메모리로 처리한다)
+    @Override
+    public void afterPropertiesSet() {
+    }
+
+    public void subscribe(String channel, MessageListener listener) {
+        listeners.computeIfAbsent(channel, key -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    // 연결하지 않는 리스너 컨테이너. 등록된 리스너를 이 템플릿의 구독자로 붙인다
+    public RedisMessageListenerContainer listenerContainer() {
+        return new RedisMessageListenerContainer() {
+            @Override
+            public void afterPropertiesSet() {
+            }
+
+            @Override
+            public void start() {
+            }
+
+            @Override
+            public void addMessageListener(MessageListener listener, Topic topic) {
+                subscribe(topic.getTopic(), listener);
+            }
+        };
+    }
+
+    public void setAvailable(boolean available) {
+        this.available = available;
+    }
+
+    public boolean containsKey(String key) {
+        return values.containsKey(raw(key));
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    @Override
+    public <T> T execute(RedisCallback<T> action, boolean exposeConnection, boolean pipeline) {
+        if (!available) {
+            throw new IllegalStateException("redis unavailable");
+        }
+        return action.doInRedis(connection);
+    }
+
+    private Object command(String name, Object[] args) {
+        switch (name) {
+            case "get":
+                return values.get(ByteBuffer.wrap((byte[]) args[0]));
+            case "set":
+                values.put(ByteBuffer.wrap((byte[]) args[0]), (byte[]) args[1]);
+                return Boolean.TRUE;
+            case "setEx":
+            case "pSetEx":
+                values.put(ByteBuffer.wrap((byte[]) args[0]), (byte[]) args[2]);
+                return Boolean.TRUE;
+            case "exists":
+                if (args[0] instanceof byte[][]) {
+                    long found = 0;
+                    for (byte[] key : (byte[][]) args[0]) {
+                        found += values.containsKey(ByteBuffer.wrap(key)) ? 1 : 0;
+                    }
+                    return found;
+                }
+                return values.containsKey(ByteBuffer.wrap((byte[]) args[0]));
+            case "del":
+                long deleted = 0;
+                for (byte[] key : (byte[][]) args[0]) {
+                    if (values.remove(ByteBuffer.wrap(key)) != null) {
+                        deleted++;
+                    }
+                }
+                return deleted;
+            case "publish":
+                String channel = new String((byte[]) args[0], StandardCharsets.UTF_8);
+                List<MessageListener> subscribers = listeners.getOrDefault(channel, List.of());
+                subscribers.forEach(listener -> listener.onMessage(new DefaultMessage((byte[]) args[0], (byte[]) args[1]), null));
+                return (long) subscribers.size();
+            case "close":
+                return null;
+            default:
+                throw new UnsupportedOperationException("InMemoryRedisTemplate does not support " + name);
+        }
+    }
+
+    private static ByteBuffer raw(String key) {
+        return ByteBuffer.wrap(key.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,71 @@
+package com.springboot.report.service;
+
+import com.springboot.datasource.SqlStatementAssertions;
+import com.springboot.datasource.StatementCountConfiguration;
+import com.springboot.fixture.SeedData;
+import com.springboot.fixture.ServiceTestConfiguration;
+import com.springboot.order_header.entity.OrderHeaders;
+import com.springboot.report.reportDto.ReportDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.springboot.datasource.SqlStatementAssertions.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사원 실적 리포트 : 사원마다 같은 수의 쿼리만 실행하고, 주문 / 납품 기록을 건마다 다시 읽지 않는다
+ */
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "sql.statement-count.enabled=true",
+        "mail.address.admin=admin@shoecream.com"
+})
+@Import({StatementCountConfiguration.class, ServiceTestConfiguration.class})
+@ExtendWith(SqlStatementAssertions.class)
+class EmployeeReportTest {
+    private static final int MEMBERS = 4;
+
+    @Autowired
+    private EmployeeReport employeeReport;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        // 사원마다 주문 3 건 x 2 줄, 제품 6 개는 제조사 2 곳이 나눠 납품
+        new SeedData().buyers(2).items(6).manufactures(2).members(MEMBERS)
+                .orders(3, 2, OrderHeaders.OrderStatus.PRODUCT_PASS)
+                .persist(entityManager);
+    }
+
+    @Test
+    void employeesReportRunsAFixedNumberOfQueriesPerEmployee() {
+        resetStatementCounts();
+
+        List<ReportDto.EmployeeReportDto> report = employeeReport.getEmployeesReport(LocalDate.now(), LocalDate.now().plusDays(30));
+
+        assertThat(report).extracting(ReportDto.EmployeeReportDto::getEmployeeId)
+                .containsExactlyInAnyOrder("E0", "E1", "E2", "E3");
+        // 사원별 쿼리는 MEMBERS 번, 주문 (12 건) / 제품 (6 개) 을 건마다 읽었다면 그보다 많이 반복된다
+        assertNoRepeatedStatements(MEMBERS + 1);
+    }
+
+    @Test
+    void singleEmployeeReportDoesNotRepeatStatements() {
+        resetStatementCounts();
+
+        ReportDto.EmployeeReportDto report = employeeReport.getEmployeeReport("E1", LocalDate.now(), LocalDate.now().plusDays(30));
+
+        assertThat(report.getTotalOrderCount()).isEqualTo(3);
+        assertNoRepeatedStatements(2);
+    }
+}
@@ -0,0 +1,84 @@
+package com.springboot.report.service;
+
+import com.springboot.datasource.SqlStatementAssertions;
+import com.springboot.datasource.StatementCountConfiguration;
+import com.springboot.fixture.SeedData;
+import com.springboot.fixture.ServiceTestConfiguration;
+import com.springboot.order_header.entity.OrderHeaders;
+import com.springboot.report.reportDto.ReportDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.Map;
+
+import static com.springboot.datasource.SqlStatementAssertions.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 제품 목록 재고 : 페이지 크기와 상관없이 select 1 번, 값은 제품 하나씩 계산한 재고와 같다
+ */
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "sql.statement-count.enabled=true",
+        "mail.address.admin=admin@shoecream.com"
+})
+@Import({StatementCountConfiguration.class, ServiceTestConfiguration.class})
+@ExtendWith(SqlStatementAssertions.class)
+class InventoryReportTest {
+    private static final List<String> PAGE = List.of("I0", "I1", "I2", "I3", "I4", "I5", "I6", "I7");
+
+    @Autowired
+    private InventoryReport inventoryReport;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        // 사원 3 명 x 주문 1 건 x 2 줄 : ORD0-0 (I0, I1) 승인, ORD1-0 (I2, I3) 불합격, ORD2-0 (I4, I5) 대기. I6, I7 은 주문 없음
+        new SeedData().buyers(1).items(PAGE.size()).manufactures(2).members(3)
+                .orders(1, 2, OrderHeaders.OrderStatus.APPROVED)
+                .persist(entityManager);
+        setOrderStatus("ORD1-0", OrderHeaders.OrderStatus.PRODUCT_FAIL);
+        setOrderStatus("ORD2-0", OrderHeaders.OrderStatus.REQUEST_TEMP);
+    }
+
+    @Test
+    void pageInventoryIsOneSelectWhateverThePageSize() {
+        resetStatementCounts();
+        Map<String, ReportDto.InventoryDto> inventories = inventoryReport.getInventories(PAGE);
+
+        assertThat(inventories).containsOnlyKeys(PAGE);
+        assertSelectCount(exactly(1));
+
+        assertThat(inventories.get("I0").getTotalStock()).isEqualTo(90);
+        assertThat(inventories.get("I2").getUnusedStock()).isEqualTo(10);
+        assertThat(inventories.get("I2").getTotalStock()).isEqualTo(90);
+        assertThat(inventories.get("I4").getPreparedOrder()).isEqualTo(10);
+        assertThat(inventories.get("I4").getTotalStock()).isEqualTo(100);
+        assertThat(inventories.get("I7").getTotalStock()).isEqualTo(100);
+    }
+
+    @Test
+    void pageInventoryMatchesTheSingleItemInventory() {
+        Map<String, ReportDto.InventoryDto> inventories = inventoryReport.getInventories(PAGE);
+
+        for (String itemCd : PAGE) {
+            assertThat(inventories.get(itemCd)).usingRecursiveComparison()
+                    .isEqualTo(inventoryReport.getInventory(itemCd));
+        }
+    }
+
+    private void setOrderStatus(String orderCd, OrderHeaders.OrderStatus orderStatus) {
+        entityManager.createQuery("update OrderHeaders o set o.orderStatus = :orderStatus where o.orderCd = :orderCd")
+                .setParameter("orderStatus", orderStatus)
+                .setParameter("orderCd", orderCd)
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,77 @@
+package com.springboot.report.service;
+
+import com.springboot.item.entity.Item;
+import com.springboot.manufacture_item.entity.ItemManufacture;
+import com.springboot.order_item.entity.OrderItems;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리포트 마진률 : (판매가 - 원가) / 판매가 * 100, 나누기 0 이 되는 경우는 0
+ */
+class MarginCalculatorTest {
+
+    @Test
+    void marginRateRoundsHalfUpToTwoPlaces() {
+        assertThat(MarginCalculator.marginRate(BigDecimal.valueOf(10_000), BigDecimal.valueOf(6_000)))
+                .isEqualByComparingTo("40");
+        // 1/3 = 0.333.. -> 0.33
+        assertThat(MarginCalculator.marginRate(BigDecimal.valueOf(3), BigDecimal.valueOf(2)))
+                .isEqualByComparingTo("33");
+    }
+
+    @Test
+    void marginRateWithoutAPositiveOrderPriceIsZero() {
+        assertThat(MarginCalculator.marginRate(null, BigDecimal.ONE)).isEqualByComparingTo("0");
+        assertThat(MarginCalculator.marginRate(BigDecimal.ONE, null)).isEqualByComparingTo("0");
+        assertThat(MarginCalculator.marginRate(BigDecimal.ZERO, BigDecimal.ONE)).isEqualByComparingTo("0");
+    }
+
+    @Test
+    void employeeMarginUsesTheFirstOrderLineQuantityPerItem() {
+        List<OrderItems> orderItems = List.of(
+                orderItem("I1", 10, 1_000),
+                orderItem("I1", 5, 1_000),
+                orderItem("I2", 2, 500));
+        // I3 은 판매되지 않았으므로 원가에 넣지 않는다
+        List<ItemManufacture> mfItems = List.of(mfItem("I1", 600), mfItem("I3", 100));
+
+        // 판매 16,000 / 원가 600 * 10 = 6,000 -> 0.625 -> 0.63
+        assertThat(MarginCalculator.employeeMarginRate(orderItems, mfItems)).isEqualByComparingTo("63");
+    }
+
+    @Test
+    void employeeMarginWithoutManufactureCostIsZero() {
+        assertThat(MarginCalculator.employeeMarginRate(List.of(orderItem("I1", 10, 1_000)), List.of()))
+                .isEqualByComparingTo("0");
+    }
+
+    @Test
+    void employeeMarginWithAZeroOrderTotalIsZeroInsteadOfFailing() {
+        List<OrderItems> orderItems = List.of(orderItem("I1", 10, 0));
+
+        assertThat(MarginCalculator.employeeMarginRate(orderItems, List.of(mfItem("I1", 600))))
+                .isEqualByComparingTo("0");
+    }
+
+    private static OrderItems orderItem(String itemCd, int qty, long unitPrice) {
+        OrderItems orderItem = new OrderItems();
+        orderItem.setItemCd(itemCd);
+        orderItem.setQty(qty);
+        orderItem.setUnitPrice(BigDecimal.valueOf(unitPrice));
+        return orderItem;
+    }
+
+    private static ItemManufacture mfItem(String itemCd, long unitPrice) {
+        Item item = new Item();
+        item.setItemCd(itemCd);
+        ItemManufacture mfItem = new ItemManufacture();
+        mfItem.setItem(item);
+        mfItem.setUnitPrice(BigDecimal.valueOf(unitPrice));
+        return mfItem;
+    }
+}
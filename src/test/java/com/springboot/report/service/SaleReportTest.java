@@ -0,0 +1,64 @@
+package com.springboot.report.service;
+
+import com.springboot.datasource.SqlStatementAssertions;
+import com.springboot.datasource.StatementCountConfiguration;
+import com.springboot.fixture.SeedData;
+import com.springboot.fixture.ServiceTestConfiguration;
+import com.springboot.order_header.entity.OrderHeaders;
+import com.springboot.report.reportDto.ReportDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.springboot.datasource.SqlStatementAssertions.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기간별 판매 리포트 : 합계 쿼리는 제품마다 한 번씩이고, 주문 줄 / 주문 건수가 늘어도 더 실행되지 않는다
+ */
+@DataJpaTest(properties = {
+        "spring.sql.init.mode=never",
+        "sql.statement-count.enabled=true",
+        "mail.address.admin=admin@shoecream.com"
+})
+@Import({StatementCountConfiguration.class, ServiceTestConfiguration.class})
+@ExtendWith(SqlStatementAssertions.class)
+class SaleReportTest {
+    private static final int ITEMS = 3;
+    private static final int MEMBERS = 8;
+    private static final int LINES = 3;
+
+    @Autowired
+    private SaleReport saleReport;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        // 사원 8 명 x 주문 1 건 x 3 줄 = 24 줄이 제품 3 개를 나눠 가진다
+        new SeedData().buyers(2).items(ITEMS).manufactures(1).members(MEMBERS)
+                .orders(1, LINES, OrderHeaders.OrderStatus.PRODUCT_PASS)
+                .persist(entityManager);
+    }
+
+    @Test
+    void totalsRunOncePerItemNotPerOrderLine() {
+        resetStatementCounts();
+
+        List<ReportDto.SaleReportDto> report = saleReport.getSaleReport(LocalDate.now(), LocalDate.now().plusDays(30));
+
+        assertThat(report).extracting(ReportDto.SaleReportDto::getItemCd).containsExactlyInAnyOrder("I0", "I1", "I2");
+        assertThat(report).extracting(ReportDto.SaleReportDto::getItemNm)
+                .containsExactlyInAnyOrder("shoe 0", "shoe 1", "shoe 2");
+        // 제품별 쿼리는 ITEMS 번, 주문 / 사원 / 바이어를 주문마다 읽었다면 MEMBERS 번 반복된다
+        assertNoRepeatedStatements(ITEMS + 1);
+    }
+}
@@ -0,0 +1,72 @@
+package com.springboot.validator;
+
+import com.springboot.exception.DuplicateValueException;
+import com.springboot.exception.ExceptionCode;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 일괄 등록 유니크 검증 : 요청 내 중복 / DB 중복을 모두 모아 위치 순으로 한 번에 던진다
+ */
+class UniqueValueCheckerTest {
+
+    @Test
+    void collectsRequestAndDatabaseConflictsOrderedByIndex() {
+        List<String> rows = List.of("a", "b", "a", "c", "d");
+
+        DuplicateValueException exception = catchThrowableOfType(() -> UniqueValueChecker.of(rows)
+                .check("name", Function.identity(), existing(Set.of("c")), ExceptionCode.ITEM_NAME_ALREADY_EXISTS)
+                .validate(), DuplicateValueException.class);
+
+        assertThat(exception.getConflicts())
+                .extracting(DuplicateValueException.Conflict::getIndex, DuplicateValueException.Conflict::getValue,
+                        DuplicateValueException.Conflict::getReason)
+                .containsExactly(
+                        tuple(2, "a", ExceptionCode.DUPLICATED_IN_REQUEST.getMessage()),
+                        tuple(3, "c", ExceptionCode.ITEM_NAME_ALREADY_EXISTS.getMessage()));
+    }
+
+    @Test
+    void nullValuesAreSkippedAndCleanRequestPasses() {
+        List<String> rows = new ArrayList<>();
+        rows.add("a");
+        rows.add(null);
+        rows.add(null);
+
+        UniqueValueChecker.of(rows)
+                .check("name", Function.identity(), existing(Set.of()), ExceptionCode.ITEM_NAME_ALREADY_EXISTS)
+                .validate();
+    }
+
+    @Test
+    void existingLookupIsSplitIntoBoundedInClauses() {
+        List<String> rows = IntStream.range(0, 1200).mapToObj(i -> "v" + i).collect(Collectors.toList());
+        List<Integer> batchSizes = new ArrayList<>();
+
+        assertThatThrownBy(() -> UniqueValueChecker.of(rows)
+                .check("name", Function.identity(), values -> {
+                    batchSizes.add(values.size());
+                    return values.contains("v1100") ? List.of("v1100") : List.of();
+                }, ExceptionCode.ITEM_NAME_ALREADY_EXISTS)
+                .validate())
+                .isInstanceOf(DuplicateValueException.class);
+
+        assertThat(batchSizes).containsExactly(500, 500, 200);
+    }
+
+    private static Function<Collection<String>, Collection<String>> existing(Set<String> database) {
+        return values -> values.stream().filter(database::contains).collect(Collectors.toList());
+    }
+}
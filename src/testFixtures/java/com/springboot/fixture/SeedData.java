@@ -0,0 +1,177 @@
+package com.springboot.fixture;
+
+import com.springboot.buyer.entity.Buyer;
+import com.springboot.buyer_item.entity.BuyerItem;
+import com.springboot.item.entity.Item;
+import com.springboot.manufacture.entity.Manufacture;
+import com.springboot.manufacture_item.entity.ItemManufacture;
+import com.springboot.member.entity.Member;
+import com.springboot.order_header.entity.OrderHeaders;
+import com.springboot.order_item.entity.OrderItems;
+
+import javax.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 테스트 / 벤치마크가 함께 쓰는 기준정보 + 주문 데이터. 건수만 정해서 호출한 쪽의 트랜잭션 안에서 persist 한다.
+ * 코드는 순번으로 만든다 : 바이어 B0.., 제품 I0.., 제조사 MF0.., 사원 E0.. (email member0@shoecream.com ..)
+ * - 바이어마다 모든 제품의 계약 단가 (오늘 기준 앞뒤 30일), 제품마다 납품 기록 1건 (제조사는 순서대로 돌아가며)
+ * - 마지막 notForSale 개 제품은 판매중지
+ * - 사원마다 주문 ordersPerMember 건, 주문마다 linesPerOrder 개 제품 (바이어 / 제품은 순서대로 돌아가며, 수량 10)
+ * 끝나면 flush / clear 하므로 이후 조회는 DB 에서 다시 읽는다.
+ */
+public class SeedData {
+    private static final int FLUSH_INTERVAL = 50;
+
+    private int buyers;
+    private int items;
+    private int manufactures;
+    private int notForSale;
+    private int members;
+    private int ordersPerMember;
+    private int linesPerOrder = 1;
+    private OrderHeaders.OrderStatus orderStatus = OrderHeaders.OrderStatus.REQUEST_TEMP;
+
+    public SeedData buyers(int buyers) {
+        this.buyers = buyers;
+        return this;
+    }
+
+    public SeedData items(int items) {
+        this.items = items;
+        return this;
+    }
+
+    public SeedData manufactures(int manufactures) {
+        this.manufactures = manufactures;
+        return this;
+    }
+
+    public SeedData notForSale(int notForSale) {
+        this.notForSale = notForSale;
+        return this;
+    }
+
+    public SeedData members(int members) {
+        this.members = members;
+        return this;
+    }
+
+    public SeedData orders(int ordersPerMember, int linesPerOrder, OrderHeaders.OrderStatus orderStatus) {
+        this.ordersPerMember = ordersPerMember;
+        this.linesPerOrder = linesPerOrder;
+        this.orderStatus = orderStatus;
+        return this;
+    }
+
+    public void persist(EntityManager entityManager) {
+        LocalDateTime today = LocalDate.now().atStartOfDay();
+
+        Buyer[] buyerEntities = new Buyer[buyers];
+        for (int i = 0; i < buyers; i++) {
+            Buyer buyer = new Buyer();
+            buyer.setBuyerCd("B" + i);
+            buyer.setBuyerNm("buyer " + i);
+            buyer.setEmail("buyer" + i + "@buyer.com");
+            buyer.setTel("010-" + String.format("%08d", i));
+            buyer.setAddress("address " + i);
+            buyer.setBusinessType(i % 2 == 0 ? "Retail" : "Wholesale");
+            entityManager.persist(buyer);
+            buyerEntities[i] = buyer;
+        }
+
+        Manufacture[] manufactureEntities = new Manufacture[manufactures];
+        for (int i = 0; i < manufactures; i++) {
+            Manufacture manufacture = new Manufacture();
+            manufacture.setMfCd("MF" + i);
+            manufacture.setMfNm("factory " + i);
+            manufacture.setEmail("factory" + i + "@mf.com");
+            manufacture.setRegion(i % 2 == 0 ? "Vietnam" : "Korea");
+            entityManager.persist(manufacture);
+            manufactureEntities[i] = manufacture;
+        }
+
+        for (int i = 0; i < items; i++) {
+            Item item = new Item();
+            item.setItemCd("I" + i);
+            item.setItemNm("shoe " + i);
+            item.setUnit("EA");
+            item.setUnitPrice(BigDecimal.valueOf(10_000 + i));
+            item.setSize(220 + (i % 20) * 5);
+            item.setColor(i % 2 == 0 ? "black" : "white");
+            item.setCategory("sneakers");
+            item.setItemStatus(i >= items - notForSale ? Item.ItemStatus.NOT_FOR_SALE : Item.ItemStatus.ON_SALE);
+            entityManager.persist(item);
+
+            for (Buyer buyer : buyerEntities) {
+                BuyerItem buyerItem = new BuyerItem();
+                buyerItem.setBuyer(buyer);
+                buyerItem.setItem(item);
+                buyerItem.setUnitPrice(BigDecimal.valueOf(9_000 + i));
+                buyerItem.setStartDate(today.minusDays(30));
+                buyerItem.setEndDate(today.plusDays(30));
+                entityManager.persist(buyerItem);
+            }
+
+            if (manufactures > 0) {
+                ItemManufacture itemManufacture = new ItemManufacture();
+                itemManufacture.setItem(item);
+                itemManufacture.setManufacture(manufactureEntities[i % manufactures]);
+                itemManufacture.setUnitPrice(BigDecimal.valueOf(5_000 + i));
+                itemManufacture.setQty(100);
+                entityManager.persist(itemManufacture);
+            }
+
+            if ((i + 1) % FLUSH_INTERVAL == 0) {
+                entityManager.flush();
+                entityManager.clear();
+                // clear 후에도 연관관계 지정에 쓸 수 있도록 다시 참조를 얻는다
+                for (int b = 0; b < buyers; b++) {
+                    buyerEntities[b] = entityManager.getReference(Buyer.class, buyerEntities[b].getBuyerId());
+                }
+                for (int m = 0; m < manufactures; m++) {
+                    manufactureEntities[m] = entityManager.getReference(Manufacture.class, manufactureEntities[m].getMfId());
+                }
+            }
+        }
+
+        int line = 0;
+        for (int i = 0; i < members; i++) {
+            Member member = new Member("member" + i + "@shoecream.com");
+            member.setEmployeeId("E" + i);
+            member.setName("member " + i);
+            member.setPassword("{noop}password");
+            member.setRoles(List.of("USER"));
+            entityManager.persist(member);
+
+            for (int o = 0; o < ordersPerMember; o++) {
+                OrderHeaders order = new OrderHeaders();
+                order.setOrderCd("ORD" + i + "-" + o);
+                order.setRequestDate(today.plusDays(7));
+                order.setOrderStatus(orderStatus);
+                order.setMember(member);
+                order.setBuyer(buyerEntities[(i + o) % buyers]);
+
+                for (int l = 0; l < linesPerOrder; l++, line++) {
+                    int itemIndex = line % items;
+                    OrderItems orderItem = new OrderItems();
+                    orderItem.setItemCd("I" + itemIndex);
+                    orderItem.setUnit("EA");
+                    orderItem.setQty(10);
+                    orderItem.setUnitPrice(BigDecimal.valueOf(9_000 + itemIndex));
+                    orderItem.setStartDate(today.minusDays(30));
+                    orderItem.setEndDate(today.plusDays(30));
+                    orderItem.setOrderHeaders(order);
+                    order.getOrderItems().add(orderItem);
+                }
+                entityManager.persist(order);
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+}